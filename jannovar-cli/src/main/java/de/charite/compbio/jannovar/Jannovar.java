@@ -9,6 +9,7 @@ import de.charite.compbio.jannovar.cmd.JannovarCommand;
 import de.charite.compbio.jannovar.cmd.annotate_pos.AnnotatePositionCommand;
 import de.charite.compbio.jannovar.cmd.annotate_vcf.AnnotateVCFCommand;
 import de.charite.compbio.jannovar.cmd.db_list.DatabaseListCommand;
+import de.charite.compbio.jannovar.cmd.db_subset.DatabaseSubsetCommand;
 import de.charite.compbio.jannovar.cmd.download.DownloadCommand;
 import de.charite.compbio.jannovar.reference.TranscriptModel;
 
@@ -82,6 +83,8 @@ public final class Jannovar {
 				cmd = new DownloadCommand(argv);
 			else if (argv[0].equals("db-list"))
 				cmd = new DatabaseListCommand(argv);
+			else if (argv[0].equals("db-subset"))
+				cmd = new DatabaseSubsetCommand(argv);
 			else if (argv[0].equals("annotate"))
 				cmd = new AnnotateVCFCommand(argv);
 			else if (argv[0].equals("annotate-pos"))
@@ -119,11 +122,13 @@ public final class Jannovar {
 		System.err.println("");
 		System.err.println("Command: download      download transcript database");
 		System.err.println("         db-list       list downloadable databases");
+		System.err.println("         db-subset     write selected transcripts to new database");
 		System.err.println("         annotate      functional annotation of VCF files");
 		System.err.println("         annotate-pos  functional annotation of genomic change");
 		System.err.println("");
 		System.err.println("Example: java -jar de.charite.compbio.jannovar.jar download hg19/ucsc");
 		System.err.println("         java -jar de.charite.compbio.jannovar.jar db-list");
+		System.err.println("         java -jar de.charite.compbio.jannovar.jar db-subset --genes BRCA1 data/hg19_ucsc.ser brca1.ser");
 		System.err.println("         java -jar de.charite.compbio.jannovar.jar annotate data/hg19_ucsc.ser variants.vcf");
 		System.err.println("         java -jar de.charite.compbio.jannovar.jar annotate-pos data/hg19_ucsc.ser 'chr1:12345C>A'");
 		System.err.println("");
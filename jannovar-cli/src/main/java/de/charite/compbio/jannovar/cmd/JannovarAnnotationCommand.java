@@ -3,6 +3,7 @@ package de.charite.compbio.jannovar.cmd;
 import com.google.common.collect.ImmutableMap;
 
 import de.charite.compbio.jannovar.JannovarException;
+import de.charite.compbio.jannovar.JannovarOptions;
 import de.charite.compbio.jannovar.io.Chromosome;
 import de.charite.compbio.jannovar.io.JannovarData;
 import de.charite.compbio.jannovar.io.JannovarDataSerializer;
@@ -31,7 +32,9 @@ public abstract class JannovarAnnotationCommand extends JannovarCommand {
 	 * To run Jannovar, the user must pass a transcript definition file with the -D flag. This can be one of the files
 	 * ucsc.ser, ensembl.ser, or refseq.ser (or a comparable file) containing a serialized version of the
 	 * TranscriptModel objects created to contain info about the transcript definitions (exon positions etc.) extracted
-	 * from UCSC, Ensembl, or Refseq and necessary for annotation.
+	 * from UCSC, Ensembl, or Refseq and necessary for annotation. If configured, only the transcripts selected by
+	 * {@link JannovarOptions#transcriptSubset} are kept, and the index of {@link JannovarOptions#preferredTranscripts}
+	 * is built for annotating against these.
 	 *
 	 * @throws JannovarException
 	 *             when there is a problem with the deserialization
@@ -39,7 +42,8 @@ public abstract class JannovarAnnotationCommand extends JannovarCommand {
 	 *             when the user requested the help page
 	 */
 	protected void deserializeTranscriptDefinitionFile() throws JannovarException, HelpRequestedException {
-		JannovarData data = new JannovarDataSerializer(this.options.dataFile).load();
+		JannovarData data = new JannovarDataSerializer(this.options.dataFile).load(this.options.transcriptSubset,
+				this.options.preferredTranscripts);
 		this.refDict = data.refDict;
 		this.chromosomeMap = data.chromosomes;
 	}
@@ -1,12 +1,20 @@
 package de.charite.compbio.jannovar.cmd;
 
+import java.io.IOException;
+
+import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.GnuParser;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.cli.Parser;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
 import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.io.PreferredTranscripts;
+import de.charite.compbio.jannovar.io.TranscriptSubset;
 
 /**
  * Base class for the command line parser for the annotation commands.
@@ -35,9 +43,93 @@ public abstract class JannovarAnnotationCommandLineParser {
 		options = new Options();
 		options.addOption(new Option("h", "help", false, "show this help"));
 
+		options.addOption(new Option("", "genes", true,
+				"only load transcripts of these genes, comma-separated symbols or @FILE with one symbol per line"));
+		options.addOption(new Option("", "gene-ids", true,
+				"only load transcripts of these genes, comma-separated IDs or @FILE with one ID per line"));
+		options.addOption(new Option("", "transcripts", true,
+				"only load these transcripts, comma-separated accessions or @FILE with one accession per line"));
+		options.addOption(new Option("", "regions", true, "only load transcripts overlapping with the BED file"));
+		options.addOption(new Option("", "preferred-only", false,
+				"annotate against the preferred transcript of each gene only, i.e. the one with the best transcript "
+						+ "support level or the UCSC canonical one (default is to use all transcripts, or the preferred "
+						+ "ones for databases written by db-subset --preferred-only)"));
+		options.addOption(new Option("", "preferred-transcripts", true,
+				"prefer these transcripts for --preferred-only, comma-separated accessions or @FILE with one "
+						+ "accession per line (implies --preferred-only)"));
+		options.addOption(new Option("", "all-transcripts", false,
+				"annotate against all transcripts, also for databases written by db-subset --preferred-only"));
+
 		parser = new GnuParser();
 	}
 
+	/**
+	 * Build {@link TranscriptSubset} from the "--genes", "--gene-ids", "--transcripts", and "--regions" options.
+	 *
+	 * @param cmd
+	 *            the parsed command line
+	 * @return the selected {@link TranscriptSubset}, <code>null</code> if none of the options was given
+	 * @throws ParseException
+	 *             on problems reading the files given for the options
+	 */
+	protected TranscriptSubset parseTranscriptSubset(CommandLine cmd) throws ParseException {
+		if (!cmd.hasOption("genes") && !cmd.hasOption("gene-ids") && !cmd.hasOption("transcripts")
+				&& !cmd.hasOption("regions"))
+			return null;
+
+		ImmutableList<TranscriptSubset.Region> regions = ImmutableList.of();
+		if (cmd.hasOption("regions")) {
+			try {
+				regions = TranscriptSubset.readBEDFile(cmd.getOptionValue("regions"));
+			} catch (IOException e) {
+				throw new ParseException("problem reading --regions file: " + e.getMessage());
+			}
+		}
+		return new TranscriptSubset(parseIdentifiers(cmd, "genes"), parseIdentifiers(cmd, "gene-ids"),
+				parseIdentifiers(cmd, "transcripts"), regions);
+	}
+
+	/**
+	 * Build {@link PreferredTranscripts} from the "--preferred-only" and "--preferred-transcripts" options.
+	 *
+	 * @param cmd
+	 *            the parsed command line
+	 * @return the {@link PreferredTranscripts}, <code>null</code> if none of the options was given
+	 * @throws ParseException
+	 *             on problems reading the file given for the options
+	 */
+	protected PreferredTranscripts parsePreferredTranscripts(CommandLine cmd) throws ParseException {
+		if (!cmd.hasOption("preferred-only") && !cmd.hasOption("preferred-transcripts"))
+			return null;
+		if (cmd.hasOption("all-transcripts"))
+			throw new ParseException("--all-transcripts cannot be combined with --preferred-only or "
+					+ "--preferred-transcripts");
+		return new PreferredTranscripts(parseIdentifiers(cmd, "preferred-transcripts"));
+	}
+
+	/**
+	 * @return identifiers from the comma-separated value of option <code>name</code>, or from the file if the value
+	 *         starts with <code>'@'</code>
+	 */
+	private ImmutableSet<String> parseIdentifiers(CommandLine cmd, String name) throws ParseException {
+		if (!cmd.hasOption(name))
+			return ImmutableSet.of();
+		final String value = cmd.getOptionValue(name);
+		if (value.startsWith("@")) {
+			try {
+				return TranscriptSubset.readIdentifierFile(value.substring(1));
+			} catch (IOException e) {
+				throw new ParseException("problem reading --" + name + " file: " + e.getMessage());
+			}
+		}
+
+		ImmutableSet.Builder<String> builder = new ImmutableSet.Builder<String>();
+		for (String id : value.split(","))
+			if (!id.trim().isEmpty())
+				builder.add(id.trim());
+		return builder.build();
+	}
+
 	/**
 	 * Parse command line arguments and return {@link JannovarOptions}.
 	 *
@@ -48,7 +48,7 @@ public class AnnotatePositionCommand extends JannovarAnnotationCommand {
 		System.err.println("Deserializing transcripts...");
 		deserializeTranscriptDefinitionFile();
 
-		final VariantAnnotator annotator = new VariantAnnotator(refDict, chromosomeMap);
+		final VariantAnnotator annotator = new VariantAnnotator(refDict, chromosomeMap, null, options.allTranscripts);
 		System.out.println("#change\teffect\thgvs_annotation");
 		for (String chromosomalChange : options.chromosomalChanges) {
 			// Parse the chromosomal change string into a GenomeChange object.
@@ -42,6 +42,9 @@ public class AnnotatePositionCommandLineParser extends JannovarAnnotationCommand
 			throw new ParseException("must have at least two none-option argument, had: " + (args.length - 1));
 
 		result.dataFile = args[1];
+		result.transcriptSubset = parseTranscriptSubset(cmd);
+		result.preferredTranscripts = parsePreferredTranscripts(cmd);
+		result.allTranscripts = cmd.hasOption("all-transcripts");
 
 		for (int i = 2; i < args.length; ++i)
 			result.chromosomalChanges.add(args[i]);
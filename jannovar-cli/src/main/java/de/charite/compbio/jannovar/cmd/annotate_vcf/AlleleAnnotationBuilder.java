@@ -0,0 +1,110 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import htsjdk.variant.variantcontext.Allele;
+import htsjdk.variant.variantcontext.VariantContext;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.charite.compbio.jannovar.annotation.Annotation;
+import de.charite.compbio.jannovar.annotation.AnnotationException;
+import de.charite.compbio.jannovar.annotation.AnnotationList;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
+import de.charite.compbio.jannovar.annotation.PutativeImpact;
+import de.charite.compbio.jannovar.annotation.VariantAnnotator;
+import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.ContigResolver;
+import de.charite.compbio.jannovar.io.ReferenceDictionary;
+import de.charite.compbio.jannovar.reference.GenomeChange;
+import de.charite.compbio.jannovar.reference.GenomePosition;
+import de.charite.compbio.jannovar.reference.PositionType;
+
+/**
+ * Builds one {@link AnnotationList} for each alternative allele of a {@link VariantContext}.
+ *
+ * Used by the writers that write one line or row for each annotation, see {@link AnnotatedJannovarWriter} and
+ * {@link AnnotatedColumnarWriter}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+final class AlleleAnnotationBuilder {
+
+	/** {@link ReferenceDictionary} object to use for information about the genome. */
+	private final ReferenceDictionary refDict;
+
+	/** resolution of the contig names of the records to the numeric IDs from {@link #refDict} */
+	private final ContigResolver contigResolver;
+
+	/** the VariantAnnotator to use. */
+	private final VariantAnnotator annotator;
+
+	/** annotations less severe than this are skipped, <code>null</code> for no filtering */
+	private final PutativeImpact minImpact;
+
+	/** {@link AnnotationMetrics} to record times in, <code>null</code> for no recording */
+	private final AnnotationMetrics metrics;
+
+	AlleleAnnotationBuilder(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
+			PutativeImpact minImpact, boolean allTranscripts, AnnotationMetrics metrics) {
+		this.refDict = refDict;
+		this.contigResolver = new ContigResolver(refDict);
+		this.annotator = new VariantAnnotator(refDict, chromosomeMap, metrics, allTranscripts);
+		this.minImpact = minImpact;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Build the annotations for the alternative alleles of <code>vc</code>.
+	 *
+	 * The {@link GenomeChange}s are built from the uncorrected REF and POS of <code>vc</code>, common prefixes are
+	 * stripped by {@link GenomeChange}. Symbolic alleles and breakends get {@link AnnotationList#EMPTY}, as in
+	 * <code>VariantContextAnnotator</code>. When recording metrics, the HGVS descriptions are built here so their time
+	 * is recorded separately from the output.
+	 *
+	 * @param vc
+	 *            the record to annotate
+	 * @return one {@link AnnotationList} for each alternative allele, in the order of the alleles in <code>vc</code>,
+	 *         <code>null</code> if the contig of <code>vc</code> is not in the reference dictionary, e.g. for the
+	 *         "random" contigs
+	 * @throws AnnotationException
+	 *             on problems with the annotation
+	 */
+	public ImmutableList<AnnotationList> build(VariantContext vc) throws AnnotationException {
+		final int chr = contigResolver.resolve(vc.getChr());
+		if (chr == ContigResolver.UNKNOWN)
+			return null;
+		final String ref = vc.getReference().getBaseString();
+		final int pos = vc.getStart();
+
+		ImmutableList.Builder<AnnotationList> builder = new ImmutableList.Builder<AnnotationList>();
+		for (Allele allele : vc.getAlternateAlleles()) {
+			if (isSymbolic(allele)) {
+				builder.add(AnnotationList.EMPTY);
+				continue;
+			}
+			final GenomeChange change = new GenomeChange(new GenomePosition(refDict, '+', chr, pos,
+					PositionType.ONE_BASED), ref, allele.getBaseString());
+			AnnotationList anno = annotator.buildAnnotationList(change, minImpact);
+			if (anno == null)
+				throw new AnnotationException(String.format("No annotations found for variant %s", vc.toString()));
+			builder.add(anno);
+		}
+		final ImmutableList<AnnotationList> result = builder.build();
+
+		if (metrics != null) {
+			final long hgvsStart = System.nanoTime();
+			for (AnnotationList anno : result)
+				for (Annotation a : anno.entries)
+					a.getNtHGVSDescription();
+			metrics.recordHGVS(System.nanoTime() - hgvsStart);
+		}
+		return result;
+	}
+
+	/** @return whether <code>allele</code> is symbolic or a breakend, the base string is empty for these */
+	private static boolean isSymbolic(Allele allele) {
+		final String display = allele.getDisplayString();
+		return allele.isSymbolic() || display.contains("[") || display.contains("]") || display.equals(".");
+	}
+
+}
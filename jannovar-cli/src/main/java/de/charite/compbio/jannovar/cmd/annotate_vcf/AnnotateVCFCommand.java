@@ -10,6 +10,7 @@ import org.apache.commons.cli.ParseException;
 
 import de.charite.compbio.jannovar.JannovarException;
 import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
 import de.charite.compbio.jannovar.cmd.CommandLineParsingException;
 import de.charite.compbio.jannovar.cmd.HelpRequestedException;
 import de.charite.compbio.jannovar.cmd.JannovarAnnotationCommand;
@@ -39,19 +40,65 @@ public class AnnotateVCFCommand extends JannovarAnnotationCommand {
 
 		deserializeTranscriptDefinitionFile();
 
+		AnnotationMetrics metrics = null;
+		AnnotationMetricsReporter reporter = null;
+		if (options.collectMetrics) {
+			metrics = new AnnotationMetrics();
+			reporter = new AnnotationMetricsReporter(metrics, System.err, options.metricsJSON,
+					options.metricsReportInterval);
+		}
+
+		try {
+			annotateVCFFiles(metrics);
+		} finally {
+			if (reporter != null)
+				reporter.close();
+		}
+	}
+
+	/**
+	 * Annotate the files from {@link JannovarOptions#vcfFilePaths}.
+	 *
+	 * @param metrics
+	 *            {@link AnnotationMetrics} to record counters and times in, <code>null</code> for no recording
+	 * @throws JannovarException
+	 *             on problems with the annotation
+	 */
+	private void annotateVCFFiles(AnnotationMetrics metrics) throws JannovarException {
 		for (String vcfPath : options.vcfFilePaths) {
 			// initialize the VCF reader
 			System.err.println("Annotating VCF...");
 			final long startTime = System.nanoTime();
 			VCFFileReader parser = new VCFFileReader(new File(vcfPath), false);
 
+			if (this.options.siteOnly) {
+				// only the header is read through the parser, the records are processed as text
+				RawLineVCFAnnotator annotator = new RawLineVCFAnnotator(refDict, parser.getFileHeader(),
+						chromosomeMap, vcfPath, options, metrics);
+				parser.close();
+				try {
+					annotator.run();
+				} catch (IOException e) {
+					throw new JannovarException(e.getMessage());
+				}
+				System.err.println("Wrote annotations to \"" + annotator.getOutFileName() + "\"");
+				final long endTime = System.nanoTime();
+				System.err.println(String.format("Annotation and writing took %.2f sec.",
+						(endTime - startTime) / 1000.0 / 1000.0 / 1000.0));
+				continue;
+			}
+
 			AnnotatedVariantWriter writer = null;
 			try {
 				// construct the variant writer
 				if (this.options.jannovarFormat)
-					writer = new AnnotatedJannovarWriter(refDict, chromosomeMap, vcfPath, options);
+					writer = new AnnotatedJannovarWriter(refDict, chromosomeMap, vcfPath, options, metrics);
+				else if (this.options.columnarFormat)
+					writer = new AnnotatedColumnarWriter(refDict, chromosomeMap, vcfPath, options, metrics);
+				else if (this.options.splitSamples)
+					writer = new PerSampleVCFWriter(refDict, parser, chromosomeMap, vcfPath, options, metrics);
 				else
-					writer = new AnnotatedVCFWriter(refDict, parser, chromosomeMap, vcfPath, options);
+					writer = new AnnotatedVCFWriter(refDict, parser, chromosomeMap, vcfPath, options, metrics);
 
 				// annotate and write out all variants
 				for (VariantContext vc : parser)
@@ -61,7 +108,11 @@ public class AnnotateVCFCommand extends JannovarAnnotationCommand {
 				parser.close();
 				writer.close();
 			} catch (IOException e) {
-				// convert exception to JannovarException and throw, writer can only be null here
+				// convert exception to JannovarException and throw, also thrown by writer.close() if the index fails
+				parser.close();
+				throw new JannovarException(e.getMessage());
+			} catch (IllegalArgumentException e) {
+				// thrown when the output cannot be opened, e.g. BCF without contig lines
 				parser.close();
 				throw new JannovarException(e.getMessage());
 			}
@@ -7,9 +7,14 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.ParseException;
 
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+
 import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.annotation.PutativeImpact;
 import de.charite.compbio.jannovar.cmd.HelpRequestedException;
 import de.charite.compbio.jannovar.cmd.JannovarAnnotationCommandLineParser;
+import de.charite.compbio.jannovar.htsjdk.VariantContextWriterConstructionHelper;
 
 /**
  * Parser for annotate-vcf command line.
@@ -43,18 +48,104 @@ public class AnnotateVCFCommandLineParser extends JannovarAnnotationCommandLineP
 
 		result.jannovarFormat = cmd.hasOption("jannovar");
 		result.showAll = cmd.hasOption("showall");
+		result.columnarFormat = cmd.hasOption("columnar");
+		result.splitSamples = cmd.hasOption("split-samples");
+		if (result.splitSamples && (result.jannovarFormat || result.columnarFormat))
+			throw new ParseException("--split-samples cannot be used with --jannovar or --columnar");
+		if (cmd.hasOption("split-threads")) {
+			try {
+				result.numSplitThreads = Integer.parseInt(cmd.getOptionValue("split-threads"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("invalid value for --split-threads: " + cmd.getOptionValue("split-threads"));
+			}
+			if (result.numSplitThreads <= 0)
+				throw new ParseException("--split-threads must be positive");
+		}
+		result.siteOnly = cmd.hasOption("site-only");
+		if (result.siteOnly && (result.jannovarFormat || result.columnarFormat || result.splitSamples))
+			throw new ParseException("--site-only cannot be used with --jannovar, --columnar, or --split-samples");
+		result.bcfOutput = cmd.hasOption("bcf");
+		if (result.bcfOutput && (result.jannovarFormat || result.columnarFormat || result.siteOnly))
+			throw new ParseException("--bcf cannot be used with --jannovar, --columnar, or --site-only");
+		if (result.columnarFormat && result.jannovarFormat)
+			throw new ParseException("--columnar and --jannovar cannot be used together");
+		if (cmd.hasOption("row-group-size")) {
+			try {
+				result.columnarRowGroupSize = Integer.parseInt(cmd.getOptionValue("row-group-size"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("invalid value for --row-group-size: " + cmd.getOptionValue("row-group-size"));
+			}
+			if (result.columnarRowGroupSize <= 0)
+				throw new ParseException("--row-group-size must be positive");
+		}
+		if (cmd.hasOption("samples"))
+			result.jannovarSamples = ImmutableList.copyOf(Splitter.on(',').trimResults().omitEmptyStrings()
+					.split(cmd.getOptionValue("samples")));
+		if (result.jannovarSamples != null && !result.jannovarFormat)
+			throw new ParseException("--samples requires --jannovar");
+		result.bgzipOutput = cmd.hasOption("bgzip");
+		// not with --split-samples, each compressed file would start its own compression threads
+		if (result.bgzipOutput && (result.columnarFormat || result.splitSamples || result.siteOnly || result.bcfOutput))
+			throw new ParseException("--bgzip cannot be used with --columnar, --split-samples, --site-only, or --bcf");
+		if (cmd.hasOption("compression-threads")) {
+			try {
+				result.numCompressionThreads = Integer.parseInt(cmd.getOptionValue("compression-threads"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("invalid value for --compression-threads: "
+						+ cmd.getOptionValue("compression-threads"));
+			}
+			if (result.numCompressionThreads <= 0)
+				throw new ParseException("--compression-threads must be positive");
+		}
 
 		result.writeJannovarInfoFields = cmd.hasOption("old-info-fields");
 		result.writeVCFAnnotationStandardInfoFields = !cmd.hasOption("no-new-info-field");
 
+		if (cmd.hasOption("min-impact")) {
+			try {
+				result.minImpact = PutativeImpact.valueOf(cmd.getOptionValue("min-impact").toUpperCase());
+			} catch (IllegalArgumentException e) {
+				throw new ParseException("invalid value for --min-impact: " + cmd.getOptionValue("min-impact"));
+			}
+		}
+
+		result.annotateStructuralVariants = cmd.hasOption("sv");
+		if (cmd.hasOption("sv-max-genes")) {
+			try {
+				result.maxSVGenes = Integer.parseInt(cmd.getOptionValue("sv-max-genes"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("invalid value for --sv-max-genes: " + cmd.getOptionValue("sv-max-genes"));
+			}
+			if (result.maxSVGenes < 0)
+				throw new ParseException("--sv-max-genes must not be negative");
+		}
+
+		result.metricsJSON = cmd.hasOption("metrics-json");
+		if (cmd.hasOption("metrics-interval")) {
+			try {
+				result.metricsReportInterval = Integer.parseInt(cmd.getOptionValue("metrics-interval"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("invalid value for --metrics-interval: " + cmd.getOptionValue("metrics-interval"));
+			}
+			if (result.metricsReportInterval < 0)
+				throw new ParseException("--metrics-interval must not be negative");
+		}
+		result.collectMetrics = cmd.hasOption("metrics") || result.metricsJSON || result.metricsReportInterval > 0;
+
 		String args[] = cmd.getArgs(); // get remaining arguments
 		if (args.length < 3)
 			throw new ParseException("must have at least two none-option argument, had: " + (args.length - 1));
 
 		result.dataFile = args[1];
+		result.transcriptSubset = parseTranscriptSubset(cmd);
+		result.preferredTranscripts = parsePreferredTranscripts(cmd);
+		result.allTranscripts = cmd.hasOption("all-transcripts");
 
-		for (int i = 2; i < args.length; ++i)
+		for (int i = 2; i < args.length; ++i) {
+			if (result.siteOnly && VariantContextWriterConstructionHelper.isBCF(args[i]))
+				throw new ParseException("--site-only cannot be used with BCF input " + args[i]);
 			result.vcfFilePaths.add(args[i]);
+		}
 
 		return result;
 	}
@@ -64,6 +155,27 @@ public class AnnotateVCFCommandLineParser extends JannovarAnnotationCommandLineP
 		super.initializeParser();
 
 		options.addOption(new Option("J", "jannovar", false, "write result in Jannovar output"));
+		options.addOption(new Option("", "samples", true,
+				"comma-separated names of the samples to write genotype columns for in the Jannovar output (default "
+						+ "is the first sample)"));
+		options.addOption(new Option("", "bgzip", false,
+				"compress the Jannovar or VCF output with BGZF and write a tabix index, the input must be sorted"));
+		options.addOption(new Option("", "compression-threads", true,
+				"number of threads for the BGZF compression of --bgzip (default is 4)"));
+		options.addOption(new Option("", "columnar", false,
+				"write result in a compressed columnar format with one row per annotation, for bulk loading"));
+		options.addOption(new Option("", "row-group-size", true,
+				"number of variants in each row group of the columnar output (default is 10000)"));
+		options.addOption(new Option("", "split-samples", false,
+				"write one annotated VCF file for each sample, with the records where the sample carries a "
+						+ "non-reference allele"));
+		options.addOption(new Option("", "split-threads", true,
+				"number of writer threads for --split-samples (default is 4)"));
+		options.addOption(new Option("", "site-only", false,
+				"annotate the VCF lines without decoding the genotypes, the FORMAT and sample columns are copied "
+						+ "verbatim (fast for files with many samples)"));
+		options.addOption(new Option("", "bcf", false,
+				"write annotated VCF output as BCF, this is the default for BCF input files"));
 		options.addOption(new Option("a", "showall", false,
 				"report annotations for all affected transcripts (by default only one "
 						+ "with the highest impact is shown for each alternative allele)"));
@@ -74,6 +186,21 @@ public class AnnotateVCFCommandLineParser extends JannovarAnnotationCommandLineP
 				"write out old Jannovar VCF INFO fields \"EFFECT\" and \"HGVS\" (default is off)"));
 		options.addOption(new Option("", "no-new-info-field", false,
 				"do not write out the new VCF annotation standard INFO field \"ANN\" (default is on)"));
+		options.addOption(new Option("", "min-impact", true,
+				"only annotate variants whose location allows for this putative impact or a more severe one, one of "
+						+ "HIGH, MODERATE, LOW, MODIFIER (default is to annotate all variants)"));
+
+		options.addOption(new Option("", "sv", false,
+				"write gene-level annotations of structural variants (symbolic alleles, breakends, and alleles of at "
+						+ "least 1000 bp) to the SV_* INFO fields (default is off)"));
+		options.addOption(new Option("", "sv-max-genes", true,
+				"maximal number of genes and transcripts to write for each structural variant (default is 100)"));
+		options.addOption(new Option("", "metrics", false,
+				"collect annotation metrics, publish them through JMX, and print them to stderr at the end"));
+		options.addOption(new Option("", "metrics-interval", true,
+				"also print the annotation metrics every N seconds (implies --metrics)"));
+		options.addOption(new Option("", "metrics-json", false,
+				"print the annotation metrics as JSON, one object per line (implies --metrics)"));
 	}
 
 	private void printHelp() {
@@ -0,0 +1,149 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import htsjdk.variant.variantcontext.VariantContext;
+
+import java.io.IOException;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.annotation.Annotation;
+import de.charite.compbio.jannovar.annotation.AnnotationException;
+import de.charite.compbio.jannovar.annotation.AnnotationList;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
+import de.charite.compbio.jannovar.annotation.VariantType;
+import de.charite.compbio.jannovar.cmd.annotate_vcf.ColumnarTableWriter.ColumnType;
+import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.ReferenceDictionary;
+
+/**
+ * Annotate variant in {@link VariantContext} and write out in a columnar format for bulk loading.
+ *
+ * One row is written for each annotation of each alternative allele, see {@link #COLUMN_NAMES} for the columns and
+ * {@link ColumnarTableWriter} for the file format. A row group is written every
+ * {@link JannovarOptions#columnarRowGroupSize} variants.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class AnnotatedColumnarWriter extends AnnotatedVariantWriter {
+
+	/** names of the written columns */
+	public static final ImmutableList<String> COLUMN_NAMES = ImmutableList.of("record", "chr", "pos", "ref", "alt",
+			"allele", "effect", "effects", "impact", "gene", "transcript", "hgvs_nt", "hgvs_aa");
+
+	/** types of the written columns */
+	public static final ImmutableList<ColumnType> COLUMN_TYPES = ImmutableList.of(ColumnType.INT,
+			ColumnType.DICTIONARY, ColumnType.INT, ColumnType.STRING, ColumnType.STRING, ColumnType.INT,
+			ColumnType.DICTIONARY, ColumnType.DICTIONARY, ColumnType.DICTIONARY, ColumnType.DICTIONARY,
+			ColumnType.STRING, ColumnType.STRING, ColumnType.STRING);
+
+	/** the VCF file to process */
+	private final String vcfPath;
+
+	/** options object */
+	private final JannovarOptions options;
+
+	/** builds the annotations of the alternative alleles */
+	private final AlleleAnnotationBuilder annotationBuilder;
+
+	/** {@link AnnotationMetrics} to record times in, <code>null</code> for no recording */
+	private final AnnotationMetrics metrics;
+
+	/** the writer for the output file */
+	private final ColumnarTableWriter out;
+
+	/** reused for joining the effects */
+	private final StringBuilder effectsBuilder = new StringBuilder();
+
+	/** current record */
+	private int currentRecord = 0;
+
+	/** number of variants in the current row group */
+	private int numRowGroupVariants = 0;
+
+	public AnnotatedColumnarWriter(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
+			String vcfPath, JannovarOptions options, AnnotationMetrics metrics) throws IOException {
+		this.metrics = metrics;
+		this.annotationBuilder = new AlleleAnnotationBuilder(refDict, chromosomeMap, options.minImpact,
+				options.allTranscripts, metrics);
+		this.vcfPath = vcfPath;
+		this.options = options;
+		this.out = new ColumnarTableWriter(getOutFileName(), COLUMN_NAMES, COLUMN_TYPES);
+	}
+
+	@Override
+	public String getOutFileName() {
+		return buildOutFileName(vcfPath, options, "jvc");
+	}
+
+	/** Close writer, free resources */
+	@Override
+	public void close() {
+		try {
+			out.close();
+		} catch (IOException e) {
+			// swallow, nothing we can do about it
+		}
+	}
+
+	/**
+	 * Write out rows for VariantContext.
+	 *
+	 * @throws AnnotationException
+	 *             when a problem with annotation occurs
+	 * @throws IOException
+	 *             when problem with I/O occurs
+	 */
+	@Override
+	public void put(VariantContext vc) throws AnnotationException, IOException {
+		currentRecord++;
+
+		// Ignore records on contigs that are not in the reference dictionary, e.g. the "random" contigs.
+		final ImmutableList<AnnotationList> annoLists = annotationBuilder.build(vc);
+		if (annoLists == null)
+			return;
+		final String ref = vc.getReference().getBaseString();
+		final int pos = vc.getStart();
+
+		final long outputStart = (metrics == null) ? 0 : System.nanoTime();
+		for (int i = 0; i < annoLists.size(); ++i) {
+			final String alt = vc.getAlternateAllele(i).getDisplayString();
+			for (Annotation a : annoLists.get(i).entries)
+				putRow(vc, pos, ref, alt, i + 1, a);
+		}
+		if (metrics != null)
+			metrics.recordOutput(System.nanoTime() - outputStart);
+
+		if (++numRowGroupVariants >= options.columnarRowGroupSize) {
+			out.flushRowGroup();
+			numRowGroupVariants = 0;
+		}
+	}
+
+	/** Write one row for the annotation <code>a</code> of the <code>alleleNo</code>-th alternative allele. */
+	private void putRow(VariantContext vc, int pos, String ref, String alt, int alleleNo, Annotation a)
+			throws IOException {
+		out.addInt(currentRecord);
+		out.addString(vc.getChr());
+		out.addInt(pos);
+		out.addString(ref);
+		out.addString(alt);
+		out.addInt(alleleNo);
+		out.addString(a.effects.isEmpty() ? null : a.getMostPathogenicVarType().name());
+		effectsBuilder.setLength(0);
+		for (VariantType type : a.effects) {
+			if (effectsBuilder.length() > 0)
+				effectsBuilder.append('+');
+			effectsBuilder.append(type.name());
+		}
+		out.addString(effectsBuilder.toString());
+		out.addString(a.getPutativeImpact() == null ? null : a.getPutativeImpact().name());
+		out.addString(a.transcript == null ? null : a.transcript.geneSymbol);
+		out.addString(a.transcript == null ? null : a.transcript.accession);
+		out.addString(a.getNtHGVSDescription());
+		out.addString(a.getAaHGVSDescription());
+		out.endRow();
+	}
+
+}
@@ -1,36 +1,50 @@
 package de.charite.compbio.jannovar.cmd.annotate_vcf;
 
+import htsjdk.tribble.Feature;
+import htsjdk.tribble.index.Index;
+import htsjdk.tribble.index.IndexCreator;
+import htsjdk.tribble.index.tabix.TabixFormat;
+import htsjdk.tribble.index.tabix.TabixIndexCreator;
 import htsjdk.variant.variantcontext.Allele;
 import htsjdk.variant.variantcontext.Genotype;
 import htsjdk.variant.variantcontext.VariantContext;
 
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
-import com.google.common.base.Joiner;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
 import de.charite.compbio.jannovar.JannovarOptions;
 import de.charite.compbio.jannovar.annotation.Annotation;
 import de.charite.compbio.jannovar.annotation.AnnotationException;
 import de.charite.compbio.jannovar.annotation.AnnotationList;
-import de.charite.compbio.jannovar.annotation.VariantAnnotator;
-import de.charite.compbio.jannovar.impl.util.PathUtil;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
+import de.charite.compbio.jannovar.annotation.VariantType;
+import de.charite.compbio.jannovar.htsjdk.ParallelBlockCompressedIndexCreator;
+import de.charite.compbio.jannovar.impl.util.ParallelBlockCompressedOutputStream;
 import de.charite.compbio.jannovar.io.Chromosome;
 import de.charite.compbio.jannovar.io.ReferenceDictionary;
-import de.charite.compbio.jannovar.reference.GenomeChange;
-import de.charite.compbio.jannovar.reference.GenomePosition;
-import de.charite.compbio.jannovar.reference.PositionType;
 
 /**
  * Annotate variant in {@link VariantContext} and write out in Jannovar format.
+ *
+ * One line is written for each annotation of each alternative allele. The lines are encoded into a reusable buffer
+ * without going through {@link String#format}. When {@link JannovarOptions#bgzipOutput} is set, the output is
+ * compressed with BGZF on {@link JannovarOptions#numCompressionThreads} threads and a tabix index is written next to it
+ * (the input must be sorted by position then).
  */
 public class AnnotatedJannovarWriter extends AnnotatedVariantWriter {
 
-	/** {@link ReferenceDictionary} object to use for information about the genome. */
-	private final ReferenceDictionary refDict;
+	/** tabix configuration for the Jannovar format: chromosome in column 5, position in column 6 */
+	private static final TabixFormat TABIX_FORMAT = new TabixFormat(TabixFormat.GENERIC_FLAGS, 5, 6, 6, '#', 0);
+
+	/** size of the buffer for uncompressed output */
+	private static final int BUFFER_SIZE = 1024 * 1024;
 
 	/** the VCF file to process */
 	private String vcfPath;
@@ -38,38 +52,51 @@ public class AnnotatedJannovarWriter extends AnnotatedVariantWriter {
 	/** options object */
 	private JannovarOptions options;
 
-	/** the VariantAnnotator to use. */
-	private VariantAnnotator annotator;
+	/** builds the annotations of the alternative alleles */
+	private final AlleleAnnotationBuilder annotationBuilder;
+
+	/** {@link AnnotationMetrics} to record times in, <code>null</code> for no recording */
+	private final AnnotationMetrics metrics;
+
+	/** OutputStream to use for writing, BGZF-compressed if {@link JannovarOptions#bgzipOutput} is set */
+	OutputStream out = null;
+
+	/** the BGZF stream below {@link #out}, <code>null</code> if the output is not compressed */
+	private ParallelBlockCompressedOutputStream bgzfOut = null;
+
+	/** creates the tabix index, <code>null</code> if the output is not compressed */
+	private IndexCreator indexCreator = null;
+
+	/** reused for building each output line */
+	private final StringBuilder line = new StringBuilder(1024);
+
+	/** reused for encoding each output line */
+	private byte[] lineBytes = new byte[1024];
 
-	/** BufferedWriter to use for writing */
-	BufferedWriter out = null;
+	/** reused for passing the current record to {@link #indexCreator} */
+	private final RecordFeature feature = new RecordFeature();
 
 	/** current line */
 	int currentLine = 0;
 
 	public AnnotatedJannovarWriter(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
 			String vcfPath, JannovarOptions options) throws IOException {
-		this.refDict = refDict;
-		this.annotator = new VariantAnnotator(refDict, chromosomeMap);
+		this(refDict, chromosomeMap, vcfPath, options, null);
+	}
+
+	public AnnotatedJannovarWriter(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
+			String vcfPath, JannovarOptions options, AnnotationMetrics metrics) throws IOException {
+		this.metrics = metrics;
+		this.annotationBuilder = new AlleleAnnotationBuilder(refDict, chromosomeMap, options.minImpact,
+				options.allTranscripts, metrics);
 		this.vcfPath = vcfPath;
 		this.options = options;
-		this.openBufferedWriter();
+		this.openOutputStream();
 	}
 
 	@Override
 	public String getOutFileName() {
-		// build file name for output file
-		File f = new File(vcfPath);
-		String outname = f.getName();
-		if (options.outVCFFolder != null)
-			outname = PathUtil.join(options.outVCFFolder, outname);
-		int i = outname.lastIndexOf("vcf");
-		if (i < 0)
-			i = outname.lastIndexOf("VCF");
-		if (i < 0)
-			return f.getParent() + File.separator + outname + ".jv";
-		else
-			return f.getParent() + File.separator + outname.substring(0, i) + "jv";
+		return buildOutFileName(vcfPath, options, options.bgzipOutput ? "jv.gz" : "jv");
 	}
 
 	/**
@@ -78,25 +105,55 @@ public class AnnotatedJannovarWriter extends AnnotatedVariantWriter {
 	 * @throws IOException
 	 *             when opening the output file failed.
 	 */
-	private void openBufferedWriter() throws IOException {
+	private void openOutputStream() throws IOException {
 		// try to open file
 		try {
-			FileWriter fstream = new FileWriter(getOutFileName());
-			out = new BufferedWriter(fstream);
+			if (options.bgzipOutput) {
+				bgzfOut = new ParallelBlockCompressedOutputStream(new FileOutputStream(getOutFileName()),
+						options.numCompressionThreads);
+				indexCreator = new ParallelBlockCompressedIndexCreator(new TabixIndexCreator(TABIX_FORMAT), bgzfOut);
+				out = bgzfOut;
+			} else {
+				out = new BufferedOutputStream(new FileOutputStream(getOutFileName()), BUFFER_SIZE);
+			}
 		} catch (IOException e) {
-			close(); // swallows any exception thrown by this.out.close
+			try {
+				close();
+			} catch (IOException e2) {
+				// swallow, e is the more relevant exception
+			}
 			throw e; // rethrow e
 		}
 	}
 
-	/** Close writer, free resources */
+	/**
+	 * Close writer, free resources.
+	 *
+	 * @throws IOException
+	 *             on problems with writing the remaining output or the tabix index, e.g. if the input is not sorted
+	 */
 	@Override
-	public void close() {
+	public void close() throws IOException {
+		if (out == null)
+			return;
 		try {
-			if (out != null)
-				out.close();
-		} catch (IOException e) {
-			// swallow, nothing we can do about it
+			out.flush(); // writes all pending BGZF blocks, required for finalizing the index
+			if (indexCreator != null) {
+				// the features are indexed when their block is written, so unsorted input may be noticed here
+				final Index index;
+				try {
+					index = indexCreator.finalizeIndex(bgzfOut.getPosition());
+				} catch (IllegalArgumentException e) {
+					throw new IOException("Cannot write tabix index, the input VCF file is not sorted: "
+							+ e.getMessage());
+				}
+				index.writeBasedOnFeatureFile(new File(getOutFileName()));
+			}
+		} finally {
+			indexCreator = null;
+			final OutputStream stream = out;
+			out = null;
+			stream.close();
 		}
 	}
 
@@ -112,59 +169,180 @@ public class AnnotatedJannovarWriter extends AnnotatedVariantWriter {
 	public void put(VariantContext vc) throws AnnotationException, IOException {
 		currentLine++;
 
-		String chrStr = vc.getChr();
-		// Catch the case that vc.getChr() is not in ChromosomeMap.identifier2chromosom. This is the case
-		// for the "random" contigs etc. In this case, we simply ignore the record.
-		Integer boxedInt = refDict.contigID.get(vc.getChr());
-		if (boxedInt == null)
+		// Records on contigs that are not in the reference dictionary, e.g. the "random" contigs, are ignored.
+		final ImmutableList<AnnotationList> annoLists = annotationBuilder.build(vc);
+		if (annoLists == null)
 			return;
-		int chr = boxedInt.intValue();
 
-		// FIXME(mjaeger): We should care about more than just the first alternative allele.
-		// Get shortcuts to ref, alt, and position. Note that this is "uncorrected" data, common prefixes etc. are
-		// stripped when constructing the GenomeChange.
+		// The written columns are the uncorrected REF and POS, such that the lines are sorted like the input and can be
+		// indexed.
+		final String chrStr = vc.getChr();
 		final String ref = vc.getReference().getBaseString();
-		final String alt = vc.getAlternateAllele(0).getBaseString();
 		final int pos = vc.getStart();
-		// Construct GenomeChange from this and strip common prefixes.
-		final GenomeChange change = new GenomeChange(
-				new GenomePosition(refDict, '+', chr, pos, PositionType.ONE_BASED), ref, alt);
-
-		String gtype = stringForGenotype(vc, 0);
-		float qual = (float) vc.getPhredScaledQual();
-		AnnotationList anno = annotator.buildAnnotationList(change);
-		if (anno == null) {
-			String e = String.format("No annotations found for variant %s", vc.toString());
-			throw new AnnotationException(e);
+
+		final long outputStart = (metrics == null) ? 0 : System.nanoTime();
+		// records without any output line, e.g. with only symbolic alleles, must not be indexed
+		boolean indexed = (indexCreator == null);
+		final double qual = (float) vc.getPhredScaledQual();
+		for (int i = 0; i < annoLists.size(); ++i) {
+			final String alt = vc.getAlternateAllele(i).getDisplayString();
+			for (Annotation a : annoLists.get(i).entries) {
+				if (!indexed) {
+					addFeature(chrStr, pos, vc.getEnd());
+					indexed = true;
+				}
+				line.setLength(0);
+				line.append(currentLine).append('\t');
+				appendEffects(a);
+				line.append('\t').append(a.transcript.geneSymbol).append('\t');
+				appendHGVS(a);
+				line.append('\t').append(chrStr).append('\t').append(pos).append('\t').append(ref).append('\t')
+						.append(alt);
+				appendGenotypes(vc);
+				line.append('\t');
+				appendQuality(qual);
+				line.append('\n');
+				writeLine();
+			}
+		}
+		if (metrics != null)
+			metrics.recordOutput(System.nanoTime() - outputStart);
+	}
+
+	/** Pass the record at the current output position to {@link #indexCreator}. */
+	private void addFeature(String chr, int start, int end) throws IOException {
+		feature.set(chr, start, end);
+		try {
+			indexCreator.addFeature(feature, bgzfOut.getPosition());
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Cannot write tabix index, the input VCF file is not sorted: " + e.getMessage());
 		}
+	}
+
+	/** Append the effects of <code>a</code> to {@link #line}, separated by '+'. */
+	private void appendEffects(Annotation a) {
+		boolean first = true;
+		for (VariantType effect : a.effects) {
+			if (!first)
+				line.append('+');
+			first = false;
+			line.append(effect);
+		}
+	}
+
+	/** Append the nucleotide and amino acid HGVS descriptions of <code>a</code> to {@link #line}, separated by ':'. */
+	private void appendHGVS(Annotation a) {
+		final String ntHGVS = a.getNtHGVSDescription();
+		final String aaHGVS = a.getAaHGVSDescription();
+		if (ntHGVS != null)
+			line.append(ntHGVS);
+		if (ntHGVS != null && aaHGVS != null)
+			line.append(':');
+		if (aaHGVS != null)
+			line.append(aaHGVS);
+	}
 
-		for (Annotation a : anno.entries) {
-			String effect = Joiner.on("+").join(a.effects);
-			String annt = Joiner.on(":").skipNulls().join(a.ntHGVSDescription, a.aaHGVSDescription);
-			String sym = a.transcript.geneSymbol;
-			String s = String.format("%d\t%s\t%s\t%s\t%s\t%d\t%s\t%s\t%s\t%.1f\n", currentLine, effect, sym, annt,
-					chrStr, change.pos, change.ref, change.alt, gtype, qual);
-			out.write(s);
+	/**
+	 * Append one column with the genotype string as in VCF for each selected individual to {@link #line}.
+	 *
+	 * The individuals are selected by {@link JannovarOptions#jannovarSamples}, by default only the first individual
+	 * is written. Missing individuals are written as ".".
+	 */
+	private void appendGenotypes(VariantContext vc) {
+		if (options.jannovarSamples == null) {
+			line.append('\t');
+			appendGenotype(vc, vc.getNSamples() == 0 ? null : vc.getGenotype(0));
+		} else {
+			for (String sample : options.jannovarSamples) {
+				line.append('\t');
+				appendGenotype(vc, vc.getGenotype(sample));
+			}
 		}
 	}
 
 	/**
-	 * Return genotype string as in VCF for the i-th individual at the position in variantContext.
+	 * Append genotype string as in VCF to {@link #line}, e.g. "0/1" or "1|1".
 	 *
-	 * @param variantContext
-	 *            The VariantContext to query.
-	 * @param i
-	 *            Index of individual.
-	 * @return String with the genotype call string, e.g. "0/1" or "1|1".
+	 * @param vc
+	 *            the VariantContext <code>gt</code> belongs to
+	 * @param gt
+	 *            the Genotype to write, "." is written for <code>null</code>
 	 */
-	private String stringForGenotype(VariantContext variantContext, int i) {
-		Genotype gt = variantContext.getGenotype(i);
-		StringBuilder builder = new StringBuilder();
+	private void appendGenotype(VariantContext vc, Genotype gt) {
+		if (gt == null || gt.getPloidy() == 0) {
+			line.append('.');
+			return;
+		}
+		boolean first = true;
 		for (Allele allele : gt.getAlleles()) {
-			if (builder.length() > 0)
-				builder.append(gt.isPhased() ? '|' : '/');
-			builder.append(variantContext.getAlleleIndex(allele));
+			if (!first)
+				line.append(gt.isPhased() ? '|' : '/');
+			first = false;
+			if (allele.isNoCall())
+				line.append('.');
+			else
+				line.append(vc.getAlleleIndex(allele));
+		}
+	}
+
+	/** Append <code>value</code> with one decimal place to {@link #line}, equivalent to "%.1f". */
+	private void appendQuality(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			line.append(value);
+			return;
 		}
-		return builder.toString();
+		long scaled = Math.round(Math.abs(value) * 10);
+		if (value < 0 && scaled != 0)
+			line.append('-');
+		line.append(scaled / 10).append('.').append((char) ('0' + scaled % 10));
 	}
+
+	/** Encode {@link #line} into {@link #lineBytes} and write it to {@link #out}. */
+	private void writeLine() throws IOException {
+		final int len = line.length();
+		if (lineBytes.length < len)
+			lineBytes = new byte[Math.max(len, 2 * lineBytes.length)];
+		for (int i = 0; i < len; ++i) {
+			final char c = line.charAt(i);
+			if (c >= 0x80) { // rare case of non-ASCII characters
+				out.write(line.toString().getBytes(Charsets.UTF_8));
+				return;
+			}
+			lineBytes[i] = (byte) c;
+		}
+		out.write(lineBytes, 0, len);
+	}
+
+	/**
+	 * Mutable {@link Feature} for passing the current record to the {@link IndexCreator}.
+	 */
+	private static class RecordFeature implements Feature {
+
+		private String chr;
+		private int start;
+		private int end;
+
+		void set(String chr, int start, int end) {
+			this.chr = chr;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public String getChr() {
+			return chr;
+		}
+
+		@Override
+		public int getStart() {
+			return start;
+		}
+
+		@Override
+		public int getEnd() {
+			return end;
+		}
+
+	}
+
 }
@@ -6,10 +6,14 @@ import htsjdk.variant.vcf.VCFFileReader;
 
 import java.io.File;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
 import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.annotation.Annotation;
 import de.charite.compbio.jannovar.annotation.AnnotationException;
+import de.charite.compbio.jannovar.annotation.AnnotationList;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
 import de.charite.compbio.jannovar.htsjdk.InfoFields;
 import de.charite.compbio.jannovar.htsjdk.VariantContextAnnotator;
 import de.charite.compbio.jannovar.htsjdk.VariantContextWriterConstructionHelper;
@@ -37,18 +41,31 @@ public class AnnotatedVCFWriter extends AnnotatedVariantWriter {
 	/** writer for annotated VariantContext objects */
 	private final VariantContextWriter out;
 
+	/** {@link AnnotationMetrics} to record times in, <code>null</code> for no recording */
+	private final AnnotationMetrics metrics;
+
 	public AnnotatedVCFWriter(ReferenceDictionary refDict, VCFFileReader reader,
 			ImmutableMap<Integer, Chromosome> chromosomeMap, String vcfPath, JannovarOptions options) {
+		this(refDict, reader, chromosomeMap, vcfPath, options, null);
+	}
+
+	public AnnotatedVCFWriter(ReferenceDictionary refDict, VCFFileReader reader,
+			ImmutableMap<Integer, Chromosome> chromosomeMap, String vcfPath, JannovarOptions options,
+			AnnotationMetrics metrics) {
 		this.refDict = refDict;
+		this.metrics = metrics;
 		this.annotator = new VariantContextAnnotator(refDict, chromosomeMap, new VariantContextAnnotator.Options(
-				InfoFields.build(options.writeJannovarInfoFields, options.writeVCFAnnotationStandardInfoFields),
-				!options.showAll));
+				InfoFields.build(options.writeVCFAnnotationStandardInfoFields, options.writeJannovarInfoFields),
+				!options.showAll, options.minImpact, options.annotateStructuralVariants, options.maxSVGenes,
+				options.allTranscripts), metrics,
+				VariantContextAnnotator.buildContigResolver(refDict, reader.getFileHeader()));
 		this.vcfPath = vcfPath;
 		this.options = options;
 
 		final InfoFields fields = InfoFields.build(options.writeVCFAnnotationStandardInfoFields,
 				options.writeJannovarInfoFields);
-		this.out = VariantContextWriterConstructionHelper.openVariantContextWriter(reader, getOutFileName(), fields);
+		this.out = VariantContextWriterConstructionHelper.openVariantContextWriter(reader.getFileHeader(),
+				getOutFileName(), fields, options.annotateStructuralVariants, options.numCompressionThreads);
 	}
 
 	/** @return output file name, depending on this.options */
@@ -60,18 +77,46 @@ public class AnnotatedVCFWriter extends AnnotatedVariantWriter {
 			outname = PathUtil.join(options.outVCFFolder, outname);
 		else
 			outname = PathUtil.join(f.getParent(), outname);
+		final String ext = isBCFOutput() ? "jv.bcf" : (options.bgzipOutput ? "jv.vcf.gz" : "jv.vcf");
 		int i = outname.toLowerCase().lastIndexOf("vcf");
 		if (i < 0)
-			return outname + ".jv.vcf";
+			i = outname.toLowerCase().lastIndexOf("bcf");
+		if (i < 0)
+			return outname + "." + ext;
 		else
-			return outname.substring(0, i) + "jv.vcf";
+			return outname.substring(0, i) + ext;
+	}
+
+	/** @return whether to write BCF, selected by option or by BCF input */
+	private boolean isBCFOutput() {
+		return options.bcfOutput || VariantContextWriterConstructionHelper.isBCF(vcfPath);
 	}
 
 	@Override
 	public void put(VariantContext vc) throws AnnotationException {
-		vc = annotator.applyAnnotations(vc, annotator.buildAnnotationList(vc));
+		ImmutableList<AnnotationList> annos = annotator.buildAnnotationList(vc);
+		if (metrics == null) {
+			vc = annotator.applyAnnotations(vc, annos);
+			vc.getCommonInfo().removeAttribute("");
+			out.add(vc);
+			return;
+		}
+
+		// build the HGVS descriptions to be written before encoding the output, for timing them separately
+		final long hgvsStart = System.nanoTime();
+		for (AnnotationList annoList : annos)
+			for (Annotation anno : annoList.entries) {
+				anno.getNtHGVSDescription();
+				if (!options.showAll)
+					break;
+			}
+		final long outputStart = System.nanoTime();
+		metrics.recordHGVS(outputStart - hgvsStart);
+
+		vc = annotator.applyAnnotations(vc, annos);
 		vc.getCommonInfo().removeAttribute("");
 		out.add(vc);
+		metrics.recordOutput(System.nanoTime() - outputStart);
 	}
 
 	/** Close VariantContextWriter in out. */
@@ -2,9 +2,12 @@ package de.charite.compbio.jannovar.cmd.annotate_vcf;
 
 import htsjdk.variant.variantcontext.VariantContext;
 
+import java.io.File;
 import java.io.IOException;
 
+import de.charite.compbio.jannovar.JannovarOptions;
 import de.charite.compbio.jannovar.annotation.AnnotationException;
+import de.charite.compbio.jannovar.impl.util.PathUtil;
 
 /**
  * Interface for output writers in Jannovar class.
@@ -32,7 +35,30 @@ public abstract class AnnotatedVariantWriter {
 	/** Returns output path */
 	public abstract String getOutFileName();
 
-	/** Close writer, free resources */
-	abstract void close();
+	/**
+	 * Close writer, free resources.
+	 *
+	 * @throws IOException
+	 *             on problems with writing the remaining output
+	 */
+	abstract void close() throws IOException;
+
+	/**
+	 * @return path to the output file for <code>vcfPath</code>, with the last "vcf" in the file name replaced by
+	 *         <code>ext</code>, in {@link JannovarOptions#outVCFFolder} if set and next to the input file otherwise
+	 */
+	static String buildOutFileName(String vcfPath, JannovarOptions options, String ext) {
+		File f = new File(vcfPath);
+		String outname = f.getName();
+		if (options.outVCFFolder != null)
+			outname = PathUtil.join(options.outVCFFolder, outname);
+		else
+			outname = PathUtil.join(f.getParent(), outname);
+		int i = outname.toLowerCase().lastIndexOf("vcf");
+		if (i < 0)
+			return outname + "." + ext;
+		else
+			return outname.substring(0, i) + ext;
+	}
 
 }
@@ -0,0 +1,108 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
+
+/**
+ * Publishes {@link AnnotationMetrics} through JMX and prints them periodically and on {@link #close}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class AnnotationMetricsReporter {
+
+	/** the metrics to report */
+	private final AnnotationMetrics metrics;
+
+	/** stream to print the reports to */
+	private final PrintStream out;
+
+	/** whether to print the reports as JSON */
+	private final boolean printJSON;
+
+	/** name of the registered MBean, <code>null</code> if registration failed */
+	private ObjectName objectName = null;
+
+	/** executor for the periodic reports, <code>null</code> if disabled */
+	private ScheduledExecutorService executor = null;
+
+	/**
+	 * Register <code>metrics</code> with the platform MBean server and start periodic reports.
+	 *
+	 * @param metrics
+	 *            the {@link AnnotationMetrics} to report
+	 * @param out
+	 *            stream to print the reports to
+	 * @param printJSON
+	 *            whether to print the reports as JSON, one object per line
+	 * @param intervalSeconds
+	 *            seconds between two periodic reports, <code>0</code> to only report on {@link #close}
+	 */
+	public AnnotationMetricsReporter(AnnotationMetrics metrics, PrintStream out, boolean printJSON,
+			int intervalSeconds) {
+		this.metrics = metrics;
+		this.out = out;
+		this.printJSON = printJSON;
+
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(AnnotationMetrics.OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(metrics, name);
+				objectName = name;
+			}
+		} catch (JMException e) {
+			System.err.println("WARNING: could not register annotation metrics with JMX: " + e.getMessage());
+		}
+
+		if (intervalSeconds > 0) {
+			executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "annotation-metrics-reporter");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor.scheduleAtFixedRate(new Runnable() {
+				@Override
+				public void run() {
+					report();
+				}
+			}, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+		}
+	}
+
+	/** Print the current values of the metrics. */
+	public synchronized void report() {
+		if (printJSON)
+			out.println(metrics.toJSON());
+		else
+			out.println("Annotation metrics\n" + metrics);
+	}
+
+	/** Stop periodic reports, print the final report, and unregister from JMX. */
+	public void close() {
+		if (executor != null)
+			executor.shutdownNow();
+		report();
+
+		if (objectName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+			} catch (JMException e) {
+				System.err.println("WARNING: could not unregister annotation metrics from JMX: " + e.getMessage());
+			}
+		}
+	}
+
+}
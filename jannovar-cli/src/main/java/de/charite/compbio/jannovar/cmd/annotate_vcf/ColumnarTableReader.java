@@ -0,0 +1,241 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.cmd.annotate_vcf.ColumnarTableWriter.ColumnType;
+
+/**
+ * Reader for the files written by {@link ColumnarTableWriter}, see there for the file format.
+ *
+ * The file is read one row group at a time through {@link #readRowGroup}, e.g. for converting it into the input format
+ * of a database loader:
+ *
+ * <pre>
+ * ColumnarTableReader reader = new ColumnarTableReader(&quot;small.jvc&quot;);
+ * ColumnarTableReader.RowGroup group;
+ * while ((group = reader.readRowGroup()) != null)
+ * 	for (int row = 0; row &lt; group.numRows; ++row)
+ * 		System.out.println(group.getInt(0, row) + &quot;\t&quot; + group.getString(1, row));
+ * reader.close();
+ * </pre>
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class ColumnarTableReader {
+
+	/** names of the columns */
+	private final ImmutableList<String> names;
+
+	/** types of the columns */
+	private final ImmutableList<ColumnType> types;
+
+	/** input stream for the file */
+	private final DataInputStream in;
+
+	/** dictionaries of the columns, <code>null</code> for columns that are not dictionary-encoded */
+	private final ArrayList<ArrayList<String>> dictionaries = new ArrayList<ArrayList<String>>();
+
+	/** used for decompressing the column chunks */
+	private final Inflater inflater = new Inflater();
+
+	/** whether the end marker has been read */
+	private boolean atEnd = false;
+
+	/**
+	 * Open the file <code>path</code> and read the header.
+	 *
+	 * @param path
+	 *            path to the file to read
+	 * @throws IOException
+	 *             on problems with reading the file or if it is not in the expected format
+	 */
+	public ColumnarTableReader(String path) throws IOException {
+		this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(path), 1024 * 1024));
+		try {
+			byte[] magic = new byte[ColumnarTableWriter.MAGIC.length()];
+			in.readFully(magic);
+			if (!ColumnarTableWriter.MAGIC.equals(new String(magic, Charsets.US_ASCII)))
+				throw new IOException("File " + path + " is not a Jannovar columnar file");
+			final int version = in.readInt();
+			if (version != ColumnarTableWriter.VERSION)
+				throw new IOException("Unsupported version " + version + " of Jannovar columnar file " + path);
+
+			final int numColumns = in.readInt();
+			ImmutableList.Builder<String> namesBuilder = new ImmutableList.Builder<String>();
+			ImmutableList.Builder<ColumnType> typesBuilder = new ImmutableList.Builder<ColumnType>();
+			for (int i = 0; i < numColumns; ++i) {
+				namesBuilder.add(in.readUTF());
+				final ColumnType type = getColumnType(in.readByte());
+				typesBuilder.add(type);
+				dictionaries.add(type == ColumnType.DICTIONARY ? new ArrayList<String>() : null);
+			}
+			this.names = namesBuilder.build();
+			this.types = typesBuilder.build();
+		} catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/** @return names of the columns */
+	public ImmutableList<String> getNames() {
+		return names;
+	}
+
+	/** @return types of the columns */
+	public ImmutableList<ColumnType> getTypes() {
+		return types;
+	}
+
+	/**
+	 * Read the next row group.
+	 *
+	 * @return the next {@link RowGroup}, <code>null</code> at the end of the file
+	 * @throws IOException
+	 *             on problems with reading the file or if it is truncated or corrupt
+	 */
+	public RowGroup readRowGroup() throws IOException {
+		if (atEnd)
+			return null;
+		final int numRows = in.readInt();
+		if (numRows == 0) {
+			atEnd = true;
+			return null;
+		}
+
+		Object[] columns = new Object[types.size()];
+		for (int i = 0; i < types.size(); ++i) {
+			DataInputStream chunk = new DataInputStream(new ByteArrayInputStream(readCompressed()));
+			switch (types.get(i)) {
+			case INT:
+				int[] ints = new int[numRows];
+				for (int row = 0; row < numRows; ++row)
+					ints[row] = chunk.readInt();
+				columns[i] = ints;
+				break;
+			case STRING:
+				String[] strings = new String[numRows];
+				for (int row = 0; row < numRows; ++row)
+					strings[row] = readString(chunk);
+				columns[i] = strings;
+				break;
+			case DICTIONARY:
+				ArrayList<String> dictionary = dictionaries.get(i);
+				final int numNewValues = chunk.readInt();
+				for (int j = 0; j < numNewValues; ++j)
+					dictionary.add(readString(chunk));
+				String[] values = new String[numRows];
+				for (int row = 0; row < numRows; ++row) {
+					final int idx = chunk.readInt();
+					if (idx < -1 || idx >= dictionary.size())
+						throw new IOException("Invalid dictionary index " + idx + " in column " + names.get(i));
+					values[row] = (idx == -1) ? null : dictionary.get(idx);
+				}
+				columns[i] = values;
+				break;
+			}
+		}
+		return new RowGroup(numRows, columns);
+	}
+
+	/**
+	 * Close the file.
+	 *
+	 * @throws IOException
+	 *             on problems with closing the file
+	 */
+	public void close() throws IOException {
+		inflater.end();
+		in.close();
+	}
+
+	/** @return column chunk read from {@link #in}, inflated */
+	private byte[] readCompressed() throws IOException {
+		final int rawLength = in.readInt();
+		final int length = in.readInt();
+		if (rawLength < 0 || length < 0)
+			throw new IOException("Invalid column chunk length");
+		byte[] compressed = new byte[length];
+		in.readFully(compressed);
+
+		byte[] raw = new byte[rawLength];
+		inflater.reset();
+		inflater.setInput(compressed);
+		try {
+			int pos = 0;
+			while (pos < rawLength) {
+				final int n = inflater.inflate(raw, pos, rawLength - pos);
+				if (n == 0 && (inflater.finished() || inflater.needsInput()))
+					throw new IOException("Column chunk is shorter than announced");
+				pos += n;
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Corrupt column chunk: " + e.getMessage());
+		}
+		return raw;
+	}
+
+	/** @return length-prefixed UTF-8 string read from <code>in</code>, <code>null</code> for length <code>-1</code> */
+	private static String readString(DataInputStream in) throws IOException {
+		final int length = in.readInt();
+		if (length == -1)
+			return null;
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, Charsets.UTF_8);
+	}
+
+	/** @return {@link ColumnType} with the given <code>code</code> */
+	private static ColumnType getColumnType(int code) throws IOException {
+		for (ColumnType type : ColumnType.values())
+			if (type.code == code)
+				return type;
+		throw new IOException("Unknown column type " + code);
+	}
+
+	/**
+	 * The values of one row group, dictionary-encoded columns are decoded to strings.
+	 */
+	public static final class RowGroup {
+
+		/** number of rows in the group */
+		public final int numRows;
+
+		/** values of the columns, <code>int[]</code> or <code>String[]</code> */
+		private final Object[] columns;
+
+		RowGroup(int numRows, Object[] columns) {
+			this.numRows = numRows;
+			this.columns = columns;
+		}
+
+		/** @return value of the {@link ColumnType#INT} column <code>column</code> in row <code>row</code> */
+		public int getInt(int column, int row) {
+			if (!(columns[column] instanceof int[]))
+				throw new IllegalArgumentException("column " + column + " is not an INT column");
+			return ((int[]) columns[column])[row];
+		}
+
+		/**
+		 * @return value of the {@link ColumnType#STRING} or {@link ColumnType#DICTIONARY} column <code>column</code>
+		 *         in row <code>row</code>, may be <code>null</code>
+		 */
+		public String getString(int column, int row) {
+			if (!(columns[column] instanceof String[]))
+				throw new IllegalArgumentException("column " + column + " is not a string column");
+			return ((String[]) columns[column])[row];
+		}
+
+	}
+
+}
@@ -0,0 +1,289 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.zip.Deflater;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Streaming writer for a simple typed, column-oriented, compressed table file.
+ *
+ * The rows are collected column by column in memory and written out as one row group on each call to
+ * {@link #flushRowGroup}. The file layout is as follows, all integers are big-endian as written by
+ * {@link DataOutputStream}:
+ *
+ * <pre>
+ * file      := "JVCOL" version:int numColumns:int column* rowGroup* 0:int
+ * column    := name:UTF type:byte                      (see {@link ColumnType#code})
+ * rowGroup  := numRows:int chunk{numColumns}
+ * chunk     := rawLength:int length:int bytes{length}  (zlib-compressed, rawLength bytes when inflated)
+ * </pre>
+ *
+ * Inflated, the chunk of an {@link ColumnType#INT} column contains <code>numRows</code> ints, the chunk of a
+ * {@link ColumnType#STRING} column contains <code>numRows</code> UTF-8 strings each preceded by its length in bytes
+ * (<code>-1</code> for <code>null</code>). The chunk of a {@link ColumnType#DICTIONARY} column starts with the number
+ * of values that are added to the dictionary of the column in this row group and the values as for string columns,
+ * followed by <code>numRows</code> ints with the dictionary index of each value (<code>-1</code> for <code>null</code>).
+ * The dictionary of a column is shared by all row groups. The files can be read with {@link ColumnarTableReader}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class ColumnarTableWriter {
+
+	/** magic bytes at the beginning of the file */
+	public static final String MAGIC = "JVCOL";
+
+	/** version of the file format */
+	public static final int VERSION = 1;
+
+	/** types of the columns */
+	public enum ColumnType {
+		/** 32 bit integers */
+		INT(0),
+		/** strings with arbitrary values */
+		STRING(1),
+		/** strings with few distinct values, dictionary-encoded */
+		DICTIONARY(2);
+
+		/** code of the type in the file */
+		public final int code;
+
+		private ColumnType(int code) {
+			this.code = code;
+		}
+	}
+
+	/** names of the columns */
+	private final ImmutableList<String> names;
+
+	/** types of the columns */
+	private final ImmutableList<ColumnType> types;
+
+	/** output stream for the file */
+	private final DataOutputStream out;
+
+	/** raw data of the current row group, one buffer for each column */
+	private final ArrayList<ByteArrayOutputStream> buffers = new ArrayList<ByteArrayOutputStream>();
+
+	/** {@link DataOutputStream}s over {@link #buffers} */
+	private final ArrayList<DataOutputStream> columnOuts = new ArrayList<DataOutputStream>();
+
+	/** dictionaries of the columns, <code>null</code> for columns that are not dictionary-encoded */
+	private final ArrayList<HashMap<String, Integer>> dictionaries = new ArrayList<HashMap<String, Integer>>();
+
+	/** values added to the dictionaries in the current row group */
+	private final ArrayList<ArrayList<String>> newDictionaryValues = new ArrayList<ArrayList<String>>();
+
+	/** used for compressing the column chunks */
+	private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+
+	/** buffer for the compressed column chunks */
+	private byte[] compressed = new byte[64 * 1024];
+
+	/** number of rows in the current row group */
+	private int numRows = 0;
+
+	/** index of the column that is to be filled next in the current row */
+	private int currentColumn = 0;
+
+	/**
+	 * Open the file <code>path</code> for writing and write the header.
+	 *
+	 * @param path
+	 *            path to the file to write to
+	 * @param names
+	 *            names of the columns
+	 * @param types
+	 *            types of the columns, same length as <code>names</code>
+	 * @throws IOException
+	 *             on problems with opening or writing the file
+	 */
+	public ColumnarTableWriter(String path, ImmutableList<String> names, ImmutableList<ColumnType> types)
+			throws IOException {
+		if (names.size() != types.size())
+			throw new IllegalArgumentException("names and types must have the same length");
+		this.names = names;
+		this.types = types;
+		for (ColumnType type : types) {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+			buffers.add(buffer);
+			columnOuts.add(new DataOutputStream(buffer));
+			if (type == ColumnType.DICTIONARY) {
+				dictionaries.add(new HashMap<String, Integer>());
+				newDictionaryValues.add(new ArrayList<String>());
+			} else {
+				dictionaries.add(null);
+				newDictionaryValues.add(null);
+			}
+		}
+
+		this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path), 1024 * 1024));
+		out.write(MAGIC.getBytes(Charsets.US_ASCII));
+		out.writeInt(VERSION);
+		out.writeInt(names.size());
+		for (int i = 0; i < names.size(); ++i) {
+			out.writeUTF(names.get(i));
+			out.writeByte(types.get(i).code);
+		}
+	}
+
+	/**
+	 * Append <code>value</code> to the current row, the next column must be an {@link ColumnType#INT} column.
+	 *
+	 * @throws IOException
+	 *             never, declared because of {@link DataOutputStream}
+	 */
+	public void addInt(int value) throws IOException {
+		checkColumnType(ColumnType.INT);
+		columnOuts.get(currentColumn++).writeInt(value);
+	}
+
+	/**
+	 * Append <code>value</code> to the current row, the next column must be a {@link ColumnType#STRING} or
+	 * {@link ColumnType#DICTIONARY} column.
+	 *
+	 * @param value
+	 *            the value to write, may be <code>null</code>
+	 * @throws IOException
+	 *             never, declared because of {@link DataOutputStream}
+	 */
+	public void addString(String value) throws IOException {
+		if (currentColumn >= types.size())
+			throw new IllegalStateException("too many values in row");
+		DataOutputStream columnOut = columnOuts.get(currentColumn);
+		if (types.get(currentColumn) == ColumnType.STRING) {
+			writeString(columnOut, value);
+		} else {
+			checkColumnType(ColumnType.DICTIONARY);
+			columnOut.writeInt(lookupDictionary(value));
+		}
+		currentColumn++;
+	}
+
+	/**
+	 * Finish the current row, all columns must have been filled.
+	 */
+	public void endRow() {
+		if (currentColumn != types.size())
+			throw new IllegalStateException("row has " + currentColumn + " values but there are " + types.size()
+					+ " columns");
+		currentColumn = 0;
+		numRows++;
+	}
+
+	/** @return number of rows in the current row group */
+	public int getNumRows() {
+		return numRows;
+	}
+
+	/**
+	 * Compress and write out the current row group, nothing is written if it is empty.
+	 *
+	 * @throws IOException
+	 *             on problems with writing the file
+	 */
+	public void flushRowGroup() throws IOException {
+		if (numRows == 0)
+			return;
+		out.writeInt(numRows);
+		ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+		DataOutputStream chunkOut = new DataOutputStream(chunk);
+		for (int i = 0; i < types.size(); ++i) {
+			chunk.reset();
+			if (types.get(i) == ColumnType.DICTIONARY) {
+				chunkOut.writeInt(newDictionaryValues.get(i).size());
+				for (String value : newDictionaryValues.get(i))
+					writeString(chunkOut, value);
+				newDictionaryValues.get(i).clear();
+			}
+			buffers.get(i).writeTo(chunkOut);
+			buffers.get(i).reset();
+			writeCompressed(chunk.toByteArray());
+		}
+		numRows = 0;
+	}
+
+	/**
+	 * Write out the remaining rows and the end marker and close the file.
+	 *
+	 * @throws IOException
+	 *             on problems with writing the file
+	 */
+	public void close() throws IOException {
+		try {
+			if (currentColumn != 0)
+				throw new IllegalStateException("last row is incomplete");
+			flushRowGroup();
+			out.writeInt(0);
+		} finally {
+			deflater.end();
+			out.close();
+		}
+	}
+
+	/** @return names of the columns */
+	public ImmutableList<String> getNames() {
+		return names;
+	}
+
+	/** Write <code>raw</code> as compressed column chunk to {@link #out}. */
+	private void writeCompressed(byte[] raw) throws IOException {
+		deflater.reset();
+		deflater.setInput(raw);
+		deflater.finish();
+		int length = 0;
+		while (!deflater.finished()) {
+			if (length == compressed.length) {
+				byte[] tmp = new byte[2 * compressed.length];
+				System.arraycopy(compressed, 0, tmp, 0, length);
+				compressed = tmp;
+			}
+			length += deflater.deflate(compressed, length, compressed.length - length);
+		}
+		out.writeInt(raw.length);
+		out.writeInt(length);
+		out.write(compressed, 0, length);
+	}
+
+	/** @return index of <code>value</code> in the dictionary of the current column, adding it if necessary */
+	private int lookupDictionary(String value) {
+		if (value == null)
+			return -1;
+		HashMap<String, Integer> dictionary = dictionaries.get(currentColumn);
+		Integer idx = dictionary.get(value);
+		if (idx == null) {
+			idx = dictionary.size();
+			dictionary.put(value, idx);
+			newDictionaryValues.get(currentColumn).add(value);
+		}
+		return idx.intValue();
+	}
+
+	/** Throw {@link IllegalStateException} if the current column does not have the type <code>type</code>. */
+	private void checkColumnType(ColumnType type) {
+		if (currentColumn >= types.size())
+			throw new IllegalStateException("too many values in row");
+		if (types.get(currentColumn) != type)
+			throw new IllegalStateException("column " + names.get(currentColumn) + " has type "
+					+ types.get(currentColumn) + ", not " + type);
+	}
+
+	/** Write <code>value</code> as length-prefixed UTF-8 string, length <code>-1</code> for <code>null</code>. */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+		} else {
+			final byte[] bytes = value.getBytes(Charsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+}
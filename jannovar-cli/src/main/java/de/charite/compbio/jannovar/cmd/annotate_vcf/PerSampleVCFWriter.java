@@ -0,0 +1,276 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import htsjdk.variant.variantcontext.Allele;
+import htsjdk.variant.variantcontext.Genotype;
+import htsjdk.variant.variantcontext.LazyGenotypesContext;
+import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.variantcontext.VariantContextBuilder;
+import htsjdk.variant.variantcontext.writer.VariantContextWriter;
+import htsjdk.variant.vcf.VCFFileReader;
+import htsjdk.variant.vcf.VCFHeader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.annotation.AnnotationException;
+import de.charite.compbio.jannovar.annotation.AnnotationList;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
+import de.charite.compbio.jannovar.htsjdk.InfoFields;
+import de.charite.compbio.jannovar.htsjdk.VariantContextAnnotator;
+import de.charite.compbio.jannovar.htsjdk.VariantContextWriterConstructionHelper;
+import de.charite.compbio.jannovar.impl.util.PathUtil;
+import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.ReferenceDictionary;
+
+/**
+ * Annotate variant in {@link VariantContext} and write out one VCF file for each sample.
+ *
+ * Each record is annotated once and then passed to the output files of the samples that carry a non-reference allele.
+ * The records written for a sample only contain its genotype but all alternative alleles, so the annotations remain
+ * valid. The samples are distributed over {@link JannovarOptions#numSplitThreads} writer threads, records are passed
+ * to these in batches.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class PerSampleVCFWriter extends AnnotatedVariantWriter {
+
+	/** number of records passed to the writer threads at once */
+	private static final int BATCH_SIZE = 1000;
+
+	/** path to VCF file to process */
+	private final String vcfPath;
+
+	/** configuration to use */
+	private final JannovarOptions options;
+
+	/** the {@link VariantContextAnnotator} to use. */
+	private final VariantContextAnnotator annotator;
+
+	/** {@link AnnotationMetrics} to record times in, <code>null</code> for no recording */
+	private final AnnotationMetrics metrics;
+
+	/** the samples, divided into one group for each writer thread */
+	private final ImmutableList<SampleGroup> groups;
+
+	/** the writer threads */
+	private final ExecutorService executor;
+
+	/** records to pass to the writer threads with the next batch */
+	private ArrayList<VariantContext> batch = new ArrayList<VariantContext>(BATCH_SIZE);
+
+	/** results of the writer threads for the previous batch */
+	private List<Future<Void>> pending = new ArrayList<Future<Void>>();
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             if the output file names of two samples are the same, e.g. for the sample names "a b" and "a_b"
+	 */
+	public PerSampleVCFWriter(ReferenceDictionary refDict, VCFFileReader reader,
+			ImmutableMap<Integer, Chromosome> chromosomeMap, String vcfPath, JannovarOptions options,
+			AnnotationMetrics metrics) {
+		this.metrics = metrics;
+		this.annotator = new VariantContextAnnotator(refDict, chromosomeMap, new VariantContextAnnotator.Options(
+				InfoFields.build(options.writeVCFAnnotationStandardInfoFields, options.writeJannovarInfoFields),
+				!options.showAll, options.minImpact, options.annotateStructuralVariants, options.maxSVGenes,
+				options.allTranscripts), metrics,
+				VariantContextAnnotator.buildContigResolver(refDict, reader.getFileHeader()));
+		this.vcfPath = vcfPath;
+		this.options = options;
+
+		// open one writer for each sample and distribute them over the groups
+		final InfoFields fields = InfoFields.build(options.writeVCFAnnotationStandardInfoFields,
+				options.writeJannovarInfoFields);
+		final VCFHeader header = reader.getFileHeader();
+		final ImmutableMap<String, String> outFileNames = buildOutFileNames(header.getGenotypeSamples());
+		final int numGroups = Math.max(1, Math.min(options.numSplitThreads, header.getNGenotypeSamples()));
+		ArrayList<SampleGroup> groupList = new ArrayList<SampleGroup>();
+		for (int i = 0; i < numGroups; ++i)
+			groupList.add(new SampleGroup());
+		int i = 0;
+		for (String sample : header.getGenotypeSamples()) {
+			VCFHeader sampleHeader = new VCFHeader(header.getMetaDataInInputOrder(), ImmutableList.of(sample));
+			VariantContextWriter out = VariantContextWriterConstructionHelper.openVariantContextWriter(sampleHeader,
+					outFileNames.get(sample), fields, options.annotateStructuralVariants);
+			groupList.get(i++ % numGroups).add(sample, out);
+		}
+		this.groups = ImmutableList.copyOf(groupList);
+		this.executor = Executors.newFixedThreadPool(numGroups, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "per-sample-writer");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/** @return output file name pattern, "*" stands for the sample names */
+	@Override
+	public String getOutFileName() {
+		return getOutFileName("*");
+	}
+
+	/**
+	 * @return mapping from sample name to output file name
+	 * @throws IllegalArgumentException
+	 *             if two samples have the same output file name, also when ignoring case
+	 */
+	private ImmutableMap<String, String> buildOutFileNames(List<String> samples) {
+		ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+		HashMap<String, String> seen = new HashMap<String, String>();
+		for (String sample : samples) {
+			final String fileName = getOutFileName(sample);
+			final String other = seen.put(fileName.toLowerCase(), sample);
+			if (other != null)
+				throw new IllegalArgumentException("Samples \"" + other + "\" and \"" + sample
+						+ "\" would be written to the same file " + fileName);
+			builder.put(sample, fileName);
+		}
+		return builder.build();
+	}
+
+	/** @return output file name for <code>sample</code>, depending on this.options */
+	private String getOutFileName(String sample) {
+		File f = new File(vcfPath);
+		String outname = f.getName();
+		if (options.outVCFFolder != null)
+			outname = PathUtil.join(options.outVCFFolder, outname);
+		else
+			outname = PathUtil.join(f.getParent(), outname);
+		final String infix = sample.equals("*") ? sample : sample.replaceAll("[^A-Za-z0-9._-]", "_");
+		final String ext = isBCFOutput() ? ".jv.bcf" : ".jv.vcf";
+		int i = outname.toLowerCase().lastIndexOf("vcf");
+		if (i < 0)
+			i = outname.toLowerCase().lastIndexOf("bcf");
+		if (i < 0)
+			return outname + "." + infix + ext;
+		else
+			return outname.substring(0, i) + infix + ext;
+	}
+
+	/** @return whether to write BCF, selected by option or by BCF input */
+	private boolean isBCFOutput() {
+		return options.bcfOutput || VariantContextWriterConstructionHelper.isBCF(vcfPath);
+	}
+
+	@Override
+	public void put(VariantContext vc) throws AnnotationException, IOException {
+		ImmutableList<AnnotationList> annos = annotator.buildAnnotationList(vc);
+		final long outputStart = (metrics == null) ? 0 : System.nanoTime();
+		vc = annotator.applyAnnotations(vc, annos);
+		vc.getCommonInfo().removeAttribute("");
+		// decode the genotypes here, the writer threads only read them
+		if (vc.getGenotypes() instanceof LazyGenotypesContext)
+			((LazyGenotypesContext) vc.getGenotypes()).decode();
+		batch.add(vc);
+		if (batch.size() >= BATCH_SIZE)
+			flushBatch();
+		if (metrics != null)
+			metrics.recordOutput(System.nanoTime() - outputStart);
+	}
+
+	/**
+	 * Pass {@link #batch} to the writer threads after they are done with the previous one.
+	 *
+	 * The threads write the current batch while the next one is annotated.
+	 */
+	private void flushBatch() throws IOException {
+		waitForPending();
+		final ImmutableList<VariantContext> records = ImmutableList.copyOf(batch);
+		batch.clear();
+		for (final SampleGroup group : groups)
+			pending.add(executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() {
+					group.write(records);
+					return null;
+				}
+			}));
+	}
+
+	/** Wait for the writer threads to finish the previous batch. */
+	private void waitForPending() throws IOException {
+		try {
+			for (Future<Void> future : pending)
+				future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while writing per-sample output");
+		} catch (ExecutionException e) {
+			throw new IOException("Problem writing per-sample output: " + e.getCause().getMessage());
+		} finally {
+			pending.clear();
+		}
+	}
+
+	/** Write remaining records and close the VariantContextWriters. */
+	@Override
+	public void close() throws IOException {
+		try {
+			flushBatch();
+			waitForPending();
+		} finally {
+			executor.shutdown();
+			for (SampleGroup group : groups)
+				group.close();
+		}
+	}
+
+	/**
+	 * @return whether <code>gt</code> has a called non-reference allele
+	 */
+	private static boolean isNonReference(Genotype gt) {
+		if (gt == null)
+			return false;
+		for (Allele allele : gt.getAlleles())
+			if (allele.isCalled() && allele.isNonReference())
+				return true;
+		return false;
+	}
+
+	/**
+	 * Samples that are written by the same thread.
+	 */
+	private static final class SampleGroup {
+
+		/** names of the samples */
+		private final ArrayList<String> samples = new ArrayList<String>();
+		/** writers for the samples */
+		private final ArrayList<VariantContextWriter> writers = new ArrayList<VariantContextWriter>();
+
+		void add(String sample, VariantContextWriter writer) {
+			samples.add(sample);
+			writers.add(writer);
+		}
+
+		/** Write each record of <code>records</code> to the samples with non-reference genotype. */
+		void write(List<VariantContext> records) {
+			for (VariantContext vc : records)
+				for (int i = 0; i < samples.size(); ++i) {
+					final Genotype gt = vc.getGenotype(samples.get(i));
+					if (isNonReference(gt))
+						writers.get(i).add(new VariantContextBuilder(vc).genotypes(gt).make());
+				}
+		}
+
+		void close() {
+			for (VariantContextWriter writer : writers)
+				writer.close();
+		}
+
+	}
+
+}
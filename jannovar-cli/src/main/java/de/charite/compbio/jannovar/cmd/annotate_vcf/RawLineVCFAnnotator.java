@@ -0,0 +1,275 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import htsjdk.samtools.util.IOUtil;
+import htsjdk.variant.variantcontext.Allele;
+import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.variantcontext.VariantContextBuilder;
+import htsjdk.variant.vcf.VCFHeader;
+import htsjdk.variant.vcf.VCFHeaderLine;
+import htsjdk.variant.vcf.VCFInfoHeaderLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.annotation.AnnotationList;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
+import de.charite.compbio.jannovar.htsjdk.InfoFields;
+import de.charite.compbio.jannovar.htsjdk.VariantContextAnnotator;
+import de.charite.compbio.jannovar.htsjdk.VariantContextWriterConstructionHelper;
+import de.charite.compbio.jannovar.impl.util.PathUtil;
+import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.ReferenceDictionary;
+
+/**
+ * Annotate a VCF file line by line without decoding the genotypes.
+ *
+ * Only the first eight columns of each record are parsed. A site-only {@link VariantContext} is built from them and
+ * annotated through {@link VariantContextAnnotator}, the resulting INFO fields are spliced into the original line. The
+ * FORMAT and sample columns are copied verbatim, so the running time depends on the number of sites and not on the
+ * number of genotypes.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class RawLineVCFAnnotator {
+
+	/** INFO fields that are read from the input because they are needed for the annotation */
+	private static final ImmutableSet<String> INPUT_INFO_FIELDS = ImmutableSet.of("END", "SVLEN");
+
+	/** path to VCF file to process */
+	private final String vcfPath;
+
+	/** the output header, the input header extended with the INFO lines of the annotation */
+	private final VCFHeader header;
+
+	/** configuration to use */
+	private final JannovarOptions options;
+
+	/** the {@link VariantContextAnnotator} to use. */
+	private final VariantContextAnnotator annotator;
+
+	/** {@link AnnotationMetrics} to record times in, <code>null</code> for no recording */
+	private final AnnotationMetrics metrics;
+
+	/** IDs of the INFO fields written by the annotation, removed from the input records */
+	private final ImmutableSet<String> outputInfoFields;
+
+	/** reused for building each output line */
+	private final StringBuilder builder = new StringBuilder(1024);
+
+	public RawLineVCFAnnotator(ReferenceDictionary refDict, VCFHeader header,
+			ImmutableMap<Integer, Chromosome> chromosomeMap, String vcfPath, JannovarOptions options,
+			AnnotationMetrics metrics) {
+		this.metrics = metrics;
+		this.annotator = new VariantContextAnnotator(refDict, chromosomeMap, new VariantContextAnnotator.Options(
+				InfoFields.build(options.writeVCFAnnotationStandardInfoFields, options.writeJannovarInfoFields),
+				!options.showAll, options.minImpact, options.annotateStructuralVariants, options.maxSVGenes,
+				options.allTranscripts), metrics,
+				VariantContextAnnotator.buildContigResolver(refDict, header));
+		this.vcfPath = vcfPath;
+		this.options = options;
+
+		ImmutableSet.Builder<String> fieldsBuilder = new ImmutableSet.Builder<String>();
+		for (VCFInfoHeaderLine line : extendHeader(new VCFHeader()).getInfoHeaderLines())
+			fieldsBuilder.add(line.getID());
+		fieldsBuilder.add("ANN", "EFFECT", "HGVS");
+		this.outputInfoFields = fieldsBuilder.build();
+
+		// build output header, replacing the INFO lines of a previous annotation
+		LinkedHashSet<VCFHeaderLine> metaData = new LinkedHashSet<VCFHeaderLine>();
+		for (VCFHeaderLine line : header.getMetaDataInInputOrder())
+			if (!(line instanceof VCFInfoHeaderLine) || !outputInfoFields.contains(((VCFInfoHeaderLine) line).getID()))
+				metaData.add(line);
+		this.header = extendHeader(new VCFHeader(metaData, header.getGenotypeSamples()));
+	}
+
+	/** @return <code>header</code> extended with the INFO lines of the annotation */
+	private VCFHeader extendHeader(VCFHeader header) {
+		VCFHeader result = VariantContextWriterConstructionHelper.extendHeaderFields(header,
+				InfoFields.build(options.writeVCFAnnotationStandardInfoFields, options.writeJannovarInfoFields));
+		if (options.annotateStructuralVariants)
+			result = VariantContextWriterConstructionHelper.extendHeaderFieldsStructuralVariants(result);
+		return result;
+	}
+
+	/** @return output file name, depending on this.options */
+	public String getOutFileName() {
+		File f = new File(vcfPath);
+		String outname = f.getName();
+		if (options.outVCFFolder != null)
+			outname = PathUtil.join(options.outVCFFolder, outname);
+		else
+			outname = PathUtil.join(f.getParent(), outname);
+		int i = outname.toLowerCase().lastIndexOf("vcf");
+		if (i < 0)
+			return outname + ".jv.vcf";
+		else
+			return outname.substring(0, i) + "jv.vcf";
+	}
+
+	/**
+	 * Annotate all records from {@link #vcfPath} and write them to {@link #getOutFileName}.
+	 *
+	 * @throws IOException
+	 *             on problems with reading or writing
+	 */
+	public void run() throws IOException {
+		BufferedReader in = null;
+		Writer out = null;
+		try {
+			in = IOUtil.openFileForBufferedReading(new File(vcfPath));
+			out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(getOutFileName()), Charsets.UTF_8),
+					1024 * 1024);
+			String line;
+			int lineNo = 0;
+			while ((line = in.readLine()) != null) {
+				++lineNo;
+				if (line.startsWith("##")) {
+					continue; // meta lines are written from header
+				} else if (line.startsWith("#")) {
+					writeHeader(out);
+					out.write(line);
+					out.write('\n');
+				} else if (!line.isEmpty()) {
+					putLine(out, line, lineNo);
+				}
+			}
+		} finally {
+			if (in != null)
+				in.close();
+			if (out != null)
+				out.close();
+		}
+	}
+
+	/** Write the meta lines of {@link #header} to <code>out</code>. */
+	private void writeHeader(Writer out) throws IOException {
+		for (VCFHeaderLine headerLine : header.getMetaDataInInputOrder()) {
+			out.write("##");
+			out.write(headerLine.toString());
+			out.write('\n');
+		}
+	}
+
+	/**
+	 * Annotate the record in <code>line</code> and write it to <code>out</code>.
+	 */
+	private void putLine(Writer out, String line, int lineNo) throws IOException {
+		// find the ends of the first eight columns, the rest of the line is copied verbatim
+		final int[] ends = new int[8];
+		int pos = 0;
+		for (int i = 0; i < 8; ++i) {
+			int end = line.indexOf('\t', pos);
+			if (end < 0) {
+				if (i != 7)
+					throw new IOException("Line " + lineNo + " has less than eight columns");
+				end = line.length();
+			}
+			ends[i] = end;
+			pos = end + 1;
+		}
+		final String chrom = line.substring(0, ends[0]);
+		final int start = Integer.parseInt(line.substring(ends[0] + 1, ends[1]));
+		final String ref = line.substring(ends[2] + 1, ends[3]);
+		final String alt = line.substring(ends[3] + 1, ends[4]);
+		final String info = line.substring(ends[6] + 1, ends[7]);
+
+		// split the input INFO field, dropping the fields that are written by the annotation
+		ArrayList<String> infoEntries = new ArrayList<String>();
+		HashMap<String, Object> inputAttributes = new HashMap<String, Object>();
+		if (!info.equals(".")) {
+			for (String entry : info.split(";")) {
+				final int eq = entry.indexOf('=');
+				final String key = (eq < 0) ? entry : entry.substring(0, eq);
+				if (INPUT_INFO_FIELDS.contains(key) && eq >= 0)
+					inputAttributes.put(key, entry.substring(eq + 1));
+				if (!outputInfoFields.contains(key))
+					infoEntries.add(entry);
+			}
+		}
+
+		// annotate site-only VariantContext
+		VariantContext vc = buildSiteOnlyVariantContext(chrom, start, ref, alt, inputAttributes);
+		ImmutableList<AnnotationList> annos = annotator.buildAnnotationList(vc);
+		final long outputStart = (metrics == null) ? 0 : System.nanoTime();
+		vc = annotator.applyAnnotations(vc, annos);
+		TreeMap<String, Object> added = new TreeMap<String, Object>();
+		for (Map.Entry<String, Object> entry : vc.getAttributes().entrySet())
+			if (!INPUT_INFO_FIELDS.contains(entry.getKey()) && !entry.getKey().isEmpty())
+				added.put(entry.getKey(), entry.getValue());
+
+		// splice INFO column into the line
+		builder.setLength(0);
+		builder.append(line, 0, ends[6] + 1);
+		boolean first = true;
+		for (String entry : infoEntries) {
+			if (!first)
+				builder.append(';');
+			first = false;
+			builder.append(entry);
+		}
+		for (Map.Entry<String, Object> entry : added.entrySet()) {
+			if (!first)
+				builder.append(';');
+			first = false;
+			appendInfoEntry(entry.getKey(), entry.getValue());
+		}
+		if (first)
+			builder.append('.');
+		builder.append(line, ends[7], line.length());
+		builder.append('\n');
+		out.append(builder);
+		if (metrics != null)
+			metrics.recordOutput(System.nanoTime() - outputStart);
+	}
+
+	/** @return {@link VariantContext} without genotypes for the given values */
+	private VariantContext buildSiteOnlyVariantContext(String chrom, int start, String ref, String alt,
+			Map<String, Object> attributes) {
+		ArrayList<Allele> alleles = new ArrayList<Allele>();
+		alleles.add(Allele.create(ref, true));
+		if (!alt.equals("."))
+			for (String allele : alt.split(","))
+				alleles.add(Allele.create(allele, false));
+		int stop = start + ref.length() - 1;
+		if (attributes.containsKey("END"))
+			stop = Integer.parseInt((String) attributes.get("END"));
+		return new VariantContextBuilder(vcfPath, chrom, start, stop, alleles).attributes(attributes).make();
+	}
+
+	/** Append INFO entry encoded as in VCF to {@link #builder}. */
+	private void appendInfoEntry(String key, Object value) {
+		builder.append(key);
+		if (value instanceof Boolean) // flag
+			return;
+		builder.append('=');
+		if (value instanceof Collection<?>) {
+			boolean first = true;
+			for (Object o : (Collection<?>) value) {
+				if (!first)
+					builder.append(',');
+				first = false;
+				builder.append(o);
+			}
+		} else {
+			builder.append(value);
+		}
+	}
+
+}
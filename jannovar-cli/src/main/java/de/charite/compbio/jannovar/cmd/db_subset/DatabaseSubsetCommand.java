@@ -0,0 +1,54 @@
+package de.charite.compbio.jannovar.cmd.db_subset;
+
+import org.apache.commons.cli.ParseException;
+
+import de.charite.compbio.jannovar.JannovarException;
+import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.cmd.CommandLineParsingException;
+import de.charite.compbio.jannovar.cmd.HelpRequestedException;
+import de.charite.compbio.jannovar.cmd.JannovarCommand;
+import de.charite.compbio.jannovar.io.JannovarData;
+import de.charite.compbio.jannovar.io.JannovarDataSerializer;
+
+/**
+ * Writes the transcripts selected from a serialized database to a new, smaller database file, e.g. for gene panels.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class DatabaseSubsetCommand extends JannovarCommand {
+
+	public DatabaseSubsetCommand(String[] argv) throws CommandLineParsingException, HelpRequestedException {
+		super(argv);
+	}
+
+	/**
+	 * Load the selected transcripts and write them to the output file.
+	 *
+	 * With {@link JannovarOptions#preferredTranscripts}, the preferred transcript index is written as well, annotation
+	 * with the output file then uses it by default.
+	 */
+	@Override
+	public void run() throws JannovarException {
+		System.err.println("Options");
+		options.print(System.err);
+
+		if (options.transcriptSubset == null && options.preferredTranscripts == null)
+			throw new JannovarException("no transcripts selected, use --genes, --gene-ids, --transcripts, --regions, "
+					+ "or --preferred-only");
+
+		JannovarData data = new JannovarDataSerializer(options.dataFile).load(options.transcriptSubset,
+				options.preferredTranscripts);
+		new JannovarDataSerializer(options.outDataFile).save(data);
+	}
+
+	@Override
+	protected JannovarOptions parseCommandLine(String[] argv) throws CommandLineParsingException,
+	HelpRequestedException {
+		try {
+			return new DatabaseSubsetCommandLineParser().parse(argv);
+		} catch (ParseException e) {
+			throw new CommandLineParsingException(e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package de.charite.compbio.jannovar.cmd.db_subset;
+
+import java.io.PrintWriter;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.ParseException;
+
+import de.charite.compbio.jannovar.JannovarOptions;
+import de.charite.compbio.jannovar.cmd.HelpRequestedException;
+import de.charite.compbio.jannovar.cmd.JannovarAnnotationCommandLineParser;
+
+/**
+ * Parse the command line for the "db-subset" command.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class DatabaseSubsetCommandLineParser extends JannovarAnnotationCommandLineParser {
+
+	@Override
+	public JannovarOptions parse(String[] argv) throws ParseException, HelpRequestedException {
+		// Parse the command line.
+		CommandLine cmd = parser.parse(options, argv);
+
+		// Fill the resulting JannovarOptions.
+		JannovarOptions result = new JannovarOptions();
+		result.command = JannovarOptions.Command.DB_SUBSET;
+
+		if (cmd.hasOption("help")) {
+			printHelp();
+			throw new HelpRequestedException();
+		}
+
+		if (cmd.hasOption("verbose"))
+			result.verbosity = 2;
+		if (cmd.hasOption("very-verbose"))
+			result.verbosity = 3;
+
+		String args[] = cmd.getArgs(); // get remaining arguments
+		if (args.length != 3)
+			throw new ParseException("must have exactly two none-option arguments, had: " + (args.length - 1));
+
+		result.dataFile = args[1];
+		result.outDataFile = args[2];
+		result.transcriptSubset = parseTranscriptSubset(cmd);
+		result.preferredTranscripts = parsePreferredTranscripts(cmd);
+		if (cmd.hasOption("all-transcripts"))
+			throw new ParseException("--all-transcripts only applies to annotation");
+
+		return result;
+	}
+
+	public void printHelp() {
+		final String HEADER = new StringBuilder().append("Jannovar Command: db-subset\n\n")
+				.append("Use this command to write the selected transcripts of a database to a new database.\n\n")
+				.append("Usage: java -jar de.charite.compbio.jannovar.jar db-subset [options] <IN.ser> <OUT.ser>\n\n")
+				.toString();
+		final String FOOTER = new StringBuilder().append(
+				"\n\nExample: java -jar de.charite.compbio.jannovar.jar db-subset --genes BRCA1,BRCA2 "
+						+ "data/hg19_ucsc.ser data/hg19_ucsc_brca.ser\n\n").toString();
+
+		System.err.print(HEADER);
+
+		HelpFormatter hf = new HelpFormatter();
+		PrintWriter pw = new PrintWriter(System.err, true);
+		hf.printOptions(pw, 78, options, 2, 2);
+
+		System.err.print(FOOTER);
+	}
+
+}
@@ -1,5 +1,8 @@
 package de.charite.compbio.jannovar.cmd.download;
 
+import java.io.File;
+import java.io.IOException;
+
 import org.apache.commons.cli.ParseException;
 
 import de.charite.compbio.jannovar.JannovarException;
@@ -7,7 +10,9 @@ import de.charite.compbio.jannovar.JannovarOptions;
 import de.charite.compbio.jannovar.cmd.CommandLineParsingException;
 import de.charite.compbio.jannovar.cmd.HelpRequestedException;
 import de.charite.compbio.jannovar.cmd.JannovarCommand;
+import de.charite.compbio.jannovar.datasource.BuildFingerprint;
 import de.charite.compbio.jannovar.datasource.DataSourceFactory;
+import de.charite.compbio.jannovar.datasource.JannovarDataFactory;
 import de.charite.compbio.jannovar.impl.util.PathUtil;
 import de.charite.compbio.jannovar.io.JannovarData;
 import de.charite.compbio.jannovar.io.JannovarDataSerializer;
@@ -34,11 +39,28 @@ public final class DownloadCommand extends JannovarCommand {
 		DataSourceFactory factory = new DataSourceFactory(options, options.dataSourceFiles);
 		for (String name : options.dataSourceNames) {
 			System.err.println("Downloading/parsing for data source \"" + name + "\"");
-			JannovarData data = factory.getDataSource(name).getDataFactory()
-					.build(options.downloadPath, options.printProgressBars);
+			JannovarDataFactory dataFactory = factory.getDataSource(name).getDataFactory();
+			dataFactory.download(options.downloadPath, options.printProgressBars);
+
+			// skip parsing and serialization if neither the downloaded files nor the parser changed
 			String filename = PathUtil.join(options.downloadPath, name.replace('/', '_').replace('\\', '_') + ".ser");
+			final File fingerprintFile = BuildFingerprint.getFingerprintFile(filename);
+			final BuildFingerprint fingerprint = dataFactory.computeFingerprint(options.downloadPath);
+			if (!options.forceRebuild && new File(filename).exists()
+					&& fingerprint.equals(BuildFingerprint.load(fingerprintFile))) {
+				System.err.println("Serialized file \"" + filename + "\" is up to date, skipping.");
+				continue;
+			}
+
+			JannovarData data = dataFactory.parse(options.downloadPath);
 			JannovarDataSerializer serializer = new JannovarDataSerializer(filename);
 			serializer.save(data);
+			try {
+				fingerprint.save(fingerprintFile);
+			} catch (IOException e) {
+				throw new JannovarException("Could not write build fingerprint " + fingerprintFile + ": "
+						+ e.getMessage());
+			}
 		}
 	}
 
@@ -53,6 +53,11 @@ public final class DownloadCommandLineParser {
 		options.addOption(OptionBuilder
 				.withDescription("target folder for downloaded and serialized files, defaults to \"data\"").hasArgs(1)
 				.withLongOpt("data-dir").create("d"));
+		options.addOption(OptionBuilder.withDescription("number of files to download concurrently, defaults to 1")
+				.hasArgs(1).withLongOpt("num-threads").withArgName("num-threads").create());
+		options.addOption(OptionBuilder
+				.withDescription("rebuild the serialized file even if the downloaded files did not change")
+				.withLongOpt("force").create("f"));
 		options.addOption(OptionBuilder
 				.withDescription(
 						"proxy to use for HTTP/HTTPS/FTP downloads (lower precedence than "
@@ -100,6 +105,16 @@ public final class DownloadCommandLineParser {
 
 		if (cmd.hasOption("data-dir"))
 			result.downloadPath = cmd.getOptionValue("data-dir");
+		result.forceRebuild = cmd.hasOption("force");
+		if (cmd.hasOption("num-threads")) {
+			try {
+				result.numDownloadThreads = Integer.parseInt(cmd.getOptionValue("num-threads"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("Invalid value for --num-threads: " + cmd.getOptionValue("num-threads"));
+			}
+			if (result.numDownloadThreads < 1)
+				throw new ParseException("--num-threads must be at least 1");
+		}
 
 		// Get data source names from args.
 		String args[] = cmd.getArgs(); // get remaining arguments
@@ -181,7 +196,8 @@ public final class DownloadCommandLineParser {
 
 		final String FOOTER = new StringBuilder().append("\n\nExample: java -jar de.charite.compbio.jannovar.jar download hg19/ucsc\n\n")
 				.append("Note that Jannovar also interprets the environment variables\n")
-				.append("HTTP_PROXY, HTTPS_PROXY and FTP_PROXY for downloading files.\n").toString();
+				.append("HTTP_PROXY, HTTPS_PROXY and FTP_PROXY for downloading files.\n\n")
+				.append("Interrupted downloads are resumed when running the command again.\n").toString();
 
 		System.err.print(HEADER);
 
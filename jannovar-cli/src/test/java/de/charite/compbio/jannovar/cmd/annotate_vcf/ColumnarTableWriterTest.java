@@ -0,0 +1,106 @@
+package de.charite.compbio.jannovar.cmd.annotate_vcf;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.cmd.annotate_vcf.ColumnarTableWriter.ColumnType;
+
+public class ColumnarTableWriterTest {
+
+	static final ImmutableList<String> NAMES = ImmutableList.of("num", "name", "kind");
+
+	static final ImmutableList<ColumnType> TYPES = ImmutableList.of(ColumnType.INT, ColumnType.STRING,
+			ColumnType.DICTIONARY);
+
+	static final String[] KINDS = { "SNV", "INSERTION", null, "DELETION", "\u00e4\u00f6\u00fc" };
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+	String path;
+
+	@Before
+	public void setUp() {
+		path = new File(tmpFolder.getRoot(), "table.jvc").getPath();
+	}
+
+	/** @return value of the "name" column in row <code>i</code> */
+	private static String getName(int i) {
+		return (i % 7 == 0) ? null : ("name-" + i);
+	}
+
+	/** @return value of the "kind" column in row <code>i</code>, new dictionary values appear in later row groups */
+	private static String getKind(int i) {
+		return KINDS[(i / 50 + i) % (1 + Math.min(KINDS.length - 1, i / 100))];
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		final int numRows = 1000;
+		ColumnarTableWriter writer = new ColumnarTableWriter(path, NAMES, TYPES);
+		for (int i = 0; i < numRows; ++i) {
+			writer.addInt(i - 500);
+			writer.addString(getName(i));
+			writer.addString(getKind(i));
+			writer.endRow();
+			if (i % 300 == 299)
+				writer.flushRowGroup();
+		}
+		writer.close();
+
+		ColumnarTableReader reader = new ColumnarTableReader(path);
+		Assert.assertEquals(NAMES, reader.getNames());
+		Assert.assertEquals(TYPES, reader.getTypes());
+		int i = 0;
+		int numGroups = 0;
+		ColumnarTableReader.RowGroup group;
+		while ((group = reader.readRowGroup()) != null) {
+			++numGroups;
+			for (int row = 0; row < group.numRows; ++row, ++i) {
+				Assert.assertEquals(i - 500, group.getInt(0, row));
+				Assert.assertEquals(getName(i), group.getString(1, row));
+				Assert.assertEquals(getKind(i), group.getString(2, row));
+			}
+		}
+		Assert.assertNull(reader.readRowGroup());
+		reader.close();
+		Assert.assertEquals(numRows, i);
+		Assert.assertEquals(4, numGroups);
+	}
+
+	@Test
+	public void testEmptyTable() throws IOException {
+		new ColumnarTableWriter(path, NAMES, TYPES).close();
+
+		ColumnarTableReader reader = new ColumnarTableReader(path);
+		Assert.assertEquals(NAMES, reader.getNames());
+		Assert.assertNull(reader.readRowGroup());
+		reader.close();
+	}
+
+	@Test(expected = IOException.class)
+	public void testWrongMagic() throws IOException {
+		FileOutputStream out = new FileOutputStream(path);
+		out.write("##fileformat=VCFv4.1\n".getBytes("US-ASCII"));
+		out.close();
+
+		new ColumnarTableReader(path);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testIncompleteRow() throws IOException {
+		ColumnarTableWriter writer = new ColumnarTableWriter(path, NAMES, TYPES);
+		writer.addInt(1);
+		writer.endRow();
+	}
+
+}
@@ -1,8 +1,14 @@
 package de.charite.compbio.jannovar.cmd.annotate_vcf;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -12,9 +18,12 @@ import org.junit.rules.TemporaryFolder;
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.io.CharStreams;
 import com.google.common.io.Files;
 
 import de.charite.compbio.jannovar.JannovarException;
+import de.charite.compbio.jannovar.cmd.db_subset.DatabaseSubsetCommand;
 
 /**
  * This test runs the annotation command.
@@ -104,4 +113,246 @@ public class JannovarAnnotateVCFTest {
 		Assert.assertEquals(expected, actual);
 	}
 
+	// Test --jannovar on multi_sample.vcf and compare with the prepared gold-standard multi_sample.jv. The symbolic
+	// alleles "<DEL>" and "<NON_REF>" are not annotated.
+	@Test
+	public void testJannovarOutput() throws JannovarException, URISyntaxException, IOException {
+		final File outFolder = tmpFolder.newFolder();
+		final String inputFilePath = this.getClass().getResource("/multi_sample.vcf").toURI().getPath();
+		new AnnotateVCFCommand(new String[] { "annotate", "--jannovar", "-o", outFolder.toString(), pathToSmallSer,
+				inputFilePath }).run();
+		File f = new File(outFolder, "multi_sample.jv");
+		Assert.assertTrue(f.exists());
+
+		final File expectedFile = new File(this.getClass().getResource("/multi_sample.jv").toURI().getPath());
+		final String expected = Files.toString(expectedFile, Charsets.UTF_8);
+		final String actual = Files.toString(f, Charsets.UTF_8);
+		Assert.assertEquals(expected, actual);
+	}
+
+	// Test --jannovar --bgzip on multi_sample.vcf, the decompressed output must equal the gold-standard multi_sample.jv
+	@Test
+	public void testJannovarOutputBgzip() throws JannovarException, URISyntaxException, IOException {
+		final File outFolder = tmpFolder.newFolder();
+		final String inputFilePath = this.getClass().getResource("/multi_sample.vcf").toURI().getPath();
+		new AnnotateVCFCommand(new String[] { "annotate", "--jannovar", "--bgzip", "-o", outFolder.toString(),
+				pathToSmallSer, inputFilePath }).run();
+		File f = new File(outFolder, "multi_sample.jv.gz");
+		Assert.assertTrue(f.exists());
+		Assert.assertTrue(new File(outFolder, "multi_sample.jv.gz.tbi").exists());
+
+		final File expectedFile = new File(this.getClass().getResource("/multi_sample.jv").toURI().getPath());
+		final String expected = Files.toString(expectedFile, Charsets.UTF_8);
+		InputStreamReader in = new InputStreamReader(new GZIPInputStream(new FileInputStream(f)), Charsets.UTF_8);
+		final String actual = CharStreams.toString(in);
+		in.close();
+		Assert.assertEquals(expected, actual);
+	}
+
+	// Test --jannovar --bgzip on an unsorted copy of multi_sample.vcf, the failing tabix index must not be ignored
+	@Test
+	public void testJannovarOutputBgzipUnsorted() throws JannovarException, URISyntaxException, IOException {
+		final File inputFile = new File(this.getClass().getResource("/multi_sample.vcf").toURI().getPath());
+		List<String> lines = Files.readLines(inputFile, Charsets.UTF_8);
+		// move the last record to the front
+		final int firstRecord = lines.size() - 8;
+		lines.add(firstRecord, lines.remove(lines.size() - 1));
+		final File unsortedFile = new File(tmpFolder.newFolder(), "unsorted.vcf");
+		Files.write(Joiner.on('\n').join(lines) + "\n", unsortedFile, Charsets.UTF_8);
+
+		final File outFolder = tmpFolder.newFolder();
+		try {
+			new AnnotateVCFCommand(new String[] { "annotate", "--jannovar", "--bgzip", "-o", outFolder.toString(),
+					pathToSmallSer, unsortedFile.getPath() }).run();
+			Assert.fail("expected JannovarException");
+		} catch (JannovarException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("not sorted"));
+		}
+	}
+
+	// Test --site-only on small.vcf, the output must equal the gold-standard small.jv.vcf of the normal annotation
+	@Test
+	public void testSiteOnlyOnSmallExample() throws JannovarException, URISyntaxException, IOException {
+		final File outFolder = tmpFolder.newFolder();
+		final String inputFilePath = this.getClass().getResource("/small.vcf").toURI().getPath();
+		new AnnotateVCFCommand(new String[] { "annotate", "--site-only", "-o", outFolder.toString(), pathToSmallSer,
+				inputFilePath }).run();
+		File f = new File(outFolder, "small.jv.vcf");
+		Assert.assertTrue(f.exists());
+
+		final File expectedFile = new File(this.getClass().getResource("/small.jv.vcf").toURI().getPath());
+		final String expected = Files.toString(expectedFile, Charsets.UTF_8);
+		final String actual = Files.toString(f, Charsets.UTF_8);
+		Assert.assertEquals(expected, actual);
+	}
+
+	// Test --site-only on multi_sample.vcf and compare with the prepared gold-standard multi_sample.siteonly.jv.vcf.
+	// Compared to the normal annotation, the ANN values must be the same while the FORMAT and sample columns are the
+	// ones of the input.
+	@Test
+	public void testSiteOnlyMultiSample() throws JannovarException, URISyntaxException, IOException {
+		final File inputFile = new File(this.getClass().getResource("/multi_sample.vcf").toURI().getPath());
+		final File siteOnlyFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "--site-only", "-o", siteOnlyFolder.toString(),
+				pathToSmallSer, inputFile.getPath() }).run();
+		File f = new File(siteOnlyFolder, "multi_sample.jv.vcf");
+		Assert.assertTrue(f.exists());
+
+		final File expectedFile = new File(this.getClass().getResource("/multi_sample.siteonly.jv.vcf").toURI()
+				.getPath());
+		final String expected = Files.toString(expectedFile, Charsets.UTF_8);
+		final String actual = Files.toString(f, Charsets.UTF_8);
+		Assert.assertEquals(expected, actual);
+
+		final File normalFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "-o", normalFolder.toString(), pathToSmallSer,
+				inputFile.getPath() }).run();
+		final List<String> siteOnlyRecords = readRecords(f);
+		final List<String> normalRecords = readRecords(new File(normalFolder, "multi_sample.jv.vcf"));
+		final List<String> inputRecords = readRecords(inputFile);
+		Assert.assertEquals(inputRecords.size(), siteOnlyRecords.size());
+		Assert.assertEquals(normalRecords.size(), siteOnlyRecords.size());
+		for (int i = 0; i < siteOnlyRecords.size(); ++i) {
+			List<String> siteOnly = Splitter.on('\t').splitToList(siteOnlyRecords.get(i));
+			List<String> normal = Splitter.on('\t').splitToList(normalRecords.get(i));
+			List<String> input = Splitter.on('\t').splitToList(inputRecords.get(i));
+			Assert.assertEquals(normal.subList(0, 5), siteOnly.subList(0, 5));
+			Assert.assertEquals(getInfoValue(normal.get(7), "ANN"), getInfoValue(siteOnly.get(7), "ANN"));
+			Assert.assertEquals(input.subList(8, input.size()), siteOnly.subList(8, siteOnly.size()));
+		}
+	}
+
+	/** @return the record lines of the VCF file <code>f</code> */
+	private static List<String> readRecords(File f) throws IOException {
+		ArrayList<String> result = new ArrayList<String>();
+		for (String line : Files.readLines(f, Charsets.UTF_8))
+			if (!line.startsWith("#"))
+				result.add(line);
+		return result;
+	}
+
+	/** @return value of the field <code>key</code> in the INFO column <code>info</code>, <code>null</code> if missing */
+	private static String getInfoValue(String info, String key) {
+		for (String field : Splitter.on(';').split(info))
+			if (field.startsWith(key + "="))
+				return field.substring(key.length() + 1);
+		return null;
+	}
+
+	// Test --split-samples on multi_sample.vcf, each sample file must contain the records of the multi-sample output in
+	// which the sample carries a non-reference allele, with only the sample's genotype column
+	@Test
+	public void testSplitSamples() throws JannovarException, URISyntaxException, IOException {
+		final String inputFilePath = this.getClass().getResource("/multi_sample.vcf").toURI().getPath();
+		final File multiFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "-o", multiFolder.toString(), pathToSmallSer,
+				inputFilePath }).run();
+		final File splitFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "--split-samples", "--split-threads", "2", "-o",
+				splitFolder.toString(), pathToSmallSer, inputFilePath }).run();
+
+		final List<String> multiLines = Files.readLines(new File(multiFolder, "multi_sample.jv.vcf"), Charsets.UTF_8);
+		final List<String> samples = Arrays.asList("mother", "father", "child");
+		for (int i = 0; i < samples.size(); ++i) {
+			final File f = new File(splitFolder, "multi_sample." + samples.get(i) + ".jv.vcf");
+			Assert.assertTrue(f.exists());
+
+			ArrayList<String> expected = new ArrayList<String>();
+			for (String line : multiLines) {
+				if (line.startsWith("##")) {
+					expected.add(line);
+					continue;
+				}
+				List<String> fields = Splitter.on('\t').splitToList(line);
+				if (!line.startsWith("#") && !isNonReference(fields.get(9 + i)))
+					continue;
+				expected.add(Joiner.on('\t').join(Joiner.on('\t').join(fields.subList(0, 9)), fields.get(9 + i)));
+			}
+			Assert.assertEquals(expected, Files.readLines(f, Charsets.UTF_8));
+		}
+	}
+
+	// Test --all-transcripts with a database written by db-subset --preferred-only, which is annotated against the
+	// preferred transcripts by default
+	@Test
+	public void testAllTranscriptsWithPreferredIndex() throws JannovarException, URISyntaxException, IOException {
+		final String inputFilePath = this.getClass().getResource("/multi_sample.vcf").toURI().getPath();
+		final File subsetSer = new File(tmpFolder.getRoot(), "preferred.ser");
+		new DatabaseSubsetCommand(new String[] { "db-subset", "--preferred-only", pathToSmallSer,
+				subsetSer.getPath() }).run();
+
+		final File fullFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "--showall", "-o", fullFolder.toString(), pathToSmallSer,
+				inputFilePath }).run();
+		final File preferredFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "--showall", "-o", preferredFolder.toString(),
+				subsetSer.getPath(), inputFilePath }).run();
+		final File allFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "--showall", "--all-transcripts", "-o",
+				allFolder.toString(), subsetSer.getPath(), inputFilePath }).run();
+
+		final String full = Files.toString(new File(fullFolder, "multi_sample.jv.vcf"), Charsets.UTF_8);
+		Assert.assertEquals(full, Files.toString(new File(allFolder, "multi_sample.jv.vcf"), Charsets.UTF_8));
+		Assert.assertNotEquals(full, Files.toString(new File(preferredFolder, "multi_sample.jv.vcf"), Charsets.UTF_8));
+	}
+
+	// Test --split-samples with two sample names that map to the same output file name
+	@Test(expected = JannovarException.class)
+	public void testSplitSamplesCollision() throws JannovarException, URISyntaxException, IOException {
+		final File inputFile = new File(tmpFolder.getRoot(), "collision.vcf");
+		final String content = Files.toString(new File(this.getClass().getResource("/multi_sample.vcf").toURI()
+				.getPath()), Charsets.UTF_8);
+		Files.write(content.replace("\tmother\tfather\tchild", "\ta b\ta_b\tchild"), inputFile, Charsets.UTF_8);
+		final File outFolder = tmpFolder.newFolder();
+		new AnnotateVCFCommand(new String[] { "annotate", "--split-samples", "-o", outFolder.toString(),
+				pathToSmallSer, inputFile.getPath() }).run();
+	}
+
+	/** @return whether the genotype column <code>sample</code> has a called non-reference allele */
+	private static boolean isNonReference(String sample) {
+		final String gt = Splitter.on(':').split(sample).iterator().next();
+		for (String allele : Splitter.onPattern("[/|]").split(gt))
+			if (!allele.equals("0") && !allele.equals("."))
+				return true;
+		return false;
+	}
+
+	// Test --columnar on multi_sample.vcf, reading the file back and comparing with the Jannovar output of the same
+	// annotations
+	@Test
+	public void testColumnarOutput() throws JannovarException, URISyntaxException, IOException {
+		final File outFolder = tmpFolder.newFolder();
+		final String inputFilePath = this.getClass().getResource("/multi_sample.vcf").toURI().getPath();
+		new AnnotateVCFCommand(new String[] { "annotate", "--columnar", "--row-group-size", "2", "-o",
+				outFolder.toString(), pathToSmallSer, inputFilePath }).run();
+		new AnnotateVCFCommand(new String[] { "annotate", "--jannovar", "-o", outFolder.toString(), pathToSmallSer,
+				inputFilePath }).run();
+
+		final List<String> lines = Files.readLines(new File(outFolder, "multi_sample.jv"), Charsets.UTF_8);
+		ColumnarTableReader reader = new ColumnarTableReader(new File(outFolder, "multi_sample.jvc").getPath());
+		Assert.assertEquals(AnnotatedColumnarWriter.COLUMN_NAMES, reader.getNames());
+		int numRows = 0;
+		int numGroups = 0;
+		ColumnarTableReader.RowGroup group;
+		while ((group = reader.readRowGroup()) != null) {
+			++numGroups;
+			for (int row = 0; row < group.numRows; ++row) {
+				// record, effects, gene, HGVS, chr, pos, ref, alt, genotype, quality
+				final String[] fields = lines.get(numRows++).split("\t", -1);
+				Assert.assertEquals(fields[0], Integer.toString(group.getInt(0, row)));
+				Assert.assertEquals(fields[4], group.getString(1, row));
+				Assert.assertEquals(fields[5], Integer.toString(group.getInt(2, row)));
+				Assert.assertEquals(fields[6], group.getString(3, row));
+				Assert.assertEquals(fields[7], group.getString(4, row));
+				Assert.assertEquals(fields[1], group.getString(7, row));
+				Assert.assertEquals(fields[2], group.getString(9, row));
+				Assert.assertEquals(fields[3],
+						Joiner.on(':').skipNulls().join(group.getString(11, row), group.getString(12, row)));
+			}
+		}
+		reader.close();
+		Assert.assertEquals(lines.size(), numRows);
+		Assert.assertEquals(4, numGroups);
+	}
+
 }
@@ -6,6 +6,11 @@ import java.util.ArrayList;
 
 import com.google.common.collect.ImmutableList;
 
+import de.charite.compbio.jannovar.annotation.PutativeImpact;
+import de.charite.compbio.jannovar.annotation.StructuralVariantAnnotator;
+import de.charite.compbio.jannovar.io.PreferredTranscripts;
+import de.charite.compbio.jannovar.io.TranscriptSubset;
+
 /**
  * Configuration for the Jannovar program.
  *
@@ -35,6 +40,12 @@ public final class JannovarOptions {
 	/** directory to use for the downloads and the serialized file */
 	public String downloadPath = "data";
 
+	/** number of files to download concurrently */
+	public int numDownloadThreads = 1;
+
+	/** whether to rebuild the serialized file even if the downloaded files did not change */
+	public boolean forceRebuild = false;
+
 	/** proxy for HTTP */
 	public URL httpProxy = null;
 
@@ -52,9 +63,45 @@ public final class JannovarOptions {
 	/** path to the file with the serialized data */
 	public String dataFile = null;
 
+	/** only load the selected transcripts from {@link #dataFile}, <code>null</code> for all transcripts */
+	public TranscriptSubset transcriptSubset = null;
+
+	/** annotate against the preferred transcript of each gene only, <code>null</code> for all transcripts */
+	public PreferredTranscripts preferredTranscripts = null;
+
+	/** annotate against all transcripts, even if {@link #dataFile} has a preferred transcript index */
+	public boolean allTranscripts = false;
+
 	/** whether to write the result in the Jannovar format */
 	public boolean jannovarFormat = false;
 
+	/** names of the samples to write genotypes for in the Jannovar format, <code>null</code> for the first sample */
+	public ImmutableList<String> jannovarSamples = null;
+
+	/** whether to compress the Jannovar or VCF output with BGZF and write a tabix index */
+	public boolean bgzipOutput = false;
+
+	/** number of threads for the BGZF compression of {@link #bgzipOutput} */
+	public int numCompressionThreads = 4;
+
+	/** whether to write the result in the columnar format for bulk loading */
+	public boolean columnarFormat = false;
+
+	/** number of variants in each row group of the columnar format */
+	public int columnarRowGroupSize = 10000;
+
+	/** whether to write one VCF file for each sample, with the records where the sample has a non-reference allele */
+	public boolean splitSamples = false;
+
+	/** number of writer threads for {@link #splitSamples} */
+	public int numSplitThreads = 4;
+
+	/** whether to annotate the VCF lines without decoding the genotypes, these are copied verbatim */
+	public boolean siteOnly = false;
+
+	/** whether to write BCF instead of VCF, BCF is also written for BCF input files */
+	public boolean bcfOutput = false;
+
 	/** whether to report the annotations for all affected transcripts for each alternative allele */
 	public boolean showAll = false;
 
@@ -67,6 +114,24 @@ public final class JannovarOptions {
 	/** whether or not to write out the VCF annotation standard fields */
 	public boolean writeVCFAnnotationStandardInfoFields = true;
 
+	/** only annotate variants that can have this impact or a more severe one, <code>null</code> for all variants */
+	public PutativeImpact minImpact = null;
+
+	/** whether to write gene-level annotations of structural variants */
+	public boolean annotateStructuralVariants = false;
+
+	/** maximal number of genes and transcripts to write for each structural variant */
+	public int maxSVGenes = StructuralVariantAnnotator.DEFAULT_MAX_GENES;
+
+	/** whether to collect annotation metrics, publish them through JMX, and print them at the end */
+	public boolean collectMetrics = false;
+
+	/** seconds between two reports of the annotation metrics, <code>0</code> for only reporting at the end */
+	public int metricsReportInterval = 0;
+
+	/** whether to print the annotation metrics as JSON */
+	public boolean metricsJSON = false;
+
 	// TODO(holtgrem): enable and use this!
 	/** path to output VCF file path (overrides generation of file name from input file name) */
 	public String outVCFFile = null;
@@ -76,11 +141,16 @@ public final class JannovarOptions {
 	/** chromosomal position and a change, e.g. "chr1:12345C>A" */
 	public ArrayList<String> chromosomalChanges = new ArrayList<String>();
 
+	// Configuration for the db-subset command
+
+	/** path to the file to write the selected transcripts to */
+	public String outDataFile = null;
+
 	/**
 	 * The command that is to be executed.
 	 */
 	public enum Command {
-		DOWNLOAD, ANNOTATE_VCF, ANNOTATE_POSITION, DB_LIST
+		DOWNLOAD, ANNOTATE_VCF, ANNOTATE_POSITION, DB_LIST, DB_SUBSET
 	}
 
 	/**
@@ -99,19 +169,44 @@ public final class JannovarOptions {
 			out.println("dataSourceFiles: " + dataSourceFiles);
 			out.println("dataSourceNames: " + dataSourceNames);
 			out.println("downloadPath" + downloadPath);
+			out.println("numDownloadThreads: " + numDownloadThreads);
+			out.println("forceRebuild: " + forceRebuild);
 			out.println("HTTP proxy: " + httpProxy);
 			out.println("HTTPS proxy: " + httpsProxy);
 			out.println("FTP proxy: " + ftpProxy);
 		} else if (command == Command.ANNOTATE_VCF || command == Command.ANNOTATE_POSITION) {
 			out.println("dataFile: " + dataFile);
+			out.println("transcriptSubset: " + transcriptSubset);
+			out.println("preferredTranscripts: " + preferredTranscripts);
+			out.println("allTranscripts: " + allTranscripts);
 			out.println("vcfFilePaths: " + vcfFilePaths);
 			out.println("chromosomalChanges: " + chromosomalChanges);
 			out.println("showAll: " + showAll);
 			out.println("jannovarFormat: " + jannovarFormat);
+			out.println("jannovarSamples: " + jannovarSamples);
+			out.println("bgzipOutput: " + bgzipOutput);
+			out.println("numCompressionThreads: " + numCompressionThreads);
+			out.println("columnarFormat: " + columnarFormat);
+			out.println("columnarRowGroupSize: " + columnarRowGroupSize);
+			out.println("splitSamples: " + splitSamples);
+			out.println("numSplitThreads: " + numSplitThreads);
+			out.println("siteOnly: " + siteOnly);
+			out.println("bcfOutput: " + bcfOutput);
 			out.println("writeJannovarInfoFields: " + writeJannovarInfoFields);
 			out.println("writeVCFAnnotationStandardInfoFields: " + writeVCFAnnotationStandardInfoFields);
+			out.println("minImpact: " + minImpact);
+			out.println("annotateStructuralVariants: " + annotateStructuralVariants);
+			out.println("maxSVGenes: " + maxSVGenes);
+			out.println("collectMetrics: " + collectMetrics);
+			out.println("metricsReportInterval: " + metricsReportInterval);
+			out.println("metricsJSON: " + metricsJSON);
 		} else if (command == Command.DB_LIST) {
 			out.println("dataSourceFiles: " + dataSourceFiles);
+		} else if (command == Command.DB_SUBSET) {
+			out.println("dataFile: " + dataFile);
+			out.println("transcriptSubset: " + transcriptSubset);
+			out.println("preferredTranscripts: " + preferredTranscripts);
+			out.println("outDataFile: " + outDataFile);
 		}
 	}
 
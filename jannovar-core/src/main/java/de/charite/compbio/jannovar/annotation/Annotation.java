@@ -3,9 +3,12 @@ package de.charite.compbio.jannovar.annotation;
 import java.util.Collection;
 
 import com.google.common.base.Joiner;
-import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
 
 import de.charite.compbio.jannovar.Immutable;
+import de.charite.compbio.jannovar.impl.util.LongEnumSet;
 import de.charite.compbio.jannovar.reference.GenomeChange;
 import de.charite.compbio.jannovar.reference.TranscriptModel;
 
@@ -16,6 +19,10 @@ import de.charite.compbio.jannovar.reference.TranscriptModel;
 /**
  * Collect the information for one variant's annotation
  *
+ * The HGVS descriptions can be given as {@link Supplier}s. They are then only built on the first call to
+ * {@link #getNtHGVSDescription} or {@link #getAaHGVSDescription}, such that no strings are built for annotations that
+ * are only inspected for their {@link #effects}.
+ *
  * @see AnnotationVariantTypeDecorator
  * @see AnnotationTextGenerator
  *
@@ -49,33 +56,39 @@ public final class Annotation implements Comparable<Annotation> {
 	/** the annotated {@link GenomeChange} */
 	public final GenomeChange change;
 
+	/** bit masks of the {@link VariantType}s with each {@link PutativeImpact}, indexed by the impact's ordinal */
+	private static final long[] IMPACT_MASKS = new long[PutativeImpact.values().length];
+
+	static {
+		for (VariantType vt : VariantType.values())
+			IMPACT_MASKS[vt.getPutativeImpact().ordinal()] |= LongEnumSet.toBit(vt);
+	}
+
 	/** variant types, sorted by internal pathogenicity score */
-	public final ImmutableSortedSet<VariantType> effects;
+	public final LongEnumSet<VariantType> effects;
 
 	/** errors and warnings */
-	public final ImmutableSortedSet<AnnotationMessage> messages;
+	public final LongEnumSet<AnnotationMessage> messages;
 
 	/**
 	 * @return highest {@link PutativeImpact} of all {@link #effects}.
 	 */
 	public final PutativeImpact getPutativeImpact() {
-		if (effects.isEmpty())
-			return null;
-		VariantType worst = effects.first();
-		for (VariantType vt : effects)
-			if (worst.getPutativeImpact().compareTo(vt.getPutativeImpact()) > 0)
-				worst = vt;
-		return worst.getPutativeImpact();
+		final long bits = effects.getBits();
+		for (PutativeImpact impact : PutativeImpact.values())
+			if ((bits & IMPACT_MASKS[impact.ordinal()]) != 0)
+				return impact;
+		return null;
 	}
 
 	/** location of the annotation, <code>null</code> if not even nearby a {@link TranscriptModel} */
 	public final AnnotationLocation annoLoc;
 
-	/** HGVS nucleotide variant annotation */
-	public final String ntHGVSDescription;
+	/** HGVS nucleotide variant annotation, built on first access */
+	private final Supplier<String> ntHGVSDescription;
 
-	/** amino acid variant annotation */
-	public final String aaHGVSDescription;
+	/** amino acid variant annotation, built on first access */
+	private final Supplier<String> aaHGVSDescription;
 
 	/** the transcript, <code>null</code> for {@link VariantType#INTERGENIC} annotations */
 	public final TranscriptModel transcript;
@@ -87,7 +100,7 @@ public final class Annotation implements Comparable<Annotation> {
 	 *            {@link AnnotationMessage}s to use in this annotation
 	 */
 	public Annotation(Collection<AnnotationMessage> messages) {
-		this(null, null, null, null, null, null, messages);
+		this(null, null, null, null, (String) null, (String) null, messages);
 	}
 
 	/**
@@ -110,7 +123,7 @@ public final class Annotation implements Comparable<Annotation> {
 	 */
 	public Annotation(TranscriptModel transcript, GenomeChange change, Collection<VariantType> varTypes,
 			AnnotationLocation annoLoc, String ntHGVSDescription, String aaHGVSDescription) {
-		this(transcript, change, varTypes, annoLoc, ntHGVSDescription, aaHGVSDescription, ImmutableSortedSet
+		this(transcript, change, varTypes, annoLoc, ntHGVSDescription, aaHGVSDescription, ImmutableList
 				.<AnnotationMessage> of());
 	}
 
@@ -137,13 +150,56 @@ public final class Annotation implements Comparable<Annotation> {
 	public Annotation(TranscriptModel transcript, GenomeChange change, Collection<VariantType> varTypes,
 			AnnotationLocation annoLoc, String ntHGVSDescription, String aaHGVSDescription,
 			Collection<AnnotationMessage> messages) {
+		this(transcript, change, varTypes, annoLoc, Suppliers.ofInstance(ntHGVSDescription), Suppliers
+				.ofInstance(aaHGVSDescription), messages);
+	}
+
+	/**
+	 * Initialize the {@link Annotation} with the given values, building the HGVS descriptions on first access.
+	 *
+	 * The constructor will sort <code>effects</code> by pathogenicity before storing.
+	 *
+	 * @param change
+	 *            the annotated {@link GenomeChange}
+	 * @param transcript
+	 *            transcript for this annotation
+	 * @param effects
+	 *            type of the variants
+	 * @param annoLoc
+	 *            location of the variant
+	 * @param ntHGVSDescription
+	 *            {@link Supplier} for the nucleotide variant description following the HGVS nomenclauture, called at
+	 *            most once
+	 * @param aaHGVSDescription
+	 *            {@link Supplier} for the amino acid variant description following the HGVS nomenclauture, called at
+	 *            most once
+	 * @param messages
+	 *            {@link Collection} of {@link AnnotatioMessage} objects
+	 */
+	public Annotation(TranscriptModel transcript, GenomeChange change, Collection<VariantType> varTypes,
+			AnnotationLocation annoLoc, Supplier<String> ntHGVSDescription, Supplier<String> aaHGVSDescription,
+			Collection<AnnotationMessage> messages) {
 		this.change = change;
-		this.effects = ImmutableSortedSet.copyOf(varTypes);
+		this.effects = LongEnumSet.copyOf(VariantType.class, varTypes);
 		this.annoLoc = annoLoc;
-		this.ntHGVSDescription = ntHGVSDescription;
-		this.aaHGVSDescription = aaHGVSDescription;
+		this.ntHGVSDescription = Suppliers.memoize(ntHGVSDescription);
+		this.aaHGVSDescription = Suppliers.memoize(aaHGVSDescription);
 		this.transcript = transcript;
-		this.messages = ImmutableSortedSet.copyOf(messages);
+		this.messages = LongEnumSet.copyOf(AnnotationMessage.class, messages);
+	}
+
+	/**
+	 * @return HGVS nucleotide variant annotation, <code>null</code> if there is none
+	 */
+	public String getNtHGVSDescription() {
+		return ntHGVSDescription.get();
+	}
+
+	/**
+	 * @return amino acid variant annotation, <code>null</code> if there is none
+	 */
+	public String getAaHGVSDescription() {
+		return aaHGVSDescription.get();
 	}
 
 	/**
@@ -158,8 +214,8 @@ public final class Annotation implements Comparable<Annotation> {
 		data.impact = getPutativeImpact();
 		data.setTranscriptAndChange(transcript, change);
 		data.setAnnoLoc(annoLoc);
-		data.ntHGVSDescription = ntHGVSDescription;
-		data.aaHGVSDescription = aaHGVSDescription;
+		data.ntHGVSDescription = getNtHGVSDescription();
+		data.aaHGVSDescription = getAaHGVSDescription();
 		data.messages = messages;
 		return data.toString(alt);
 	}
@@ -174,7 +230,7 @@ public final class Annotation implements Comparable<Annotation> {
 	 */
 	public String getSymbolAndAnnotation() {
 		return Joiner.on(":").skipNulls()
-				.join(transcript.geneSymbol, transcript.accession, ntHGVSDescription, aaHGVSDescription);
+				.join(transcript.geneSymbol, transcript.accession, getNtHGVSDescription(), getAaHGVSDescription());
 	}
 
 	/**
@@ -200,11 +256,11 @@ public final class Annotation implements Comparable<Annotation> {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((aaHGVSDescription == null) ? 0 : aaHGVSDescription.hashCode());
+		result = prime * result + ((getAaHGVSDescription() == null) ? 0 : getAaHGVSDescription().hashCode());
 		result = prime * result + ((annoLoc == null) ? 0 : annoLoc.hashCode());
 		result = prime * result + ((effects == null) ? 0 : effects.hashCode());
 		result = prime * result + ((messages == null) ? 0 : messages.hashCode());
-		result = prime * result + ((ntHGVSDescription == null) ? 0 : ntHGVSDescription.hashCode());
+		result = prime * result + ((getNtHGVSDescription() == null) ? 0 : getNtHGVSDescription().hashCode());
 		result = prime * result + ((transcript == null) ? 0 : transcript.hashCode());
 		return result;
 	}
@@ -218,10 +274,10 @@ public final class Annotation implements Comparable<Annotation> {
 		if (getClass() != obj.getClass())
 			return false;
 		Annotation other = (Annotation) obj;
-		if (aaHGVSDescription == null) {
-			if (other.aaHGVSDescription != null)
+		if (getAaHGVSDescription() == null) {
+			if (other.getAaHGVSDescription() != null)
 				return false;
-		} else if (!aaHGVSDescription.equals(other.aaHGVSDescription))
+		} else if (!getAaHGVSDescription().equals(other.getAaHGVSDescription()))
 			return false;
 		if (annoLoc == null) {
 			if (other.annoLoc != null)
@@ -238,10 +294,10 @@ public final class Annotation implements Comparable<Annotation> {
 				return false;
 		} else if (!messages.equals(other.messages))
 			return false;
-		if (ntHGVSDescription == null) {
-			if (other.ntHGVSDescription != null)
+		if (getNtHGVSDescription() == null) {
+			if (other.getNtHGVSDescription() != null)
 				return false;
-		} else if (!ntHGVSDescription.equals(other.ntHGVSDescription))
+		} else if (!getNtHGVSDescription().equals(other.getNtHGVSDescription()))
 			return false;
 		if (transcript == null) {
 			if (other.transcript != null)
@@ -1,12 +1,12 @@
 package de.charite.compbio.jannovar.annotation;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.charite.compbio.jannovar.impl.util.LongEnumSet;
+
 /**
  * This class collects all the information about a variant and its annotations and calculates the final annotations for
  * a given variant. The {@link de.charite.compbio.jannovar.io.Chromosome Chromosome} objects each use an instance of
@@ -49,80 +49,63 @@ import org.slf4j.LoggerFactory;
  * {@link de.charite.compbio.jannovar.annotation.Annotation Annotation} object. These functions are called
  * summarizeABC(), where ABC is Intronic, Exonic, etc., representing the precedence classes.
  *
+ * The state for the current variant is kept in primitive form: the union of the {@link Annotation#effects} as a bit mask
+ * (see {@link LongEnumSet}) and the gene symbols of the annotated transcripts.
+ *
  * Used for the implementation of VariantAnnotator.
  *
  * @author Peter N Robinson <peter.robinson@charite.de>
  */
-// TODO(holtgrem): expose the hasNcRna etc. fields?
 final class AnnotationCollector {
 
 	/** the logger object to use */
 	private static final Logger LOGGER = LoggerFactory.getLogger(AnnotationCollector.class);
 
+	/** bit mask of the splicing {@link VariantType}s */
+	private static final long SPLICING_MASK = LongEnumSet.toBit(VariantType.SPLICE_DONOR)
+			| LongEnumSet.toBit(VariantType.SPLICE_ACCEPTOR) | LongEnumSet.toBit(VariantType.SPLICE_REGION);
+
+	/** bit mask of the nonsynonymous, splice site, and insertion/deletion {@link VariantType}s */
+	private static final long NS_SS_I_MASK;
+
+	/** bit mask of the {@link VariantType}s that are not genic */
+	private static final long NON_GENIC_MASK = LongEnumSet.toBit(VariantType.UPSTREAM)
+			| LongEnumSet.toBit(VariantType.DOWNSTREAM) | LongEnumSet.toBit(VariantType.INTERGENIC);
+
+	static {
+		long mask = 0;
+		for (VariantType vt : VariantType.values())
+			if (vt.isTopPriorityVariant())
+				mask |= LongEnumSet.toBit(vt);
+		NS_SS_I_MASK = mask | SPLICING_MASK;
+	}
+
 	/** List of all {@link Annotation} objects found for exonic variation. */
-	private ArrayList<Annotation> annotationLst = null;
+	private final ArrayList<Annotation> annotationLst;
 
 	/**
-	 * Set of all gene symbols used for the current annotation (usually one, but if the size of this set is greater than
-	 * one, then there qare annotations to multiple genes and we will need to use special treatment).
+	 * Gene symbols used for the current annotation (usually one, but if there is more than one, then there are
+	 * annotations to multiple genes and we will need to use special treatment).
+	 *
+	 * The symbols are usually interned, so the comparison mostly stops at the identity check.
 	 */
-	private HashSet<String> geneSymbolSet = null;
+	private final ArrayList<String> geneSymbols;
 
-	/** Flag to state that we have at least one exonic variant. */
-	private boolean hasExonic;
-	/** Flag to state we have at least one splicing variant */
-	private boolean hasSplicing;
-	/** Flag to state that we have at least one noncoding RNA variant. */
-	@SuppressWarnings("unused")
-	private boolean hasNcRna;
-	/** Flag to state that we have at least one UTR5 variant. */
-	@SuppressWarnings("unused")
-	private boolean hasUTR5;
-	/** Flag to state that we have at least one UTR3 variant. */
-	@SuppressWarnings("unused")
-	private boolean hasUTR3;
-	/** Flag to state that we have at least one nonsynonymous exonic variant. */
-	@SuppressWarnings("unused")
-	private boolean hasSynonymous;
-	/** Flag to state that we have at least one intronic variant. */
-	@SuppressWarnings("unused")
-	private boolean hasIntronic;
-	/** Flag to state that we have at least one noncoding RNA intronic variant. */
-	@SuppressWarnings("unused")
-	private boolean hasNcrnaIntronic;
-	/** Flag to state that we have at least one upstream variant. */
-	@SuppressWarnings("unused")
-	private boolean hasUpstream;
-	/** Flag to state that we have at least one downstream variant. */
-	@SuppressWarnings("unused")
-	private boolean hasDownstream;
-	/** Flag to state that we have at least one intergenic variant. */
-	@SuppressWarnings("unused")
-	private boolean hasIntergenic;
-	/** Flag to state that we have at least one error annotation. */
-	@SuppressWarnings("unused")
-	private boolean hasError;
-	/** Flag to state we have a structural variation */
-	@SuppressWarnings("unused")
-	private boolean hasStructural;
-	/**
-	 * True if we have at least one annotation for the classes ncRNA_EXONIC SPLICING, UTR5, UTR3, EXONIC, INTRONIC
-	 */
-	private boolean hasGenicMutation;
+	/** union of the {@link Annotation#effects} of all annotations of the current variant, as a bit mask */
+	private long effectBits;
 
 	/** The current number of annotations for the variant being annotated */
 	private int annotationCount;
 
 	/**
-	 * The constructor initializes an ArrayList of {@link Annotation} objects as well as a HashSet of Gene symbols
-	 * (Strings).
+	 * The constructor initializes an ArrayList of {@link Annotation} objects as well as a list of gene symbols.
 	 *
 	 * @param initialCapacity
-	 *            The initial capacity of the arraylist and hashset.
+	 *            The initial capacity of the lists.
 	 */
 	public AnnotationCollector(int initialCapacity) {
-		this.annotationLst = new ArrayList<Annotation>();
-		this.geneSymbolSet = new HashSet<String>();
+		this.annotationLst = new ArrayList<Annotation>(initialCapacity);
+		this.geneSymbols = new ArrayList<String>(initialCapacity);
 	}
 
 	/**
@@ -131,22 +114,9 @@ final class AnnotationCollector {
 	 */
 	public void clearAnnotationLists() {
 		this.annotationLst.clear();
-		this.geneSymbolSet.clear();
-		this.hasExonic = false;
-		this.hasSplicing = false;
-		this.hasNcRna = false;
-		this.hasUTR5 = false;
-		this.hasUTR3 = false;
-		this.hasIntronic = false;
-		this.hasSynonymous = false;
-		this.hasNcrnaIntronic = false;
-		this.hasUpstream = false;
-		this.hasDownstream = false;
-		this.hasIntergenic = false;
-		this.hasError = false;
-		this.hasGenicMutation = false;
+		this.geneSymbols.clear();
+		this.effectBits = 0;
 		this.annotationCount = 0;
-
 	}
 
 	/**
@@ -156,6 +126,13 @@ final class AnnotationCollector {
 		return this.annotationCount;
 	}
 
+	/**
+	 * @return The number of distinct genes with annotations for the current variant.
+	 */
+	public int getGeneCount() {
+		return this.geneSymbols.size();
+	}
+
 	/**
 	 * Note that this function is used by {@link Chromosome} during the construction of an {@link AnnotationList} for a
 	 * given variant.
@@ -170,7 +147,7 @@ final class AnnotationCollector {
 	 * @return true if there is a nonsynonymous, splice site, or insertion/deletion variant
 	 */
 	public boolean isNS_SS_I() {
-		return hasExonic || hasSplicing;
+		return (effectBits & NS_SS_I_MASK) != 0;
 	}
 
 	/**
@@ -178,7 +155,7 @@ final class AnnotationCollector {
 	 *         INTRONIC
 	 */
 	public boolean hasGenic() {
-		return this.hasGenicMutation;
+		return (effectBits & ~NON_GENIC_MASK) != 0;
 	}
 
 	/**
@@ -198,13 +175,10 @@ final class AnnotationCollector {
 	}
 
 	/**
-	 * This function goes through all of the Annotations that have been entered for the current variant and enters the
-	 * type of variant that is deemed to be the most pathogenic. The function follows the priority as set out by
-	 * annovar.
+	 * Return the type of variant that is deemed to be the most pathogenic over all annotations of the current variant.
 	 * <P>
-	 * The strategy of the function is to start out with the least pathogenic type (INTERGENIC), and to workthrough all
-	 * types towards the most pathogenic. After this is finished, the variant type with the most pathogenic annotation
-	 * is returned.
+	 * The {@link VariantType} values are ordered by pathogenicity, so this is the lowest set bit of the union of the
+	 * effects.
 	 * <P>
 	 * There should always be at least one annotation type. If not return ERROR (should never happen).
 	 *
@@ -212,10 +186,34 @@ final class AnnotationCollector {
 	 */
 	@SuppressWarnings("unused")
 	private VariantType getMostPathogenicVariantType() {
-		VariantType vt;
-		Collections.sort(this.annotationLst);
-		Annotation a = this.annotationLst.get(0);
-		return a.getMostPathogenicVarType();
+		return LongEnumSet.fromBits(VariantType.class, effectBits).first();
+	}
+
+	/**
+	 * Register <code>ann</code> for the current variant.
+	 *
+	 * @param ann
+	 *            the {@link Annotation} to add
+	 */
+	private void add(Annotation ann) {
+		this.annotationLst.add(ann);
+		this.effectBits |= ann.effects.getBits();
+		if (ann.transcript != null)
+			addGeneSymbol(ann.transcript.geneSymbol);
+		this.annotationCount++;
+	}
+
+	/**
+	 * Add <code>symbol</code> to {@link #geneSymbols} if not present yet.
+	 *
+	 * @param symbol
+	 *            gene symbol, may be <code>null</code>
+	 */
+	private void addGeneSymbol(String symbol) {
+		for (String s : geneSymbols)
+			if (s == symbol || (s != null && s.equals(symbol)))
+				return;
+		geneSymbols.add(symbol);
 	}
 
 	/**
@@ -226,9 +224,7 @@ final class AnnotationCollector {
 	 *            A noncoding RNA exonic annotation object.
 	 */
 	public void addNonCodingRNAExonicAnnotation(Annotation ann) {
-		this.annotationLst.add(ann);
-		this.hasNcRna = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -239,10 +235,7 @@ final class AnnotationCollector {
 	 *            A 5' UTR annotation object.
 	 */
 	public void addUTR5Annotation(Annotation ann) {
-		this.annotationLst.add(ann);
-		this.hasUTR5 = true;
-		this.hasGenicMutation = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -253,10 +246,7 @@ final class AnnotationCollector {
 	 *            A 3' UTR annotation object.
 	 */
 	public void addUTR3Annotation(Annotation ann) {
-		this.annotationLst.add(ann);
-		this.hasUTR3 = true;
-		this.hasGenicMutation = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -268,9 +258,7 @@ final class AnnotationCollector {
 	 *            An Annotation with type INTERGENIC
 	 */
 	public void addIntergenicAnnotation(Annotation ann) {
-		this.annotationLst.add(ann);
-		this.hasIntergenic = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -282,19 +270,7 @@ final class AnnotationCollector {
 	 *            An Annotation to be added.
 	 */
 	public void addExonicAnnotation(Annotation ann) {
-		this.annotationLst.add(ann);
-		if (ann.getMostPathogenicVarType() == VariantType.SYNONYMOUS) {
-			this.hasSynonymous = true;
-		} else if (ann.getMostPathogenicVarType() == VariantType.SPLICE_DONOR
-				|| ann.getMostPathogenicVarType() == VariantType.SPLICE_ACCEPTOR
-				|| ann.getMostPathogenicVarType() == VariantType.SPLICE_REGION) {
-			this.hasSplicing = true;
-		} else {
-			this.hasExonic = true;
-		}
-		this.geneSymbolSet.add(ann.transcript.geneSymbol);
-		this.hasGenicMutation = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -305,10 +281,8 @@ final class AnnotationCollector {
 	 *            {@link Annotation} to be registered
 	 */
 	public void addNcRNASplicing(Annotation ann) {
-		// String s = String.format("%s", ann.hgvsDescription);
-		this.hasNcRna = true;
-		// ann.setVariantAnnotation(s); // TODO(holtgrew): necessary?
 		this.annotationLst.add(ann);
+		this.effectBits |= ann.effects.getBits();
 	}
 
 	/**
@@ -320,22 +294,14 @@ final class AnnotationCollector {
 	 *            the Intronic annotation to be added.
 	 */
 	public void addIntronicAnnotation(Annotation ann) {
-		this.geneSymbolSet.add(ann.transcript.geneSymbol);
 		if (ann.getMostPathogenicVarType() == VariantType.INTRONIC
 				|| ann.getMostPathogenicVarType() == VariantType.ncRNA_INTRONIC) {
 			for (Annotation a : this.annotationLst) {
 				if (a.equals(ann))
 					return; /* already have identical annotation */
 			}
-			this.annotationLst.add(ann);
 		}
-		if (ann.getMostPathogenicVarType() == VariantType.INTRONIC) {
-			this.hasIntronic = true;
-		} else if (ann.getMostPathogenicVarType() == VariantType.ncRNA_INTRONIC) {
-			this.hasNcrnaIntronic = true;
-		}
-		this.hasGenicMutation = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -346,10 +312,7 @@ final class AnnotationCollector {
 	 *            the Structual annotation to be added
 	 */
 	public void addStructuralAnnotation(Annotation ann) {
-		this.annotationLst.add(ann);
-		this.geneSymbolSet.add(ann.transcript.geneSymbol);
-		this.hasStructural = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -359,9 +322,7 @@ final class AnnotationCollector {
 	 *            An Annotation object that contains a String representing the error.
 	 */
 	public void addErrorAnnotation(Annotation ann) {
-		this.annotationLst.add(ann);
-		this.hasError = true;
-		this.annotationCount++;
+		add(ann);
 	}
 
 	/**
@@ -377,16 +338,10 @@ final class AnnotationCollector {
 			if (a.equals(ann))
 				return;
 		}
-		this.annotationLst.add(ann);
 		VariantType type = ann.getMostPathogenicVarType();
-		if (type == VariantType.DOWNSTREAM) {
-			this.hasDownstream = true;
-		} else if (type == VariantType.UPSTREAM) {
-			this.hasUpstream = true;
-		} else {
+		if (type != VariantType.DOWNSTREAM && type != VariantType.UPSTREAM)
 			LOGGER.error("Expecting UPSTREAM or DOWNSTREAM variant but got {}", type);
-		}
-		this.annotationCount++;
+		add(ann);
 	}
 
 }
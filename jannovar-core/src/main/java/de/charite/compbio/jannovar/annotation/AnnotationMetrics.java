@@ -0,0 +1,231 @@
+package de.charite.compbio.jannovar.annotation;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.collect.ImmutableMap;
+
+import de.charite.compbio.jannovar.reference.GenomeChangeType;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Counters and timers for the annotation of variants.
+ *
+ * Objects of this class are filled by {@link VariantAnnotator} and the writers of the annotated variants. All counters
+ * are atomic, so one object can be shared by multiple threads. The values can be read through JMX (register the
+ * object under {@link #OBJECT_NAME}), as JSON through {@link #toJSON}, or as text through {@link #toString}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class AnnotationMetrics implements AnnotationMetricsMXBean {
+
+	/** name to use for registering objects of this class with the JMX platform MBean server */
+	public static final String OBJECT_NAME = "de.charite.compbio.jannovar:type=AnnotationMetrics";
+
+	/** number of annotated variants */
+	private final AtomicLong variantCount = new AtomicLong();
+	/** number of skipped variants */
+	private final AtomicLong skippedVariantCount = new AtomicLong();
+	/** number of candidate transcripts over all annotated variants */
+	private final AtomicLong candidateCount = new AtomicLong();
+	/** nanoseconds in interval queries */
+	private final AtomicLong queryNanos = new AtomicLong();
+	/** nanoseconds in annotation builders, indexed by {@link GenomeChangeType#ordinal} */
+	private final AtomicLongArray dispatchNanos = new AtomicLongArray(GenomeChangeType.values().length);
+	/** annotation builder calls, indexed by {@link GenomeChangeType#ordinal} */
+	private final AtomicLongArray dispatchCounts = new AtomicLongArray(GenomeChangeType.values().length);
+	/** nanoseconds in building HGVS descriptions */
+	private final AtomicLong hgvsNanos = new AtomicLong();
+	/** nanoseconds in output encoding */
+	private final AtomicLong outputNanos = new AtomicLong();
+	/** number of annotations with each message, indexed by {@link AnnotationMessage#ordinal} */
+	private final AtomicLongArray messageCounts = new AtomicLongArray(AnnotationMessage.values().length);
+	/** value of {@link System#nanoTime} at construction or the last {@link #reset} */
+	private volatile long startNanos = System.nanoTime();
+
+	/**
+	 * Record interval query for an annotated variant.
+	 *
+	 * @param nanos
+	 *            nanoseconds spent in the query
+	 * @param numCandidates
+	 *            number of transcripts overlapping with the variant
+	 */
+	public void recordQuery(long nanos, int numCandidates) {
+		variantCount.incrementAndGet();
+		queryNanos.addAndGet(nanos);
+		candidateCount.addAndGet(numCandidates);
+	}
+
+	/** Record variant that was skipped without annotation. */
+	public void recordSkippedVariant() {
+		skippedVariantCount.incrementAndGet();
+	}
+
+	/**
+	 * Record annotation builder call.
+	 *
+	 * @param type
+	 *            the {@link GenomeChangeType} of the annotated variant
+	 * @param nanos
+	 *            nanoseconds spent in the builder
+	 */
+	public void recordDispatch(GenomeChangeType type, long nanos) {
+		dispatchNanos.addAndGet(type.ordinal(), nanos);
+		dispatchCounts.incrementAndGet(type.ordinal());
+	}
+
+	/** Record <code>nanos</code> nanoseconds spent in building HGVS descriptions. */
+	public void recordHGVS(long nanos) {
+		hgvsNanos.addAndGet(nanos);
+	}
+
+	/** Record <code>nanos</code> nanoseconds spent in output encoding. */
+	public void recordOutput(long nanos) {
+		outputNanos.addAndGet(nanos);
+	}
+
+	/** Record the {@link AnnotationMessage}s of the {@link Annotation}s in <code>annos</code>. */
+	public void recordMessages(AnnotationList annos) {
+		for (Annotation anno : annos.entries)
+			for (AnnotationMessage msg : anno.messages)
+				messageCounts.incrementAndGet(msg.ordinal());
+	}
+
+	@Override
+	public long getVariantCount() {
+		return variantCount.get();
+	}
+
+	@Override
+	public long getSkippedVariantCount() {
+		return skippedVariantCount.get();
+	}
+
+	@Override
+	public double getElapsedSeconds() {
+		return (System.nanoTime() - startNanos) / 1000.0 / 1000.0 / 1000.0;
+	}
+
+	@Override
+	public double getVariantsPerSecond() {
+		final double seconds = getElapsedSeconds();
+		if (seconds == 0)
+			return 0;
+		return (variantCount.get() + skippedVariantCount.get()) / seconds;
+	}
+
+	@Override
+	public double getCandidateTranscriptsPerVariant() {
+		final long count = variantCount.get();
+		if (count == 0)
+			return 0;
+		return candidateCount.get() / (double) count;
+	}
+
+	@Override
+	public long getQueryMillis() {
+		return queryNanos.get() / 1000 / 1000;
+	}
+
+	@Override
+	public Map<String, Long> getDispatchMillis() {
+		ImmutableMap.Builder<String, Long> builder = new ImmutableMap.Builder<String, Long>();
+		for (GenomeChangeType type : GenomeChangeType.values())
+			builder.put(type.name(), dispatchNanos.get(type.ordinal()) / 1000 / 1000);
+		return builder.build();
+	}
+
+	@Override
+	public Map<String, Long> getDispatchCounts() {
+		ImmutableMap.Builder<String, Long> builder = new ImmutableMap.Builder<String, Long>();
+		for (GenomeChangeType type : GenomeChangeType.values())
+			builder.put(type.name(), dispatchCounts.get(type.ordinal()));
+		return builder.build();
+	}
+
+	@Override
+	public long getHGVSMillis() {
+		return hgvsNanos.get() / 1000 / 1000;
+	}
+
+	@Override
+	public long getOutputMillis() {
+		return outputNanos.get() / 1000 / 1000;
+	}
+
+	@Override
+	public Map<String, Long> getMessageCounts() {
+		ImmutableMap.Builder<String, Long> builder = new ImmutableMap.Builder<String, Long>();
+		for (AnnotationMessage msg : AnnotationMessage.values())
+			if (messageCounts.get(msg.ordinal()) != 0)
+				builder.put(msg.name(), messageCounts.get(msg.ordinal()));
+		return builder.build();
+	}
+
+	@Override
+	public void reset() {
+		variantCount.set(0);
+		skippedVariantCount.set(0);
+		candidateCount.set(0);
+		queryNanos.set(0);
+		for (int i = 0; i < dispatchNanos.length(); ++i) {
+			dispatchNanos.set(i, 0);
+			dispatchCounts.set(i, 0);
+		}
+		hgvsNanos.set(0);
+		outputNanos.set(0);
+		for (int i = 0; i < messageCounts.length(); ++i)
+			messageCounts.set(i, 0);
+		startNanos = System.nanoTime();
+	}
+
+	/**
+	 * @return the current values as a single-line JSON object
+	 */
+	public String toJSON() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\"variants\":").append(getVariantCount());
+		builder.append(",\"skippedVariants\":").append(getSkippedVariantCount());
+		builder.append(",\"elapsedSeconds\":").append(String.format(Locale.ROOT, "%.3f", getElapsedSeconds()));
+		builder.append(",\"variantsPerSecond\":").append(String.format(Locale.ROOT, "%.1f", getVariantsPerSecond()));
+		builder.append(",\"candidateTranscriptsPerVariant\":").append(
+				String.format(Locale.ROOT, "%.2f", getCandidateTranscriptsPerVariant()));
+		builder.append(",\"queryMillis\":").append(getQueryMillis());
+		builder.append(",\"dispatchMillis\":");
+		appendJSON(builder, getDispatchMillis());
+		builder.append(",\"dispatchCounts\":");
+		appendJSON(builder, getDispatchCounts());
+		builder.append(",\"hgvsMillis\":").append(getHGVSMillis());
+		builder.append(",\"outputMillis\":").append(getOutputMillis());
+		builder.append(",\"messageCounts\":");
+		appendJSON(builder, getMessageCounts());
+		builder.append("}");
+		return builder.toString();
+	}
+
+	/** Append <code>map</code> as JSON object to <code>builder</code>, keys must not need escaping. */
+	private static void appendJSON(StringBuilder builder, Map<String, Long> map) {
+		builder.append('{');
+		boolean first = true;
+		for (Map.Entry<String, Long> entry : map.entrySet()) {
+			if (!first)
+				builder.append(',');
+			first = false;
+			builder.append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+		}
+		builder.append('}');
+	}
+
+	@Override
+	public String toString() {
+		return String.format("variants: %d (skipped: %d), %.1f variants/sec, %.2f candidate transcripts/variant\n"
+				+ "times (ms): query %d, builders %s, HGVS %d, output %d\n" + "messages: %s", getVariantCount(),
+				getSkippedVariantCount(), getVariantsPerSecond(), getCandidateTranscriptsPerVariant(),
+				getQueryMillis(), getDispatchMillis(), getHGVSMillis(), getOutputMillis(), getMessageCounts());
+	}
+
+}
@@ -0,0 +1,52 @@
+package de.charite.compbio.jannovar.annotation;
+
+import java.util.Map;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * JMX management interface of {@link AnnotationMetrics}.
+ *
+ * All times are wall-clock times, summed over all threads.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public interface AnnotationMetricsMXBean {
+
+	/** @return number of variants that were annotated */
+	public long getVariantCount();
+
+	/** @return number of variants that were skipped because of the minimal impact */
+	public long getSkippedVariantCount();
+
+	/** @return seconds since construction or the last {@link #reset} */
+	public double getElapsedSeconds();
+
+	/** @return annotated and skipped variants per second since construction or the last {@link #reset} */
+	public double getVariantsPerSecond();
+
+	/** @return mean number of candidate transcripts from the interval query per annotated variant */
+	public double getCandidateTranscriptsPerVariant();
+
+	/** @return milliseconds spent in transcript interval queries */
+	public long getQueryMillis();
+
+	/** @return milliseconds spent in the annotation builders, by {@link de.charite.compbio.jannovar.reference.GenomeChangeType} */
+	public Map<String, Long> getDispatchMillis();
+
+	/** @return number of annotation builder calls, by {@link de.charite.compbio.jannovar.reference.GenomeChangeType} */
+	public Map<String, Long> getDispatchCounts();
+
+	/** @return milliseconds spent in building HGVS descriptions */
+	public long getHGVSMillis();
+
+	/** @return milliseconds spent in encoding and writing the output */
+	public long getOutputMillis();
+
+	/** @return number of annotations with each {@link AnnotationMessage}, only non-zero counts */
+	public Map<String, Long> getMessageCounts();
+
+	/** Reset all counters and timers to zero. */
+	public void reset();
+
+}
@@ -0,0 +1,63 @@
+package de.charite.compbio.jannovar.annotation;
+
+import de.charite.compbio.jannovar.Immutable;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * A structural variant given by its type and the affected genomic region, e.g. from a symbolic VCF allele.
+ *
+ * In contrast to {@link de.charite.compbio.jannovar.reference.GenomeChange}, no sequence is stored, so this also works
+ * for megabase-sized events. Insertions and breakends have an empty region at the breakpoint.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+@Immutable
+public final class StructuralVariant {
+
+	/**
+	 * Type of a {@link StructuralVariant}, as in the symbolic alleles of the VCF standard.
+	 */
+	public enum Type {
+		/** deletion, <code>&lt;DEL&gt;</code> */
+		DELETION,
+		/** duplication, <code>&lt;DUP&gt;</code> */
+		DUPLICATION,
+		/** inversion, <code>&lt;INV&gt;</code> */
+		INVERSION,
+		/** insertion, <code>&lt;INS&gt;</code> */
+		INSERTION,
+		/** copy number variation, <code>&lt;CNV&gt;</code> */
+		CNV,
+		/** one end of a rearrangement, given as breakend in VCF */
+		BREAKEND,
+		/** large sequence-resolved substitution, given by REF and ALT sequences in VCF */
+		SUBSTITUTION
+	}
+
+	/** the type of the structural variant */
+	public final Type type;
+
+	/** the affected region, on the forward strand */
+	public final GenomeInterval region;
+
+	/**
+	 * Initialize the object with the given values.
+	 *
+	 * @param type
+	 *            the {@link Type} of the variant
+	 * @param region
+	 *            the affected region, converted to the forward strand
+	 */
+	public StructuralVariant(Type type, GenomeInterval region) {
+		this.type = type;
+		this.region = region.withStrand('+');
+	}
+
+	@Override
+	public String toString() {
+		return "StructuralVariant [type=" + type + ", region=" + region + "]";
+	}
+
+}
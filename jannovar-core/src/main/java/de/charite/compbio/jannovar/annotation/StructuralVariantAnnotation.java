@@ -0,0 +1,71 @@
+package de.charite.compbio.jannovar.annotation;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.Immutable;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Gene-level annotation of a {@link StructuralVariant}, as built by {@link StructuralVariantAnnotator}.
+ *
+ * The lists are sorted by position and truncated to the limit of the annotator, the counts are always complete.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+@Immutable
+public final class StructuralVariantAnnotation {
+
+	/** the annotated variant */
+	public final StructuralVariant variant;
+
+	/** symbols of the genes that lie completely within the variant */
+	public final ImmutableList<String> fullyOverlappedGenes;
+
+	/** total number of genes that lie completely within the variant */
+	public final int fullyOverlappedGeneCount;
+
+	/** symbols of the genes that overlap partially with the variant, i.e. contain a breakpoint */
+	public final ImmutableList<String> partiallyOverlappedGenes;
+
+	/** total number of genes that overlap partially with the variant */
+	public final int partiallyOverlappedGeneCount;
+
+	/** the transcripts that contain one of the breakpoints of the variant */
+	public final ImmutableList<TranscriptModel> breakpointTranscripts;
+
+	/**
+	 * Initialize the object with the given values.
+	 */
+	public StructuralVariantAnnotation(StructuralVariant variant, ImmutableList<String> fullyOverlappedGenes,
+			int fullyOverlappedGeneCount, ImmutableList<String> partiallyOverlappedGenes,
+			int partiallyOverlappedGeneCount, ImmutableList<TranscriptModel> breakpointTranscripts) {
+		this.variant = variant;
+		this.fullyOverlappedGenes = fullyOverlappedGenes;
+		this.fullyOverlappedGeneCount = fullyOverlappedGeneCount;
+		this.partiallyOverlappedGenes = partiallyOverlappedGenes;
+		this.partiallyOverlappedGeneCount = partiallyOverlappedGeneCount;
+		this.breakpointTranscripts = breakpointTranscripts;
+	}
+
+	/** @return <code>true</code> if the variant does not overlap with any gene */
+	public boolean isIntergenic() {
+		return fullyOverlappedGeneCount == 0 && partiallyOverlappedGeneCount == 0;
+	}
+
+	/** @return <code>true</code> if one of the gene lists was truncated */
+	public boolean isTruncated() {
+		return fullyOverlappedGenes.size() < fullyOverlappedGeneCount
+				|| partiallyOverlappedGenes.size() < partiallyOverlappedGeneCount;
+	}
+
+	@Override
+	public String toString() {
+		return "StructuralVariantAnnotation [variant=" + variant + ", fullyOverlappedGenes=" + fullyOverlappedGenes
+				+ ", fullyOverlappedGeneCount=" + fullyOverlappedGeneCount + ", partiallyOverlappedGenes="
+				+ partiallyOverlappedGenes + ", partiallyOverlappedGeneCount=" + partiallyOverlappedGeneCount
+				+ ", breakpointTranscripts=" + breakpointTranscripts.size() + "]";
+	}
+
+}
@@ -0,0 +1,146 @@
+package de.charite.compbio.jannovar.annotation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.Gene;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Builds gene-level {@link StructuralVariantAnnotation}s for {@link StructuralVariant}s.
+ *
+ * In contrast to {@link VariantAnnotator}, no annotation is built for each overlapping transcript. Instead, the
+ * variant's region is joined against the gene interval index of the {@link Chromosome}, and the genes are classified
+ * as fully or partially overlapped by comparing their boundaries with the variant's. Only the transcripts at the (at
+ * most two) breakpoints are looked at individually. Thus, the work for a megabase CNV is linear in the number of
+ * overlapped genes, and the output size is limited by {@link #maxGenes}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class StructuralVariantAnnotator {
+
+	/** default value for {@link #maxGenes} */
+	public static final int DEFAULT_MAX_GENES = 100;
+
+	/** {@link Chromosome}s with their gene and transcript interval indices */
+	private final ImmutableMap<Integer, Chromosome> chromosomeMap;
+
+	/** maximal number of genes and transcripts to list in each list of a {@link StructuralVariantAnnotation} */
+	private final int maxGenes;
+
+	/**
+	 * Construct new StructuralVariantAnnotator, listing at most {@link #DEFAULT_MAX_GENES} genes.
+	 *
+	 * @param chromosomeMap
+	 *            chromosome map to use for the annotator.
+	 */
+	public StructuralVariantAnnotator(ImmutableMap<Integer, Chromosome> chromosomeMap) {
+		this(chromosomeMap, DEFAULT_MAX_GENES);
+	}
+
+	/**
+	 * Construct new StructuralVariantAnnotator.
+	 *
+	 * @param chromosomeMap
+	 *            chromosome map to use for the annotator.
+	 * @param maxGenes
+	 *            maximal number of genes and transcripts to list in each list of the result
+	 */
+	public StructuralVariantAnnotator(ImmutableMap<Integer, Chromosome> chromosomeMap, int maxGenes) {
+		this.chromosomeMap = chromosomeMap;
+		this.maxGenes = maxGenes;
+	}
+
+	/**
+	 * Build gene-level annotation for <code>sv</code>.
+	 *
+	 * @param sv
+	 *            the {@link StructuralVariant} to annotate
+	 * @return {@link StructuralVariantAnnotation} for <code>sv</code>, intergenic if the chromosome is unknown
+	 */
+	public StructuralVariantAnnotation annotate(StructuralVariant sv) {
+		final GenomeInterval region = sv.region;
+		final Chromosome chrom = chromosomeMap.get(region.chr);
+		if (chrom == null)
+			return new StructuralVariantAnnotation(sv, ImmutableList.<String> of(), 0, ImmutableList.<String> of(), 0,
+					ImmutableList.<TranscriptModel> of());
+
+		// join the variant's region with the gene index, sorting the genes by position
+		ArrayList<Gene> genes = new ArrayList<Gene>(queryGenes(chrom, region));
+		Collections.sort(genes, new Comparator<Gene>() {
+			@Override
+			public int compare(Gene lhs, Gene rhs) {
+				if (lhs.region.beginPos != rhs.region.beginPos)
+					return (lhs.region.beginPos < rhs.region.beginPos) ? -1 : 1;
+				return lhs.name.compareTo(rhs.name);
+			}
+		});
+
+		// classify genes as fully or partially overlapped
+		ImmutableList.Builder<String> fullBuilder = new ImmutableList.Builder<String>();
+		ImmutableList.Builder<String> partialBuilder = new ImmutableList.Builder<String>();
+		int fullCount = 0;
+		int partialCount = 0;
+		for (Gene gene : genes) {
+			final boolean isFull = (region.length() > 0 && region.beginPos <= gene.region.beginPos
+					&& gene.region.endPos <= region.endPos);
+			if (isFull && fullCount++ < maxGenes)
+				fullBuilder.add(gene.name);
+			else if (!isFull && partialCount++ < maxGenes)
+				partialBuilder.add(gene.name);
+		}
+
+		return new StructuralVariantAnnotation(sv, fullBuilder.build(), fullCount, partialBuilder.build(),
+				partialCount, buildBreakpointTranscripts(chrom, region));
+	}
+
+	/**
+	 * @return genes overlapping with <code>region</code>, or containing its position if it is empty
+	 */
+	private ImmutableList<Gene> queryGenes(Chromosome chrom, GenomeInterval region) {
+		if (region.length() == 0)
+			return chrom.getGeneIntervalTree().findOverlappingWithPoint(region.beginPos).entries;
+		else
+			return chrom.getGeneIntervalTree().findOverlappingWithInterval(region.beginPos, region.endPos).entries;
+	}
+
+	/**
+	 * @return transcripts that have a breakpoint of <code>region</code> strictly inside their transcribed region, at
+	 *         most {@link #maxGenes}
+	 */
+	private ImmutableList<TranscriptModel> buildBreakpointTranscripts(Chromosome chrom, GenomeInterval region) {
+		LinkedHashSet<TranscriptModel> result = new LinkedHashSet<TranscriptModel>();
+		addBreakpointTranscripts(chrom, region.beginPos, result);
+		if (region.length() > 0)
+			addBreakpointTranscripts(chrom, region.endPos, result);
+
+		ImmutableList.Builder<TranscriptModel> builder = new ImmutableList.Builder<TranscriptModel>();
+		int count = 0;
+		for (TranscriptModel tm : result)
+			if (count++ < maxGenes)
+				builder.add(tm);
+		return builder.build();
+	}
+
+	/**
+	 * Add transcripts to <code>result</code> that contain the breakpoint between <code>pos - 1</code> and
+	 * <code>pos</code>.
+	 */
+	private void addBreakpointTranscripts(Chromosome chrom, int pos, LinkedHashSet<TranscriptModel> result) {
+		for (TranscriptModel tm : chrom.getTMIntervalTree().findOverlappingWithPoint(pos).entries) {
+			final GenomeInterval txRegion = tm.txRegion.withStrand('+');
+			if (txRegion.beginPos < pos && pos < txRegion.endPos)
+				result.add(tm);
+		}
+	}
+
+}
@@ -2,9 +2,9 @@ package de.charite.compbio.jannovar.annotation;
 
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Joiner;
-import com.google.common.collect.ImmutableSortedSet;
 
 import de.charite.compbio.jannovar.annotation.AnnotationLocation.RankType;
+import de.charite.compbio.jannovar.impl.util.LongEnumSet;
 import de.charite.compbio.jannovar.reference.GenomeChange;
 import de.charite.compbio.jannovar.reference.ProjectionException;
 import de.charite.compbio.jannovar.reference.TranscriptModel;
@@ -19,7 +19,7 @@ import de.charite.compbio.jannovar.reference.TranscriptProjectionDecorator;
 class VCFAnnotationData {
 
 	/** predicted effects */
-	public ImmutableSortedSet<VariantType> effects = ImmutableSortedSet.<VariantType> of();
+	public LongEnumSet<VariantType> effects = LongEnumSet.noneOf(VariantType.class);
 	/** predicted impact */
 	public PutativeImpact impact = null;
 	/** symbol of affected gene */
@@ -51,7 +51,7 @@ class VCFAnnotationData {
 	/** distance */
 	public int distance = -1;
 	/** additional messages for the annotation */
-	public ImmutableSortedSet<AnnotationMessage> messages = ImmutableSortedSet.<AnnotationMessage> of();
+	public LongEnumSet<AnnotationMessage> messages = LongEnumSet.noneOf(AnnotationMessage.class);
 
 	public void setAnnoLoc(AnnotationLocation annoLoc) {
 		if (annoLoc == null)
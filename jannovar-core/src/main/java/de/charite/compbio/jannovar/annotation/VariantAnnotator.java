@@ -14,6 +14,7 @@ import de.charite.compbio.jannovar.reference.GenomeInterval;
 import de.charite.compbio.jannovar.reference.GenomePosition;
 import de.charite.compbio.jannovar.reference.PositionType;
 import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptSequenceOntologyDecorator;
 
 // TODO(holtgrem): We should directly pass in a JannovarData object after adding the interval trees to it. Then, this should be fine.
 
@@ -45,6 +46,12 @@ public final class VariantAnnotator {
 	 */
 	final private AnnotationCollector annovarFactory = new AnnotationCollector(20);
 
+	/** {@link AnnotationMetrics} to record counters and times in, <code>null</code> for no recording */
+	final private AnnotationMetrics metrics;
+
+	/** whether to annotate against all transcripts instead of {@link Chromosome#getPreferredTMIntervalTree} */
+	final private boolean allTranscripts;
+
 	/**
 	 * Construct new VariantAnnotator, given a chromosome map.
 	 *
@@ -54,8 +61,45 @@ public final class VariantAnnotator {
 	 *            chromosome map to use for the annotator.
 	 */
 	public VariantAnnotator(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap) {
+		this(refDict, chromosomeMap, null);
+	}
+
+	/**
+	 * Construct new VariantAnnotator, given a chromosome map, recording into <code>metrics</code>.
+	 *
+	 * @param refDict
+	 *            {@link ReferenceDictionary} with information about the genome.
+	 * @param chromosomeMap
+	 *            chromosome map to use for the annotator.
+	 * @param metrics
+	 *            {@link AnnotationMetrics} to record counters and times in, <code>null</code> for no recording
+	 */
+	public VariantAnnotator(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
+			AnnotationMetrics metrics) {
+		this(refDict, chromosomeMap, metrics, false);
+	}
+
+	/**
+	 * Construct new VariantAnnotator, given a chromosome map, recording into <code>metrics</code>.
+	 *
+	 * By default, the variants are annotated against the preferred transcript index of the {@link Chromosome}s if
+	 * there is one (see {@link de.charite.compbio.jannovar.io.PreferredTranscripts}).
+	 *
+	 * @param refDict
+	 *            {@link ReferenceDictionary} with information about the genome.
+	 * @param chromosomeMap
+	 *            chromosome map to use for the annotator.
+	 * @param metrics
+	 *            {@link AnnotationMetrics} to record counters and times in, <code>null</code> for no recording
+	 * @param allTranscripts
+	 *            whether to annotate against all transcripts, even if there is a preferred transcript index
+	 */
+	public VariantAnnotator(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
+			AnnotationMetrics metrics, boolean allTranscripts) {
 		this.refDict = refDict;
 		this.chromosomeMap = chromosomeMap;
+		this.metrics = metrics;
+		this.allTranscripts = allTranscripts;
 	}
 
 	// TODO(holtgrem): Remove this?
@@ -104,40 +148,139 @@ public final class VariantAnnotator {
 	 */
 	public AnnotationList buildAnnotationList(GenomeChange change) throws AnnotationException {
 		change = change.withPositionType(PositionType.ZERO_BASED);
-		final GenomeInterval changeInterval = change.getGenomeInterval();
 
 		/* The following command "resets" the annovarFactory object */
 		this.annovarFactory.clearAnnotationLists();
 
 		// Get the TranscriptModel objects that overlap with changeInterval.
-		final Chromosome chr = chromosomeMap.get(change.getChr());
-		IntervalArray<TranscriptModel>.QueryResult qr;
-		if (changeInterval.length() == 0)
-			qr = chr.getTMIntervalTree().findOverlappingWithPoint(changeInterval.beginPos);
-		else
-			qr = chr.getTMIntervalTree().findOverlappingWithInterval(changeInterval.beginPos, changeInterval.endPos);
+		final long queryStart = (metrics == null) ? 0 : System.nanoTime();
+		IntervalArray<TranscriptModel>.QueryResult qr = queryTranscripts(change);
 		ArrayList<TranscriptModel> candidateTranscripts = new ArrayList<TranscriptModel>(qr.entries);
+		if (metrics != null)
+			metrics.recordQuery(System.nanoTime() - queryStart, candidateTranscripts.size());
 
 		// Handle the case of no overlapping transcript. Then, create intergenic, upstream, or downstream annotations
 		// and return the result.
-		boolean isStructuralVariant = (change.ref.length() >= 1000 || change.alt.length() >= 1000);
+		boolean isStructuralVariant = isStructuralVariant(change);
+		final long dispatchStart = (metrics == null) ? 0 : System.nanoTime();
 		if (candidateTranscripts.isEmpty()) {
 			if (isStructuralVariant)
 				buildSVAnnotation(change, null);
 			else
 				buildNonSVAnnotation(change, qr.left, qr.right);
-			return annovarFactory.getAnnotationList();
+		} else {
+			// If we reach here, then there is at least one transcript that overlaps with the query. Iterate over these
+			// transcripts and collect annotations for each (they are collected in annovarFactory).
+			for (TranscriptModel tm : candidateTranscripts)
+				if (isStructuralVariant)
+					buildSVAnnotation(change, tm);
+				else
+					buildNonSVAnnotation(change, tm);
 		}
 
-		// If we reach here, then there is at least one transcript that overlaps with the query. Iterate over these
-		// transcripts and collect annotations for each (they are collected in annovarFactory).
-		for (TranscriptModel tm : candidateTranscripts)
-			if (isStructuralVariant)
-				buildSVAnnotation(change, tm);
-			else
-				buildNonSVAnnotation(change, tm);
+		AnnotationList result = annovarFactory.getAnnotationList();
+		if (metrics != null) {
+			metrics.recordDispatch(change.getType(), System.nanoTime() - dispatchStart);
+			metrics.recordMessages(result);
+		}
+		return result;
+	}
 
-		return annovarFactory.getAnnotationList();
+	/**
+	 * Two-phase annotation, only performs the full annotation for variants that can reach <code>minImpact</code>.
+	 *
+	 * First, the location of the variant is classified using {@link #classifyLocation}. If the most severe
+	 * {@link PutativeImpact} possible at this location is less severe than <code>minImpact</code> then
+	 * {@link AnnotationList#EMPTY} is returned without building any HGVS descriptions. Otherwise, the result of
+	 * {@link #buildAnnotationList(GenomeChange)} is returned.
+	 *
+	 * @param change
+	 *            the {@link GenomeChange} to annotate
+	 * @param minImpact
+	 *            the least severe {@link PutativeImpact} to annotate variants for, <code>null</code> for annotating
+	 *            all variants
+	 * @return {@link AnnotationList} for the genome change, empty if it cannot reach <code>minImpact</code>
+	 * @throws AnnotationException
+	 *             on problems building the annotation list
+	 */
+	public AnnotationList buildAnnotationList(GenomeChange change, PutativeImpact minImpact)
+			throws AnnotationException {
+		// PutativeImpact values are ordered from more to less severe
+		if (minImpact != null && classifyLocation(change).getMaxPutativeImpact().ordinal() > minImpact.ordinal()) {
+			if (metrics != null)
+				metrics.recordSkippedVariant();
+			return AnnotationList.EMPTY;
+		}
+		return buildAnnotationList(change);
+	}
+
+	/**
+	 * Classify the location of <code>change</code> with respect to the transcripts.
+	 *
+	 * Only the transcript interval index and the exon boundaries are used, so this is much cheaper than
+	 * {@link #buildAnnotationList(GenomeChange)}. When overlapping with multiple transcripts, the most severe location
+	 * is returned. Structural variants are always classified as {@link VariantLocation#EXONIC}.
+	 *
+	 * @param change
+	 *            the {@link GenomeChange} to classify
+	 * @return the {@link VariantLocation} of <code>change</code>
+	 */
+	public VariantLocation classifyLocation(GenomeChange change) {
+		change = change.withPositionType(PositionType.ZERO_BASED);
+		if (isStructuralVariant(change))
+			return VariantLocation.EXONIC;
+
+		// Insertions are between two bases, consider both neighbouring bases.
+		GenomeInterval changeInterval = change.getGenomeInterval();
+		if (changeInterval.length() == 0)
+			changeInterval = changeInterval.withMorePadding(1);
+
+		VariantLocation result = VariantLocation.INTERGENIC;
+		for (TranscriptModel tm : queryTranscripts(change).entries) {
+			VariantLocation location = classifyLocation(changeInterval.withStrand(tm.getStrand()), tm);
+			if (location.ordinal() < result.ordinal())
+				result = location;
+		}
+		return result;
+	}
+
+	/**
+	 * @return {@link VariantLocation} of <code>changeInterval</code> (on the strand of <code>tm</code>) with respect
+	 *         to <code>tm</code>
+	 */
+	private VariantLocation classifyLocation(GenomeInterval changeInterval, TranscriptModel tm) {
+		TranscriptSequenceOntologyDecorator so = new TranscriptSequenceOntologyDecorator(tm);
+		if (!tm.txRegion.overlapsWith(changeInterval))
+			return VariantLocation.INTERGENIC;
+		else if (so.overlapsWithSpliceRegion(changeInterval))
+			return VariantLocation.SPLICE;
+		else if (!so.overlapsWithExon(changeInterval))
+			return VariantLocation.INTRONIC;
+		else if (tm.isCoding() && !so.overlapsWithCDS(changeInterval))
+			return VariantLocation.UTR;
+		else
+			return VariantLocation.EXONIC;
+	}
+
+	/**
+	 * @return result of querying the transcript interval tree with the interval of <code>change</code>
+	 */
+	private IntervalArray<TranscriptModel>.QueryResult queryTranscripts(GenomeChange change) {
+		final GenomeInterval changeInterval = change.getGenomeInterval();
+		final Chromosome chr = chromosomeMap.get(change.getChr());
+		final IntervalArray<TranscriptModel> tree = allTranscripts ? chr.getTMIntervalTree()
+				: chr.getPreferredTMIntervalTree();
+		if (changeInterval.length() == 0)
+			return tree.findOverlappingWithPoint(changeInterval.beginPos);
+		else
+			return tree.findOverlappingWithInterval(changeInterval.beginPos, changeInterval.endPos);
+	}
+
+	/**
+	 * @return whether <code>change</code> is treated as a structural variant
+	 */
+	private static boolean isStructuralVariant(GenomeChange change) {
+		return (change.ref.length() >= 1000 || change.alt.length() >= 1000);
 	}
 
 	private void buildSVAnnotation(GenomeChange change, TranscriptModel transcript) throws AnnotationException {
@@ -0,0 +1,42 @@
+package de.charite.compbio.jannovar.annotation;
+
+/**
+ * Coarse location of a variant with respect to the transcripts, as determined by
+ * {@link VariantAnnotator#classifyLocation}.
+ *
+ * The location is computed from the transcript interval index and the exon boundaries only and gives an upper bound
+ * for the {@link PutativeImpact} of the {@link Annotation}s that the full annotation would yield.
+ *
+ * The values in this enum are given in the order of severity (more severe to less severe).
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public enum VariantLocation {
+	/** overlaps with a coding exon or an exon of a non-coding transcript, or is a structural variant */
+	EXONIC,
+	/** overlaps with a splice region, including the splice donor and acceptor sites */
+	SPLICE,
+	/** overlaps with the UTR part of the exons of a coding transcript only */
+	UTR,
+	/** lies in an intron, outside of the splice regions */
+	INTRONIC,
+	/** does not overlap with any transcript, i.e. upstream, downstream, or intergenic */
+	INTERGENIC;
+
+	/**
+	 * @return the most severe {@link PutativeImpact} that an annotation of a variant at this location can have
+	 */
+	public PutativeImpact getMaxPutativeImpact() {
+		switch (this) {
+		case EXONIC:
+		case SPLICE:
+			return PutativeImpact.HIGH;
+		case INTRONIC:
+			return PutativeImpact.LOW;
+		case UTR:
+		case INTERGENIC:
+		default:
+			return PutativeImpact.MODIFIER;
+		}
+	}
+}
@@ -1,9 +1,12 @@
 package de.charite.compbio.jannovar.annotation.builders;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 
 import de.charite.compbio.jannovar.annotation.Annotation;
@@ -33,11 +36,12 @@ import de.charite.compbio.jannovar.reference.TranscriptSequenceOntologyDecorator
  * Base class for the annotation builder helper classes.
  *
  * The helpers subclass this class and and call the superclass constructor in their constructors. This initializes the
- * decorators for {@link #transcript} and initializes {@link #locAnno} and {@link #dnaAnno}. The annotation building
- * process is greatly simplified by this.
+ * decorators for {@link #transcript} and initializes {@link #locAnno}. The annotation building process is greatly
+ * simplified by this.
  *
  * The realizing classes then override {@link #build} and implement their annotation building logic there. Override
- * {@link #ncHGVS} for defining the non-coding HGVS string.
+ * {@link #ncHGVS} for defining the non-coding HGVS string. The {@link Annotation}s created through
+ * {@link #buildAnnotation} only build the HGVS description from the {@link NucleotideHGVSSupplier} when it is accessed.
  *
  * At the moment, this has package visibility only since it is not clear yet whether and how client code should extend
  * the builder hierarchy.
@@ -62,8 +66,6 @@ abstract class AnnotationBuilder {
 
 	/** location annotation string */
 	protected final AnnotationLocation locAnno;
-	/** cDNA/ncDNA annotation string */
-	protected String dnaAnno;
 	/** warnings and messages occuring during annotation process */
 	protected SortedSet<AnnotationMessage> messages = new TreeSet<AnnotationMessage>();
 
@@ -103,7 +105,6 @@ abstract class AnnotationBuilder {
 		}
 
 		this.locAnno = buildLocAnno(transcript, this.change);
-		this.dnaAnno = buildDNAAnno(transcript, this.change);
 	}
 
 	/**
@@ -115,9 +116,33 @@ abstract class AnnotationBuilder {
 
 	// TODO(holtgrew): rename to ntHGVS
 	/**
-	 * @return HGVS string for change on the nucleotide level
+	 * @return {@link NucleotideHGVSSupplier} for the HGVS string of the change on the nucleotide level
 	 */
-	protected abstract String ncHGVS();
+	protected abstract NucleotideHGVSSupplier ncHGVS();
+
+	/**
+	 * @return {@link NucleotideHGVSSupplier} for the cDNA/ncDNA position of {@link #change}, followed by
+	 *         <code>suffix</code>
+	 */
+	protected NucleotideHGVSSupplier dnaAnno(String suffix) {
+		return new NucleotideHGVSSupplier(transcript, change.getGenomeInterval(), suffix);
+	}
+
+	/**
+	 * Build {@link Annotation} for {@link #transcript} and {@link #change} at {@link #locAnno}.
+	 *
+	 * The nucleotide HGVS description from {@link #ncHGVS} is only built when it is accessed for the first time.
+	 *
+	 * @param varTypes
+	 *            the variant types of the annotation
+	 * @param aaHGVSDescription
+	 *            amino acid change HGVS description
+	 * @return the resulting {@link Annotation}
+	 */
+	protected Annotation buildAnnotation(Collection<VariantType> varTypes, String aaHGVSDescription) {
+		return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(),
+				Suppliers.ofInstance(aaHGVSDescription), ImmutableList.<AnnotationMessage> of());
+	}
 
 	/**
 	 * Build and return annotation for non-coding RNA.
@@ -167,7 +192,7 @@ abstract class AnnotationBuilder {
 			else
 				varTypes.add(VariantType.ncRNA_INTRONIC);
 		}
-		return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(), null);
+		return buildAnnotation(varTypes, null);
 	}
 
 	/**
@@ -203,7 +228,7 @@ abstract class AnnotationBuilder {
 		if (varTypes.contains(VariantType.SPLICE_DONOR) || varTypes.contains(VariantType.SPLICE_ACCEPTOR)
 				|| varTypes.contains(VariantType.SPLICE_REGION))
 			aaAnno = "p.?";
-		return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(), aaAnno);
+		return buildAnnotation(varTypes, aaAnno);
 	}
 
 	/**
@@ -244,7 +269,7 @@ abstract class AnnotationBuilder {
 				// so.overlapsWithThreePrimeUTR(change.getGenomeInterval())
 				varTypes.add(VariantType.UTR3);
 		}
-		return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(), "p.=");
+		return buildAnnotation(varTypes, "p.=");
 	}
 
 	/**
@@ -362,29 +387,46 @@ abstract class AnnotationBuilder {
 	}
 
 	/**
-	 * @param transcript
-	 *            {@link TranscriptInfo} to build annotation for
-	 * @param change
-	 *            {@link GenomeChange} to build annotation for
-	 * @return String with the HGVS DNA Annotation string (with coordinates for this transcript).
+	 * Nucleotide HGVS description, built on the first call to {@link #get} from the cDNA/ncDNA position of an interval
+	 * and a suffix, e.g. "c.123_124" and "del".
+	 *
+	 * Only holds the values needed for the description, so the {@link Annotation}s do not keep their builder alive.
 	 */
-	private String buildDNAAnno(TranscriptModel transcript, GenomeChange change) {
-		HGVSPositionBuilder posBuilder = new HGVSPositionBuilder(transcript);
-
-		GenomePosition firstChangePos = change.getGenomeInterval().getGenomeBeginPos();
-		GenomePosition lastChangePos = change.getGenomeInterval().getGenomeEndPos().shifted(-1);
-		char prefix = transcript.isCoding() ? 'c' : 'n';
-		if (change.getGenomeInterval().length() == 0)
-			// case of zero-base change (insertion)
-			return StringUtil.concatenate(prefix, ".", posBuilder.getCDNAPosStr(lastChangePos), "_",
-					posBuilder.getCDNAPosStr(firstChangePos));
-		else if (firstChangePos.equals(lastChangePos))
-			// case of single-base change (SNV)
-			return StringUtil.concatenate(prefix, ".", posBuilder.getCDNAPosStr(firstChangePos));
-		else
-			// case of multi-base change (deletion, block substitution)
-			return StringUtil.concatenate(prefix, ".", posBuilder.getCDNAPosStr(firstChangePos), "_",
-					posBuilder.getCDNAPosStr(lastChangePos));
+	static final class NucleotideHGVSSupplier implements Supplier<String> {
+
+		/** transcript for the coordinates */
+		private final TranscriptModel transcript;
+		/** interval of the change on the strand of {@link #transcript}, empty for insertions */
+		private final GenomeInterval interval;
+		/** text following the position, e.g. "A>C" or "del" */
+		private final String suffix;
+
+		NucleotideHGVSSupplier(TranscriptModel transcript, GenomeInterval interval, String suffix) {
+			this.transcript = transcript;
+			this.interval = interval;
+			this.suffix = suffix;
+		}
+
+		@Override
+		public String get() {
+			HGVSPositionBuilder posBuilder = new HGVSPositionBuilder(transcript);
+
+			GenomePosition firstChangePos = interval.getGenomeBeginPos();
+			GenomePosition lastChangePos = interval.getGenomeEndPos().shifted(-1);
+			char prefix = transcript.isCoding() ? 'c' : 'n';
+			if (interval.length() == 0)
+				// case of zero-base change (insertion)
+				return StringUtil.concatenate(prefix, ".", posBuilder.getCDNAPosStr(lastChangePos), "_",
+						posBuilder.getCDNAPosStr(firstChangePos), suffix);
+			else if (firstChangePos.equals(lastChangePos))
+				// case of single-base change (SNV)
+				return StringUtil.concatenate(prefix, ".", posBuilder.getCDNAPosStr(firstChangePos), suffix);
+			else
+				// case of multi-base change (deletion, block substitution)
+				return StringUtil.concatenate(prefix, ".", posBuilder.getCDNAPosStr(firstChangePos), "_",
+						posBuilder.getCDNAPosStr(lastChangePos), suffix);
+		}
+
 	}
 
 }
@@ -70,17 +70,16 @@ public final class BlockSubstitutionAnnotationBuilder extends AnnotationBuilder
 	}
 
 	@Override
-	protected String ncHGVS() {
-		return StringUtil.concatenate(dnaAnno, "delins", change.alt);
+	protected NucleotideHGVSSupplier ncHGVS() {
+		return dnaAnno(StringUtil.concatenate("delins", change.alt));
 	}
 
 	private Annotation buildFeatureAblationAnnotation() {
-		return new Annotation(transcript, change, ImmutableList.of(VariantType.TRANSCRIPT_ABLATION), locAnno, ncHGVS(),
-				null);
+		return buildAnnotation(ImmutableList.of(VariantType.TRANSCRIPT_ABLATION), null);
 	}
 
 	private Annotation buildStartLossAnnotation() {
-		return new Annotation(transcript, change, ImmutableList.of(VariantType.START_LOSS), locAnno, ncHGVS(), "p.0?");
+		return buildAnnotation(ImmutableList.of(VariantType.START_LOSS), "p.0?");
 	}
 
 	/**
@@ -161,7 +160,7 @@ public final class BlockSubstitutionAnnotationBuilder extends AnnotationBuilder
 			else
 				handleFrameShiftCase();
 
-			return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(), protAnno);
+			return buildAnnotation(varTypes, protAnno);
 		}
 
 		private void handleNonFrameShiftCase() {
@@ -65,17 +65,16 @@ public final class DeletionAnnotationBuilder extends AnnotationBuilder {
 	}
 
 	@Override
-	protected String ncHGVS() {
-		return StringUtil.concatenate(dnaAnno, "del");
+	protected NucleotideHGVSSupplier ncHGVS() {
+		return dnaAnno("del");
 	}
 
 	private Annotation buildFeatureAblationAnnotation() {
-		return new Annotation(transcript, change, ImmutableList.of(VariantType.TRANSCRIPT_ABLATION), locAnno, ncHGVS(),
-				"p.0?");
+		return buildAnnotation(ImmutableList.of(VariantType.TRANSCRIPT_ABLATION), "p.0?");
 	}
 
 	private Annotation buildStartLossAnnotation() {
-		return new Annotation(transcript, change, ImmutableList.of(VariantType.START_LOSS), locAnno, ncHGVS(), "p.0?");
+		return buildAnnotation(ImmutableList.of(VariantType.START_LOSS), "p.0?");
 	}
 
 	/**
@@ -144,7 +143,7 @@ public final class DeletionAnnotationBuilder extends AnnotationBuilder {
 			else
 				handleFrameShiftCase();
 
-			return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(), protAnno);
+			return buildAnnotation(varTypes, protAnno);
 		}
 
 		private void handleNonFrameShiftCase() {
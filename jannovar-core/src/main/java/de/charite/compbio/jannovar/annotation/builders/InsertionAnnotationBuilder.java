@@ -12,8 +12,8 @@ import de.charite.compbio.jannovar.reference.AminoAcidChangeNormalizer;
 import de.charite.compbio.jannovar.reference.CDSPosition;
 import de.charite.compbio.jannovar.reference.DuplicationChecker;
 import de.charite.compbio.jannovar.reference.GenomeChange;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
 import de.charite.compbio.jannovar.reference.GenomePosition;
-import de.charite.compbio.jannovar.reference.HGVSPositionBuilder;
 import de.charite.compbio.jannovar.reference.ProjectionException;
 import de.charite.compbio.jannovar.reference.TranscriptModel;
 import de.charite.compbio.jannovar.reference.TranscriptPosition;
@@ -75,9 +75,9 @@ public final class InsertionAnnotationBuilder extends AnnotationBuilder {
 	}
 
 	@Override
-	protected String ncHGVS() {
+	protected NucleotideHGVSSupplier ncHGVS() {
 		if (!so.liesInExon(change.pos))
-			return StringUtil.concatenate(dnaAnno, "ins", change.alt);
+			return dnaAnno(StringUtil.concatenate("ins", change.alt));
 
 		// For building the HGVS string in transcript locations, we have to check for duplications.
 		//
@@ -90,20 +90,12 @@ public final class InsertionAnnotationBuilder extends AnnotationBuilder {
 			throw new Error("Bug: at this point, the position must be a transcript position");
 		}
 		if (DuplicationChecker.isDuplication(transcript.sequence, change.alt, txPos.pos)) {
-			HGVSPositionBuilder posBuilder = new HGVSPositionBuilder(transcript);
-			char prefix = transcript.isCoding() ? 'c' : 'n';
-			String dnaAnno = null; // override this.dnaAnno
-			if (change.alt.length() == 1) {
-				dnaAnno = StringUtil.concatenate(prefix, ".", posBuilder.getCDNAPosStr(change.pos.shifted(-1)), "dup");
-			} else {
-				dnaAnno = StringUtil.concatenate(prefix, ".",
-						posBuilder.getCDNAPosStr(change.pos.shifted(-change.alt.length())), "_",
-						posBuilder.getCDNAPosStr(change.pos.shifted(-1)), "dup");
-			}
-
-			return dnaAnno;
+			// the duplicated bases left of the insertion position, instead of the position of the change
+			final GenomeInterval dupInterval = new GenomeInterval(change.pos.shifted(-change.alt.length()),
+					change.alt.length());
+			return new NucleotideHGVSSupplier(transcript, dupInterval, "dup");
 		} else {
-			return StringUtil.concatenate(dnaAnno, "ins", change.alt);
+			return dnaAnno(StringUtil.concatenate("ins", change.alt));
 		}
 	}
 
@@ -192,7 +184,7 @@ public final class InsertionAnnotationBuilder extends AnnotationBuilder {
 					handleFrameShiftCase();
 			}
 
-			return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(), protAnno);
+			return buildAnnotation(varTypes, protAnno);
 		}
 
 		private void handleFrameShiftCase() {
@@ -136,15 +136,15 @@ public final class SNVAnnotationBuilder extends AnnotationBuilder {
 			varTypes.add(VariantType.SPLICE_REGION);
 
 		// Build the resulting Annotation.
-		return new Annotation(transcript, change, varTypes, locAnno, ncHGVS(), protAnno);
+		return buildAnnotation(varTypes, protAnno);
 	}
 
 	@Override
-	protected String ncHGVS() {
+	protected NucleotideHGVSSupplier ncHGVS() {
 		if (hgvsSNVOverride == null)
-			return StringUtil.concatenate(dnaAnno, change.ref, ">", change.alt);
+			return dnaAnno(StringUtil.concatenate(change.ref, ">", change.alt));
 		else
-			return StringUtil.concatenate(dnaAnno, hgvsSNVOverride);
+			return dnaAnno(hgvsSNVOverride);
 	}
 
 	/**
@@ -0,0 +1,158 @@
+package de.charite.compbio.jannovar.datasource;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import de.charite.compbio.jannovar.Immutable;
+
+/**
+ * Fingerprint of the inputs to a {@link JannovarDataFactory} build: the parser version and the MD5 checksums of the
+ * downloaded files.
+ *
+ * The fingerprint is stored next to the serialized file. When the fingerprint of the current inputs is equal to the
+ * stored one, the serialized file is up to date and does not have to be rebuilt.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+@Immutable
+public final class BuildFingerprint {
+
+	/** the logger object to use */
+	private static final Logger LOGGER = LoggerFactory.getLogger(BuildFingerprint.class);
+
+	/** key for the parser version in the fingerprint file */
+	private static final String PARSER_VERSION_KEY = "parserVersion";
+
+	/** prefix for the file checksum keys in the fingerprint file */
+	private static final String CHECKSUM_PREFIX = "md5.";
+
+	/** version of the parsing code, see {@link JannovarDataFactory#PARSER_VERSION} */
+	public final int parserVersion;
+
+	/** mapping from file name to hexadecimal MD5 checksum */
+	public final ImmutableSortedMap<String, String> checksums;
+
+	/**
+	 * Initialize the object with the given values.
+	 */
+	public BuildFingerprint(int parserVersion, Map<String, String> checksums) {
+		this.parserVersion = parserVersion;
+		this.checksums = ImmutableSortedMap.copyOf(checksums);
+	}
+
+	/**
+	 * @return path of the fingerprint file for the serialized file at <code>serPath</code>
+	 */
+	public static File getFingerprintFile(String serPath) {
+		return new File(serPath + ".fingerprint");
+	}
+
+	/**
+	 * Load fingerprint from <code>file</code>.
+	 *
+	 * @return {@link BuildFingerprint} from <code>file</code> or <code>null</code> if the file does not exist or could
+	 *         not be parsed
+	 */
+	public static BuildFingerprint load(File file) {
+		if (!file.exists())
+			return null;
+
+		Properties props = new Properties();
+		InputStream in = null;
+		try {
+			in = new FileInputStream(file);
+			props.load(in);
+		} catch (IOException e) {
+			LOGGER.warn("Could not read build fingerprint {}: {}", file, e.getMessage());
+			return null;
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// swallow, nothing we can do
+				}
+			}
+		}
+
+		if (props.getProperty(PARSER_VERSION_KEY) == null)
+			return null;
+		int parserVersion;
+		try {
+			parserVersion = Integer.parseInt(props.getProperty(PARSER_VERSION_KEY));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+
+		ImmutableSortedMap.Builder<String, String> builder = ImmutableSortedMap.naturalOrder();
+		for (String key : props.stringPropertyNames())
+			if (key.startsWith(CHECKSUM_PREFIX))
+				builder.put(key.substring(CHECKSUM_PREFIX.length()), props.getProperty(key));
+		return new BuildFingerprint(parserVersion, builder.build());
+	}
+
+	/**
+	 * Write fingerprint to <code>file</code>.
+	 *
+	 * @throws IOException
+	 *             on problems writing the file
+	 */
+	public void save(File file) throws IOException {
+		Properties props = new Properties();
+		props.setProperty(PARSER_VERSION_KEY, Integer.toString(parserVersion));
+		for (Map.Entry<String, String> entry : checksums.entrySet())
+			props.setProperty(CHECKSUM_PREFIX + entry.getKey(), entry.getValue());
+
+		OutputStream out = new FileOutputStream(file);
+		try {
+			props.store(out, "Jannovar build fingerprint");
+		} finally {
+			out.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BuildFingerprint [parserVersion=" + parserVersion + ", checksums=" + checksums + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((checksums == null) ? 0 : checksums.hashCode());
+		result = prime * result + parserVersion;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BuildFingerprint other = (BuildFingerprint) obj;
+		if (checksums == null) {
+			if (other.checksums != null)
+				return false;
+		} else if (!checksums.equals(other.checksums))
+			return false;
+		if (parserVersion != other.parserVersion)
+			return false;
+		return true;
+	}
+
+}
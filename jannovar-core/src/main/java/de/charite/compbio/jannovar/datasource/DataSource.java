@@ -7,6 +7,7 @@ import java.net.URL;
 import org.ini4j.Profile.Section;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 
 import de.charite.compbio.jannovar.JannovarOptions;
 import de.charite.compbio.jannovar.io.JannovarData;
@@ -85,6 +86,20 @@ public abstract class DataSource {
 		return builder.build();
 	}
 
+	/**
+	 * Optional MD5 checksums are given by keys with the suffix <code>".md5"</code>, e.g.
+	 * "knownGene.md5=0123456789abcdef0123456789abcdef".
+	 *
+	 * @return map from download URL to expected hexadecimal MD5 checksum for the URLs that have one
+	 */
+	public final ImmutableMap<String, String> getDownloadMD5Sums() {
+		ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
+		for (String key : getURLKeys())
+			if (iniSection.containsKey(key + ".md5"))
+				builder.put(iniSection.fetch(key), iniSection.fetch(key + ".md5"));
+		return builder.build();
+	}
+
 	/**
 	 * Check {@link #iniSection} for having key/value pairs for all required URLs
 	 *
@@ -1,15 +1,23 @@
 package de.charite.compbio.jannovar.datasource;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.HttpURLConnection;
 import java.net.SocketException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
@@ -17,6 +25,8 @@ import org.apache.commons.net.ftp.FTPFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Charsets;
+
 import de.charite.compbio.jannovar.impl.util.ProgressBar;
 
 /**
@@ -25,6 +35,15 @@ import de.charite.compbio.jannovar.impl.util.ProgressBar;
  * The implementation of FTP downloads is more complex since we need passive FTP transfer through firewalls. This is not
  * possible when just opening a stream through an {@link URL} object with Java's builtin features.
  *
+ * Files are first downloaded to a temporary file with the suffix {@link #PARTIAL_SUFFIX} next to the destination. If
+ * such a file exists from an interrupted earlier run, the download is resumed through HTTP <code>Range</code> headers
+ * or the FTP <code>REST</code> command. The temporary file is only moved to the destination after its size (and MD5
+ * checksum, if given) have been verified.
+ *
+ * For HTTP, the <code>ETag</code> (or <code>Last-Modified</code>) header of the response is stored next to the
+ * temporary file with the suffix {@link #VALIDATOR_SUFFIX} and sent as <code>If-Range</code> header when resuming. The
+ * server then sends the whole file if it has changed in the meantime and the download starts over.
+ *
  * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
  */
 final class FileDownloader {
@@ -32,6 +51,12 @@ final class FileDownloader {
 	/** the logger object to use */
 	private static final Logger LOGGER = LoggerFactory.getLogger(FileDownloader.class);
 
+	/** suffix for files that are still being downloaded */
+	static final String PARTIAL_SUFFIX = ".part";
+
+	/** suffix of the file next to the partial file that stores the HTTP validator for <code>If-Range</code> */
+	static final String VALIDATOR_SUFFIX = ".validator";
+
 	public static class ProxyOptions {
 		public String host = null;
 		public int port = -1;
@@ -44,11 +69,28 @@ final class FileDownloader {
 	 */
 	public static class Options {
 		public boolean printProgressBar = false;
+		/** whether or not to resume interrupted downloads from partial files */
+		public boolean resume = true;
+		/** whether or not to compare existing files against the remote size and modification time */
+		public boolean checkUpToDate = true;
 		public ProxyOptions http = new ProxyOptions();
 		public ProxyOptions https = new ProxyOptions();
 		public ProxyOptions ftp = new ProxyOptions();
 	}
 
+	/**
+	 * Size and modification time of a remote file, <code>-1</code> if unknown.
+	 */
+	static class RemoteFileInfo {
+		public final long size;
+		public final long lastModified;
+
+		RemoteFileInfo(long size, long lastModified) {
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+	}
+
 	/** configuration for the downloader */
 	Options options;
 
@@ -58,34 +100,194 @@ final class FileDownloader {
 	}
 
 	/**
-	 * This method downloads a file to the specified local file path. If the file already exists, it emits a warning
-	 * message and does nothing.
+	 * Forwards to {@link #copyURLToFile(URL, File, String)} without checksum verification.
+	 */
+	public boolean copyURLToFile(URL src, File dest) throws FileDownloadException {
+		return copyURLToFile(src, dest, null);
+	}
+
+	/**
+	 * This method downloads a file to the specified local file path. If the file already exists and is up to date
+	 * with the remote file, it does nothing.
 	 *
 	 * @param src
 	 *            {@link URL} with file to download
 	 * @param dest
 	 *            {@link File} with destination path
+	 * @param expectedMD5
+	 *            expected hexadecimal MD5 checksum of the file, <code>null</code> for skipping the check
 	 * @return <code>true</code> if the file was downloaded and <code>false</code> if not.
 	 * @throws FileDownloadException
 	 *             on problems with downloading
 	 */
-	public boolean copyURLToFile(URL src, File dest) throws FileDownloadException {
-		if (dest.exists())
-			return false;
+	public boolean copyURLToFile(URL src, File dest, String expectedMD5) throws FileDownloadException {
+		if (dest.exists()) {
+			if (isUpToDate(src, dest))
+				return false;
+			LOGGER.info("File {} is outdated, downloading again.", dest);
+		}
 		if (!dest.getParentFile().exists()) {
 			LOGGER.info("Creating directory {}", dest.getParentFile());
 			dest.getParentFile().mkdirs();
 		}
 
+		final File partial = new File(dest.getPath() + PARTIAL_SUFFIX);
+		final File validator = new File(partial.getPath() + VALIDATOR_SUFFIX);
+		if (!options.resume && partial.exists()) {
+			partial.delete();
+			validator.delete();
+		}
+
+		final boolean resuming = partial.exists();
+		long expectedSize = download(src, partial);
+		if (resuming && expectedSize != -1 && partial.length() != expectedSize) {
+			// the partial file does not belong to the remote file after all, e.g. it is larger
+			LOGGER.info("Resumed download of {} has {} instead of {} bytes, starting over", new Object[] { src,
+					partial.length(), expectedSize });
+			partial.delete();
+			validator.delete();
+			expectedSize = download(src, partial);
+		}
+
+		verifyDownload(src, partial, expectedSize, expectedMD5);
+		if (dest.exists() && !dest.delete())
+			throw new FileDownloadException("ERROR: could not remove outdated file " + dest);
+		if (!partial.renameTo(dest))
+			throw new FileDownloadException("ERROR: could not move " + partial + " to " + dest);
+		validator.delete();
+		return true;
+	}
+
+	/**
+	 * Download <code>src</code> to <code>partial</code>, resuming if possible.
+	 *
+	 * @return size of the remote file, <code>-1</code> if unknown
+	 */
+	private long download(URL src, File partial) throws FileDownloadException {
 		if (src.getProtocol().equals("ftp") && options.ftp.host == null)
-			return copyURLToFileWithFTP(src, dest);
+			return copyURLToFileWithFTP(src, partial);
 		else
-			return copyURLToFileThroughURL(src, dest);
+			return copyURLToFileThroughURL(src, partial);
+	}
+
+	/**
+	 * Check whether <code>dest</code> is up to date with respect to <code>src</code>.
+	 *
+	 * When the remote file information cannot be obtained (e.g., when working offline), the existing file is
+	 * considered as up to date.
+	 */
+	private boolean isUpToDate(URL src, File dest) {
+		if (!options.checkUpToDate)
+			return true;
+		RemoteFileInfo info;
+		try {
+			info = getRemoteFileInfo(src);
+		} catch (FileDownloadException e) {
+			LOGGER.info("Could not query remote file {}, keeping existing file ({})", src, e.getMessage());
+			return true;
+		}
+		if (info.size != -1 && info.size != dest.length())
+			return false;
+		if (info.lastModified > 0 && info.lastModified > dest.lastModified())
+			return false;
+		return true;
+	}
+
+	/**
+	 * Verify the size and MD5 checksum of a downloaded file, deleting it on failure unless the download can be resumed.
+	 */
+	private void verifyDownload(URL src, File file, long expectedSize, String expectedMD5)
+			throws FileDownloadException {
+		if (expectedSize != -1 && file.length() != expectedSize) {
+			// keep a shorter file, the download can be resumed later on
+			if (file.length() > expectedSize) {
+				file.delete();
+				new File(file.getPath() + VALIDATOR_SUFFIX).delete();
+			}
+			throw new FileDownloadException("ERROR: incomplete download of " + src + ", got " + file.length()
+					+ " of " + expectedSize + " bytes");
+		}
+		if (expectedMD5 != null) {
+			final String md5 = computeMD5(file);
+			if (!md5.equalsIgnoreCase(expectedMD5)) {
+				file.delete();
+				new File(file.getPath() + VALIDATOR_SUFFIX).delete();
+				throw new FileDownloadException("ERROR: MD5 checksum mismatch for " + src + ", expected "
+						+ expectedMD5 + " but got " + md5);
+			}
+		}
+	}
+
+	/**
+	 * @return hexadecimal MD5 checksum of <code>file</code>
+	 */
+	static String computeMD5(File file) throws FileDownloadException {
+		InputStream in = null;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("MD5");
+			in = new FileInputStream(file);
+			byte buffer[] = new byte[128 * 1024];
+			int readCount;
+			while ((readCount = in.read(buffer)) > 0)
+				digest.update(buffer, 0, readCount);
+
+			StringBuilder builder = new StringBuilder();
+			for (byte b : digest.digest())
+				builder.append(String.format("%02x", b & 0xff));
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new FileDownloadException("ERROR: MD5 not supported: " + e.getMessage());
+		} catch (IOException e) {
+			throw new FileDownloadException("ERROR: problem computing checksum of " + file + ": " + e.getMessage());
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// swallow, nothing we can do
+				}
+			}
+		}
 	}
 
-	private boolean copyURLToFileWithFTP(URL src, File dest) throws FileDownloadException {
+	/**
+	 * @return {@link RemoteFileInfo} with size and modification time of <code>src</code>
+	 * @throws FileDownloadException
+	 *             on problems querying the server
+	 */
+	RemoteFileInfo getRemoteFileInfo(URL src) throws FileDownloadException {
+		if (src.getProtocol().equals("ftp") && options.ftp.host == null) {
+			final FTPClient ftp = connectFTP(src);
+			try {
+				final String fileName = changeToParentDir(ftp, src);
+				return new RemoteFileInfo(getFTPFileSize(ftp, fileName), -1);
+			} catch (IOException e) {
+				throw new FileDownloadException("ERROR: problem querying file " + e.getMessage());
+			} finally {
+				disconnectFTP(ftp);
+			}
+		}
+
+		setProxyProperties();
+		try {
+			URLConnection connection = src.openConnection();
+			if (connection instanceof HttpURLConnection)
+				((HttpURLConnection) connection).setRequestMethod("HEAD");
+			final long size = getContentLength(connection);
+			final long lastModified = connection.getLastModified();
+			if (connection instanceof HttpURLConnection)
+				((HttpURLConnection) connection).disconnect();
+			return new RemoteFileInfo(size, lastModified);
+		} catch (IOException e) {
+			throw new FileDownloadException("ERROR: problem querying file " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return connected and logged in {@link FTPClient} in passive binary mode
+	 */
+	private FTPClient connectFTP(URL src) throws FileDownloadException {
 		final FTPClient ftp = new FTPClient();
-		ftp.enterLocalPassiveMode(); // passive mode for firewalls
 
 		try {
 			if (src.getPort() != -1)
@@ -96,6 +298,7 @@ final class FileDownloader {
 				throw new IOException("Could not login with anonymous:anonymous@example.com");
 			if (!ftp.isConnected())
 				LOGGER.error("Weird, not connected!");
+			ftp.enterLocalPassiveMode(); // passive mode for firewalls, must be set after connecting
 		} catch (SocketException e) {
 			throw new FileDownloadException("ERROR: problem connecting when downloading file: " + e.getMessage());
 		} catch (IOException e) {
@@ -105,32 +308,97 @@ final class FileDownloader {
 		try {
 			ftp.setFileType(FTP.BINARY_FILE_TYPE); // binary file transfer
 		} catch (IOException e) {
-			try {
-				ftp.logout();
-			} catch (IOException e1) {
-				// swallow, nothing we can do about it
-			}
-			try {
-				ftp.disconnect();
-			} catch (IOException e1) {
-				// swallow, nothing we can do about it
-			}
+			disconnectFTP(ftp);
 			throw new FileDownloadException("ERROR: could not use binary transfer " + e.getMessage());
 		}
+		return ftp;
+	}
+
+	/** Logout and disconnect <code>ftp</code>, swallowing any exceptions */
+	private void disconnectFTP(FTPClient ftp) {
+		try {
+			ftp.logout();
+		} catch (IOException e1) {
+			// swallow, nothing we can do about it
+		}
+		try {
+			ftp.disconnect();
+		} catch (IOException e1) {
+			// swallow, nothing we can do about it
+		}
+	}
+
+	/**
+	 * Change working directory of <code>ftp</code> to the parent directory of <code>src</code>.
+	 *
+	 * @return name of the file in the directory
+	 */
+	private String changeToParentDir(FTPClient ftp, URL src) throws IOException {
+		final String parentDir = new File(src.getPath()).getParent().substring(1);
+		final String fileName = new File(src.getPath()).getName();
+		if (!ftp.changeWorkingDirectory(parentDir))
+			throw new FileNotFoundException("Could not change directory to " + parentDir);
+		return fileName;
+	}
+
+	/** @return size of <code>fileName</code> in current directory of <code>ftp</code>, <code>-1</code> if unknown */
+	private long getFTPFileSize(FTPClient ftp, String fileName) throws IOException {
+		FTPFile[] files = ftp.listFiles(fileName);
+		long fileSize = -1;
+		for (int i = 0; i < files.length; ++i)
+			if (files[i].getName().equals(fileName))
+				fileSize = files[i].getSize();
+		return fileSize;
+	}
+
+	/**
+	 * @return validator for resuming the download of <code>fileName</code> in the current directory of
+	 *         <code>ftp</code>, built from its size and modification time, <code>null</code> if the server does not
+	 *         support <code>MDTM</code>
+	 */
+	private String getFTPValidator(FTPClient ftp, String fileName, long fileSize) throws IOException {
+		final String modificationTime = ftp.getModificationTime(fileName);
+		if (modificationTime == null)
+			return null;
+		return "size=" + fileSize + ";mdtm=" + modificationTime.trim();
+	}
+
+	/**
+	 * Download <code>src</code> to <code>dest</code> through FTP, appending to <code>dest</code> if it exists.
+	 *
+	 * Resuming is only supported if the size and modification time of the remote file are the same as for the earlier
+	 * download, other downloads are restarted.
+	 *
+	 * @return size of the remote file, <code>-1</code> if unknown
+	 */
+	private long copyURLToFileWithFTP(URL src, File dest) throws FileDownloadException {
+		final FTPClient ftp = connectFTP(src);
 		InputStream in = null;
 		OutputStream out = null;
 		try {
-			final String parentDir = new File(src.getPath()).getParent().substring(1);
-			final String fileName = new File(src.getPath()).getName();
-			if (!ftp.changeWorkingDirectory(parentDir))
-				throw new FileNotFoundException("Could not change directory to " + parentDir);
+			final String fileName = changeToParentDir(ftp, src);
 			// Try to get file size.
-			FTPFile[] files = ftp.listFiles(fileName);
-			long fileSize = -1;
-			for (int i = 0; i < files.length; ++i)
-				if (files[i].getName().equals(fileName))
-					fileSize = files[i].getSize();
+			final long fileSize = getFTPFileSize(ftp, fileName);
 			ftp.pwd();
+
+			// Resume from partial file if it belongs to the same remote file.
+			final File validatorFile = new File(dest.getPath() + VALIDATOR_SUFFIX);
+			final String validator = getFTPValidator(ftp, fileName, fileSize);
+			long offset = dest.exists() ? dest.length() : 0;
+			final boolean sameFile = (validator != null && validator.equals(readValidator(validatorFile)));
+			if (offset > 0 && (!sameFile || (fileSize != -1 && offset > fileSize))) {
+				LOGGER.info("Could not resume download of {}, starting over", fileName);
+				offset = 0;
+			}
+			if (offset == 0)
+				writeValidator(validatorFile, validator);
+			else if (offset == fileSize)
+				return fileSize; // already complete
+			if (offset > 0) {
+				LOGGER.info("Resuming download of {} at byte {}", fileName, offset);
+				ftp.setRestartOffset(offset);
+			}
+
 			ProgressBar pb = null;
 			if (fileSize != -1)
 				pb = new ProgressBar(0, fileSize, options.printProgressBar);
@@ -140,52 +408,18 @@ final class FileDownloader {
 			in = ftp.retrieveFileStream(fileName);
 			if (in == null)
 				throw new FileNotFoundException("Could not open connection for file " + fileName);
-			out = new FileOutputStream(dest);
-			BufferedInputStream inBf = new BufferedInputStream(in);
-			byte buffer[] = new byte[128 * 1024];
-			int readCount;
-			long pos = 0;
-			if (pb != null)
-				pb.print(pos);
-
-			while ((readCount = inBf.read(buffer)) > 0) {
-				out.write(buffer, 0, readCount);
-				pos += readCount;
-				if (pb != null)
-					pb.print(pos);
-			}
+			out = new FileOutputStream(dest, offset > 0);
+			copyStream(new BufferedInputStream(in), out, offset, pb);
 			in.close();
 			out.close();
-			if (pb != null && pos != pb.max)
-				pb.print(fileSize);
+			return fileSize;
 			// if (!ftp.completePendingCommand())
 			// throw new IOException("Could not finish download!");
-
 		} catch (FileNotFoundException e) {
 			dest.delete();
-			try {
-				ftp.logout();
-			} catch (IOException e1) {
-				// swallow, nothing we can do about it
-			}
-			try {
-				ftp.disconnect();
-			} catch (IOException e1) {
-				// swallow, nothing we can do about it
-			}
 			throw new FileDownloadException("ERROR: problem downloading file " + e.getMessage());
 		} catch (IOException e) {
-			dest.delete();
-			try {
-				ftp.logout();
-			} catch (IOException e1) {
-				// swallow, nothing we can do about it
-			}
-			try {
-				ftp.disconnect();
-			} catch (IOException e1) {
-				// swallow, nothing we can do about it
-			}
+			// keep partial file for resuming
 			throw new FileDownloadException("ERROR: problem downloading file " + e.getMessage());
 		} finally {
 			if (in != null) {
@@ -202,34 +436,58 @@ final class FileDownloader {
 					// swallow, nothing we can do
 				}
 			}
-			// if (ftp != null) {
-			// try {
-			// ftp.completePendingCommand();
-			// } catch (IOException e) {
-			// // swallow, nothing we can do
-			// }
-			// }
+			disconnectFTP(ftp);
 		}
-		return false;
 	}
 
 	/**
-	 * Copy contents of a URL to a file using the {@link URL} class.
+	 * Copy contents of a URL to a file using the {@link URL} class, appending to <code>dest</code> if it exists.
 	 *
 	 * This works for the HTTP and the HTTPS protocol and for FTP through a proxy. For plain FTP, we need to use the
-	 * passive mode.
+	 * passive mode. Resuming is only supported for HTTP(S) if the validator of the earlier download is known, other
+	 * downloads are restarted.
+	 *
+	 * @return size of the remote file, <code>-1</code> if unknown
 	 */
-	private boolean copyURLToFileThroughURL(URL src, File dest) throws FileDownloadException {
+	private long copyURLToFileThroughURL(URL src, File dest) throws FileDownloadException {
 		setProxyProperties();
 
 		// actually copy the file
 		BufferedInputStream in = null;
 		FileOutputStream out = null;
 		try {
+			final File validatorFile = new File(dest.getPath() + VALIDATOR_SUFFIX);
+			long offset = dest.exists() ? dest.length() : 0;
 			URLConnection connection = src.openConnection();
-			final int fileSize = connection.getContentLength();
+			final boolean isHTTP = (connection instanceof HttpURLConnection);
+			final String validator = (offset > 0 && isHTTP) ? readValidator(validatorFile) : null;
+			if (validator != null) {
+				connection.setRequestProperty("Range", "bytes=" + offset + "-");
+				connection.setRequestProperty("If-Range", validator);
+			}
+			long fileSize = getContentLength(connection);
+
+			if (validator != null) {
+				final int code = ((HttpURLConnection) connection).getResponseCode();
+				if (code == HttpURLConnection.HTTP_PARTIAL) {
+					LOGGER.info("Resuming download of {} at byte {}", src, offset);
+					fileSize = getTotalLength(connection, offset, fileSize);
+				} else if (code == 416) { // "Range Not Satisfiable", partial file is complete or too large
+					((HttpURLConnection) connection).disconnect();
+					return getTotalLength(connection, offset, -1);
+				} else {
+					// file changed on the server or server does not support ranges, start over
+					LOGGER.info("Could not resume download of {}, starting over", src);
+					offset = 0;
+				}
+			} else {
+				offset = 0;
+			}
+			if (isHTTP && offset == 0)
+				writeValidator(validatorFile, getValidator(connection));
+
 			in = new BufferedInputStream(connection.getInputStream());
-			out = new FileOutputStream(dest);
+			out = new FileOutputStream(dest, offset > 0);
 
 			ProgressBar pb = null;
 			if (fileSize != -1)
@@ -238,26 +496,130 @@ final class FileDownloader {
 				LOGGER.info("(server did not tell us the file size, no progress bar)");
 
 			// Download file.
-			byte buffer[] = new byte[128 * 1024];
-			int readCount;
-			long pos = 0;
-			if (pb != null)
-				pb.print(pos);
-
-			while ((readCount = in.read(buffer)) > 0) {
-				out.write(buffer, 0, readCount);
-				pos += readCount;
-				if (pb != null)
-					pb.print(pos);
-			}
+			copyStream(in, out, offset, pb);
 			in.close();
 			out.close();
-			if (pb != null && pos != pb.max)
-				pb.print(fileSize);
+			return fileSize;
 		} catch (IOException e) {
 			throw new FileDownloadException("ERROR: Problem downloading file: " + e.getMessage());
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// swallow, nothing we can do
+				}
+			}
+			if (out != null) {
+				try {
+					out.close();
+				} catch (IOException e) {
+					// swallow, nothing we can do
+				}
+			}
 		}
-		return true;
+	}
+
+	/**
+	 * @return value of the <code>Content-Length</code> header of <code>connection</code>, <code>-1</code> if unknown
+	 */
+	private static long getContentLength(URLConnection connection) {
+		// URLConnection#getContentLength() returns an int and thus -1 for files larger than 2 GB
+		final String value = connection.getHeaderField("Content-Length");
+		if (value == null)
+			return -1;
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * @return total file size from the <code>Content-Range</code> header of a partial response, e.g.
+	 *         <code>bytes 1000-1999/2000</code>, or from <code>offset</code> and <code>contentLength</code> if the
+	 *         header does not give it
+	 */
+	private static long getTotalLength(URLConnection connection, long offset, long contentLength) {
+		final String value = connection.getHeaderField("Content-Range");
+		final int pos = (value == null) ? -1 : value.lastIndexOf('/');
+		if (pos != -1) {
+			try {
+				return Long.parseLong(value.substring(pos + 1).trim());
+			} catch (NumberFormatException e) {
+				// "*", size unknown, fall through to using the content length
+			}
+		}
+		return (contentLength == -1) ? -1 : (offset + contentLength);
+	}
+
+	/**
+	 * @return strong <code>ETag</code> or <code>Last-Modified</code> header of <code>connection</code> for use in
+	 *         <code>If-Range</code>, <code>null</code> if neither is given
+	 */
+	private static String getValidator(URLConnection connection) {
+		final String eTag = connection.getHeaderField("ETag");
+		if (eTag != null && !eTag.startsWith("W/")) // weak ETags cannot be used for ranges
+			return eTag;
+		return connection.getHeaderField("Last-Modified");
+	}
+
+	/** @return validator stored in <code>file</code>, <code>null</code> if there is none */
+	private static String readValidator(File file) {
+		if (!file.exists())
+			return null;
+		BufferedReader in = null;
+		try {
+			in = new BufferedReader(new InputStreamReader(new FileInputStream(file), Charsets.UTF_8));
+			return in.readLine();
+		} catch (IOException e) {
+			return null; // cannot resume safely
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// swallow, nothing we can do
+				}
+			}
+		}
+	}
+
+	/** Store <code>validator</code> in <code>file</code>, remove <code>file</code> if <code>validator</code> is null */
+	private static void writeValidator(File file, String validator) throws IOException {
+		if (validator == null) {
+			file.delete();
+			return;
+		}
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), Charsets.UTF_8);
+		try {
+			out.write(validator);
+			out.write('\n');
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Copy <code>in</code> to <code>out</code>, printing progress to <code>pb</code> (if not <code>null</code>).
+	 *
+	 * @param pos
+	 *            number of bytes already written in an earlier download
+	 */
+	private void copyStream(InputStream in, OutputStream out, long pos, ProgressBar pb) throws IOException {
+		byte buffer[] = new byte[128 * 1024];
+		int readCount;
+		if (pb != null)
+			pb.print(pos);
+
+		while ((readCount = in.read(buffer)) > 0) {
+			out.write(buffer, 0, readCount);
+			pos += readCount;
+			if (pb != null)
+				pb.print(pos);
+		}
+		if (pb != null && pos != pb.max)
+			pb.print(pb.max);
 	}
 
 	/**
@@ -3,12 +3,20 @@ package de.charite.compbio.jannovar.datasource;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.ini4j.Profile.Section;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
 
 import de.charite.compbio.jannovar.JannovarOptions;
 import de.charite.compbio.jannovar.datasource.FileDownloader.ProxyOptions;
@@ -29,6 +37,12 @@ public abstract class JannovarDataFactory {
 	/** the logger object to use */
 	private static final Logger LOGGER = LoggerFactory.getLogger(JannovarDataFactory.class);
 
+	/**
+	 * Version of the parsing code, part of the {@link BuildFingerprint}. Increment this when the parsers or the
+	 * serialized data structures change so previously built files are not reused.
+	 */
+	public static final int PARSER_VERSION = 2;
+
 	/** the {@link JannovarOptions} to use for proxy settings */
 	protected final JannovarOptions options;
 	/** the {@link DataSource} to use */
@@ -53,6 +67,8 @@ public abstract class JannovarDataFactory {
 	}
 
 	/**
+	 * Download the files and parse them, forwards to {@link #download} and {@link #parse}.
+	 *
 	 * @param downloadDir
 	 *            path of directory to download files to
 	 * @param printProgressBars
@@ -68,23 +84,61 @@ public abstract class JannovarDataFactory {
 	public final JannovarData build(String downloadDir, boolean printProgressBars) throws InvalidDataSourceException,
 	TranscriptParseException,
 	FileDownloadException {
-		String targetDir = PathUtil.join(downloadDir, dataSource.getName());
-
-		FileDownloader downloader = new FileDownloader(buildOptions(printProgressBars));
+		download(downloadDir, printProgressBars);
+		return parse(downloadDir);
+	}
 
-		// Download files.
+	/**
+	 * Download the files of the data source, skipping the ones that are up to date.
+	 *
+	 * @param downloadDir
+	 *            path of directory to download files to
+	 * @param printProgressBars
+	 *            whether or not to print progress bars
+	 * @throws FileDownloadException
+	 *             on problems while downloading files.
+	 */
+	public final void download(String downloadDir, boolean printProgressBars) throws FileDownloadException {
 		LOGGER.info("Downloading data...");
+		downloadFiles(PathUtil.join(downloadDir, dataSource.getName()), printProgressBars);
+	}
+
+	/**
+	 * Compute the {@link BuildFingerprint} of the previously downloaded files.
+	 *
+	 * @param downloadDir
+	 *            path of directory the files were downloaded to
+	 * @return {@link BuildFingerprint} with {@link #PARSER_VERSION} and the checksums of the downloaded files
+	 * @throws FileDownloadException
+	 *             on problems with reading the downloaded files
+	 */
+	public final BuildFingerprint computeFingerprint(String downloadDir) throws FileDownloadException {
+		String targetDir = PathUtil.join(downloadDir, dataSource.getName());
+		ImmutableSortedMap.Builder<String, String> builder = ImmutableSortedMap.naturalOrder();
 		try {
 			for (String url : dataSource.getDownloadURLs()) {
-				LOGGER.info("Downloading {}", url);
-				URL src = new URL(url);
-				String fileName = new File(src.getPath()).getName();
-				File dest = new File(PathUtil.join(targetDir, fileName));
-				downloader.copyURLToFile(src, dest);
+				String fileName = new File(new URL(url).getPath()).getName();
+				builder.put(fileName, FileDownloader.computeMD5(new File(PathUtil.join(targetDir, fileName))));
 			}
 		} catch (MalformedURLException e) {
 			throw new FileDownloadException("Invalid URL: " + e.getMessage());
 		}
+		return new BuildFingerprint(PARSER_VERSION, builder.build());
+	}
+
+	/**
+	 * Parse the previously downloaded files.
+	 *
+	 * @param downloadDir
+	 *            path of directory the files were downloaded to
+	 * @return {@link JannovarData} object for the factory's state.
+	 * @throws InvalidDataSourceException
+	 *             on problems with the data source or data source file
+	 * @throws TranscriptParseException
+	 *             on problems with processing the transcript and reference dictionary data
+	 */
+	public final JannovarData parse(String downloadDir) throws InvalidDataSourceException, TranscriptParseException {
+		String targetDir = PathUtil.join(downloadDir, dataSource.getName());
 
 		// Parse files for building ReferenceDictionary objects.
 		LOGGER.info("Building ReferenceDictionary...");
@@ -103,6 +157,52 @@ public abstract class JannovarDataFactory {
 		return new JannovarData(refDict, transcripts);
 	}
 
+	/**
+	 * Download the files of {@link #dataSource} to <code>targetDir</code>, using up to
+	 * {@link JannovarOptions#numDownloadThreads} concurrent transfers.
+	 *
+	 * @param targetDir
+	 *            path of directory to download files to
+	 * @param printProgressBars
+	 *            whether or not to print progress bars, ignored for more than one thread
+	 * @throws FileDownloadException
+	 *             on problems while downloading files.
+	 */
+	private void downloadFiles(String targetDir, boolean printProgressBars) throws FileDownloadException {
+		final int numThreads = Math.max(1, options.numDownloadThreads);
+		final FileDownloader downloader = new FileDownloader(buildOptions(printProgressBars && numThreads == 1));
+		final ImmutableMap<String, String> md5Sums = dataSource.getDownloadMD5Sums();
+
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		ArrayList<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+		try {
+			for (final String url : dataSource.getDownloadURLs()) {
+				final URL src = new URL(url);
+				final File dest = new File(PathUtil.join(targetDir, new File(src.getPath()).getName()));
+				futures.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() throws FileDownloadException {
+						LOGGER.info("Downloading {}", src);
+						return downloader.copyURLToFile(src, dest, md5Sums.get(url));
+					}
+				}));
+			}
+
+			for (Future<Boolean> future : futures)
+				future.get();
+		} catch (MalformedURLException e) {
+			throw new FileDownloadException("Invalid URL: " + e.getMessage());
+		} catch (InterruptedException e) {
+			throw new FileDownloadException("Interrupted while downloading: " + e.getMessage());
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof FileDownloadException)
+				throw (FileDownloadException) e.getCause();
+			throw new FileDownloadException("Problem downloading files: " + e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	/**
 	 * Build {@link FileDownloader.ProxyOptions} from an environment proxy configuration
 	 *
@@ -0,0 +1,163 @@
+package de.charite.compbio.jannovar.impl.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.charite.compbio.jannovar.Immutable;
+
+/**
+ * Immutable set of the values of an enum with at most 64 values, stored as a <code>long</code> bit mask.
+ *
+ * Bit <code>i</code> of the mask is set if the value with ordinal <code>i</code> is in the set. Thus, the iteration
+ * order is the declaration order of the enum and {@link #first} is a single {@link Long#numberOfTrailingZeros} call.
+ * Equality and hash code follow the contract of {@link java.util.Set}, so objects of this class compare equal to other
+ * sets with the same elements.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+@Immutable
+public final class LongEnumSet<E extends Enum<E>> extends AbstractSet<E> {
+
+	/** cache for the enum values of each enum class, {@link Class#getEnumConstants} creates a copy on each call */
+	private static final ConcurrentHashMap<Class<?>, Object[]> UNIVERSES = new ConcurrentHashMap<Class<?>, Object[]>();
+
+	/** all values of the enum, indexed by ordinal */
+	private final E[] universe;
+
+	/** the bit mask */
+	private final long bits;
+
+	/** Initialize with the given <code>universe</code> and bit mask. */
+	private LongEnumSet(E[] universe, long bits) {
+		this.universe = universe;
+		this.bits = bits;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends Enum<E>> E[] getUniverse(Class<E> elementType) {
+		Object[] values = UNIVERSES.get(elementType);
+		if (values == null) {
+			values = elementType.getEnumConstants();
+			if (values.length > 64)
+				throw new IllegalArgumentException("Enum " + elementType.getName() + " has more than 64 values");
+			// use the array of a concurrent caller if it was first, such that all sets share one universe
+			final Object[] existing = UNIVERSES.putIfAbsent(elementType, values);
+			if (existing != null)
+				values = existing;
+		}
+		return (E[]) values;
+	}
+
+	/** @return empty set for enum <code>elementType</code> */
+	public static <E extends Enum<E>> LongEnumSet<E> noneOf(Class<E> elementType) {
+		return new LongEnumSet<E>(getUniverse(elementType), 0);
+	}
+
+	/** @return set for enum <code>elementType</code> with the given bit mask */
+	public static <E extends Enum<E>> LongEnumSet<E> fromBits(Class<E> elementType, long bits) {
+		return new LongEnumSet<E>(getUniverse(elementType), bits);
+	}
+
+	/** @return set for enum <code>elementType</code> with the values from <code>elements</code> */
+	public static <E extends Enum<E>> LongEnumSet<E> copyOf(Class<E> elementType, Collection<E> elements) {
+		if (elements instanceof LongEnumSet)
+			return (LongEnumSet<E>) elements;
+		return new LongEnumSet<E>(getUniverse(elementType), toBits(elements));
+	}
+
+	/** @return bit mask for the values in <code>elements</code> */
+	public static <E extends Enum<E>> long toBits(Collection<E> elements) {
+		if (elements instanceof LongEnumSet)
+			return ((LongEnumSet<E>) elements).bits;
+		long result = 0;
+		for (E e : elements)
+			result |= (1L << e.ordinal());
+		return result;
+	}
+
+	/** @return bit mask of <code>e</code> */
+	public static <E extends Enum<E>> long toBit(E e) {
+		return (1L << e.ordinal());
+	}
+
+	/** @return the bit mask with the ordinals of the values in the set */
+	public long getBits() {
+		return bits;
+	}
+
+	/**
+	 * @return the value with the smallest ordinal
+	 * @throws NoSuchElementException
+	 *             if the set is empty
+	 */
+	public E first() {
+		if (bits == 0)
+			throw new NoSuchElementException();
+		return universe[Long.numberOfTrailingZeros(bits)];
+	}
+
+	/** @return <code>true</code> if this set and <code>other</code> have at least one value in common */
+	public boolean intersects(LongEnumSet<E> other) {
+		return (bits & other.bits) != 0;
+	}
+
+	@Override
+	public int size() {
+		return Long.bitCount(bits);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return bits == 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (bits == 0 || !(o instanceof Enum) || ((Enum<?>) o).getDeclaringClass() != universe[0].getDeclaringClass())
+			return false;
+		return (bits & (1L << ((Enum<?>) o).ordinal())) != 0;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			/** bits of the values not returned yet */
+			private long remaining = bits;
+
+			@Override
+			public boolean hasNext() {
+				return remaining != 0;
+			}
+
+			@Override
+			public E next() {
+				if (remaining == 0)
+					throw new NoSuchElementException();
+				E result = universe[Long.numberOfTrailingZeros(remaining)];
+				remaining &= remaining - 1; // clear lowest set bit
+				return result;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof LongEnumSet && ((LongEnumSet<?>) o).universe == universe)
+			return ((LongEnumSet<?>) o).bits == bits;
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+
+}
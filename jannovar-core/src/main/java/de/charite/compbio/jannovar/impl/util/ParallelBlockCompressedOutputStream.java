@@ -0,0 +1,332 @@
+package de.charite.compbio.jannovar.impl.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * {@link OutputStream} that writes the BGZF format, compressing the blocks on a pool of worker threads.
+ *
+ * The data is cut into blocks of {@link #BLOCK_SIZE} bytes that are deflated in parallel and written in order, the
+ * result is the same as written by the serial <code>BlockCompressedOutputStream</code> of HTSJDK (up to the deflate
+ * output) and can be read as gzip file and indexed with tabix.
+ *
+ * For building an index, {@link #trackBlocks} must be called before writing. {@link #getVirtualOffset} then converts an
+ * uncompressed position, as returned by {@link #getPosition}, into a BGZF virtual file offset once the containing block
+ * has been written, see {@link #getWrittenPosition}.
+ *
+ * Apart from the deflating, all methods are to be called from one thread.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class ParallelBlockCompressedOutputStream extends OutputStream {
+
+	/** number of uncompressed bytes in one block, small enough for stored blocks to fit into 64 KB */
+	public static final int BLOCK_SIZE = 0xff00;
+
+	/** default number of compression threads */
+	public static final int DEFAULT_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	/** maximal size of a compressed block, including header and footer */
+	private static final int MAX_BLOCK_SIZE = 0x10000;
+
+	/** length of the BGZF block header */
+	private static final int HEADER_LENGTH = 18;
+
+	/** length of the gzip block footer (CRC32 and uncompressed size) */
+	private static final int FOOTER_LENGTH = 8;
+
+	/** the empty block that marks the end of a BGZF file */
+	private static final byte[] EOF_BLOCK = { 0x1f, (byte) 0x8b, 0x08, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00,
+			(byte) 0xff, 0x06, 0x00, 0x42, 0x43, 0x02, 0x00, 0x1b, 0x00, 0x03, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
+			0x00, 0x00, 0x00 };
+
+	/** the stream to write the compressed blocks to */
+	private final OutputStream out;
+
+	/** deflate compression level */
+	private final int compressionLevel;
+
+	/** maximal number of blocks being compressed at the same time */
+	private final int maxPending;
+
+	/** worker threads for the compression */
+	private final ExecutorService executor;
+
+	/** one {@link Deflater} for each worker thread */
+	private final ThreadLocal<Deflater> deflaters = new ThreadLocal<Deflater>() {
+		@Override
+		protected Deflater initialValue() {
+			return new Deflater(compressionLevel, true);
+		}
+	};
+
+	/** the compressed blocks, in the order of writing */
+	private final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+
+	/** uncompressed sizes of the blocks in {@link #pending} */
+	private final ArrayDeque<Integer> pendingSizes = new ArrayDeque<Integer>();
+
+	/** begin positions (uncompressed, compressed) of the written blocks, <code>null</code> if not tracked */
+	private ArrayDeque<long[]> blocks = null;
+
+	/** the block being filled */
+	private byte[] buffer = new byte[BLOCK_SIZE];
+
+	/** number of bytes in {@link #buffer} */
+	private int bufferLength = 0;
+
+	/** uncompressed number of bytes in the written blocks */
+	private long writtenPosition = 0;
+
+	/** compressed number of bytes written to {@link #out} */
+	private long compressedPosition = 0;
+
+	/** whether {@link #close} has been called */
+	private boolean closed = false;
+
+	/**
+	 * Initialize the stream with the default compression level.
+	 *
+	 * @param out
+	 *            the stream to write the compressed data to, closed with this stream
+	 * @param numThreads
+	 *            number of compression threads
+	 */
+	public ParallelBlockCompressedOutputStream(OutputStream out, int numThreads) {
+		this(out, numThreads, 5);
+	}
+
+	/**
+	 * Initialize the stream.
+	 *
+	 * @param out
+	 *            the stream to write the compressed data to, closed with this stream
+	 * @param numThreads
+	 *            number of compression threads
+	 * @param compressionLevel
+	 *            deflate compression level, between <code>0</code> and <code>9</code>
+	 */
+	public ParallelBlockCompressedOutputStream(OutputStream out, int numThreads, int compressionLevel) {
+		this.out = out;
+		this.compressionLevel = compressionLevel;
+		this.maxPending = 2 * Math.max(1, numThreads);
+		this.executor = Executors.newFixedThreadPool(Math.max(1, numThreads), new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "bgzf-compression");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Keep the offsets of the written blocks for {@link #getVirtualOffset}.
+	 *
+	 * @throws IllegalStateException
+	 *             if data has already been written
+	 */
+	public void trackBlocks() {
+		if (getPosition() != 0)
+			throw new IllegalStateException("block tracking must be enabled before writing");
+		blocks = new ArrayDeque<long[]>();
+	}
+
+	/** @return number of uncompressed bytes written to this stream */
+	public long getPosition() {
+		long result = writtenPosition + bufferLength;
+		for (int size : pendingSizes)
+			result += size;
+		return result;
+	}
+
+	/** @return number of uncompressed bytes in the blocks that have been compressed and written */
+	public long getWrittenPosition() {
+		return writtenPosition;
+	}
+
+	/**
+	 * Convert an uncompressed position into a BGZF virtual file offset.
+	 *
+	 * The positions must be passed in non-decreasing order, the offsets of blocks before <code>position</code> are
+	 * dropped.
+	 *
+	 * @param position
+	 *            uncompressed position, at most {@link #getWrittenPosition}
+	 * @return virtual file offset, i.e. compressed begin position of the block shifted by 16 bits and the offset in
+	 *         the uncompressed block
+	 * @throws IllegalStateException
+	 *             if {@link #trackBlocks} has not been called or <code>position</code> has not been written yet
+	 */
+	public long getVirtualOffset(long position) {
+		if (blocks == null)
+			throw new IllegalStateException("block tracking is not enabled");
+		if (position > writtenPosition)
+			throw new IllegalStateException("block for position " + position + " has not been written yet");
+		if (position == writtenPosition)
+			return compressedPosition << 16;
+		while (blocks.size() > 1) {
+			final long[] first = blocks.removeFirst();
+			if (blocks.peekFirst()[0] > position) {
+				blocks.addFirst(first);
+				break;
+			}
+		}
+		final long[] block = blocks.peekFirst();
+		return (block[1] << 16) | (position - block[0]);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		buffer[bufferLength++] = (byte) b;
+		if (bufferLength == BLOCK_SIZE)
+			submitBlock();
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			final int n = Math.min(len, BLOCK_SIZE - bufferLength);
+			System.arraycopy(b, off, buffer, bufferLength, n);
+			bufferLength += n;
+			off += n;
+			len -= n;
+			if (bufferLength == BLOCK_SIZE)
+				submitBlock();
+		}
+	}
+
+	/**
+	 * Compress the current, possibly incomplete, block and write all blocks to the underlying stream.
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (bufferLength > 0)
+			submitBlock();
+		while (!pending.isEmpty())
+			writeBlock();
+		out.flush();
+	}
+
+	/**
+	 * Write all blocks and the end-of-file marker, close the underlying stream, and stop the worker threads.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		try {
+			flush();
+			out.write(EOF_BLOCK);
+			out.close();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/** Pass {@link #buffer} to the worker threads and write out the blocks that are done. */
+	private void submitBlock() throws IOException {
+		final byte[] data = buffer;
+		final int length = bufferLength;
+		pending.addLast(executor.submit(new Callable<byte[]>() {
+			@Override
+			public byte[] call() {
+				return compressBlock(data, length);
+			}
+		}));
+		pendingSizes.addLast(length);
+		buffer = new byte[BLOCK_SIZE];
+		bufferLength = 0;
+
+		while (!pending.isEmpty() && (pending.peekFirst().isDone() || pending.size() > maxPending))
+			writeBlock();
+	}
+
+	/** Wait for the first block in {@link #pending} and write it to {@link #out}. */
+	private void writeBlock() throws IOException {
+		final byte[] block;
+		try {
+			block = pending.peekFirst().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while compressing BGZF block");
+		} catch (ExecutionException e) {
+			throw new IOException("Problem compressing BGZF block: " + e.getCause().getMessage());
+		}
+		pending.removeFirst();
+		final int size = pendingSizes.removeFirst();
+		if (blocks != null)
+			blocks.addLast(new long[] { writtenPosition, compressedPosition });
+		out.write(block);
+		writtenPosition += size;
+		compressedPosition += block.length;
+	}
+
+	/**
+	 * @return BGZF block with the first <code>length</code> bytes of <code>data</code>
+	 */
+	private byte[] compressBlock(byte[] data, int length) {
+		Deflater deflater = deflaters.get();
+		byte[] result = new byte[MAX_BLOCK_SIZE];
+		final int maxDataLength = MAX_BLOCK_SIZE - HEADER_LENGTH - FOOTER_LENGTH;
+		deflater.reset();
+		deflater.setInput(data, 0, length);
+		deflater.finish();
+		int dataLength = deflater.deflate(result, HEADER_LENGTH, maxDataLength);
+		if (!deflater.finished()) {
+			// incompressible data, store it, which is guaranteed to fit by BLOCK_SIZE
+			Deflater storer = new Deflater(Deflater.NO_COMPRESSION, true);
+			storer.setInput(data, 0, length);
+			storer.finish();
+			dataLength = storer.deflate(result, HEADER_LENGTH, maxDataLength);
+			storer.end();
+		}
+
+		final int blockLength = HEADER_LENGTH + dataLength + FOOTER_LENGTH;
+		// gzip header with the "BC" extra field that holds the block size minus one
+		result[0] = 0x1f;
+		result[1] = (byte) 0x8b;
+		result[2] = 0x08; // deflate
+		result[3] = 0x04; // FEXTRA
+		result[4] = result[5] = result[6] = result[7] = 0; // MTIME
+		result[8] = 0; // XFL
+		result[9] = (byte) 0xff; // OS unknown
+		putShort(result, 10, 6); // XLEN
+		result[12] = 'B';
+		result[13] = 'C';
+		putShort(result, 14, 2);
+		putShort(result, 16, blockLength - 1);
+		// footer
+		CRC32 crc = new CRC32();
+		crc.update(data, 0, length);
+		putInt(result, HEADER_LENGTH + dataLength, (int) crc.getValue());
+		putInt(result, HEADER_LENGTH + dataLength + 4, length);
+
+		byte[] block = new byte[blockLength];
+		System.arraycopy(result, 0, block, 0, blockLength);
+		return block;
+	}
+
+	/** Write <code>value</code> as little-endian 16 bit integer to <code>buf</code> at <code>pos</code>. */
+	private static void putShort(byte[] buf, int pos, int value) {
+		buf[pos] = (byte) value;
+		buf[pos + 1] = (byte) (value >>> 8);
+	}
+
+	/** Write <code>value</code> as little-endian 32 bit integer to <code>buf</code> at <code>pos</code>. */
+	private static void putInt(byte[] buf, int pos, int value) {
+		putShort(buf, pos, value);
+		putShort(buf, pos + 2, value >>> 16);
+	}
+
+}
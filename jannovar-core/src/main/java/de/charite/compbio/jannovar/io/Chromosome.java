@@ -1,6 +1,9 @@
 package de.charite.compbio.jannovar.io;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 
 import de.charite.compbio.jannovar.impl.intervals.Interval;
 import de.charite.compbio.jannovar.impl.intervals.IntervalArray;
@@ -43,7 +46,18 @@ public final class Chromosome implements Serializable {
 	public final IntervalArray<TranscriptModel> tmIntervalTree;
 
 	/**
-	 * Initialize object.
+	 * An {@link IntervalArray} that contains all {@link Gene}s on this chromosome, built from {@link #tmIntervalTree}.
+	 */
+	public final IntervalArray<Gene> geneIntervalTree;
+
+	/**
+	 * An {@link IntervalArray} with the preferred {@link TranscriptModel} of each gene on this chromosome, see
+	 * {@link PreferredTranscripts}, <code>null</code> if no such index has been built.
+	 */
+	public final IntervalArray<TranscriptModel> preferredTmIntervalTree;
+
+	/**
+	 * Initialize object, building {@link #geneIntervalTree} from <code>tmIntervalTree</code>.
 	 *
 	 * @param refDict
 	 *            the {@link ReferenceDictionary} to use
@@ -53,9 +67,80 @@ public final class Chromosome implements Serializable {
 	 *            An interval tree with all transcripts on this chromosome.
 	 */
 	public Chromosome(ReferenceDictionary refDict, int chrID, IntervalArray<TranscriptModel> tmIntervalTree) {
+		this(refDict, chrID, tmIntervalTree, buildGeneIntervalTree(refDict, tmIntervalTree));
+	}
+
+	/**
+	 * Initialize object.
+	 *
+	 * @param refDict
+	 *            the {@link ReferenceDictionary} to use
+	 * @param chrID
+	 *            the chromosome
+	 * @param tmIntervalTree
+	 *            An interval tree with all transcripts on this chromosome.
+	 * @param geneIntervalTree
+	 *            An interval tree with all genes on this chromosome.
+	 */
+	public Chromosome(ReferenceDictionary refDict, int chrID, IntervalArray<TranscriptModel> tmIntervalTree,
+			IntervalArray<Gene> geneIntervalTree) {
+		this(refDict, chrID, tmIntervalTree, geneIntervalTree, null);
+	}
+
+	/**
+	 * Initialize object.
+	 *
+	 * @param refDict
+	 *            the {@link ReferenceDictionary} to use
+	 * @param chrID
+	 *            the chromosome
+	 * @param tmIntervalTree
+	 *            An interval tree with all transcripts on this chromosome.
+	 * @param geneIntervalTree
+	 *            An interval tree with all genes on this chromosome.
+	 * @param preferredTmIntervalTree
+	 *            An interval tree with the preferred transcript of each gene, <code>null</code> for none.
+	 */
+	public Chromosome(ReferenceDictionary refDict, int chrID, IntervalArray<TranscriptModel> tmIntervalTree,
+			IntervalArray<Gene> geneIntervalTree, IntervalArray<TranscriptModel> preferredTmIntervalTree) {
 		this.refDict = refDict;
 		this.chrID = chrID;
 		this.tmIntervalTree = tmIntervalTree;
+		this.geneIntervalTree = geneIntervalTree;
+		this.preferredTmIntervalTree = preferredTmIntervalTree;
+	}
+
+	/**
+	 * Build {@link IntervalArray} of {@link Gene}s from the transcripts in <code>tmIntervalTree</code>.
+	 *
+	 * The transcripts are grouped by their gene symbol, see {@link GeneBuilder} for the details.
+	 */
+	private static IntervalArray<Gene> buildGeneIntervalTree(ReferenceDictionary refDict,
+			IntervalArray<TranscriptModel> tmIntervalTree) {
+		// create one GeneBuilder for each gene, collect all transcripts for the gene
+		LinkedHashMap<String, GeneBuilder> geneMap = new LinkedHashMap<String, GeneBuilder>();
+		for (Interval<TranscriptModel> itv : tmIntervalTree.intervals) {
+			TranscriptModel tm = itv.value;
+			if (!geneMap.containsKey(tm.geneSymbol))
+				geneMap.put(tm.geneSymbol, new GeneBuilder(refDict, tm.geneSymbol));
+			geneMap.get(tm.geneSymbol).addTranscriptModel(tm);
+		}
+
+		ArrayList<Gene> genes = new ArrayList<Gene>();
+		for (GeneBuilder builder : geneMap.values())
+			genes.add(builder.build());
+		return new IntervalArray<Gene>(genes, new GeneIntervalEndExtractor());
+	}
+
+	/**
+	 * Build {@link #geneIntervalTree} when reading a file that was serialized without it.
+	 *
+	 * @return <code>this</code> or a copy with {@link #geneIntervalTree} built from {@link #tmIntervalTree}
+	 */
+	private Object readResolve() throws ObjectStreamException {
+		if (geneIntervalTree == null)
+			return new Chromosome(refDict, chrID, tmIntervalTree);
+		return this;
 	}
 
 	/**
@@ -79,4 +164,19 @@ public final class Chromosome implements Serializable {
 		return tmIntervalTree;
 	}
 
+	/**
+	 * @return the {@link IntervalArray} with the preferred transcript of each gene, or the one with all transcripts
+	 *         if {@link #preferredTmIntervalTree} has not been built.
+	 */
+	public IntervalArray<TranscriptModel> getPreferredTMIntervalTree() {
+		return (preferredTmIntervalTree != null) ? preferredTmIntervalTree : tmIntervalTree;
+	}
+
+	/**
+	 * @return the {@link IntervalArray} of the {@link Gene}s on the chromosome.
+	 */
+	public IntervalArray<Gene> getGeneIntervalTree() {
+		return geneIntervalTree;
+	}
+
 }
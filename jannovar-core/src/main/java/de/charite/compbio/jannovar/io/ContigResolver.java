@@ -0,0 +1,158 @@
+package de.charite.compbio.jannovar.io;
+
+import java.util.HashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.ImmutableMap;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Fast resolution of contig names from variant records to the numeric IDs of a {@link ReferenceDictionary}.
+ *
+ * Variant files are usually sorted, so most records have the same contig name as the previous one. The last resolved
+ * name and ID are cached and the cache is checked by reference before falling back to {@link String#equals}. Parsers
+ * such as the one from HTSJDK reuse the same string object for the contig names, so a hit costs one comparison.
+ *
+ * On a cache miss, the name is looked up in a map that is precomputed from the contig names in the file header
+ * (optional) and in the {@link ReferenceDictionary}. The precomputation also resolves aliases that are not in the
+ * {@link ReferenceDictionary}: names with and without "chr" prefix, "M"/"chrM"/"MT", and the RefSeq accessions
+ * "NC_000001.10" etc. of the human chromosomes.
+ *
+ * Objects of this class can be shared between threads, the cache entry is replaced atomically.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class ContigResolver {
+
+	/** returned by {@link #resolve} for unknown contigs */
+	public static final int UNKNOWN = -1;
+
+	/** pattern for the RefSeq accessions of human chromosomes, e.g. "NC_000001.10" */
+	private static final Pattern REFSEQ_CHROMOSOME = Pattern.compile("NC_0000(\\d\\d)\\.\\d+");
+
+	/** RefSeq accession prefix of the human mitochondrial chromosome */
+	private static final String REFSEQ_MITOCHONDRION = "NC_012920.";
+
+	/** the {@link ReferenceDictionary} to resolve to */
+	public final ReferenceDictionary refDict;
+
+	/** precomputed mapping from contig names including resolved aliases to the numeric IDs */
+	private final ImmutableMap<String, Integer> contigIDs;
+
+	/** last resolved contig name and ID */
+	private CacheEntry last = new CacheEntry(null, UNKNOWN);
+
+	/**
+	 * Initialize the object for resolving the names from <code>refDict</code> and their aliases.
+	 *
+	 * @param refDict
+	 *            the {@link ReferenceDictionary} to resolve to
+	 */
+	public ContigResolver(ReferenceDictionary refDict) {
+		this(refDict, null);
+	}
+
+	/**
+	 * Initialize the object and precompute the IDs for the contig names from a file header.
+	 *
+	 * @param refDict
+	 *            the {@link ReferenceDictionary} to resolve to
+	 * @param headerContigs
+	 *            contig names from the header of the file to process, e.g. from the VCF "##contig" lines, may be
+	 *            <code>null</code>
+	 */
+	public ContigResolver(ReferenceDictionary refDict, Iterable<String> headerContigs) {
+		this.refDict = refDict;
+
+		HashMap<String, Integer> map = new HashMap<String, Integer>(refDict.contigID);
+		for (String name : refDict.contigName.values())
+			putAliases(map, name);
+		if (headerContigs != null)
+			for (String name : headerContigs)
+				putAliases(map, name);
+		this.contigIDs = ImmutableMap.copyOf(map);
+	}
+
+	/**
+	 * @param name
+	 *            contig name, e.g. from a VCF record
+	 * @return numeric contig ID of <code>name</code> or {@link #UNKNOWN} if <code>name</code> cannot be resolved
+	 */
+	public int resolve(String name) {
+		final CacheEntry entry = last;
+		if (entry.name == name || (entry.name != null && entry.name.equals(name)))
+			return entry.id;
+
+		Integer id = contigIDs.get(name);
+		if (id == null)
+			id = lookupAlias(name);
+		final int result = (id == null) ? UNKNOWN : id.intValue();
+		last = new CacheEntry(name, result);
+		return result;
+	}
+
+	/**
+	 * Add <code>name</code> to <code>map</code> if it is not contained yet but one of its aliases is.
+	 */
+	private void putAliases(HashMap<String, Integer> map, String name) {
+		if (map.containsKey(name))
+			return;
+		Integer id = lookupAlias(name);
+		if (id != null)
+			map.put(name, id);
+	}
+
+	/**
+	 * @return numeric ID of an alias of <code>name</code> in {@link #refDict}, <code>null</code> if there is none
+	 */
+	private Integer lookupAlias(String name) {
+		if (name == null)
+			return null;
+		Integer result = null;
+		if (name.startsWith("chr"))
+			result = refDict.contigID.get(name.substring(3));
+		else
+			result = refDict.contigID.get("chr" + name);
+		if (result != null)
+			return result;
+
+		if (name.equals("M") || name.equals("chrM") || name.startsWith(REFSEQ_MITOCHONDRION))
+			return lookupFirst("MT", "chrM", "M");
+		if (name.equals("MT"))
+			return lookupFirst("chrM", "M");
+
+		Matcher matcher = REFSEQ_CHROMOSOME.matcher(name);
+		if (matcher.matches()) {
+			final int number = Integer.parseInt(matcher.group(1));
+			if (number >= 1 && number <= 22)
+				return lookupFirst(Integer.toString(number), "chr" + number);
+			else if (number == 23)
+				return lookupFirst("X", "chrX");
+			else if (number == 24)
+				return lookupFirst("Y", "chrY");
+		}
+		return null;
+	}
+
+	/** @return ID of the first of <code>names</code> that is in {@link #refDict}, <code>null</code> if none is */
+	private Integer lookupFirst(String... names) {
+		for (String name : names)
+			if (refDict.contigID.containsKey(name))
+				return refDict.contigID.get(name);
+		return null;
+	}
+
+	/** Immutable pair of contig name and ID, for caching the last lookup. */
+	private static final class CacheEntry {
+		final String name;
+		final int id;
+
+		CacheEntry(String name, int id) {
+			this.name = name;
+			this.id = id;
+		}
+	}
+
+}
@@ -1,8 +1,10 @@
-package de.charite.compbio.jannovar.filter;
+package de.charite.compbio.jannovar.io;
+
+import java.io.Serializable;
 
 import com.google.common.collect.ImmutableList;
 
-import de.charite.compbio.jannovar.io.ReferenceDictionary;
+import de.charite.compbio.jannovar.Immutable;
 import de.charite.compbio.jannovar.reference.GenomeInterval;
 import de.charite.compbio.jannovar.reference.TranscriptModel;
 
@@ -10,13 +12,37 @@ import de.charite.compbio.jannovar.reference.TranscriptModel;
  * Simple representation of a gene.
  *
  * Genes are identified by their name, {@link #equals} and {@link #hashCode} only consider the field {@link #name}!
+ *
+ * The genes of a {@link Chromosome} are built together with its transcript index and stored with it in the serialized
+ * {@link JannovarData}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
  */
-class Gene {
+@Immutable
+public final class Gene implements Serializable {
+
+	/** serial version ID */
+	private static final long serialVersionUID = 1L;
+
+	/** the gene symbol */
 	public final String name;
+	/** the transcripts of the gene */
 	public final ImmutableList<TranscriptModel> transcripts;
+	/** reference dictionary to use */
 	public final ReferenceDictionary refDict;
+	/** smallest begin and largest end position of all transcripts, on the forward strand */
 	public final GenomeInterval region;
 
+	/**
+	 * Initialize object.
+	 *
+	 * @param refDict
+	 *            the {@link ReferenceDictionary} to use
+	 * @param name
+	 *            the gene symbol
+	 * @param transcripts
+	 *            the transcripts of the gene
+	 */
 	public Gene(ReferenceDictionary refDict, String name, ImmutableList<TranscriptModel> transcripts) {
 		this.refDict = refDict;
 		this.name = name;
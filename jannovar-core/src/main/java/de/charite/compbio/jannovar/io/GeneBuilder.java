@@ -1,4 +1,4 @@
-package de.charite.compbio.jannovar.filter;
+package de.charite.compbio.jannovar.io;
 
 import java.util.ArrayList;
 
@@ -7,18 +7,18 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
 
-import de.charite.compbio.jannovar.JannovarFilterCommandLineParser;
-import de.charite.compbio.jannovar.io.ReferenceDictionary;
 import de.charite.compbio.jannovar.reference.GenomeInterval;
 import de.charite.compbio.jannovar.reference.TranscriptModel;
 
 /**
  * Builder for {@link Gene}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
  */
 class GeneBuilder {
 
 	/** the logger object to use */
-	private static final Logger LOGGER = LoggerFactory.getLogger(JannovarFilterCommandLineParser.class);
+	private static final Logger LOGGER = LoggerFactory.getLogger(GeneBuilder.class);
 
 	private final ReferenceDictionary refDict;
 	private String name = null;
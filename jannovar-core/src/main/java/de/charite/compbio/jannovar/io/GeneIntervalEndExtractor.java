@@ -1,9 +1,11 @@
-package de.charite.compbio.jannovar.filter;
+package de.charite.compbio.jannovar.io;
 
 import de.charite.compbio.jannovar.impl.intervals.IntervalEndExtractor;
 
 /**
  * Extraction of interval ends of {@link Gene} objects.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
  */
 class GeneIntervalEndExtractor implements IntervalEndExtractor<Gene> {
 	@Override
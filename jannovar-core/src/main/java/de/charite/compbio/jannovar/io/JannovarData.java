@@ -48,6 +48,19 @@ public final class JannovarData implements Serializable {
 		this.chromosomes = makeChromsomes(refDict, transcriptInfos);
 	}
 
+	/**
+	 * Initialize the object with already built {@link Chromosome}s.
+	 *
+	 * @param refDict
+	 *            the {@link ReferenceDictionary} to use in this object
+	 * @param chromosomes
+	 *            map from chromosome ID to {@link Chromosome}, using <code>refDict</code>
+	 */
+	public JannovarData(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomes) {
+		this.refDict = refDict;
+		this.chromosomes = chromosomes;
+	}
+
 	/**
 	 * This function constructs a HashMap<Byte,Chromosome> map of Chromosome objects in which the {@link TranscriptInfo}
 	 * objects are entered into an {@link IntervalArray} for the appropriate Chromosome.
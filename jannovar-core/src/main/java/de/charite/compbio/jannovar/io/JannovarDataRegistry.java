@@ -0,0 +1,256 @@
+package de.charite.compbio.jannovar.io;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import de.charite.compbio.jannovar.Immutable;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Registry of several {@link JannovarData} objects in one process, e.g. for hg19 and hg38 with RefSeq, Ensembl, and
+ * UCSC transcripts each.
+ *
+ * Databases are registered with their assembly and source name and the path to their serialized file. They are only
+ * deserialized on the first call to {@link #get} for their assembly and source. All databases are loaded with the same
+ * {@link Interner}, so equal strings (gene symbols, contig names etc.) are shared between them.
+ *
+ * The loaded databases share one memory budget. As the heap usage of a {@link JannovarData} object cannot be measured
+ * directly, the budget is given in bytes of the serialized files, which grows linearly with the heap usage. When
+ * loading a database exceeds the budget, the least recently used other databases are unloaded. Unloading only drops
+ * the reference held by the registry, callers that still use the {@link JannovarData} are not affected. Databases can
+ * be registered, unloaded, and unregistered at any time.
+ *
+ * All methods are thread-safe. Loading one database does not block the access to the others.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class JannovarDataRegistry {
+
+	/** the logger object to use */
+	private static final Logger LOGGER = LoggerFactory.getLogger(JannovarDataRegistry.class);
+
+	/** budget for the sizes of the loaded files, in bytes, {@link Long#MAX_VALUE} for no limit */
+	public final long memoryBudget;
+
+	/** interner for the strings of all loaded databases */
+	private final Interner<String> interner = Interners.newWeakInterner();
+
+	/** registered databases, in the order of their last use */
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+
+	/**
+	 * Initialize registry without limit for the loaded databases.
+	 */
+	public JannovarDataRegistry() {
+		this(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Initialize registry with the given memory budget.
+	 *
+	 * @param memoryBudget
+	 *            budget for the sizes of the serialized files of the loaded databases, in bytes
+	 */
+	public JannovarDataRegistry(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Register the database for <code>assembly</code> and <code>source</code>, replacing and unloading any database
+	 * registered before for them.
+	 *
+	 * @param assembly
+	 *            name of the genome assembly, e.g. "hg19"
+	 * @param source
+	 *            name of the transcript source, e.g. "refseq"
+	 * @param path
+	 *            path to the file with the serialized {@link JannovarData}
+	 */
+	public synchronized void register(String assembly, String source, String path) {
+		LOGGER.info("Registering {}/{} from {}", new Object[] { assembly, source, path });
+		entries.put(new Key(assembly, source), new Entry(path));
+	}
+
+	/**
+	 * Remove the database for <code>assembly</code> and <code>source</code> from the registry.
+	 *
+	 * @return <code>true</code> if the database was registered
+	 */
+	public synchronized boolean unregister(String assembly, String source) {
+		return (entries.remove(new Key(assembly, source)) != null);
+	}
+
+	/**
+	 * Unload the database for <code>assembly</code> and <code>source</code>, it remains registered and is loaded again
+	 * on the next call to {@link #get}.
+	 *
+	 * @return <code>true</code> if the database was loaded
+	 */
+	public synchronized boolean unload(String assembly, String source) {
+		final Entry entry = entries.get(new Key(assembly, source));
+		if (entry == null || entry.data == null)
+			return false;
+		entry.data = null;
+		return true;
+	}
+
+	/**
+	 * Return the database for <code>assembly</code> and <code>source</code>, loading it if necessary.
+	 *
+	 * @param assembly
+	 *            name of the genome assembly
+	 * @param source
+	 *            name of the transcript source
+	 * @return the {@link JannovarData} for <code>assembly</code> and <code>source</code>
+	 * @throws SerializationException
+	 *             if no such database is registered or on problems with the deserialization
+	 */
+	public JannovarData get(String assembly, String source) throws SerializationException {
+		final Key key = new Key(assembly, source);
+		final Entry entry;
+		synchronized (this) {
+			entry = entries.get(key); // also marks entry as most recently used
+			if (entry == null)
+				throw new SerializationException("No database registered for " + key);
+			final JannovarData data = entry.data;
+			if (data != null)
+				return data;
+		}
+
+		// load outside of the registry lock, so the other databases remain accessible
+		synchronized (entry) {
+			JannovarData data = entry.data;
+			if (data != null)
+				return data;
+			data = new JannovarDataSerializer(entry.path, interner).load();
+			synchronized (this) {
+				if (entries.get(key) == entry) { // skip if unregistered or replaced in the meantime
+					entry.data = data;
+					enforceBudget(entry);
+				}
+			}
+			return data;
+		}
+	}
+
+	/** @return the registered assemblies and sources */
+	public synchronized ImmutableSet<Key> getKeys() {
+		return ImmutableSet.copyOf(entries.keySet());
+	}
+
+	/** @return whether the database for <code>assembly</code> and <code>source</code> is loaded */
+	public synchronized boolean isLoaded(String assembly, String source) {
+		final Entry entry = entries.get(new Key(assembly, source));
+		return (entry != null && entry.data != null);
+	}
+
+	/** @return sum of the file sizes of the loaded databases, in bytes */
+	public synchronized long getLoadedSize() {
+		long result = 0;
+		for (Entry entry : entries.values())
+			if (entry.data != null)
+				result += entry.size;
+		return result;
+	}
+
+	/**
+	 * Unload the least recently used databases other than <code>keep</code> until the loaded ones fit into
+	 * {@link #memoryBudget}.
+	 */
+	private void enforceBudget(Entry keep) {
+		long loadedSize = getLoadedSize();
+		for (Map.Entry<Key, Entry> mapEntry : entries.entrySet()) {
+			if (loadedSize <= memoryBudget)
+				break;
+			final Entry entry = mapEntry.getValue();
+			if (entry == keep || entry.data == null)
+				continue;
+			LOGGER.info("Unloading {} to stay within memory budget", new Object[] { mapEntry.getKey() });
+			entry.data = null;
+			loadedSize -= entry.size;
+		}
+	}
+
+	/**
+	 * Assembly and source name of a registered database.
+	 */
+	@Immutable
+	public static final class Key {
+
+		/** name of the genome assembly */
+		public final String assembly;
+		/** name of the transcript source */
+		public final String source;
+
+		public Key(String assembly, String source) {
+			this.assembly = assembly;
+			this.source = source;
+		}
+
+		@Override
+		public String toString() {
+			return assembly + "/" + source;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + ((assembly == null) ? 0 : assembly.hashCode());
+			result = prime * result + ((source == null) ? 0 : source.hashCode());
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null)
+				return false;
+			if (getClass() != obj.getClass())
+				return false;
+			Key other = (Key) obj;
+			if (assembly == null) {
+				if (other.assembly != null)
+					return false;
+			} else if (!assembly.equals(other.assembly))
+				return false;
+			if (source == null) {
+				if (other.source != null)
+					return false;
+			} else if (!source.equals(other.source))
+				return false;
+			return true;
+		}
+
+	}
+
+	/**
+	 * Registered database.
+	 */
+	private static final class Entry {
+
+		/** path to the serialized file */
+		final String path;
+		/** size of the serialized file */
+		final long size;
+		/** the loaded data, <code>null</code> if not loaded */
+		volatile JannovarData data = null;
+
+		Entry(String path) {
+			this.path = path;
+			this.size = new File(path).length();
+		}
+
+	}
+
+}
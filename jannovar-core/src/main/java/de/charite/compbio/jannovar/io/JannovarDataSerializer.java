@@ -1,16 +1,38 @@
 package de.charite.compbio.jannovar.io;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+
 import de.charite.compbio.jannovar.impl.util.StringUtil;
 
 // NOTE(holtgrem): Part of the public interface of the Jannovar library.
@@ -18,17 +40,42 @@ import de.charite.compbio.jannovar.impl.util.StringUtil;
 /**
  * Manager for serializing and deserializing {@link JannovarData} objects.
  *
+ * The data is written in a sectioned format, such that the chromosomes can be compressed and decompressed in parallel:
+ *
+ * <pre>
+ * "JVDB" (magic), format version (int), number of chromosome sections (int)
+ * header section: the serialized {@link ReferenceDictionary}
+ * one chromosome section for each {@link Chromosome}, each preceded by the chromosome ID (int)
+ * </pre>
+ *
+ * Each section consists of the compressed length (int), the CRC32 of the compressed bytes (int), and the deflated
+ * Java serialization of the object. The chromosome sections refer to the {@link ReferenceDictionary} of the header
+ * section instead of containing a copy of it. Files written in the previous format, one gzip-compressed stream, are
+ * still read by {@link #load}.
+ *
  * @author Peter N Robinson <peter.robinson@charite.de>
  * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
  */
 public final class JannovarDataSerializer {
 
+	/** magic bytes at the beginning of the sectioned format */
+	private static final byte[] MAGIC = { 'J', 'V', 'D', 'B' };
+
+	/** version of the sectioned format */
+	private static final int FORMAT_VERSION = 1;
+
 	/** the logger object to use */
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
 	/** path to file to serialize to or deserialize from */
 	public final String filename;
 
+	/** {@link Interner} for the deserialized strings, <code>null</code> for no interning */
+	private final Interner<String> interner;
+
+	/** number of threads for compressing and decompressing the chromosome sections */
+	private final int numThreads;
+
 	/**
 	 * Initialize the (de)serializer with the path to the file to load/save.
 	 *
@@ -36,12 +83,64 @@ public final class JannovarDataSerializer {
 	 *            path to the file to deserialize from or serialize to
 	 */
 	public JannovarDataSerializer(String filename) {
+		this(filename, null);
+	}
+
+	/**
+	 * Initialize the (de)serializer with the path to the file to load/save, interning the deserialized strings.
+	 *
+	 * Using the same {@link Interner} for loading several {@link JannovarData} objects makes them share equal strings,
+	 * e.g. gene symbols, accessions, and contig names.
+	 *
+	 * @param filename
+	 *            path to the file to deserialize from or serialize to
+	 * @param interner
+	 *            {@link Interner} for the deserialized strings, <code>null</code> for no interning
+	 */
+	public JannovarDataSerializer(String filename, Interner<String> interner) {
+		this(filename, interner, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Initialize the (de)serializer with the path to the file to load/save and the number of threads to use.
+	 *
+	 * @param filename
+	 *            path to the file to deserialize from or serialize to
+	 * @param interner
+	 *            {@link Interner} for the deserialized strings, <code>null</code> for no interning, must be thread-safe
+	 * @param numThreads
+	 *            number of threads for compressing and decompressing the chromosomes
+	 */
+	public JannovarDataSerializer(String filename, Interner<String> interner, int numThreads) {
 		this.filename = filename;
+		this.interner = interner;
+		this.numThreads = Math.max(1, numThreads);
+	}
+
+	/**
+	 * Callback for reporting the progress of {@link JannovarDataSerializer#load(ProgressListener)}.
+	 */
+	public interface ProgressListener {
+
+		/**
+		 * Called on the loading thread after each chromosome, in the order of the file.
+		 *
+		 * @param contigName
+		 *            name of the loaded chromosome
+		 * @param numLoaded
+		 *            number of chromosomes loaded so far, including this one
+		 * @param numTotal
+		 *            total number of chromosomes
+		 */
+		void chromosomeLoaded(String contigName, int numLoaded, int numTotal);
+
 	}
 
 	/**
 	 * Serialize a {@link JannovarData} object to a file.
 	 *
+	 * The chromosome sections are compressed in parallel.
+	 *
 	 * @param data
 	 *            the {@link JannovarData} object to serialize
 	 * @throws SerializationException
@@ -56,22 +155,44 @@ public final class JannovarDataSerializer {
 
 		// This is waiting for Java 7 to be improved. Also see: http://stackoverflow.com/questions/4092914
 		String error = null;
-		FileOutputStream fos = null;
-		GZIPOutputStream gzos = null;
-		ObjectOutputStream oos = null;
+		ExecutorService executor = newExecutor(data.chromosomes.size(), "jannovar-data-save");
+		DataOutputStream out = null;
 		try {
-			fos = new FileOutputStream(filename);
-			gzos = new GZIPOutputStream(fos);
-			oos = new ObjectOutputStream(gzos);
-			oos.writeObject(data);
-		} catch (IOException i) {
-			error = String.format("Could not serialize data file list: %s", i.toString());
+			// compress the chromosomes in the background while writing
+			ArrayList<Future<byte[]>> sections = new ArrayList<Future<byte[]>>();
+			for (final Chromosome chr : data.chromosomes.values())
+				sections.add(executor.submit(new Callable<byte[]>() {
+					@Override
+					public byte[] call() throws IOException {
+						return encodeSection(chr, true);
+					}
+				}));
+
+			out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)));
+			out.write(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(data.chromosomes.size());
+			writeSection(out, encodeSection(data.refDict, false));
+			int i = 0;
+			for (Chromosome chr : data.chromosomes.values()) {
+				out.writeInt(chr.chrID);
+				writeSection(out, sections.get(i++).get());
+			}
+		} catch (IOException e) {
+			error = String.format("Could not serialize data file list: %s", e.toString());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			error = "Interrupted while serializing data";
+		} catch (ExecutionException e) {
+			error = String.format("Could not serialize data file list: %s", e.getCause().toString());
 		} finally {
+			executor.shutdownNow();
 			try {
-				oos.close();
-				fos.close();
+				if (out != null)
+					out.close();
 			} catch (IOException e) {
-				// swallow, nothing we can do
+				if (error == null)
+					error = String.format("Could not serialize data file list: %s", e.toString());
 			}
 			if (error != null)
 				throw new SerializationException(error);
@@ -89,6 +210,21 @@ public final class JannovarDataSerializer {
 	 *             on problems with the deserialization
 	 */
 	public JannovarData load() throws SerializationException {
+		return load((ProgressListener) null);
+	}
+
+	/**
+	 * Deserialize a {@link JannovarData} object from a file, reporting the progress to <code>listener</code>.
+	 *
+	 * The chromosome sections are decompressed and deserialized in parallel, while the remainder of the file is read.
+	 *
+	 * @param listener
+	 *            the {@link ProgressListener} to call after each chromosome, <code>null</code> for no reporting
+	 * @return {@link JannovarData} object yielded by deserialization
+	 * @throws SerializationException
+	 *             on problems with the deserialization or if the checksum of a section does not match
+	 */
+	public JannovarData load(ProgressListener listener) throws SerializationException {
 		logger.info(StringUtil.concatenate("Deserializing JannovarData from ", filename));
 		final long startTime = System.nanoTime();
 
@@ -96,18 +232,23 @@ public final class JannovarDataSerializer {
 
 		// This is also waiting for Java 7 to be cleaned up, see above.
 		String error = null;
-		FileInputStream fileIn = null;
-		GZIPInputStream gzIn = null;
-		ObjectInputStream in = null;
+		InputStream in = null;
 		try {
-			fileIn = new FileInputStream(filename);
-			gzIn = new GZIPInputStream(fileIn);
-			in = new ObjectInputStream(gzIn);
-			result = (JannovarData) in.readObject();
+			in = new BufferedInputStream(new FileInputStream(filename));
+			byte[] magic = new byte[MAGIC.length];
+			in.mark(MAGIC.length);
+			final boolean isSectioned = (in.read(magic) == MAGIC.length && Arrays.equals(magic, MAGIC));
+			in.reset();
+			if (isSectioned)
+				result = loadSections(new DataInputStream(in), listener);
+			else
+				result = loadSingleStream(in, listener);
 		} catch (IOException i) {
 			error = String.format("Could not deserialize data list: %s", i.toString());
 		} catch (ClassNotFoundException c) {
 			error = String.format("Could not deserialized class definition: %s", c.toString());
+		} catch (SerializationException e) {
+			error = e.getMessage();
 		} finally {
 			try {
 				if (in != null)
@@ -115,12 +256,6 @@ public final class JannovarDataSerializer {
 			} catch (IOException e) {
 				// swallow, nothing we can do
 			}
-			try {
-				if (fileIn != null)
-					fileIn.close();
-			} catch (IOException e) {
-				// swallow, nothing we can do
-			}
 			if (error != null)
 				throw new SerializationException(error);
 		}
@@ -129,4 +264,262 @@ public final class JannovarDataSerializer {
 				(System.nanoTime() - startTime) / 1000.0 / 1000.0 / 1000.0));
 		return result;
 	}
+
+	/**
+	 * Deserialize a {@link JannovarData} object from a file and only keep the transcripts selected by
+	 * <code>subset</code>.
+	 *
+	 * @param subset
+	 *            the {@link TranscriptSubset} to apply
+	 * @return {@link JannovarData} object with the selected transcripts only
+	 * @throws SerializationException
+	 *             on problems with the deserialization
+	 */
+	public JannovarData load(TranscriptSubset subset) throws SerializationException {
+		return load(subset, null);
+	}
+
+	/**
+	 * Deserialize a {@link JannovarData} object from a file and only keep the transcripts selected by
+	 * <code>subset</code>, with an index of the preferred transcript of each gene of these.
+	 *
+	 * The full data set is deserialized first, the selected copy then replaces it in memory. The transcripts that are
+	 * not preferred are kept, see {@link PreferredTranscripts#apply}.
+	 *
+	 * @param subset
+	 *            the {@link TranscriptSubset} to apply, <code>null</code> for keeping all transcripts
+	 * @param preferred
+	 *            the {@link PreferredTranscripts} to build the index with, <code>null</code> for no index
+	 * @return {@link JannovarData} object with the selected transcripts only
+	 * @throws SerializationException
+	 *             on problems with the deserialization
+	 */
+	public JannovarData load(TranscriptSubset subset, PreferredTranscripts preferred) throws SerializationException {
+		JannovarData data = load();
+		if ((subset == null || subset.isEmpty()) && preferred == null)
+			return data;
+
+		final long startTime = System.nanoTime();
+		if (subset != null)
+			data = subset.apply(data);
+		if (preferred != null)
+			data = preferred.apply(data);
+		logger.info(String.format("Selecting transcripts took %.2f sec.",
+				(System.nanoTime() - startTime) / 1000.0 / 1000.0 / 1000.0));
+		return data;
+	}
+
+	/**
+	 * Load file in the sectioned format from <code>in</code>, positioned at the magic bytes.
+	 */
+	private JannovarData loadSections(DataInputStream in, ProgressListener listener) throws IOException,
+			ClassNotFoundException, SerializationException {
+		in.readFully(new byte[MAGIC.length]);
+		final int version = in.readInt();
+		if (version != FORMAT_VERSION)
+			throw new SerializationException(String.format("Unsupported format version %d in %s", version, filename));
+		final int numSections = in.readInt();
+		final ReferenceDictionary refDict = (ReferenceDictionary) decodeSection(readSection(in, "header"), null);
+
+		ExecutorService executor = newExecutor(numSections, "jannovar-data-load");
+		try {
+			// submit the chromosome sections for decoding as they are read
+			List<Future<Object>> chromosomes = new ArrayList<Future<Object>>();
+			List<String> names = new ArrayList<String>();
+			for (int i = 0; i < numSections; ++i) {
+				final String name = refDict.contigName.get(in.readInt());
+				final byte[] section = readSection(in, name);
+				names.add(name);
+				chromosomes.add(executor.submit(new Callable<Object>() {
+					@Override
+					public Object call() throws IOException, ClassNotFoundException {
+						return decodeSection(section, refDict);
+					}
+				}));
+			}
+
+			ImmutableMap.Builder<Integer, Chromosome> builder = new ImmutableMap.Builder<Integer, Chromosome>();
+			for (int i = 0; i < numSections; ++i) {
+				Chromosome chr = (Chromosome) chromosomes.get(i).get();
+				builder.put(chr.chrID, chr);
+				if (listener != null)
+					listener.chromosomeLoaded(names.get(i), i + 1, numSections);
+			}
+			return new JannovarData(refDict, builder.build());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SerializationException("Interrupted while deserializing " + filename);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ClassNotFoundException)
+				throw (ClassNotFoundException) e.getCause();
+			throw new IOException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Load file in the previous format, one gzip-compressed serialized {@link JannovarData}, from <code>in</code>.
+	 */
+	private JannovarData loadSingleStream(InputStream in, ProgressListener listener) throws IOException,
+			ClassNotFoundException {
+		ObjectInputStream objIn;
+		if (interner == null)
+			objIn = new ObjectInputStream(new GZIPInputStream(in));
+		else
+			objIn = new ResolvingObjectInputStream(new GZIPInputStream(in), null, interner);
+		JannovarData result = (JannovarData) objIn.readObject();
+		if (listener != null) {
+			int numLoaded = 0;
+			for (Chromosome chr : result.chromosomes.values())
+				listener.chromosomeLoaded(chr.getChromosomeName(), ++numLoaded, result.chromosomes.size());
+		}
+		return result;
+	}
+
+	/**
+	 * @return new {@link ExecutorService} with up to {@link #numThreads} daemon threads for <code>numTasks</code>
+	 */
+	private ExecutorService newExecutor(int numTasks, final String threadName) {
+		return Executors.newFixedThreadPool(Math.max(1, Math.min(numThreads, numTasks)), new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, threadName);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * @param obj
+	 *            the object to serialize
+	 * @param shareRefDict
+	 *            whether to replace the {@link ReferenceDictionary} objects by a reference to the header section
+	 * @return deflated Java serialization of <code>obj</code>
+	 */
+	private static byte[] encodeSection(Object obj, boolean shareRefDict) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out;
+		if (shareRefDict)
+			out = new SectionObjectOutputStream(new DeflaterOutputStream(bytes));
+		else
+			out = new ObjectOutputStream(new DeflaterOutputStream(bytes));
+		out.writeObject(obj);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @param section
+	 *            deflated Java serialization as written by {@link #encodeSection}
+	 * @param refDict
+	 *            the {@link ReferenceDictionary} from the header section, <code>null</code> when decoding the header
+	 * @return deserialized object
+	 */
+	private Object decodeSection(byte[] section, ReferenceDictionary refDict) throws IOException,
+			ClassNotFoundException {
+		InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(section));
+		ObjectInputStream in;
+		if (refDict == null && interner == null)
+			in = new ObjectInputStream(inflater);
+		else
+			in = new ResolvingObjectInputStream(inflater, refDict, interner);
+		try {
+			return in.readObject();
+		} finally {
+			in.close();
+		}
+	}
+
+	/** Write <code>section</code> with its length and checksum to <code>out</code>. */
+	private static void writeSection(DataOutputStream out, byte[] section) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(section);
+		out.writeInt(section.length);
+		out.writeInt((int) crc.getValue());
+		out.write(section);
+	}
+
+	/**
+	 * Read section written by {@link #writeSection} from <code>in</code>.
+	 *
+	 * @throws SerializationException
+	 *             if the checksum does not match
+	 */
+	private byte[] readSection(DataInputStream in, String name) throws IOException, SerializationException {
+		final int length = in.readInt();
+		final int expectedCRC = in.readInt();
+		if (length < 0)
+			throw new SerializationException(String.format("Invalid length of section %s in %s", name, filename));
+		byte[] section = new byte[length];
+		in.readFully(section);
+		CRC32 crc = new CRC32();
+		crc.update(section);
+		if ((int) crc.getValue() != expectedCRC)
+			throw new SerializationException(String.format("Checksum mismatch in section %s of %s", name, filename));
+		return section;
+	}
+
+	/**
+	 * Placeholder for the {@link ReferenceDictionary} of the header section in the chromosome sections.
+	 */
+	private enum SharedReferenceDictionary {
+		INSTANCE
+	}
+
+	/**
+	 * {@link ObjectOutputStream} that writes {@link SharedReferenceDictionary} instead of each
+	 * {@link ReferenceDictionary}.
+	 */
+	private static final class SectionObjectOutputStream extends ObjectOutputStream {
+
+		SectionObjectOutputStream(OutputStream out) throws IOException {
+			super(out);
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			if (obj instanceof ReferenceDictionary)
+				return SharedReferenceDictionary.INSTANCE;
+			return obj;
+		}
+
+	}
+
+	/**
+	 * {@link ObjectInputStream} that replaces {@link SharedReferenceDictionary} by the {@link ReferenceDictionary} from
+	 * the header section and, optionally, the deserialized strings by their representatives from an {@link Interner}.
+	 */
+	private static final class ResolvingObjectInputStream extends ObjectInputStream {
+
+		/** the {@link ReferenceDictionary} to use, <code>null</code> if not resolved */
+		private final ReferenceDictionary refDict;
+
+		/** the {@link Interner} to use, <code>null</code> for no interning */
+		private final Interner<String> interner;
+
+		ResolvingObjectInputStream(InputStream in, ReferenceDictionary refDict, Interner<String> interner)
+				throws IOException {
+			super(in);
+			this.refDict = refDict;
+			this.interner = interner;
+			enableResolveObject(true);
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) throws IOException {
+			if (obj == SharedReferenceDictionary.INSTANCE) {
+				if (refDict == null)
+					throw new IOException("Unexpected reference to the reference dictionary");
+				return refDict;
+			}
+			if (interner != null && obj instanceof String)
+				return interner.intern((String) obj);
+			return obj;
+		}
+
+	}
+
 }
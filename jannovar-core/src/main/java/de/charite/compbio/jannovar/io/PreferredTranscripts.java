@@ -0,0 +1,108 @@
+package de.charite.compbio.jannovar.io;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import de.charite.compbio.jannovar.Immutable;
+import de.charite.compbio.jannovar.impl.intervals.Interval;
+import de.charite.compbio.jannovar.impl.intervals.IntervalArray;
+import de.charite.compbio.jannovar.reference.TranscriptIntervalEndExtractor;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptSupportLevels;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Selection of one preferred {@link TranscriptModel} for each gene.
+ *
+ * If one of the transcripts of a gene is in {@link #accessions} (with or without version suffix) then this transcript
+ * is selected. Otherwise, the transcript with the best {@link TranscriptModel#transcriptSupportLevel} is selected, i.e.
+ * the one with the lowest level such that TSL 1-5 come before the UCSC canonical transcript, the longest transcript,
+ * and the others (see {@link TranscriptSupportLevels}). {@link TranscriptSupportLevels#NOT_AVAILABLE} ranks last and
+ * ties are broken by the transcript length.
+ *
+ * The selection is stored as a secondary index next to the full transcript set, see {@link #apply}.
+ * {@link de.charite.compbio.jannovar.annotation.VariantAnnotator} uses this index by default, so only one annotation
+ * per gene is built instead of one per isoform, while the full set remains available on request.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+@Immutable
+public final class PreferredTranscripts {
+
+	/** accessions of user-preferred transcripts, with or without version, may be empty */
+	public final ImmutableSet<String> accessions;
+
+	/**
+	 * Initialize the object with the given values.
+	 */
+	public PreferredTranscripts(ImmutableSet<String> accessions) {
+		this.accessions = accessions;
+	}
+
+	@Override
+	public String toString() {
+		return "PreferredTranscripts [accessions=" + accessions + "]";
+	}
+
+	/**
+	 * Build {@link JannovarData} object with an index of the preferred transcript of each gene from <code>data</code>.
+	 *
+	 * The transcripts are grouped into genes by their gene symbol and chromosome. Transcripts without gene symbol are
+	 * always kept. The result keeps all transcripts of <code>data</code> in {@link Chromosome#tmIntervalTree}, the
+	 * selected ones are put into {@link Chromosome#preferredTmIntervalTree}.
+	 *
+	 * @param data
+	 *            the {@link JannovarData} to select the transcripts from
+	 * @return {@link JannovarData} with the same {@link ReferenceDictionary} and transcripts as <code>data</code> and
+	 *         the preferred transcript index
+	 */
+	public JannovarData apply(JannovarData data) {
+		ImmutableMap.Builder<Integer, Chromosome> builder = new ImmutableMap.Builder<Integer, Chromosome>();
+		for (Chromosome chrom : data.chromosomes.values()) {
+			LinkedHashMap<String, TranscriptModel> best = new LinkedHashMap<String, TranscriptModel>();
+			ArrayList<TranscriptModel> selected = new ArrayList<TranscriptModel>();
+			for (Interval<TranscriptModel> itv : chrom.tmIntervalTree.intervals) {
+				final TranscriptModel tm = itv.value;
+				if (tm.geneSymbol == null)
+					selected.add(tm);
+				else if (!best.containsKey(tm.geneSymbol) || isBetter(tm, best.get(tm.geneSymbol)))
+					best.put(tm.geneSymbol, tm);
+			}
+			selected.addAll(best.values());
+			IntervalArray<TranscriptModel> preferredTree = new IntervalArray<TranscriptModel>(selected,
+					new TranscriptIntervalEndExtractor());
+			builder.put(chrom.chrID, new Chromosome(chrom.refDict, chrom.chrID, chrom.tmIntervalTree,
+					chrom.geneIntervalTree, preferredTree));
+		}
+		return new JannovarData(data.refDict, builder.build());
+	}
+
+	/**
+	 * @return whether <code>tm</code> is preferred over <code>other</code>
+	 */
+	private boolean isBetter(TranscriptModel tm, TranscriptModel other) {
+		final boolean isListed = TranscriptSubset.containsAccession(accessions, tm);
+		if (isListed != TranscriptSubset.containsAccession(accessions, other))
+			return isListed;
+		final int level = getRank(tm);
+		final int otherLevel = getRank(other);
+		if (level != otherLevel)
+			return (level < otherLevel);
+		return (tm.txRegion.length() > other.txRegion.length());
+	}
+
+	/**
+	 * @return transcript support level of <code>tm</code>, with {@link TranscriptSupportLevels#NOT_AVAILABLE} mapped to
+	 *         the largest value
+	 */
+	private static int getRank(TranscriptModel tm) {
+		if (tm.transcriptSupportLevel == TranscriptSupportLevels.NOT_AVAILABLE)
+			return Integer.MAX_VALUE;
+		return tm.transcriptSupportLevel;
+	}
+
+}
@@ -0,0 +1,253 @@
+package de.charite.compbio.jannovar.io;
+
+import java.io.Closeable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.charite.compbio.jannovar.annotation.VariantAnnotator;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Handle to a {@link JannovarData} object that can be replaced by a newer version while it is in use.
+ *
+ * Annotation code calls {@link #acquire} to obtain the current {@link Snapshot} and closes it when done, e.g. at the end
+ * of a request:
+ *
+ * <pre>
+ * Snapshot snapshot = handle.acquire();
+ * try {
+ * 	snapshot.getAnnotator().buildAnnotationList(change);
+ * } finally {
+ * 	snapshot.close();
+ * }
+ * </pre>
+ *
+ * A {@link VariantAnnotator} is not thread-safe, so each call to {@link Snapshot#getAnnotator} builds a new one for the
+ * calling thread. Building it is cheap compared to annotating the variants of a request.
+ *
+ * {@link #reloadAsync} deserializes a new file in a background thread while the old snapshot remains in use. The new
+ * snapshot is then swapped in atomically, all following calls to {@link #acquire} return it. The old snapshot is
+ * released when the last user closes it, which drops its {@link JannovarData} for garbage collection.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class ReloadableJannovarData implements Closeable {
+
+	/** the logger object to use */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReloadableJannovarData.class);
+
+	/** the current snapshot, <code>null</code> after {@link #close} */
+	private final AtomicReference<Snapshot> current = new AtomicReference<Snapshot>();
+
+	/** version of the last loaded snapshot */
+	private final AtomicInteger lastVersion = new AtomicInteger();
+
+	/** executor for loading in the background, one daemon thread so reloads are done in order */
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "jannovar-data-reload");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	/**
+	 * Initialize the handle by loading <code>path</code>.
+	 *
+	 * @param path
+	 *            path to the file with the serialized {@link JannovarData}
+	 * @throws SerializationException
+	 *             on problems with the deserialization
+	 */
+	public ReloadableJannovarData(String path) throws SerializationException {
+		this(path, new JannovarDataSerializer(path).load());
+	}
+
+	/**
+	 * Initialize the handle with already loaded data.
+	 *
+	 * @param path
+	 *            path to the file that <code>data</code> was loaded from
+	 * @param data
+	 *            the initial {@link JannovarData}
+	 */
+	public ReloadableJannovarData(String path, JannovarData data) {
+		current.set(new Snapshot(lastVersion.incrementAndGet(), path, data));
+	}
+
+	/**
+	 * Obtain the current snapshot, the caller must {@link Snapshot#close} it after use.
+	 *
+	 * @return the current {@link Snapshot}
+	 * @throws IllegalStateException
+	 *             if the handle has been closed
+	 */
+	public Snapshot acquire() {
+		while (true) {
+			final Snapshot snapshot = current.get();
+			if (snapshot == null)
+				throw new IllegalStateException("handle has been closed");
+			if (snapshot.retain())
+				return snapshot;
+			// else: snapshot was swapped out and released concurrently, try again
+		}
+	}
+
+	/** @return version of the current snapshot, counting from <code>1</code> */
+	public int getVersion() {
+		final Snapshot snapshot = current.get();
+		return (snapshot == null) ? 0 : snapshot.version;
+	}
+
+	/**
+	 * Load <code>path</code> and swap it in as the current snapshot.
+	 *
+	 * @param path
+	 *            path to the file with the serialized {@link JannovarData}
+	 * @return the new {@link Snapshot}, not retained for the caller
+	 * @throws SerializationException
+	 *             on problems with the deserialization, the current snapshot remains in place then
+	 */
+	public Snapshot reload(String path) throws SerializationException {
+		final JannovarData data = new JannovarDataSerializer(path).load();
+		return swap(new Snapshot(lastVersion.incrementAndGet(), path, data));
+	}
+
+	/**
+	 * Load <code>path</code> in a background thread and swap it in as the current snapshot.
+	 *
+	 * @param path
+	 *            path to the file with the serialized {@link JannovarData}
+	 * @return {@link Future} with the new {@link Snapshot}, wraps a {@link SerializationException} on problems
+	 */
+	public Future<Snapshot> reloadAsync(final String path) {
+		return executor.submit(new Callable<Snapshot>() {
+			@Override
+			public Snapshot call() throws SerializationException {
+				try {
+					return reload(path);
+				} catch (SerializationException e) {
+					LOGGER.error("Reloading {} failed, keeping the current version: {}",
+							new Object[] { path, e.getMessage() });
+					throw e;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Release the current snapshot and stop the background thread.
+	 *
+	 * Snapshots that are still in use remain valid until they are closed.
+	 */
+	@Override
+	public void close() {
+		executor.shutdownNow();
+		final Snapshot snapshot = current.getAndSet(null);
+		if (snapshot != null)
+			snapshot.release();
+	}
+
+	/** Make <code>snapshot</code> the current one and release the previous one. */
+	private Snapshot swap(Snapshot snapshot) {
+		final Snapshot old = current.getAndSet(snapshot);
+		if (old == null) { // closed in the meantime
+			current.set(null);
+			snapshot.release();
+			throw new IllegalStateException("handle has been closed");
+		}
+		LOGGER.info("Swapped in version {} from {}", new Object[] { snapshot.version, snapshot.path });
+		old.release();
+		return snapshot;
+	}
+
+	/**
+	 * Reference-counted version of the data, obtained through {@link ReloadableJannovarData#acquire}.
+	 */
+	public static final class Snapshot implements Closeable {
+
+		/** version number, increasing with each reload */
+		public final int version;
+		/** path to the file that the data was loaded from */
+		public final String path;
+		/** the data, <code>null</code> after release */
+		private volatile JannovarData data;
+		/** number of users, including the {@link ReloadableJannovarData} while current */
+		private final AtomicInteger refCount = new AtomicInteger(1);
+
+		Snapshot(int version, String path, JannovarData data) {
+			this.version = version;
+			this.path = path;
+			this.data = data;
+		}
+
+		/** @return the {@link JannovarData}, <code>null</code> if the snapshot has been released */
+		public JannovarData getData() {
+			return data;
+		}
+
+		/**
+		 * @return new {@link VariantAnnotator} for {@link #getData}, to be used by the calling thread only;
+		 *         <code>null</code> if the snapshot has been released
+		 */
+		public VariantAnnotator getAnnotator() {
+			return getAnnotator(false);
+		}
+
+		/**
+		 * @param allTranscripts
+		 *            whether to annotate against all transcripts, even if there is a preferred transcript index
+		 * @return new {@link VariantAnnotator} for {@link #getData}, to be used by the calling thread only;
+		 *         <code>null</code> if the snapshot has been released
+		 */
+		public VariantAnnotator getAnnotator(boolean allTranscripts) {
+			final JannovarData data = this.data;
+			if (data == null)
+				return null;
+			return new VariantAnnotator(data.refDict, data.chromosomes, null, allTranscripts);
+		}
+
+		/** @return whether the snapshot has been released by all users */
+		public boolean isReleased() {
+			return (refCount.get() == 0);
+		}
+
+		/** Release the caller's reference. */
+		@Override
+		public void close() {
+			release();
+		}
+
+		/** @return <code>true</code> if a reference was added, <code>false</code> if already released */
+		boolean retain() {
+			while (true) {
+				final int count = refCount.get();
+				if (count == 0)
+					return false;
+				if (refCount.compareAndSet(count, count + 1))
+					return true;
+			}
+		}
+
+		/** Remove one reference, drop the data when it was the last one. */
+		void release() {
+			final int count = refCount.decrementAndGet();
+			if (count == 0)
+				data = null;
+			else if (count < 0)
+				throw new IllegalStateException("snapshot released too often");
+		}
+
+	}
+
+}
@@ -0,0 +1,214 @@
+package de.charite.compbio.jannovar.io;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.HashMap;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import de.charite.compbio.jannovar.Immutable;
+import de.charite.compbio.jannovar.impl.intervals.Interval;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+
+// NOTE(holtgrem): Part of the public interface of the Jannovar library.
+
+/**
+ * Selection of {@link TranscriptModel}s by gene symbol, gene ID, transcript accession, or genomic region.
+ *
+ * A transcript is selected if it matches any of the criteria. Accessions are also matched with their version suffix
+ * (e.g., <code>".3"</code> in <code>"NM_000059.3"</code>) removed. Use {@link #apply} for building a pruned
+ * {@link JannovarData} object with the selected transcripts only, e.g. for gene panels.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+@Immutable
+public final class TranscriptSubset {
+
+	/**
+	 * Genomic region for the selection, as read from BED files.
+	 */
+	@Immutable
+	public static final class Region {
+		/** name of the contig */
+		public final String contig;
+		/** 0-based begin position */
+		public final int beginPos;
+		/** 0-based end position */
+		public final int endPos;
+
+		public Region(String contig, int beginPos, int endPos) {
+			this.contig = contig;
+			this.beginPos = beginPos;
+			this.endPos = endPos;
+		}
+
+		@Override
+		public String toString() {
+			return contig + ":" + (beginPos + 1) + "-" + endPos;
+		}
+	}
+
+	/** gene symbols of the transcripts to select */
+	public final ImmutableSet<String> geneSymbols;
+
+	/** gene IDs of the transcripts to select */
+	public final ImmutableSet<String> geneIDs;
+
+	/** accessions of the transcripts to select, with or without version */
+	public final ImmutableSet<String> accessions;
+
+	/** select transcripts overlapping with these regions */
+	public final ImmutableList<Region> regions;
+
+	/**
+	 * Initialize the object with the given values.
+	 */
+	public TranscriptSubset(ImmutableSet<String> geneSymbols, ImmutableSet<String> geneIDs,
+			ImmutableSet<String> accessions, ImmutableList<Region> regions) {
+		this.geneSymbols = geneSymbols;
+		this.geneIDs = geneIDs;
+		this.accessions = accessions;
+		this.regions = regions;
+	}
+
+	/** @return <code>true</code> if no criterion is given */
+	public boolean isEmpty() {
+		return geneSymbols.isEmpty() && geneIDs.isEmpty() && accessions.isEmpty() && regions.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "TranscriptSubset [geneSymbols=" + geneSymbols + ", geneIDs=" + geneIDs + ", accessions=" + accessions
+				+ ", regions=" + regions + "]";
+	}
+
+	/**
+	 * Build {@link JannovarData} object with the transcripts from <code>data</code> that are selected by this object.
+	 *
+	 * @param data
+	 *            the {@link JannovarData} to select the transcripts from
+	 * @return {@link JannovarData} with the same {@link ReferenceDictionary} as <code>data</code> and the selected
+	 *         transcripts only, <code>data</code> if {@link #isEmpty}
+	 */
+	public JannovarData apply(JannovarData data) {
+		if (isEmpty())
+			return data;
+
+		// group regions by contig ID, ignoring regions on unknown contigs
+		HashMap<Integer, ImmutableList.Builder<Region>> regionMap = new HashMap<Integer, ImmutableList.Builder<Region>>();
+		for (Region region : regions) {
+			Integer chrID = data.refDict.contigID.get(region.contig);
+			if (chrID == null)
+				continue;
+			if (!regionMap.containsKey(chrID))
+				regionMap.put(chrID, new ImmutableList.Builder<Region>());
+			regionMap.get(chrID).add(region);
+		}
+
+		ImmutableList.Builder<TranscriptModel> builder = new ImmutableList.Builder<TranscriptModel>();
+		for (Chromosome chrom : data.chromosomes.values()) {
+			ImmutableList<Region> chromRegions = regionMap.containsKey(chrom.chrID) ? regionMap.get(chrom.chrID)
+					.build() : ImmutableList.<Region> of();
+			for (Interval<TranscriptModel> itv : chrom.tmIntervalTree.intervals)
+				if (contains(itv.value, chromRegions))
+					builder.add(itv.value);
+		}
+		return new JannovarData(data.refDict, builder.build());
+	}
+
+	/**
+	 * @return whether <code>tm</code> is selected by gene, accession, or one of <code>chromRegions</code>
+	 */
+	private boolean contains(TranscriptModel tm, ImmutableList<Region> chromRegions) {
+		if (tm.geneSymbol != null && geneSymbols.contains(tm.geneSymbol))
+			return true;
+		if (tm.geneID != null && geneIDs.contains(tm.geneID))
+			return true;
+		if (containsAccession(accessions, tm))
+			return true;
+
+		final GenomeInterval txRegion = tm.txRegion.withStrand('+');
+		for (Region region : chromRegions)
+			if (region.beginPos < txRegion.endPos && txRegion.beginPos < region.endPos)
+				return true;
+		return false;
+	}
+
+	/**
+	 * @return whether <code>accessions</code> contains the accession of <code>tm</code>, with or without version
+	 */
+	static boolean containsAccession(ImmutableSet<String> accessions, TranscriptModel tm) {
+		if (accessions.contains(tm.accession))
+			return true;
+		final int dotPos = tm.accession.lastIndexOf('.');
+		return (dotPos != -1 && accessions.contains(tm.accession.substring(0, dotPos)));
+	}
+
+	/**
+	 * Read list of identifiers from a file, one per line, ignoring empty lines and lines starting with <code>'#'</code>.
+	 *
+	 * @param path
+	 *            path to the file to read
+	 * @return the identifiers from the file
+	 * @throws IOException
+	 *             on problems reading the file
+	 */
+	public static ImmutableSet<String> readIdentifierFile(String path) throws IOException {
+		ImmutableSet.Builder<String> builder = new ImmutableSet.Builder<String>();
+		BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(path), Charsets.UTF_8));
+		try {
+			String line;
+			while ((line = in.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#"))
+					builder.add(line);
+			}
+		} finally {
+			in.close();
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Read regions from a BED file, using the first three columns only.
+	 *
+	 * Empty lines and <code>track</code>, <code>browser</code>, and comment lines are ignored.
+	 *
+	 * @param path
+	 *            path to the BED file to read
+	 * @return the regions from the file
+	 * @throws IOException
+	 *             on problems reading the file or invalid lines
+	 */
+	public static ImmutableList<Region> readBEDFile(String path) throws IOException {
+		ImmutableList.Builder<Region> builder = new ImmutableList.Builder<Region>();
+		BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(path), Charsets.UTF_8));
+		try {
+			String line;
+			int lineNo = 0;
+			while ((line = in.readLine()) != null) {
+				lineNo += 1;
+				if (line.trim().isEmpty() || line.startsWith("#") || line.startsWith("track")
+						|| line.startsWith("browser"))
+					continue;
+				String[] fields = line.split("\t");
+				if (fields.length < 3)
+					throw new IOException("Invalid BED line " + lineNo + " in " + path + ": " + line);
+				try {
+					builder.add(new Region(fields[0], Integer.parseInt(fields[1]), Integer.parseInt(fields[2])));
+				} catch (NumberFormatException e) {
+					throw new IOException("Invalid BED line " + lineNo + " in " + path + ": " + line);
+				}
+			}
+		} finally {
+			in.close();
+		}
+		return builder.build();
+	}
+
+}
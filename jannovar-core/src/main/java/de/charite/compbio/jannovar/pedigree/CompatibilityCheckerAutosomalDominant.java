@@ -1,6 +1,6 @@
 package de.charite.compbio.jannovar.pedigree;
 
-import com.google.common.collect.ImmutableList;
+import java.util.BitSet;
 
 /**
  * Helper class for checking a {@link GenotypeList} for compatibility with a {@link Pedigree} and autosomal dominant
@@ -26,6 +26,9 @@ class CompatibilityCheckerAutosomalDominant {
 	/** the genotype call list to use for the checking */
 	public final GenotypeList list;
 
+	/** the calls from {@link #list} as bit sets */
+	private final GenotypeBitSets bits;
+
 	/**
 	 * Initialize compatibility checker and perform some sanity checks.
 	 *
@@ -51,6 +54,7 @@ class CompatibilityCheckerAutosomalDominant {
 
 		this.pedigree = pedigree;
 		this.list = list;
+		this.bits = new GenotypeBitSets(list);
 	}
 
 	/**
@@ -66,44 +70,27 @@ class CompatibilityCheckerAutosomalDominant {
 
 	private boolean runSingleSampleCase() {
 		// We could also allow Genotye.HOMOZYGOUS_ALT here but that is not the interesting case.
-		for (ImmutableList<Genotype> gtList : list.calls)
-			if (gtList.get(0) == Genotype.HETEROZYGOUS)
-				return true;
-		return false;
+		return !bits.get(0, Genotype.HETEROZYGOUS).isEmpty();
 	}
 
 	private boolean runMultiSampleCase() {
-		for (ImmutableList<Genotype> gtList : list.calls) {
-			boolean currentVariantCompatible = true; // current variant compatible with AD?
-			int numAffectedWithHet = 0;
-
-			for (int i = 0; i < pedigree.members.size(); ++i) {
-				final Genotype gt = gtList.get(i);
-				final Disease d = pedigree.members.get(i).disease;
-
-				if (d == Disease.AFFECTED) {
-					if (gt == Genotype.HOMOZYGOUS_REF || gt == Genotype.HOMOZYGOUS_ALT) {
-						currentVariantCompatible = false; // current variant not compatible with AD
-						break;
-					} else if (gt == Genotype.HETEROZYGOUS) {
-						numAffectedWithHet++;
-					}
-				} else if (d == Disease.UNAFFECTED) {
-					if (gt == Genotype.HETEROZYGOUS || gt == Genotype.HOMOZYGOUS_ALT) {
-						currentVariantCompatible = false; // current variant not compatible with AD
-						break;
-					}
-				}
+		// A variant is compatible with AD if no affected is HOMOZYGOUS_REF or HOMOZYGOUS_ALT, no unaffected is
+		// HETEROZYGOUS or HOMOZYGOUS_ALT, and at least one affected is HETEROZYGOUS.
+		BitSet compatible = bits.all();
+		BitSet affectedWithHet = new BitSet(bits.numVariants);
+		for (int i = 0; i < pedigree.members.size(); ++i) {
+			final Disease d = pedigree.members.get(i).disease;
+			if (d == Disease.AFFECTED) {
+				compatible.and(bits.get(i, Genotype.HETEROZYGOUS, Genotype.NOT_OBSERVED));
+				affectedWithHet.or(bits.get(i, Genotype.HETEROZYGOUS));
+			} else if (d == Disease.UNAFFECTED) {
+				compatible.and(bits.get(i, Genotype.HOMOZYGOUS_REF, Genotype.NOT_OBSERVED));
 			}
-
-			// If we reach here, we have either examined all members of the pedigree or have decided that the
-			// variant is incompatible in one person. If any one variant is compatible with AD inheritance, than the
-			// Gene is compatible and we can return true without examining the other variants.
-			if (currentVariantCompatible && numAffectedWithHet > 0)
-				return true;
 		}
+		compatible.and(affectedWithHet);
 
-		return false;
+		// If any one variant is compatible with AD inheritance, than the gene is compatible.
+		return !compatible.isEmpty();
 	}
 
 }
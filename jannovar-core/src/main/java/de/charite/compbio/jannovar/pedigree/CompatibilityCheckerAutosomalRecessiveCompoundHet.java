@@ -1,8 +1,6 @@
 package de.charite.compbio.jannovar.pedigree;
 
-import java.util.ArrayList;
-
-import com.google.common.collect.ImmutableList;
+import java.util.BitSet;
 
 // TODO(holtgrew): Review this with Nick and Max.
 
@@ -14,6 +12,10 @@ import com.google.common.collect.ImmutableList;
  *
  * In the case of a single individual, we require at least two heterozygous genotype calls.
  *
+ * In the case of multiple individuals, we require a pair of distinct variants for an affected individual with at least
+ * one parent, one inherited from the father and one from the mother. The candidate sets for both sides are computed
+ * with bitwise operations on {@link GenotypeBitSets}, so no pairs have to be enumerated.
+ *
  * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
  * @author Max Schubach <max.schubach@charite.de>
  * @author Peter N Robinson <peter.robinson@charite.de>
@@ -26,6 +28,9 @@ class CompatibilityCheckerAutosomalRecessiveCompoundHet {
 	/** the genotype call list to use for the checking */
 	public final GenotypeList list;
 
+	/** the calls from {@link #list} as bit sets */
+	private final GenotypeBitSets bits;
+
 	/**
 	 * Initialize compatibility checker and perform some sanity checks.
 	 *
@@ -51,6 +56,7 @@ class CompatibilityCheckerAutosomalRecessiveCompoundHet {
 
 		this.pedigree = pedigree;
 		this.list = list;
+		this.bits = new GenotypeBitSets(list);
 	}
 
 	/**
@@ -67,115 +73,58 @@ class CompatibilityCheckerAutosomalRecessiveCompoundHet {
 	}
 
 	private boolean runSingleSampleCase() {
-		int numHet = 0;
-		for (ImmutableList<Genotype> gtList : list.calls)
-			if (gtList.get(0) == Genotype.HETEROZYGOUS)
-				numHet++;
-		return (numHet > 1);
-	}
-
-	private class Candidate {
-		public final ImmutableList<Genotype> paternal;
-		public final ImmutableList<Genotype> maternal;
-
-		public Candidate(ImmutableList<Genotype> paternal, ImmutableList<Genotype> maternal) {
-			this.paternal = paternal;
-			this.maternal = maternal;
-		}
+		return (bits.get(0, Genotype.HETEROZYGOUS).cardinality() > 1);
 	}
 
 	private boolean runMultiSampleCase() {
-		// First, collect candidate genotype call lists from trios around affected individuals.
-		ArrayList<Candidate> candidates = collectTrioCandidates();
-
-		// Then, check the candidates for all trios around affected individuals.
-		for (Candidate c : candidates)
-			if (isCompatibleWithTriosAroundAffected(c))
-				return true;
-		return false;
-	}
-
-	private ArrayList<Candidate> collectTrioCandidates() {
-		ArrayList<Candidate> result = new ArrayList<Candidate>();
-
 		int childIdx = 0;
 		for (Person p : pedigree.members) {
-			if (p.disease == Disease.AFFECTED && (p.father != null || p.mother != null)) {
-				ArrayList<ImmutableList<Genotype>> paternal = new ArrayList<ImmutableList<Genotype>>();
-				ArrayList<ImmutableList<Genotype>> maternal = new ArrayList<ImmutableList<Genotype>>();
-
-				// collect candidates towards the paternal side (heterozygous or not observed in child and father. Not hom_alt or het in mother)
-				final int motherIdx = (p.mother == null) ? -1 : pedigree.nameToMember.get(p.mother.name).idx;
-				final int fatherIdx = (p.father == null) ? -1 : pedigree.nameToMember.get(p.father.name).idx;
-				for (ImmutableList<Genotype> lst : list.calls)
-					if ((lst.get(childIdx) == Genotype.HETEROZYGOUS || lst.get(childIdx) == Genotype.NOT_OBSERVED)
-							&& (fatherIdx == -1 || lst.get(fatherIdx) == Genotype.HETEROZYGOUS || lst.get(fatherIdx) == Genotype.NOT_OBSERVED)
-							&& (motherIdx == -1 || lst.get(motherIdx) == Genotype.NOT_OBSERVED || lst.get(motherIdx) == Genotype.HOMOZYGOUS_REF))
-						paternal.add(lst);
-				// collect candidates towards the paternal side (heterozygous or not observed in child and mother. Not hom_alt or het in father)
-				for (ImmutableList<Genotype> lst : list.calls)
-					if ((lst.get(childIdx) == Genotype.HETEROZYGOUS || lst.get(childIdx) == Genotype.NOT_OBSERVED)
-							&& (motherIdx == -1 || lst.get(motherIdx) == Genotype.HETEROZYGOUS || lst.get(motherIdx) == Genotype.NOT_OBSERVED)
-							&& (fatherIdx == -1 || lst.get(fatherIdx) == Genotype.NOT_OBSERVED || lst.get(fatherIdx) == Genotype.HOMOZYGOUS_REF))
-						maternal.add(lst);
-
-				// combine compatible paternal and maternal heterozygous variants
-				for (ImmutableList<Genotype> pat : paternal)
-					for (ImmutableList<Genotype> mat : maternal) {
-						if (pat == mat)
-							continue; // exclude if variants are identical
-						if (pat.get(childIdx) == Genotype.NOT_OBSERVED
-								&& (fatherIdx == -1 || pat.get(fatherIdx) == Genotype.NOT_OBSERVED)
-								&& (motherIdx == -1 || pat.get(motherIdx) == Genotype.NOT_OBSERVED))
-							continue; // exclude if not observed in all from paternal
-						if (mat.get(childIdx) == Genotype.NOT_OBSERVED
-								&& (fatherIdx == -1 || mat.get(fatherIdx) == Genotype.NOT_OBSERVED)
-								&& (motherIdx == -1 || mat.get(motherIdx) == Genotype.NOT_OBSERVED))
-							continue; // exclude if not observed in all from maternal
-						result.add(new Candidate(pat, mat));
-					}
-
-			}
+			if (p.disease == Disease.AFFECTED && (p.father != null || p.mother != null))
+				if (hasCompatiblePair(childIdx, p))
+					return true;
 			childIdx++;
 		}
-
-		return result;
+		return false;
 	}
 
-	private boolean isCompatibleWithTriosAroundAffected(Candidate c) {
-		int childIdx = 0;
-		for (Person p : pedigree.members) {
-			if (p.disease == Disease.AFFECTED) {
-				// none of the candidate variant call lists may be homozygous in the index
-				if (c.paternal != null) {
-					final Genotype pGT = c.paternal.get(childIdx);
-					if (pGT == Genotype.HOMOZYGOUS_ALT && pGT == Genotype.HOMOZYGOUS_REF)
-						return false;
-				}
-				if (c.maternal != null) {
-					final Genotype mGT = c.maternal.get(childIdx);
-					if (mGT == Genotype.HOMOZYGOUS_ALT && mGT == Genotype.HOMOZYGOUS_REF)
-						return false;
-				}
-
-				// the paternal variant may not be homozygous in the father of p, if any
-				if (c.paternal != null && p.father != null) {
-					final Genotype mGT = c.paternal.get(pedigree.nameToMember.get(p.father.name).idx);
-					if (mGT == Genotype.HOMOZYGOUS_ALT && mGT == Genotype.HOMOZYGOUS_REF)
-						return false;
-				}
-
-				// the maternal variant may not be homozygous in the mother of p, if any
-				if (c.maternal != null && p.mother != null) {
-					final Genotype mGT = c.maternal.get(pedigree.nameToMember.get(p.mother.name).idx);
-					if (mGT == Genotype.HOMOZYGOUS_ALT && mGT == Genotype.HOMOZYGOUS_REF)
-						return false;
-				}
-			}
-			childIdx++;
-		}
-
-		return true;
+	/**
+	 * @return <code>true</code> if there is a pair of distinct paternal and maternal candidate variants for the
+	 *         affected child <code>p</code> with index <code>childIdx</code>
+	 */
+	private boolean hasCompatiblePair(int childIdx, Person p) {
+		final int motherIdx = (p.mother == null) ? -1 : pedigree.nameToMember.get(p.mother.name).idx;
+		final int fatherIdx = (p.father == null) ? -1 : pedigree.nameToMember.get(p.father.name).idx;
+
+		// candidates towards the paternal side (heterozygous or not observed in child and father. Not hom_alt or het
+		// in mother)
+		BitSet paternal = bits.get(childIdx, Genotype.HETEROZYGOUS, Genotype.NOT_OBSERVED);
+		if (fatherIdx != -1)
+			paternal.and(bits.get(fatherIdx, Genotype.HETEROZYGOUS, Genotype.NOT_OBSERVED));
+		if (motherIdx != -1)
+			paternal.and(bits.get(motherIdx, Genotype.HOMOZYGOUS_REF, Genotype.NOT_OBSERVED));
+		// candidates towards the maternal side (heterozygous or not observed in child and mother. Not hom_alt or het
+		// in father)
+		BitSet maternal = bits.get(childIdx, Genotype.HETEROZYGOUS, Genotype.NOT_OBSERVED);
+		if (motherIdx != -1)
+			maternal.and(bits.get(motherIdx, Genotype.HETEROZYGOUS, Genotype.NOT_OBSERVED));
+		if (fatherIdx != -1)
+			maternal.and(bits.get(fatherIdx, Genotype.HOMOZYGOUS_REF, Genotype.NOT_OBSERVED));
+
+		// exclude variants not observed in all of child, father, and mother
+		BitSet notObserved = bits.get(childIdx, Genotype.NOT_OBSERVED);
+		if (fatherIdx != -1)
+			notObserved.and(bits.get(fatherIdx, Genotype.NOT_OBSERVED));
+		if (motherIdx != -1)
+			notObserved.and(bits.get(motherIdx, Genotype.NOT_OBSERVED));
+		paternal.andNot(notObserved);
+		maternal.andNot(notObserved);
+
+		// there is a pair of distinct variants unless one side is empty or both only contain the same variant
+		final int numPaternal = paternal.cardinality();
+		final int numMaternal = maternal.cardinality();
+		if (numPaternal == 0 || numMaternal == 0)
+			return false;
+		return !(numPaternal == 1 && numMaternal == 1 && paternal.equals(maternal));
 	}
 
 }
@@ -1,6 +1,7 @@
 package de.charite.compbio.jannovar.pedigree;
 
-import com.google.common.collect.ImmutableList;
+import java.util.BitSet;
+
 import com.google.common.collect.ImmutableSet;
 
 import de.charite.compbio.jannovar.pedigree.Pedigree.IndexedPerson;
@@ -31,6 +32,9 @@ class CompatibilityCheckerAutosomalRecessiveHomozygous {
 	/** the genotype call list to use for the checking */
 	public final GenotypeList list;
 
+	/** the calls from {@link #list} as bit sets */
+	private final GenotypeBitSets bits;
+
 	/**
 	 * Initialize compatibility checker and perform some sanity checks.
 	 *
@@ -56,6 +60,7 @@ class CompatibilityCheckerAutosomalRecessiveHomozygous {
 
 		this.pedigree = pedigree;
 		this.list = list;
+		this.bits = new GenotypeBitSets(list);
 	}
 
 	/**
@@ -70,39 +75,40 @@ class CompatibilityCheckerAutosomalRecessiveHomozygous {
 	}
 
 	private boolean runSingleSampleCase() {
-		for (ImmutableList<Genotype> gtList : list.calls)
-			if (gtList.get(0) == Genotype.HOMOZYGOUS_ALT)
-				return true;
-		return false;
+		return !bits.get(0, Genotype.HOMOZYGOUS_ALT).isEmpty();
 	}
 
 	private boolean runMultiSampleCase() {
-		for (ImmutableList<Genotype> gtList : list.calls)
-			if (containsCompatibleHomozygousVariants(gtList))
-				return true;
-		return false;
+		BitSet compatible = bits.all();
+		compatible.and(affectedsAreCompatible());
+		compatible.and(unaffectedParentsOfAffectedAreNotHomozygous());
+		compatible.andNot(unaffectedsAreHomozygousAlt());
+		return !compatible.isEmpty();
 	}
 
-	private boolean containsCompatibleHomozygousVariants(ImmutableList<Genotype> gtList) {
-		return (affectedsAreCompatible(gtList) && unaffectedParentsOfAffectedAreNotHomozygous(gtList) && unaffectedsAreNotHomozygousAlt(gtList));
-	}
-
-	private boolean unaffectedsAreNotHomozygousAlt(ImmutableList<Genotype> gtList) {
+	/**
+	 * @return variants for which any unaffected individual is {@link Genotype#HOMOZYGOUS_ALT}
+	 */
+	private BitSet unaffectedsAreHomozygousAlt() {
+		BitSet result = new BitSet(bits.numVariants);
 		for (Pedigree.IndexedPerson entry : pedigree.nameToMember.values())
-			if (entry.person.disease == Disease.UNAFFECTED && gtList.get(entry.idx) == Genotype.HOMOZYGOUS_ALT)
-				return false;
-		return true;
+			if (entry.person.disease == Disease.UNAFFECTED)
+				result.or(bits.get(entry.idx, Genotype.HOMOZYGOUS_ALT));
+		return result;
 	}
 
-	private boolean unaffectedParentsOfAffectedAreNotHomozygous(ImmutableList<Genotype> gtList) {
+	/**
+	 * @return variants for which no unaffected parent of an affected individual is {@link Genotype#HOMOZYGOUS_ALT} or
+	 *         {@link Genotype#HOMOZYGOUS_REF}
+	 */
+	private BitSet unaffectedParentsOfAffectedAreNotHomozygous() {
+		BitSet result = bits.all();
 		for (String name : getUnaffectedParentNamesOfAffecteds()) {
 			IndexedPerson iPerson = pedigree.nameToMember.get(name);
 			// INVARIANT: iPerson cannot be null due to construction of Pedigree class
-			if (gtList.get(iPerson.idx) == Genotype.HOMOZYGOUS_ALT
-					|| gtList.get(iPerson.idx) == Genotype.HOMOZYGOUS_REF)
-				return false;
+			result.and(bits.get(iPerson.idx, Genotype.HETEROZYGOUS, Genotype.NOT_OBSERVED));
 		}
-		return true;
+		return result;
 	}
 
 	/**
@@ -122,18 +128,22 @@ class CompatibilityCheckerAutosomalRecessiveHomozygous {
 		return builder.build();
 	}
 
-	private boolean affectedsAreCompatible(ImmutableList<Genotype> gtList) {
-		int numHomozygousAlt = 0;
+	/**
+	 * @return variants for which no affected individual is {@link Genotype#HOMOZYGOUS_REF} or
+	 *         {@link Genotype#HETEROZYGOUS} and at least one is {@link Genotype#HOMOZYGOUS_ALT}
+	 */
+	private BitSet affectedsAreCompatible() {
+		BitSet result = bits.all();
+		BitSet anyHomozygousAlt = new BitSet(bits.numVariants);
 
 		for (Pedigree.IndexedPerson entry : pedigree.nameToMember.values())
 			if (entry.person.disease == Disease.AFFECTED) {
-				if (gtList.get(entry.idx) == Genotype.HOMOZYGOUS_REF || gtList.get(entry.idx) == Genotype.HETEROZYGOUS)
-					return false;
-				else if (gtList.get(entry.idx) == Genotype.HOMOZYGOUS_ALT)
-					numHomozygousAlt += 1;
+				result.and(bits.get(entry.idx, Genotype.HOMOZYGOUS_ALT, Genotype.NOT_OBSERVED));
+				anyHomozygousAlt.or(bits.get(entry.idx, Genotype.HOMOZYGOUS_ALT));
 			}
 
-		return (numHomozygousAlt > 0);
+		result.and(anyHomozygousAlt);
+		return result;
 	}
 
 }
@@ -1,7 +1,5 @@
 package de.charite.compbio.jannovar.pedigree;
 
-import com.google.common.collect.ImmutableList;
-
 import de.charite.compbio.jannovar.reference.GenomePosition;
 
 /**
@@ -25,6 +23,9 @@ class CompatibilityCheckerXDominant {
 	/** the genotype call list to use for the checking */
 	public final GenotypeList list;
 
+	/** the calls from {@link #list} as bit sets */
+	private final GenotypeBitSets bits;
+
 	/**
 	 * Initialize compatibility checker and perform some sanity checks.
 	 *
@@ -49,6 +50,7 @@ class CompatibilityCheckerXDominant {
 
 		this.pedigree = pedigree;
 		this.list = list;
+		this.bits = new GenotypeBitSets(list);
 		new PedigreeQueryDecorator(pedigree);
 	}
 
@@ -81,16 +83,15 @@ class CompatibilityCheckerXDominant {
 	}
 
 	private boolean runMultiSampleCase() {
-		for (ImmutableList<Genotype> gtList : list.calls) {
-			int i = 0;
-			for (Person person : pedigree.members) {
-				if (person.disease == Disease.AFFECTED && gtList.get(i) == Genotype.HOMOZYGOUS_REF)
-					return false;
-				else if (person.disease == Disease.UNAFFECTED
-						&& (gtList.get(i) == Genotype.HOMOZYGOUS_ALT || gtList.get(i) == Genotype.HETEROZYGOUS))
-					return false;
-				i++;
-			}
+		// no variant may be HOMOZYGOUS_REF in an affected or HOMOZYGOUS_ALT/HETEROZYGOUS in an unaffected individual
+		int i = 0;
+		for (Person person : pedigree.members) {
+			if (person.disease == Disease.AFFECTED && !bits.get(i, Genotype.HOMOZYGOUS_REF).isEmpty())
+				return false;
+			else if (person.disease == Disease.UNAFFECTED
+					&& !bits.get(i, Genotype.HOMOZYGOUS_ALT, Genotype.HETEROZYGOUS).isEmpty())
+				return false;
+			i++;
 		}
 
 		return true;
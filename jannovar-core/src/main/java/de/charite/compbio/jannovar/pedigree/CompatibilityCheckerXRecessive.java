@@ -1,6 +1,7 @@
 package de.charite.compbio.jannovar.pedigree;
 
-import com.google.common.collect.ImmutableList;
+import java.util.BitSet;
+
 import com.google.common.collect.ImmutableSet;
 
 import de.charite.compbio.jannovar.reference.GenomePosition;
@@ -32,6 +33,9 @@ class CompatibilityCheckerXRecessive {
 	/** the genotype call list to use for the checking */
 	public final GenotypeList list;
 
+	/** the calls from {@link #list} as bit sets */
+	private final GenotypeBitSets bits;
+
 	/** decorator for getting unaffected individuals and such from the {@link Pedigree} */
 	private final PedigreeQueryDecorator queryDecorator;
 
@@ -59,6 +63,7 @@ class CompatibilityCheckerXRecessive {
 
 		this.pedigree = pedigree;
 		this.list = list;
+		this.bits = new GenotypeBitSets(list);
 		this.queryDecorator = new PedigreeQueryDecorator(pedigree);
 	}
 
@@ -84,69 +89,76 @@ class CompatibilityCheckerXRecessive {
 				return true;
 
 		// for both male and female subjects, return true if homozygous alt
-		for (ImmutableList<Genotype> gtList : list.calls)
-			if (gtList.get(0) == Genotype.HOMOZYGOUS_ALT)
-				return true;
-
-		return false;
+		return !bits.get(0, Genotype.HOMOZYGOUS_ALT).isEmpty();
 	}
 
 	private boolean runMultiSampleCase() {
-		for (ImmutableList<Genotype> gtList : list.calls) {
-			// Check whether this list of genotype calls is compatible when with the set of affected individuals, the
-			// parents, and the unaffected individuals.
-			if (checkCompatibilityAffected(gtList) && checkCompatibilityParents(gtList)
-					&& checkCompatibilityUnaffected(gtList))
-				return true;
-		}
-
-		return false;
+		// Check which lists of genotype calls are compatible with the set of affected individuals, the parents, and
+		// the unaffected individuals.
+		BitSet compatible = bits.all();
+		compatible.andNot(checkIncompatibilityAffected());
+		compatible.andNot(checkIncompatibilityParents());
+		compatible.andNot(checkIncompatibilityUnaffected());
+		return !compatible.isEmpty();
 	}
 
-	private boolean checkCompatibilityAffected(ImmutableList<Genotype> gtList) {
+	/**
+	 * @return variants that are incompatible with the affected individuals
+	 */
+	private BitSet checkIncompatibilityAffected() {
+		BitSet result = new BitSet(bits.numVariants);
 		int i = 0;
 		for (Person person : pedigree.members) {
-			if (person.sex == Sex.MALE && person.disease == Disease.AFFECTED
-					&& gtList.get(i) == Genotype.HOMOZYGOUS_REF)
-				return false; // cannot be disease-causing mutation, an affected male does not have it
+			// cannot be disease-causing mutation, an affected male does not have it
+			if (person.sex == Sex.MALE && person.disease == Disease.AFFECTED)
+				result.or(bits.get(i, Genotype.HOMOZYGOUS_REF));
 			++i;
 		}
 
-		return true;
+		return result;
 	}
 
-	private boolean checkCompatibilityParents(ImmutableList<Genotype> gtList) {
+	/**
+	 * @return variants that are incompatible with the parents
+	 */
+	private BitSet checkIncompatibilityParents() {
 		final ImmutableSet<String> parentNames = queryDecorator.getParentNames();
+		BitSet result = new BitSet(bits.numVariants);
 		int i = 0;
 		for (Person person : pedigree.members) {
 			if (parentNames.contains(person.name)) {
-				final Genotype gt = gtList.get(i);
-				if (person.sex == Sex.MALE && person.disease == Disease.UNAFFECTED && gt != Genotype.HOMOZYGOUS_REF)
-					return false; // cannot be disease-causing mutation if an unaffected father has it
-				if (person.sex == Sex.FEMALE && gt == Genotype.HOMOZYGOUS_ALT)
-					return false; // cannot be disease-causing mutation if mother of patient is homozygous
+				// cannot be disease-causing mutation if an unaffected father has it
+				if (person.sex == Sex.MALE && person.disease == Disease.UNAFFECTED) {
+					BitSet notRef = bits.all();
+					notRef.andNot(bits.get(i, Genotype.HOMOZYGOUS_REF));
+					result.or(notRef);
+				}
+				// cannot be disease-causing mutation if mother of patient is homozygous
+				if (person.sex == Sex.FEMALE)
+					result.or(bits.get(i, Genotype.HOMOZYGOUS_ALT));
 			}
 			++i;
 		}
 
-		return true;
+		return result;
 	}
 
-	private boolean checkCompatibilityUnaffected(ImmutableList<Genotype> gtList) {
+	/**
+	 * @return variants that are incompatible with the unaffected individuals
+	 */
+	private BitSet checkIncompatibilityUnaffected() {
 		final ImmutableSet<String> unaffectedNames = queryDecorator.getUnaffectedNames();
+		BitSet result = new BitSet(bits.numVariants);
 		int i = 0;
 		for (Person person : pedigree.members) {
-			if (unaffectedNames.contains(person.name)) {
-				final Genotype gt = gtList.get(i);
-				// Males with a hemizygous mutation have to be encoded as HOMOZYGOUS_ALT in the VCF. Thus, the handling
-				// of Kleinefelder here is not comprehensive for simplicity's sake.
-				if (gt == Genotype.HOMOZYGOUS_ALT)
-					return false; // cannot be disease-causing mutation, an unaffected individual has it
-			}
+			// Males with a hemizygous mutation have to be encoded as HOMOZYGOUS_ALT in the VCF. Thus, the handling
+			// of Kleinefelder here is not comprehensive for simplicity's sake.
+			if (unaffectedNames.contains(person.name))
+				result.or(bits.get(i, Genotype.HOMOZYGOUS_ALT));
 			++i;
 		}
 
-		return true;
+		return result;
 	}
 
 }
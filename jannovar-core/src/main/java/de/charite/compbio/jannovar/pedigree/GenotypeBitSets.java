@@ -0,0 +1,86 @@
+package de.charite.compbio.jannovar.pedigree;
+
+import java.util.BitSet;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Representation of the calls in a {@link GenotypeList} as one {@link BitSet} for each person and {@link Genotype}.
+ *
+ * Bit <code>i</code> of the set for person <code>p</code> and {@link Genotype} <code>g</code> is set if the call of
+ * <code>p</code> for the <code>i</code>-th variant in {@link GenotypeList#calls} is <code>g</code>. This allows the
+ * compatibility checkers to evaluate conditions for all variants at once with word-level bitwise operations instead of
+ * walking the calls variant by variant.
+ *
+ * The sets returned by the getters are copies and can be modified by the caller.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+final class GenotypeBitSets {
+
+	/** number of variants, i.e. number of valid bits in each set */
+	public final int numVariants;
+
+	/** the bit sets, indexed by person and {@link Genotype#ordinal} */
+	private final BitSet[][] sets;
+
+	/**
+	 * Build bit sets from the calls in <code>list</code>.
+	 *
+	 * @param list
+	 *            the {@link GenotypeList} to build the bit sets from
+	 */
+	public GenotypeBitSets(GenotypeList list) {
+		final int numPersons = list.names.size();
+		final int numGenotypes = Genotype.values().length;
+		this.numVariants = list.calls.size();
+		this.sets = new BitSet[numPersons][numGenotypes];
+		for (int pID = 0; pID < numPersons; ++pID)
+			for (int gtID = 0; gtID < numGenotypes; ++gtID)
+				sets[pID][gtID] = new BitSet(numVariants);
+
+		int varID = 0;
+		for (ImmutableList<Genotype> gtList : list.calls) {
+			for (int pID = 0; pID < numPersons; ++pID)
+				sets[pID][gtList.get(pID).ordinal()].set(varID);
+			++varID;
+		}
+	}
+
+	/**
+	 * @return set with a bit for each variant
+	 */
+	public BitSet all() {
+		BitSet result = new BitSet(numVariants);
+		result.set(0, numVariants);
+		return result;
+	}
+
+	/**
+	 * @param pID
+	 *            index of the person in the pedigree
+	 * @param gt
+	 *            the {@link Genotype} to query for
+	 * @return set of variants for which the person with index <code>pID</code> has a call of <code>gt</code>
+	 */
+	public BitSet get(int pID, Genotype gt) {
+		return (BitSet) sets[pID][gt.ordinal()].clone();
+	}
+
+	/**
+	 * @param pID
+	 *            index of the person in the pedigree
+	 * @param gt1
+	 *            the first {@link Genotype} to query for
+	 * @param gt2
+	 *            the second {@link Genotype} to query for
+	 * @return set of variants for which the person with index <code>pID</code> has a call of <code>gt1</code> or
+	 *         <code>gt2</code>
+	 */
+	public BitSet get(int pID, Genotype gt1, Genotype gt2) {
+		BitSet result = get(pID, gt1);
+		result.or(sets[pID][gt2.ordinal()]);
+		return result;
+	}
+
+}
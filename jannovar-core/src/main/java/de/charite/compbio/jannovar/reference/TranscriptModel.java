@@ -3,6 +3,7 @@ package de.charite.compbio.jannovar.reference;
 import java.io.Serializable;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
 
 import de.charite.compbio.jannovar.Immutable;
 
@@ -23,6 +24,10 @@ public final class TranscriptModel implements Serializable, Comparable<Transcrip
 	/**
 	 * Gene symbol of the known Gene. Can be null for some genes. Note that in annovar, $name2 corresponds to the
 	 * geneSymbol if available, otherwise the kgID is used.
+	 *
+	 * The symbol is interned on construction (see {@link String#intern}), so the symbols of transcripts of the same
+	 * gene are identical objects. Deserialized symbols are only shared when loading with an interner, see
+	 * {@link de.charite.compbio.jannovar.io.JannovarDataSerializer#JannovarDataSerializer(String, Interner)}.
 	 */
 	public final String geneSymbol;
 
@@ -67,7 +72,7 @@ public final class TranscriptModel implements Serializable, Comparable<Transcrip
 	public TranscriptModel(String accession, String geneSymbol, GenomeInterval txRegion, GenomeInterval cdsRegion,
 			ImmutableList<GenomeInterval> exonRegions, String sequence, String geneID, int transcriptSupportLevel) {
 		this.accession = accession;
-		this.geneSymbol = geneSymbol;
+		this.geneSymbol = (geneSymbol == null) ? null : geneSymbol.intern();
 		this.txRegion = txRegion;
 		this.cdsRegion = cdsRegion;
 		this.exonRegions = exonRegions;
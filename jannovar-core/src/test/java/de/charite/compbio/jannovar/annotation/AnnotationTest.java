@@ -0,0 +1,37 @@
+package de.charite.compbio.jannovar.annotation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+
+public class AnnotationTest {
+
+	/** number of calls to the nucleotide HGVS supplier */
+	int calls = 0;
+
+	@Test
+	public void testLazyHGVSDescription() {
+		Supplier<String> ntHGVS = new Supplier<String>() {
+			@Override
+			public String get() {
+				calls += 1;
+				return "c.123A>C";
+			}
+		};
+		Annotation anno = new Annotation(null, null, ImmutableList.of(VariantType.MISSENSE), null, ntHGVS,
+				Suppliers.ofInstance("p.Lys41Thr"), ImmutableList.<AnnotationMessage> of());
+
+		Assert.assertEquals(VariantType.MISSENSE, anno.getMostPathogenicVarType());
+		Assert.assertEquals(PutativeImpact.HIGH, anno.getPutativeImpact());
+		Assert.assertEquals(0, calls);
+
+		Assert.assertEquals("c.123A>C", anno.getNtHGVSDescription());
+		Assert.assertEquals("c.123A>C", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.Lys41Thr", anno.getAaHGVSDescription());
+		Assert.assertEquals(1, calls);
+	}
+
+}
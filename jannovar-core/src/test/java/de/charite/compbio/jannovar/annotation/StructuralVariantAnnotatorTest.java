@@ -0,0 +1,86 @@
+package de.charite.compbio.jannovar.annotation;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.io.JannovarData;
+import de.charite.compbio.jannovar.io.ReferenceDictionary;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+
+public class StructuralVariantAnnotatorTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	static final int chr = refDict.contigID.get("1");
+
+	JannovarData data;
+
+	private TranscriptModel buildTranscript(String accession, String geneSymbol, int beginPos, int endPos) {
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession(accession);
+		builder.setGeneSymbol(geneSymbol);
+		builder.setStrand('+');
+		GenomeInterval region = new GenomeInterval(refDict, '+', chr, beginPos, endPos, PositionType.ZERO_BASED);
+		builder.setTxRegion(region);
+		builder.setCdsRegion(region);
+		builder.addExonRegion(region);
+		builder.setSequence("");
+		return builder.build();
+	}
+
+	@Before
+	public void setUp() {
+		data = new JannovarData(refDict, ImmutableList.of(buildTranscript("tx1", "GENE1", 1000, 2000),
+				buildTranscript("tx2", "GENE2", 5000, 6000), buildTranscript("tx3", "GENE3", 8000, 9000)));
+	}
+
+	private StructuralVariant buildSV(StructuralVariant.Type type, int beginPos, int endPos) {
+		return new StructuralVariant(type, new GenomeInterval(refDict, '+', chr, beginPos, endPos));
+	}
+
+	@Test
+	public void testDeletion() {
+		StructuralVariantAnnotator annotator = new StructuralVariantAnnotator(data.chromosomes);
+		StructuralVariantAnnotation anno = annotator.annotate(buildSV(StructuralVariant.Type.DELETION, 1500, 8500));
+
+		Assert.assertEquals(ImmutableList.of("GENE2"), anno.fullyOverlappedGenes);
+		Assert.assertEquals(ImmutableList.of("GENE1", "GENE3"), anno.partiallyOverlappedGenes);
+		Assert.assertEquals(2, anno.breakpointTranscripts.size());
+		Assert.assertEquals("tx1", anno.breakpointTranscripts.get(0).accession);
+		Assert.assertEquals("tx3", anno.breakpointTranscripts.get(1).accession);
+		Assert.assertFalse(anno.isTruncated());
+	}
+
+	@Test
+	public void testTruncation() {
+		StructuralVariantAnnotator annotator = new StructuralVariantAnnotator(data.chromosomes, 1);
+		StructuralVariantAnnotation anno = annotator.annotate(buildSV(StructuralVariant.Type.DUPLICATION, 1500, 8500));
+
+		Assert.assertEquals(ImmutableList.of("GENE1"), anno.partiallyOverlappedGenes);
+		Assert.assertEquals(2, anno.partiallyOverlappedGeneCount);
+		Assert.assertEquals(1, anno.breakpointTranscripts.size());
+		Assert.assertTrue(anno.isTruncated());
+	}
+
+	@Test
+	public void testInsertionAndIntergenic() {
+		StructuralVariantAnnotator annotator = new StructuralVariantAnnotator(data.chromosomes);
+
+		StructuralVariantAnnotation anno = annotator.annotate(buildSV(StructuralVariant.Type.INSERTION, 5500, 5500));
+		Assert.assertEquals(0, anno.fullyOverlappedGeneCount);
+		Assert.assertEquals(ImmutableList.of("GENE2"), anno.partiallyOverlappedGenes);
+		Assert.assertEquals("tx2", anno.breakpointTranscripts.get(0).accession);
+
+		anno = annotator.annotate(buildSV(StructuralVariant.Type.DELETION, 3000, 4000));
+		Assert.assertTrue(anno.isIntergenic());
+		Assert.assertTrue(anno.breakpointTranscripts.isEmpty());
+	}
+
+}
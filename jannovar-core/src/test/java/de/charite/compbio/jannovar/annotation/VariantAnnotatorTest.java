@@ -0,0 +1,136 @@
+package de.charite.compbio.jannovar.annotation;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.charite.compbio.jannovar.impl.intervals.IntervalArray;
+import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.ReferenceDictionary;
+import de.charite.compbio.jannovar.reference.GenomeChange;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.GenomePosition;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptIntervalEndExtractor;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+
+public class VariantAnnotatorTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	static final int chr = refDict.contigID.get("1");
+
+	VariantAnnotator annotator;
+
+	AnnotationMetrics metrics;
+
+	VariantAnnotator metricsAnnotator;
+
+	@Before
+	public void setUp() {
+		// coding transcript on the forward strand with two exons, CDS is 1101-2500
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession("tx1");
+		builder.setGeneSymbol("GENE1");
+		builder.setStrand('+');
+		builder.setTxRegion(new GenomeInterval(refDict, '+', chr, 1001, 3000, PositionType.ONE_BASED));
+		builder.setCdsRegion(new GenomeInterval(refDict, '+', chr, 1101, 2500, PositionType.ONE_BASED));
+		builder.addExonRegion(new GenomeInterval(refDict, '+', chr, 1001, 1200, PositionType.ONE_BASED));
+		builder.addExonRegion(new GenomeInterval(refDict, '+', chr, 2001, 3000, PositionType.ONE_BASED));
+		builder.setSequence(Strings.repeat("ACGT", 300)); // no stop codons in frame
+		TranscriptModel tx1 = builder.build();
+
+		// non-coding transcript on the reverse strand with one exon
+		builder.reset();
+		builder.setAccession("tx2");
+		builder.setGeneSymbol("GENE2");
+		builder.setStrand('-');
+		builder.setTxRegion(new GenomeInterval(refDict, '+', chr, 10001, 12000, PositionType.ONE_BASED));
+		builder.setCdsRegion(new GenomeInterval(refDict, '+', chr, 12000, 12000, PositionType.ZERO_BASED));
+		builder.addExonRegion(new GenomeInterval(refDict, '+', chr, 10001, 12000, PositionType.ONE_BASED));
+		builder.setSequence("");
+		TranscriptModel tx2 = builder.build();
+
+		IntervalArray<TranscriptModel> tmIntervalTree = new IntervalArray<TranscriptModel>(ImmutableList.of(tx1, tx2),
+				new TranscriptIntervalEndExtractor());
+		ImmutableMap<Integer, Chromosome> chromosomeMap = ImmutableMap.of(chr, new Chromosome(refDict, chr,
+				tmIntervalTree));
+		annotator = new VariantAnnotator(refDict, chromosomeMap);
+		metrics = new AnnotationMetrics();
+		metricsAnnotator = new VariantAnnotator(refDict, chromosomeMap, metrics);
+	}
+
+	private GenomeChange buildChange(int pos, String ref, String alt) {
+		return new GenomeChange(new GenomePosition(refDict, '+', chr, pos, PositionType.ONE_BASED), ref, alt);
+	}
+
+	@Test
+	public void testClassifyLocation() {
+		Assert.assertEquals(VariantLocation.INTERGENIC, annotator.classifyLocation(buildChange(5000, "A", "C")));
+		Assert.assertEquals(VariantLocation.UTR, annotator.classifyLocation(buildChange(1050, "A", "C")));
+		Assert.assertEquals(VariantLocation.EXONIC, annotator.classifyLocation(buildChange(1150, "A", "C")));
+		Assert.assertEquals(VariantLocation.SPLICE, annotator.classifyLocation(buildChange(1202, "A", "C")));
+		Assert.assertEquals(VariantLocation.SPLICE, annotator.classifyLocation(buildChange(1995, "A", "C")));
+		Assert.assertEquals(VariantLocation.INTRONIC, annotator.classifyLocation(buildChange(1500, "A", "C")));
+		Assert.assertEquals(VariantLocation.EXONIC, annotator.classifyLocation(buildChange(11000, "A", "C")));
+	}
+
+	@Test
+	public void testClassifyLocationDeletionIntoExon() {
+		// deletion starting in the intron and reaching into the second exon
+		Assert.assertEquals(VariantLocation.SPLICE, annotator.classifyLocation(buildChange(1990, "ACGTACGTACGTA", "")));
+	}
+
+	@Test
+	public void testBuildAnnotationListSkipsBelowMinImpact() throws AnnotationException {
+		Assert.assertSame(AnnotationList.EMPTY,
+				annotator.buildAnnotationList(buildChange(1500, "A", "C"), PutativeImpact.MODERATE));
+		Assert.assertSame(AnnotationList.EMPTY,
+				annotator.buildAnnotationList(buildChange(1050, "A", "C"), PutativeImpact.LOW));
+	}
+
+	@Test
+	public void testBuildAnnotationListKeepsAtMinImpact() throws AnnotationException {
+		// exonic and splice site variants can have a high impact and are annotated in full
+		for (GenomeChange change : ImmutableList.of(buildChange(1150, "A", "C"), buildChange(1202, "A", "C"),
+				buildChange(1995, "A", "C"))) {
+			final AnnotationList expected = annotator.buildAnnotationList(change, null);
+			final AnnotationList actual = annotator.buildAnnotationList(change, PutativeImpact.HIGH);
+			Assert.assertNotSame(AnnotationList.EMPTY, actual);
+			Assert.assertEquals(expected.entries.size(), actual.entries.size());
+			for (int i = 0; i < expected.entries.size(); ++i) {
+				Assert.assertEquals(expected.entries.get(i).effects, actual.entries.get(i).effects);
+				Assert.assertEquals(expected.entries.get(i).getNtHGVSDescription(), actual.entries.get(i)
+						.getNtHGVSDescription());
+			}
+		}
+		Assert.assertEquals(VariantType.SPLICE_DONOR,
+				annotator.buildAnnotationList(buildChange(1202, "A", "C"), PutativeImpact.HIGH).entries.get(0)
+						.getMostPathogenicVarType());
+	}
+
+	@Test
+	public void testMetrics() throws AnnotationException {
+		metricsAnnotator.buildAnnotationList(buildChange(1050, "A", "C"), null);
+		metricsAnnotator.buildAnnotationList(buildChange(1500, "A", ""), null);
+		metricsAnnotator.buildAnnotationList(buildChange(1500, "A", "C"), PutativeImpact.MODERATE);
+
+		Assert.assertEquals(2, metrics.getVariantCount());
+		Assert.assertEquals(1, metrics.getSkippedVariantCount());
+		Assert.assertEquals(1.0, metrics.getCandidateTranscriptsPerVariant(), 1e-6);
+		Assert.assertEquals(Long.valueOf(1), metrics.getDispatchCounts().get("SNV"));
+		Assert.assertEquals(Long.valueOf(1), metrics.getDispatchCounts().get("DELETION"));
+		Assert.assertTrue(metrics.toJSON().startsWith("{\"variants\":2,\"skippedVariants\":1,"));
+
+		metrics.reset();
+		Assert.assertEquals(0, metrics.getVariantCount());
+		Assert.assertEquals(Long.valueOf(0), metrics.getDispatchCounts().get("SNV"));
+	}
+
+}
@@ -67,8 +67,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		// TODO(holtgrew): Check for distance==0
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UPSTREAM), annotation1.effects);
 	}
 
@@ -79,8 +79,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		// TODO(holtgrew): Check for distance==0
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.DOWNSTREAM), annotation1.effects);
 	}
 
@@ -92,8 +92,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		// TODO(holtgrew): Check for distance==1000
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), annotation1.effects);
 		// intergenic downstream
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6650340, PositionType.ZERO_BASED),
@@ -101,8 +101,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation2 = new BlockSubstitutionAnnotationBuilder(infoForward, change2).build();
 		// TODO(holtgrew): Check for distance==1000
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
-		Assert.assertEquals(null, annotation2.ntHGVSDescription);
-		Assert.assertEquals(null, annotation2.aaHGVSDescription);
+		Assert.assertEquals(null, annotation2.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), annotation2.effects);
 	}
 
@@ -115,7 +115,7 @@ public class BlockSubstitutionAnnotationBuilderTest {
 				chars200.toString(), "CGTT");
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
-		Assert.assertEquals("c.-204_-70+65delinsCGTT", annotation1.ntHGVSDescription);
+		Assert.assertEquals("c.-204_-70+65delinsCGTT", annotation1.getNtHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.TRANSCRIPT_ABLATION), annotation1.effects);
 	}
 
@@ -125,7 +125,7 @@ public class BlockSubstitutionAnnotationBuilderTest {
 				"ACG", "CGTT");
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
-		Assert.assertEquals("c.691-11_691-9delinsCGTT", annotation1.ntHGVSDescription);
+		Assert.assertEquals("c.691-11_691-9delinsCGTT", annotation1.getNtHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), annotation1.effects);
 	}
 
@@ -136,7 +136,7 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-195_-193delinsCGTT", annotation1.ntHGVSDescription);
+		Assert.assertEquals("c.-195_-193delinsCGTT", annotation1.getNtHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -147,7 +147,7 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*58_*60delinsCGGTT", annotation1.ntHGVSDescription);
+		Assert.assertEquals("c.*58_*60delinsCGGTT", annotation1.getNtHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -161,8 +161,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1_3delinsCGTT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1_3delinsCGTT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1.effects);
 
 		// Delete chunk out of first exon, spanning start codon from the left.
@@ -171,8 +171,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation2 = new BlockSubstitutionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(1, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.-9_2delinsGTTG", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.-9_2delinsGTTG", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation2.effects);
 
 		// Delete chunk out of first exon, spanning start codon from the right.
@@ -181,8 +181,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation3 = new BlockSubstitutionAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, annotation3.transcript.accession);
 		Assert.assertEquals(1, annotation3.annoLoc.rank);
-		Assert.assertEquals("c.3_13delinsCTTG", annotation3.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation3.aaHGVSDescription);
+		Assert.assertEquals("c.3_13delinsCTTG", annotation3.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation3.effects);
 
 		// Deletion from before transcript, reaching into the start codon.
@@ -193,8 +193,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation4 = new BlockSubstitutionAnnotationBuilder(infoForward, change4).build();
 		Assert.assertEquals(infoForward.accession, annotation4.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, annotation4.annoLoc.rank);
-		Assert.assertEquals("c.-69-201_1delinsACCT", annotation4.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation4.aaHGVSDescription);
+		Assert.assertEquals("c.-69-201_1delinsACCT", annotation4.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation4.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation4.effects);
 	}
 
@@ -207,8 +207,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2067_*2delinsCGTT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.*689Tyrext*25", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2067_*2delinsCGTT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Tyrext*25", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION, VariantType.STOPLOSS),
 				annotation1.effects);
 
@@ -218,8 +218,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation2 = new BlockSubstitutionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(10, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.2066_*1delinsCGGTCG", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.*689Serext*17", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.2066_*1delinsCGGTCG", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Serext*17", annotation2.getAaHGVSDescription());
 		// Note that the transcript here differs to the one Mutalyzer uses after the CDS.
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_SUBSTITUTION, VariantType.STOPLOSS),
 				annotation2.effects);
@@ -230,8 +230,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation3 = new BlockSubstitutionAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, annotation3.transcript.accession);
 		Assert.assertEquals(10, annotation3.annoLoc.rank);
-		Assert.assertEquals("c.2065_2067delinsCGGT", annotation3.ntHGVSDescription);
-		Assert.assertEquals("p.*689Argext*16", annotation3.aaHGVSDescription);
+		Assert.assertEquals("c.2065_2067delinsCGGT", annotation3.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Argext*16", annotation3.getAaHGVSDescription());
 		// Note that the transcript here differs to the one Mutalyzer uses after the CDS.
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_SUBSTITUTION, VariantType.STOPLOSS),
 				annotation3.effects);
@@ -245,8 +245,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.691-1delinsTT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.691-1delinsTT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 
@@ -256,8 +256,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation2 = new BlockSubstitutionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(2, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.691_693delinsAA", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.Trp231Lysfs*23", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.691_693delinsAA", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.Trp231Lysfs*23", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_SUBSTITUTION, VariantType.SPLICE_REGION),
 				annotation2.effects);
 	}
@@ -270,8 +270,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1225_1234delinsCCC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Cys409Profs*127", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1225_1234delinsCCC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Cys409Profs*127", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_SUBSTITUTION, VariantType.SPLICE_REGION),
 				annotation1.effects);
 	}
@@ -284,8 +284,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.691-3_693delinsGTT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Trp231Val", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.691-3_693delinsGTT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Trp231Val", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 
@@ -295,8 +295,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation2 = new BlockSubstitutionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(2, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.700_708delinsACC", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.Val234_Gln236delinsThr", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.700_708delinsACC", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.Val234_Gln236delinsThr", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION), annotation2.effects);
 
 		// deletion of three codons, insertion of one, includes truncation of replacement ref from the right
@@ -305,8 +305,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation3 = new BlockSubstitutionAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, annotation3.transcript.accession);
 		Assert.assertEquals(2, annotation3.annoLoc.rank);
-		Assert.assertEquals("c.708_716delinsCT", annotation3.ntHGVSDescription);
-		Assert.assertEquals("p.Gln236Hisfs*16", annotation3.aaHGVSDescription);
+		Assert.assertEquals("c.708_716delinsCT", annotation3.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln236Hisfs*16", annotation3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_SUBSTITUTION), annotation3.effects);
 	}
 
@@ -329,8 +329,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.96_112delinsACTACCAGAGGAAT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Lys33_Met38delinsLeuProGluGluLeu", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.96_112delinsACTACCAGAGGAAT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Lys33_Met38delinsLeuProGluGluLeu", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION), annotation1.effects);
 	}
 
@@ -350,8 +350,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.713_718delinsACAACACT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu238Hisfs*19", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.713_718delinsACAACACT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu238Hisfs*19", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_SUBSTITUTION), annotation1.effects);
 	}
 
@@ -373,8 +373,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.475_477delinsCTC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr159Leu", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.475_477delinsCTC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr159Leu", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION), annotation1.effects);
 	}
 
@@ -397,8 +397,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.96_112delinsACTACCAGAGGAAT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Lys33_Met38delinsLeuProGluGluLeu", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.96_112delinsACTACCAGAGGAAT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Lys33_Met38delinsLeuProGluGluLeu", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION), annotation1.effects);
 	}
 
@@ -420,8 +420,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.475_480delinsTAGCTC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr159*", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.475_480delinsTAGCTC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr159*", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION, VariantType.STOPGAIN),
 				annotation1.effects);
 	}
@@ -444,8 +444,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.830_831delinsTG", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ala277Val", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.830_831delinsTG", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala277Val", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION), annotation1.effects);
 	}
 
@@ -468,8 +468,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1263_1266+1delinsC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu422del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1263_1266+1delinsC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu422del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION, VariantType.SPLICE_DONOR),
 				annotation1.effects);
 	}
@@ -493,8 +493,8 @@ public class BlockSubstitutionAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.453_453+6delinsA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.453_453+6delinsA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION, VariantType.SPLICE_DONOR),
 				annotation1.effects);
 	}
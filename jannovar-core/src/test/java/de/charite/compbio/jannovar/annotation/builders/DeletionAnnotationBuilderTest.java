@@ -68,8 +68,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(null, annotation1.annoLoc);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UPSTREAM), annotation1.effects);
 	}
 
@@ -80,8 +80,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(null, annotation1.annoLoc);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.DOWNSTREAM), annotation1.effects);
 	}
 
@@ -93,8 +93,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(null, annotation1.annoLoc);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), annotation1.effects);
 		// intergenic downstream
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6650340, PositionType.ZERO_BASED),
@@ -102,8 +102,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation2 = new DeletionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(null, annotation1.annoLoc);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), annotation2.effects);
 	}
 
@@ -117,8 +117,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-204_-70+65del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-204_-70+65del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.TRANSCRIPT_ABLATION), annotation1.effects);
 	}
 
@@ -129,8 +129,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.691-11del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.691-11del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), annotation1.effects);
 	}
 
@@ -141,8 +141,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-192del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-192del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -153,8 +153,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*59del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*59del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -168,8 +168,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1.effects);
 
 		// Delete chunk out of first exon, spanning start codon from the left.
@@ -178,8 +178,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation2 = new DeletionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(1, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.-9_2del", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.-9_2del", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation2.effects);
 
 		// Delete chunk out of first exon, spanning start codon from the right.
@@ -188,8 +188,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation3 = new DeletionAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, annotation3.transcript.accession);
 		Assert.assertEquals(1, annotation3.annoLoc.rank);
-		Assert.assertEquals("c.3_13del", annotation3.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation3.aaHGVSDescription);
+		Assert.assertEquals("c.3_13del", annotation3.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation3.effects);
 
 		// Deletion from before transcript, reaching into the start codon.
@@ -200,8 +200,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation4 = new DeletionAnnotationBuilder(infoForward, change4).build();
 		Assert.assertEquals(infoForward.accession, annotation4.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, annotation4.annoLoc.rank);
-		Assert.assertEquals("c.-69-201_1del", annotation4.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation4.aaHGVSDescription);
+		Assert.assertEquals("c.-69-201_1del", annotation4.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation4.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation4.effects);
 	}
 
@@ -216,8 +216,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2067del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.*689Tyrext*?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2067del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Tyrext*?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.STOPLOSS), annotation1.effects);
 
 		// Delete middle base of stop codon, leads to complete loss.
@@ -226,8 +226,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation2 = new DeletionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(10, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.2066del", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.*689Cysext*?", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.2066del", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Cysext*?", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.STOPLOSS), annotation2.effects);
 
 		// Delete first base of stop codon, leads to extension
@@ -236,8 +236,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation3 = new DeletionAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, annotation3.transcript.accession);
 		Assert.assertEquals(10, annotation3.annoLoc.rank);
-		Assert.assertEquals("c.2065del", annotation3.ntHGVSDescription);
-		Assert.assertEquals("p.*689Serext*?", annotation3.aaHGVSDescription);
+		Assert.assertEquals("c.2065del", annotation3.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Serext*?", annotation3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.STOPLOSS), annotation3.effects);
 
 		// Delete two bases of stop codon.
@@ -246,8 +246,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation4 = new DeletionAnnotationBuilder(infoForward, change4).build();
 		Assert.assertEquals(infoForward.accession, annotation4.transcript.accession);
 		Assert.assertEquals(10, annotation4.annoLoc.rank);
-		Assert.assertEquals("c.2065_2066del", annotation4.ntHGVSDescription);
-		Assert.assertEquals("p.*689Alaext*14", annotation4.aaHGVSDescription);
+		Assert.assertEquals("c.2065_2066del", annotation4.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Alaext*14", annotation4.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.STOPLOSS), annotation4.effects);
 
 		// Delete from before into the stop codon.
@@ -256,8 +256,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation5 = new DeletionAnnotationBuilder(infoForward, change5).build();
 		Assert.assertEquals(infoForward.accession, annotation5.transcript.accession);
 		Assert.assertEquals(10, annotation5.annoLoc.rank);
-		Assert.assertEquals("c.2063_*3del", annotation5.ntHGVSDescription);
-		Assert.assertEquals("p.*689Hisext*13", annotation5.aaHGVSDescription);
+		Assert.assertEquals("c.2063_*3del", annotation5.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Hisext*13", annotation5.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.STOPLOSS), annotation5.effects);
 	}
 
@@ -269,8 +269,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.691-1del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.691-1del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 
@@ -280,8 +280,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation2 = new DeletionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(2, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.691_693del", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.Trp231del", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.691_693del", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.Trp231del", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION, VariantType.SPLICE_REGION),
 				annotation2.effects);
 	}
@@ -294,8 +294,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.943_952del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gly315Profs*26", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.943_952del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly315Profs*26", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -308,8 +308,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.691-3_693del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Trp231del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.691-3_693del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Trp231del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 
@@ -319,8 +319,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation2 = new DeletionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(2, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.704_712del", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.Val235_Val237del", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.704_712del", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.Val235_Val237del", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation2.effects);
 
 		// deletion of three codons, resulting in delins case
@@ -329,8 +329,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation3 = new DeletionAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, annotation3.transcript.accession);
 		Assert.assertEquals(2, annotation3.annoLoc.rank);
-		Assert.assertEquals("c.708_716del", annotation3.ntHGVSDescription);
-		Assert.assertEquals("p.Gln236_Asp239delinsHis", annotation3.aaHGVSDescription);
+		Assert.assertEquals("c.708_716del", annotation3.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln236_Asp239delinsHis", annotation3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation3.effects);
 	}
 
@@ -352,8 +352,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.119_123del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gln40Profs*18", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.119_123del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln40Profs*18", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -373,8 +373,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.488_490del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ser163del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.488_490del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ser163del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -396,8 +396,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1476_1477del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Asn494Profs*38", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1476_1477del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Asn494Profs*38", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -417,8 +417,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.369_377del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Val124_Thr126del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.369_377del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Val124_Thr126del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -438,8 +438,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.275_285del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ile92Argfs*26", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.275_285del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ile92Argfs*26", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -461,8 +461,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1503_1507del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu501Aspfs*96", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1503_1507del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu501Aspfs*96", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -482,8 +482,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1219_1221del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Val407del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1219_1221del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Val407del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -503,8 +503,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.985del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr329Leufs*17", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.985del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr329Leufs*17", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -533,8 +533,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.324_326del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Phe109del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.324_326del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Phe109del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -556,8 +556,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.324_326del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Phe109del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.324_326del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Phe109del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -579,8 +579,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1542_1544del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr517del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1542_1544del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr517del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -602,8 +602,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.791_792del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Lys264Argfs*10", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.791_792del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Lys264Argfs*10", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -625,8 +625,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.890_892del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu297_Lys298delinsGln", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.890_892del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu297_Lys298delinsGln", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -646,8 +646,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.422_425del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Cys141Serfs*21", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.422_425del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Cys141Serfs*21", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -669,8 +669,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.377del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Pro126Glnfs*18", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.377del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Pro126Glnfs*18", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -692,8 +692,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.542_543del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu181Hisfs*20", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.542_543del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu181Hisfs*20", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -715,8 +715,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.404_421del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu135_Leu140del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.404_421del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu135_Leu140del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -738,8 +738,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.100_102del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Lys34del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.100_102del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Lys34del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -761,8 +761,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(13, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.842_844del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu281del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.842_844del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu281del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -785,8 +785,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1310del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gly437Valfs*5", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1310del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly437Valfs*5", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.SPLICE_REGION),
 				annotation1.effects);
 	}
@@ -809,8 +809,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.243_248del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu82_Gln83del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.243_248del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu82_Gln83del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -832,8 +832,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.552_557del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ser185_Leu186del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.552_557del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ser185_Leu186del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -859,8 +859,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.560del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gly187Valfs*23", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.560del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly187Valfs*23", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.SPLICE_REGION),
 				annotation1.effects);
 	}
@@ -883,8 +883,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.317_318del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Pro106Argfs*?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.317_318del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Pro106Argfs*?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -904,8 +904,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.72_90del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ser25Hisfs*78", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.72_90del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ser25Hisfs*78", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -927,8 +927,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1152_1157del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.His384_Arg386delinsGln", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1152_1157del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.His384_Arg386delinsGln", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DELETION), annotation1.effects);
 	}
 
@@ -950,8 +950,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-25del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-25del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -973,8 +973,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-7_-6del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-7_-6del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -996,8 +996,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-11_-5del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-11_-5del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -1019,8 +1019,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.315-2del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.315-2del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 	}
@@ -1043,8 +1043,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1027del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Val343Trpfs*33", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1027del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Val343Trpfs*33", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.SPLICE_DONOR),
 				annotation1.effects);
 	}
@@ -1067,8 +1067,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(42, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.5842del", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.5842del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -1087,8 +1087,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.26del", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.26del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -1110,8 +1110,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.385del", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.385del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -1134,8 +1134,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(12, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1068_1071del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu358del", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1068_1071del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu358del", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION), annotation1.effects);
 	}
 
@@ -1157,8 +1157,8 @@ public class DeletionAnnotationBuilderTest {
 		Annotation annotation1 = new DeletionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2461del", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.*821del?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2461del", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.*821del?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_DELETION, VariantType.STOPLOSS), annotation1.effects);
 	}
 
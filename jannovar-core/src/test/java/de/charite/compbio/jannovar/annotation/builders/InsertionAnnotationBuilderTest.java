@@ -68,8 +68,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno = new InsertionAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals(null, anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals(null, anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UPSTREAM), anno.effects);
 	}
 
@@ -80,8 +80,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno = new InsertionAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals(null, anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals(null, anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.DOWNSTREAM), anno.effects);
 	}
 
@@ -93,8 +93,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno = new InsertionAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals(null, anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals(null, anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), anno.effects);
 
 		// downstream intergenic
@@ -103,8 +103,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno2 = new InsertionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, anno2.transcript.accession);
 		Assert.assertEquals(null, anno2.annoLoc);
-		Assert.assertEquals(null, anno2.ntHGVSDescription);
-		Assert.assertEquals(null, anno2.aaHGVSDescription);
+		Assert.assertEquals(null, anno2.getNtHGVSDescription());
+		Assert.assertEquals(null, anno2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), anno2.effects);
 	}
 
@@ -115,8 +115,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno = new InsertionAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(3, anno.annoLoc.rank);
-		Assert.assertEquals("c.1044+8_1044+9insA", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.1044+8_1044+9insA", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), anno.effects);
 	}
 
@@ -127,8 +127,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno = new InsertionAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(1, anno.annoLoc.rank);
-		Assert.assertEquals("c.-1dup", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.-1dup", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), anno.effects);
 	}
 
@@ -139,8 +139,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno = new InsertionAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(10, anno.annoLoc.rank);
-		Assert.assertEquals("c.2067_*1insA", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.2067_*1insA", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), anno.effects);
 	}
 
@@ -152,8 +152,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation anno = new InsertionAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(2, anno.annoLoc.rank);
-		Assert.assertEquals("c.691-1_691insACT", anno.ntHGVSDescription);
-		Assert.assertEquals("p.?", anno.aaHGVSDescription);
+		Assert.assertEquals("c.691-1_691insACT", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.?", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_REGION), anno.effects);
 	}
 
@@ -170,8 +170,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1agc = new InsertionAnnotationBuilder(infoForward, change1agc).build();
 		Assert.assertEquals(infoForward.accession, annotation1agc.transcript.accession);
 		Assert.assertEquals(10, annotation1agc.annoLoc.rank);
-		Assert.assertEquals("c.2066_2067insAGC", annotation1agc.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1agc.aaHGVSDescription);
+		Assert.assertEquals("c.2066_2067insAGC", annotation1agc.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1agc.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1agc.effects);
 
 		// The WT stop codon is destroyed but there is a new one downstream
@@ -180,8 +180,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1tgc = new InsertionAnnotationBuilder(infoForward, change1tgc).build();
 		Assert.assertEquals(infoForward.accession, annotation1tgc.transcript.accession);
 		Assert.assertEquals(10, annotation1tgc.annoLoc.rank);
-		Assert.assertEquals("c.2066_2067insTGC", annotation1tgc.ntHGVSDescription);
-		Assert.assertEquals("p.*689Tyrext*24", annotation1tgc.aaHGVSDescription);
+		Assert.assertEquals("c.2066_2067insTGC", annotation1tgc.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Tyrext*24", annotation1tgc.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), annotation1tgc.effects);
 
 		// Test case where the start codon is destroyed.
@@ -190,8 +190,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation2agc = new InsertionAnnotationBuilder(infoForward, change2agc).build();
 		Assert.assertEquals(infoForward.accession, annotation2agc.transcript.accession);
 		Assert.assertEquals(1, annotation2agc.annoLoc.rank);
-		Assert.assertEquals("c.1_2insAGC", annotation2agc.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation2agc.aaHGVSDescription);
+		Assert.assertEquals("c.1_2insAGC", annotation2agc.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation2agc.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION, VariantType.START_LOSS),
 				annotation2agc.effects);
 
@@ -203,8 +203,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3taa = new InsertionAnnotationBuilder(infoForward, change3taa).build();
 		Assert.assertEquals(infoForward.accession, annotation3taa.transcript.accession);
 		Assert.assertEquals(1, annotation3taa.annoLoc.rank);
-		Assert.assertEquals("c.3_4insTAA", annotation3taa.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2*", annotation3taa.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insTAA", annotation3taa.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2*", annotation3taa.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION, VariantType.STOPGAIN),
 				annotation3taa.effects);
 
@@ -214,8 +214,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3tcctaa = new InsertionAnnotationBuilder(infoForward, change3tcctaa).build();
 		Assert.assertEquals(infoForward.accession, annotation3tcctaa.transcript.accession);
 		Assert.assertEquals(1, annotation3tcctaa.annoLoc.rank);
-		Assert.assertEquals("c.3_4insTCCTAA", annotation3tcctaa.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2_Gly3delinsSer", annotation3tcctaa.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insTCCTAA", annotation3tcctaa.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2_Gly3delinsSer", annotation3tcctaa.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION, VariantType.STOPGAIN),
 				annotation3tcctaa.effects);
 
@@ -225,8 +225,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4tcctcctcc = new InsertionAnnotationBuilder(infoForward, change4tcctcctcc).build();
 		Assert.assertEquals(infoForward.accession, annotation4tcctcctcc.transcript.accession);
 		Assert.assertEquals(1, annotation4tcctcctcc.annoLoc.rank);
-		Assert.assertEquals("c.3_4insTCCTCCTCC", annotation4tcctcctcc.ntHGVSDescription);
-		Assert.assertEquals("p.Met1_Asp2insSerSerSer", annotation4tcctcctcc.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insTCCTCCTCC", annotation4tcctcctcc.getNtHGVSDescription());
+		Assert.assertEquals("p.Met1_Asp2insSerSerSer", annotation4tcctcctcc.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION, VariantType.NON_FS_INSERTION),
 				annotation4tcctcctcc.effects);
 
@@ -236,8 +236,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation5gatggc = new InsertionAnnotationBuilder(infoForward, change5gatggc).build();
 		Assert.assertEquals(infoForward.accession, annotation5gatggc.transcript.accession);
 		Assert.assertEquals(1, annotation5gatggc.annoLoc.rank);
-		Assert.assertEquals("c.5_6insTGGCGA", annotation5gatggc.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2_Gly3dup", annotation5gatggc.aaHGVSDescription);
+		Assert.assertEquals("c.5_6insTGGCGA", annotation5gatggc.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2_Gly3dup", annotation5gatggc.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation5gatggc.effects);
 	}
 
@@ -251,8 +251,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1_2insG", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1_2insG", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1.effects);
 
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640671, PositionType.ZERO_BASED),
@@ -260,8 +260,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation2 = new InsertionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(1, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.2_3insA", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.2_3insA", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation2.effects);
 
 		// Try to insert all non-duplicate NTs between 3 and 4.
@@ -271,8 +271,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3a = new InsertionAnnotationBuilder(infoForward, change3a).build();
 		Assert.assertEquals(infoForward.accession, annotation3a.transcript.accession);
 		Assert.assertEquals(1, annotation3a.annoLoc.rank);
-		Assert.assertEquals("c.3_4insA", annotation3a.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Argfs*37", annotation3a.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insA", annotation3a.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Argfs*37", annotation3a.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3a.effects);
 
 		GenomeChange change3c = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640672, PositionType.ZERO_BASED),
@@ -280,8 +280,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3c = new InsertionAnnotationBuilder(infoForward, change3c).build();
 		Assert.assertEquals(infoForward.accession, annotation3c.transcript.accession);
 		Assert.assertEquals(1, annotation3c.annoLoc.rank);
-		Assert.assertEquals("c.3_4insC", annotation3c.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Argfs*37", annotation3c.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insC", annotation3c.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Argfs*37", annotation3c.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3c.effects);
 
 		GenomeChange change3t = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640672, PositionType.ZERO_BASED),
@@ -289,8 +289,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3t = new InsertionAnnotationBuilder(infoForward, change3t).build();
 		Assert.assertEquals(infoForward.accession, annotation3t.transcript.accession);
 		Assert.assertEquals(1, annotation3t.annoLoc.rank);
-		Assert.assertEquals("c.3_4insT", annotation3t.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2*", annotation3t.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insT", annotation3t.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2*", annotation3t.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation3t.effects);
 
 		// Try to insert all non-duplicate NTs between 4 and 5.
@@ -300,8 +300,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4c = new InsertionAnnotationBuilder(infoForward, change4c).build();
 		Assert.assertEquals(infoForward.accession, annotation4c.transcript.accession);
 		Assert.assertEquals(1, annotation4c.annoLoc.rank);
-		Assert.assertEquals("c.4_5insC", annotation4c.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Alafs*37", annotation4c.aaHGVSDescription);
+		Assert.assertEquals("c.4_5insC", annotation4c.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Alafs*37", annotation4c.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation4c.effects);
 
 		GenomeChange change4t = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640673, PositionType.ZERO_BASED),
@@ -309,8 +309,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4t = new InsertionAnnotationBuilder(infoForward, change4t).build();
 		Assert.assertEquals(infoForward.accession, annotation4t.transcript.accession);
 		Assert.assertEquals(1, annotation4t.annoLoc.rank);
-		Assert.assertEquals("c.4_5insT", annotation4t.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Valfs*37", annotation4t.aaHGVSDescription);
+		Assert.assertEquals("c.4_5insT", annotation4t.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Valfs*37", annotation4t.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation4t.effects);
 
 		// Try to insert all non-duplicate NTs between 5 and 6.
@@ -320,8 +320,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation5g = new InsertionAnnotationBuilder(infoForward, change5g).build();
 		Assert.assertEquals(infoForward.accession, annotation5g.transcript.accession);
 		Assert.assertEquals(1, annotation5g.annoLoc.rank);
-		Assert.assertEquals("c.5_6insG", annotation5g.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Glufs*37", annotation5g.aaHGVSDescription);
+		Assert.assertEquals("c.5_6insG", annotation5g.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Glufs*37", annotation5g.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation5g.effects);
 
 		GenomeChange change5t = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640674, PositionType.ZERO_BASED),
@@ -329,8 +329,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation5t = new InsertionAnnotationBuilder(infoForward, change5t).build();
 		Assert.assertEquals(infoForward.accession, annotation5t.transcript.accession);
 		Assert.assertEquals(1, annotation5t.annoLoc.rank);
-		Assert.assertEquals("c.5_6insT", annotation5t.ntHGVSDescription);
-		Assert.assertEquals("p.Gly3Argfs*36", annotation5t.aaHGVSDescription);
+		Assert.assertEquals("c.5_6insT", annotation5t.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly3Argfs*36", annotation5t.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation5t.effects);
 
 		// It appears to be impossible to force a stop loss for this transcript.
@@ -341,8 +341,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation6t = new InsertionAnnotationBuilder(infoForward, change6t).build();
 		Assert.assertEquals(infoForward.accession, annotation6t.transcript.accession);
 		Assert.assertEquals(10, annotation6t.annoLoc.rank);
-		Assert.assertEquals("c.2066_2067insT", annotation6t.ntHGVSDescription);
-		Assert.assertEquals("p.*689Tyrext*15", annotation6t.aaHGVSDescription);
+		Assert.assertEquals("c.2066_2067insT", annotation6t.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Tyrext*15", annotation6t.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation6t.effects);
 
 		GenomeChange change6c = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649270, PositionType.ZERO_BASED),
@@ -350,8 +350,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation6c = new InsertionAnnotationBuilder(infoForward, change6c).build();
 		Assert.assertEquals(infoForward.accession, annotation6c.transcript.accession);
 		Assert.assertEquals(10, annotation6c.annoLoc.rank);
-		Assert.assertEquals("c.2065_2066insC", annotation6c.ntHGVSDescription);
-		Assert.assertEquals("p.*689Serext*15", annotation6c.aaHGVSDescription);
+		Assert.assertEquals("c.2065_2066insC", annotation6c.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Serext*15", annotation6c.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation6c.effects);
 
 		// Test for no change when inserting into stop codon.
@@ -360,8 +360,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation7g = new InsertionAnnotationBuilder(infoForward, change7g).build();
 		Assert.assertEquals(infoForward.accession, annotation7g.transcript.accession);
 		Assert.assertEquals(10, annotation7g.annoLoc.rank);
-		Assert.assertEquals("c.2065_2066insG", annotation7g.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation7g.aaHGVSDescription);
+		Assert.assertEquals("c.2065_2066insG", annotation7g.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation7g.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation7g.effects);
 	}
 
@@ -375,8 +375,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1_2insGA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1_2insGA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1.effects);
 
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640671, PositionType.ZERO_BASED),
@@ -384,8 +384,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation2 = new InsertionAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, annotation2.transcript.accession);
 		Assert.assertEquals(1, annotation2.annoLoc.rank);
-		Assert.assertEquals("c.2_3insAG", annotation2.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation2.aaHGVSDescription);
+		Assert.assertEquals("c.2_3insAG", annotation2.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation2.effects);
 
 		// Try to insert some non-duplicate NT pairs between 3 and 4.
@@ -395,8 +395,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3ac = new InsertionAnnotationBuilder(infoForward, change3ac).build();
 		Assert.assertEquals(infoForward.accession, annotation3ac.transcript.accession);
 		Assert.assertEquals(1, annotation3ac.annoLoc.rank);
-		Assert.assertEquals("c.3_4insAC", annotation3ac.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Thrfs*10", annotation3ac.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insAC", annotation3ac.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Thrfs*10", annotation3ac.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3ac.effects);
 
 		GenomeChange change3cg = new GenomeChange(
@@ -404,8 +404,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3cg = new InsertionAnnotationBuilder(infoForward, change3cg).build();
 		Assert.assertEquals(infoForward.accession, annotation3cg.transcript.accession);
 		Assert.assertEquals(1, annotation3cg.annoLoc.rank);
-		Assert.assertEquals("c.3_4insCG", annotation3cg.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Argfs*10", annotation3cg.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insCG", annotation3cg.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Argfs*10", annotation3cg.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3cg.effects);
 
 		GenomeChange change3ta = new GenomeChange(
@@ -413,8 +413,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3ta = new InsertionAnnotationBuilder(infoForward, change3ta).build();
 		Assert.assertEquals(infoForward.accession, annotation3ta.transcript.accession);
 		Assert.assertEquals(1, annotation3ta.annoLoc.rank);
-		Assert.assertEquals("c.3_4insTA", annotation3ta.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2*", annotation3ta.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insTA", annotation3ta.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2*", annotation3ta.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation3ta.effects);
 
 		// Try to insert some non-duplicate NT pairs between 4 and 5.
@@ -424,8 +424,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4ct = new InsertionAnnotationBuilder(infoForward, change4ct).build();
 		Assert.assertEquals(infoForward.accession, annotation4ct.transcript.accession);
 		Assert.assertEquals(1, annotation4ct.annoLoc.rank);
-		Assert.assertEquals("c.4_5insCT", annotation4ct.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Alafs*10", annotation4ct.aaHGVSDescription);
+		Assert.assertEquals("c.4_5insCT", annotation4ct.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Alafs*10", annotation4ct.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3cg.effects);
 
 		GenomeChange change4tg = new GenomeChange(
@@ -433,8 +433,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4tg = new InsertionAnnotationBuilder(infoForward, change4tg).build();
 		Assert.assertEquals(infoForward.accession, annotation4tg.transcript.accession);
 		Assert.assertEquals(1, annotation4tg.annoLoc.rank);
-		Assert.assertEquals("c.4_5insTG", annotation4tg.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Valfs*10", annotation4tg.aaHGVSDescription);
+		Assert.assertEquals("c.4_5insTG", annotation4tg.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Valfs*10", annotation4tg.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation3ta.effects);
 
 		// Try to insert some non-duplicate NT pairs between 5 and 6.
@@ -444,8 +444,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation5gc = new InsertionAnnotationBuilder(infoForward, change5gc).build();
 		Assert.assertEquals(infoForward.accession, annotation5gc.transcript.accession);
 		Assert.assertEquals(1, annotation5gc.annoLoc.rank);
-		Assert.assertEquals("c.5_6insGC", annotation5gc.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Glufs*10", annotation5gc.aaHGVSDescription);
+		Assert.assertEquals("c.5_6insGC", annotation5gc.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Glufs*10", annotation5gc.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation3ta.effects);
 
 		GenomeChange change5ta = new GenomeChange(
@@ -453,8 +453,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation5ta = new InsertionAnnotationBuilder(infoForward, change5ta).build();
 		Assert.assertEquals(infoForward.accession, annotation5ta.transcript.accession);
 		Assert.assertEquals(1, annotation5ta.annoLoc.rank);
-		Assert.assertEquals("c.5_6insTA", annotation5ta.ntHGVSDescription);
-		Assert.assertEquals("p.Gly3Thrfs*9", annotation5ta.aaHGVSDescription);
+		Assert.assertEquals("c.5_6insTA", annotation5ta.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly3Thrfs*9", annotation5ta.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3cg.effects);
 	}
 
@@ -470,8 +470,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4actagact = new InsertionAnnotationBuilder(infoForward, change4actagact).build();
 		Assert.assertEquals(infoForward.accession, annotation4actagact.transcript.accession);
 		Assert.assertEquals(1, annotation4actagact.annoLoc.rank);
-		Assert.assertEquals("c.6_7insTAGACTAC", annotation4actagact.ntHGVSDescription);
-		Assert.assertEquals("p.Gly3*", annotation4actagact.aaHGVSDescription);
+		Assert.assertEquals("c.6_7insTAGACTAC", annotation4actagact.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly3*", annotation4actagact.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation4actagact.effects);
 
 		GenomeChange change4cgtg = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640673,
@@ -479,8 +479,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4cgtg = new InsertionAnnotationBuilder(infoForward, change4cgtg).build();
 		Assert.assertEquals(infoForward.accession, annotation4cgtg.transcript.accession);
 		Assert.assertEquals(1, annotation4cgtg.annoLoc.rank);
-		Assert.assertEquals("c.4_5insCGTG", annotation4cgtg.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Alafs*2", annotation4cgtg.aaHGVSDescription);
+		Assert.assertEquals("c.4_5insCGTG", annotation4cgtg.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Alafs*2", annotation4cgtg.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation4cgtg.effects);
 	}
 
@@ -497,8 +497,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1c = new InsertionAnnotationBuilder(infoReverse, change1c).build();
 		Assert.assertEquals(infoReverse.accession, annotation1c.transcript.accession);
 		Assert.assertEquals(1, annotation1c.annoLoc.rank);
-		Assert.assertEquals("c.1_2insG", annotation1c.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1c.aaHGVSDescription);
+		Assert.assertEquals("c.1_2insG", annotation1c.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1c.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1c.effects);
 
 		GenomeChange change1g = new GenomeChange(
@@ -506,8 +506,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1g = new InsertionAnnotationBuilder(infoReverse, change1g).build();
 		Assert.assertEquals(infoReverse.accession, annotation1g.transcript.accession);
 		Assert.assertEquals(1, annotation1g.annoLoc.rank);
-		Assert.assertEquals("c.1_2insC", annotation1g.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1g.aaHGVSDescription);
+		Assert.assertEquals("c.1_2insC", annotation1g.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1g.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1g.effects);
 
 		// Insert A and C between nucleotides 2 and 3.
@@ -517,8 +517,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation2a = new InsertionAnnotationBuilder(infoReverse, change2a).build();
 		Assert.assertEquals(infoReverse.accession, annotation2a.transcript.accession);
 		Assert.assertEquals(1, annotation2a.annoLoc.rank);
-		Assert.assertEquals("c.2_3insA", annotation2a.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation2a.aaHGVSDescription);
+		Assert.assertEquals("c.2_3insA", annotation2a.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation2a.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation2a.effects);
 
 		GenomeChange change2c = new GenomeChange(
@@ -526,8 +526,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation2c = new InsertionAnnotationBuilder(infoReverse, change2c).build();
 		Assert.assertEquals(infoReverse.accession, annotation2c.transcript.accession);
 		Assert.assertEquals(1, annotation2c.annoLoc.rank);
-		Assert.assertEquals("c.2_3insC", annotation2c.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation2c.aaHGVSDescription);
+		Assert.assertEquals("c.2_3insC", annotation2c.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation2c.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation2c.effects);
 
 		// Insertions between nucleotides 3 and 4.
@@ -537,8 +537,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3a = new InsertionAnnotationBuilder(infoReverse, change3a).build();
 		Assert.assertEquals(infoReverse.accession, annotation3a.transcript.accession);
 		Assert.assertEquals(1, annotation3a.annoLoc.rank);
-		Assert.assertEquals("c.3_4insA", annotation3a.ntHGVSDescription);
-		Assert.assertEquals("p.Ala2Serfs*16", annotation3a.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insA", annotation3a.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala2Serfs*16", annotation3a.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3a.effects);
 
 		GenomeChange change3c = new GenomeChange(
@@ -546,8 +546,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation3c = new InsertionAnnotationBuilder(infoReverse, change3c).build();
 		Assert.assertEquals(infoReverse.accession, annotation3c.transcript.accession);
 		Assert.assertEquals(1, annotation3c.annoLoc.rank);
-		Assert.assertEquals("c.3_4insC", annotation3c.ntHGVSDescription);
-		Assert.assertEquals("p.Ala2Argfs*16", annotation3c.aaHGVSDescription);
+		Assert.assertEquals("c.3_4insC", annotation3c.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala2Argfs*16", annotation3c.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation3c.effects);
 
 		// Some insertions into stop codon
@@ -557,8 +557,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4g = new InsertionAnnotationBuilder(infoReverse, change4g).build();
 		Assert.assertEquals(infoReverse.accession, annotation4g.transcript.accession);
 		Assert.assertEquals(3, annotation4g.annoLoc.rank);
-		Assert.assertEquals("c.1411_1412insC", annotation4g.ntHGVSDescription);
-		Assert.assertEquals("p.*471Serext*7", annotation4g.aaHGVSDescription);
+		Assert.assertEquals("c.1411_1412insC", annotation4g.getNtHGVSDescription());
+		Assert.assertEquals("p.*471Serext*7", annotation4g.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation4g.effects);
 
 		GenomeChange change4c = new GenomeChange(
@@ -566,8 +566,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4c = new InsertionAnnotationBuilder(infoReverse, change4c).build();
 		Assert.assertEquals(infoReverse.accession, annotation4c.transcript.accession);
 		Assert.assertEquals(3, annotation4c.annoLoc.rank);
-		Assert.assertEquals("c.1411_1412insG", annotation4c.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation4c.aaHGVSDescription);
+		Assert.assertEquals("c.1411_1412insG", annotation4c.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation4c.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation4c.effects);
 	}
 
@@ -583,8 +583,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4actagact = new InsertionAnnotationBuilder(infoReverse, change4actagact).build();
 		Assert.assertEquals(infoReverse.accession, annotation4actagact.transcript.accession);
 		Assert.assertEquals(1, annotation4actagact.annoLoc.rank);
-		Assert.assertEquals("c.4_5insAGTCTAGT", annotation4actagact.ntHGVSDescription);
-		Assert.assertEquals("p.Ala2Glufs*16", annotation4actagact.aaHGVSDescription);
+		Assert.assertEquals("c.4_5insAGTCTAGT", annotation4actagact.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala2Glufs*16", annotation4actagact.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation4actagact.effects);
 
 		// This insertion will be shifted.
@@ -593,8 +593,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation4cgtg = new InsertionAnnotationBuilder(infoReverse, change4cgtg).build();
 		Assert.assertEquals(infoReverse.accession, annotation4cgtg.transcript.accession);
 		Assert.assertEquals(1, annotation4cgtg.annoLoc.rank);
-		Assert.assertEquals("c.6_7insCGCA", annotation4cgtg.ntHGVSDescription);
-		Assert.assertEquals("p.Ala3Argfs*16", annotation4cgtg.aaHGVSDescription);
+		Assert.assertEquals("c.6_7insCGCA", annotation4cgtg.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala3Argfs*16", annotation4cgtg.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation4cgtg.effects);
 
 		// Insert whole stop codon.
@@ -603,8 +603,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation5cgtg = new InsertionAnnotationBuilder(infoReverse, change5cgtg).build();
 		Assert.assertEquals(infoReverse.accession, annotation5cgtg.transcript.accession);
 		Assert.assertEquals(1, annotation5cgtg.annoLoc.rank);
-		Assert.assertEquals("c.6_7insTAAT", annotation5cgtg.ntHGVSDescription);
-		Assert.assertEquals("p.Ala3*", annotation5cgtg.aaHGVSDescription);
+		Assert.assertEquals("c.6_7insTAAT", annotation5cgtg.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala3*", annotation5cgtg.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation5cgtg.effects);
 	}
 
@@ -626,8 +626,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*255dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*255dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -649,8 +649,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-37_-36insCTT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-37_-36insCTT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -672,8 +672,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.492_493insGA", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.492_493insGA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -693,8 +693,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.511_512dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.511_512dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -723,8 +723,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.769_771dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Phe257dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.769_771dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Phe257dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -762,8 +762,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.439dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Met147Asnfs*8", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.439dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Met147Asnfs*8", annotation1.getAaHGVSDescription());
 		// TODO(holtgrem): Duplication on nucleotide level but FS insertion for AAs.
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
@@ -789,8 +789,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.325_327dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Arg109dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.325_327dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Arg109dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -810,8 +810,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.956dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.956dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -839,8 +839,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.766_771dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu256_Phe257dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.766_771dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu256_Phe257dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -863,8 +863,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.760_771dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu254_Phe257dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.760_771dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu254_Phe257dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -889,8 +889,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.424_426dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr142dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.424_426dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr142dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -916,8 +916,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.439_444dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Asn147_Lys148dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.439_444dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Asn147_Lys148dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -940,8 +940,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.439_450dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Asn147_Lys150dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.439_450dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Asn147_Lys150dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -969,8 +969,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.949_954dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.*319Gluext*2", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.949_954dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.*319Gluext*2", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), annotation1.effects);
 	}
 
@@ -1001,8 +1001,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.474_476dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu158dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.474_476dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu158dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -1029,8 +1029,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.628_629insCGAT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu210Profs*61", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.628_629insCGAT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu210Profs*61", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1055,8 +1055,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(15, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2265_2266insCC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Tyr756Profs*21", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2265_2266insCC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Tyr756Profs*21", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1083,8 +1083,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.93_94insA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gln32Thrfs*39", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.93_94insA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln32Thrfs*39", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1109,8 +1109,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(19, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6318_6319insAGCG", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Trp2107Serfs*6", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6318_6319insAGCG", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Trp2107Serfs*6", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1137,8 +1137,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(19, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6882_6883insCAT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2294_Glu2295insHis", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6882_6883insCAT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2294_Glu2295insHis", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION), annotation1.effects);
 	}
 
@@ -1163,8 +1163,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(111, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.21594_21595insACTT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Val7199Thrfs*8", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.21594_21595insACTT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Val7199Thrfs*8", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1192,8 +1192,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.15_16insTTC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ile5_Lys6insPhe", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.15_16insTTC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ile5_Lys6insPhe", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION), annotation1.effects);
 	}
 
@@ -1220,8 +1220,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.8108_8109insTG", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ser2704Alafs*301", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.8108_8109insTG", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ser2704Alafs*301", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1246,8 +1246,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6858_6859insCAG", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr2286_Thr2287insGln", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6858_6859insCAG", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr2286_Thr2287insGln", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION), annotation1.effects);
 	}
 
@@ -1272,8 +1272,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.608_609insGACT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gln204Thrfs*4", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.608_609insGACT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln204Thrfs*4", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1298,8 +1298,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1147_1148insTGA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Pro383delinsLeuThr", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1147_1148insTGA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Pro383delinsLeuThr", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_SUBSTITUTION), annotation1.effects);
 	}
 
@@ -1327,8 +1327,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.730_731insT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Asn244Ilefs*52", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.730_731insT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Asn244Ilefs*52", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1351,8 +1351,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1806_1807insATGC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ser603Metfs*144", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1806_1807insATGC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ser603Metfs*144", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1376,8 +1376,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.255_256insAACA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Val86Asnfs*13", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.255_256insAACA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Val86Asnfs*13", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1402,8 +1402,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.863_864insTCT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu288dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.863_864insTCT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu288dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -1428,8 +1428,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.118_119insAAAA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gly40Glufs*10", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.118_119insAAAA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly40Glufs*10", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1454,8 +1454,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.3442_3443insGTA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ser1147dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.3442_3443insGTA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ser1147dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -1480,8 +1480,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.328_329insAA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gly110Glufs*51", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.328_329insAA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly110Glufs*51", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1506,8 +1506,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.286dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu96Profs*16", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.286dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu96Profs*16", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.FS_INSERTION), annotation1.effects);
 	}
 
@@ -1536,8 +1536,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1_2insC", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1_2insC", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1.effects);
 	}
 
@@ -1562,8 +1562,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2_3insA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2_3insA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.START_LOSS), annotation1.effects);
 	}
 
@@ -1592,8 +1592,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*28_*29insTA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*28_*29insTA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -1618,8 +1618,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*18_*21dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*18_*21dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -1646,8 +1646,8 @@ public class InsertionAnnotationBuilderTest {
 		Annotation annotation1 = new InsertionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(8, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*5_*6insGACA", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*5_*6insGACA", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -1672,8 +1672,8 @@ public class InsertionAnnotationBuilderTest {
 		// The following result is equal to the one of Mutalyzer.
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.660_686dup", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ala225_Asp233dup", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.660_686dup", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala225_Asp233dup", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_DUPLICATION), annotation1.effects);
 	}
 
@@ -1699,8 +1699,8 @@ public class InsertionAnnotationBuilderTest {
 		// The UCSC transcript DNA sequence is bogus here.
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.590_591insAAGT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Leu197LeuSer*", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.590_591insAAGT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Leu197LeuSer*", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.NON_FS_INSERTION, VariantType.STOPGAIN),
 				annotation1.effects);
 	}
@@ -65,8 +65,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals(null, anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals(null, anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UPSTREAM), anno.effects);
 	}
 
@@ -77,8 +77,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals(null, anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals(null, anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.DOWNSTREAM), anno.effects);
 	}
 
@@ -90,8 +90,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, anno1.transcript.accession);
 		Assert.assertEquals(null, anno1.annoLoc);
-		Assert.assertEquals(null, anno1.ntHGVSDescription);
-		Assert.assertEquals(null, anno1.aaHGVSDescription);
+		Assert.assertEquals(null, anno1.getNtHGVSDescription());
+		Assert.assertEquals(null, anno1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), anno1.effects);
 
 		// downstream intergenic
@@ -100,8 +100,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno2 = new SNVAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, anno2.transcript.accession);
 		Assert.assertEquals(null, anno2.annoLoc);
-		Assert.assertEquals(null, anno2.ntHGVSDescription);
-		Assert.assertEquals(null, anno2.aaHGVSDescription);
+		Assert.assertEquals(null, anno2.getNtHGVSDescription());
+		Assert.assertEquals(null, anno2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), anno2.effects);
 	}
 
@@ -113,8 +113,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(1, anno.annoLoc.rank);
-		Assert.assertEquals("c.691-11T>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.691-11T>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), anno.effects);
 
 		// position towards left side of intron
@@ -123,8 +123,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno2 = new SNVAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, anno2.transcript.accession);
 		Assert.assertEquals(3, anno2.annoLoc.rank);
-		Assert.assertEquals("c.1044+11T>A", anno2.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno2.aaHGVSDescription);
+		Assert.assertEquals("c.1044+11T>A", anno2.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), anno2.effects);
 	}
 
@@ -135,8 +135,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(10, anno.annoLoc.rank);
-		Assert.assertEquals("c.*1T>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.*1T>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), anno.effects);
 	}
 
@@ -147,8 +147,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(1, anno.annoLoc.rank);
-		Assert.assertEquals("c.-1T>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.-1T>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), anno.effects);
 	}
 
@@ -159,8 +159,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(1, anno.annoLoc.rank);
-		Assert.assertEquals("c.1A>T", anno.ntHGVSDescription);
-		Assert.assertEquals("p.0?", anno.aaHGVSDescription);
+		Assert.assertEquals("c.1A>T", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.START_LOSS), anno.effects);
 	}
 
@@ -171,8 +171,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(10, anno.annoLoc.rank);
-		Assert.assertEquals("c.2067G>C", anno.ntHGVSDescription);
-		Assert.assertEquals("p.*689Tyrext*23", anno.aaHGVSDescription);
+		Assert.assertEquals("c.2067G>C", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Tyrext*23", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), anno.effects);
 	}
 
@@ -183,8 +183,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(10, anno.annoLoc.rank);
-		Assert.assertEquals("c.2058T>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.Cys686*", anno.aaHGVSDescription);
+		Assert.assertEquals("c.2058T>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.Cys686*", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), anno.effects);
 	}
 
@@ -195,8 +195,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(10, anno.annoLoc.rank);
-		Assert.assertEquals("c.2067G>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.2067G>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOP_RETAINED, VariantType.SYNONYMOUS), anno.effects);
 	}
 
@@ -207,8 +207,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(0, anno.annoLoc.rank);
-		Assert.assertEquals("c.-70+1G>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.-70+1G>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5, VariantType.SPLICE_DONOR), anno.effects);
 	}
 
@@ -219,8 +219,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(0, anno.annoLoc.rank);
-		Assert.assertEquals("c.-69-1G>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.-69-1G>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5, VariantType.SPLICE_ACCEPTOR), anno.effects);
 	}
 
@@ -232,8 +232,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno = new SNVAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(1, anno.annoLoc.rank);
-		Assert.assertEquals("c.-67G>A", anno.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno.aaHGVSDescription);
+		Assert.assertEquals("c.-67G>A", anno.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5, VariantType.SPLICE_REGION), anno.effects);
 		// in CDS
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6647537, PositionType.ZERO_BASED),
@@ -241,8 +241,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno2 = new SNVAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, anno2.transcript.accession);
 		Assert.assertEquals(6, anno2.annoLoc.rank);
-		Assert.assertEquals("c.1225T>G", anno2.ntHGVSDescription);
-		Assert.assertEquals("p.Cys409Gly", anno2.aaHGVSDescription);
+		Assert.assertEquals("c.1225T>G", anno2.getNtHGVSDescription());
+		Assert.assertEquals("p.Cys409Gly", anno2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), anno2.effects);
 	}
 
@@ -255,8 +255,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, anno1.transcript.accession);
 		Assert.assertEquals(1, anno1.annoLoc.rank);
-		Assert.assertEquals("c.1A>T", anno1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", anno1.aaHGVSDescription);
+		Assert.assertEquals("c.1A>T", anno1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", anno1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.START_LOSS), anno1.effects);
 
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640670, PositionType.ZERO_BASED),
@@ -264,8 +264,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno2 = new SNVAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, anno2.transcript.accession);
 		Assert.assertEquals(1, anno2.annoLoc.rank);
-		Assert.assertEquals("c.2T>C", anno2.ntHGVSDescription);
-		Assert.assertEquals("p.0?", anno2.aaHGVSDescription);
+		Assert.assertEquals("c.2T>C", anno2.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", anno2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.START_LOSS), anno2.effects);
 
 		GenomeChange change3 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640671, PositionType.ZERO_BASED),
@@ -273,8 +273,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno3 = new SNVAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, anno3.transcript.accession);
 		Assert.assertEquals(1, anno3.annoLoc.rank);
-		Assert.assertEquals("c.3G>A", anno3.ntHGVSDescription);
-		Assert.assertEquals("p.0?", anno3.aaHGVSDescription);
+		Assert.assertEquals("c.3G>A", anno3.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", anno3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.START_LOSS), anno3.effects);
 
 		GenomeChange change4 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640672, PositionType.ZERO_BASED),
@@ -282,8 +282,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno4 = new SNVAnnotationBuilder(infoForward, change4).build();
 		Assert.assertEquals(infoForward.accession, anno4.transcript.accession);
 		Assert.assertEquals(1, anno4.annoLoc.rank);
-		Assert.assertEquals("c.4G>T", anno4.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Tyr", anno4.aaHGVSDescription);
+		Assert.assertEquals("c.4G>T", anno4.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Tyr", anno4.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno4.effects);
 
 		GenomeChange change5 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640673, PositionType.ZERO_BASED),
@@ -291,8 +291,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno5 = new SNVAnnotationBuilder(infoForward, change5).build();
 		Assert.assertEquals(infoForward.accession, anno5.transcript.accession);
 		Assert.assertEquals(1, anno5.annoLoc.rank);
-		Assert.assertEquals("c.5A>T", anno5.ntHGVSDescription);
-		Assert.assertEquals("p.Asp2Val", anno5.aaHGVSDescription);
+		Assert.assertEquals("c.5A>T", anno5.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp2Val", anno5.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno5.effects);
 
 		GenomeChange change6 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640674, PositionType.ZERO_BASED),
@@ -300,8 +300,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno6 = new SNVAnnotationBuilder(infoForward, change6).build();
 		Assert.assertEquals(infoForward.accession, anno6.transcript.accession);
 		Assert.assertEquals(1, anno6.annoLoc.rank);
-		Assert.assertEquals("c.6C>T", anno6.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno6.aaHGVSDescription);
+		Assert.assertEquals("c.6C>T", anno6.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno6.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), anno6.effects);
 
 		GenomeChange change7 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640675, PositionType.ZERO_BASED),
@@ -309,8 +309,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno7 = new SNVAnnotationBuilder(infoForward, change7).build();
 		Assert.assertEquals(infoForward.accession, anno7.transcript.accession);
 		Assert.assertEquals(1, anno7.annoLoc.rank);
-		Assert.assertEquals("c.7G>T", anno7.ntHGVSDescription);
-		Assert.assertEquals("p.Gly3Cys", anno7.aaHGVSDescription);
+		Assert.assertEquals("c.7G>T", anno7.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly3Cys", anno7.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno7.effects);
 
 		GenomeChange change8 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640676, PositionType.ZERO_BASED),
@@ -318,8 +318,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno8 = new SNVAnnotationBuilder(infoForward, change8).build();
 		Assert.assertEquals(infoForward.accession, anno8.transcript.accession);
 		Assert.assertEquals(1, anno8.annoLoc.rank);
-		Assert.assertEquals("c.8G>T", anno8.ntHGVSDescription);
-		Assert.assertEquals("p.Gly3Val", anno8.aaHGVSDescription);
+		Assert.assertEquals("c.8G>T", anno8.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly3Val", anno8.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno8.effects);
 
 		GenomeChange change9 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640677, PositionType.ZERO_BASED),
@@ -327,8 +327,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno9 = new SNVAnnotationBuilder(infoForward, change9).build();
 		Assert.assertEquals(infoForward.accession, anno9.transcript.accession);
 		Assert.assertEquals(1, anno9.annoLoc.rank);
-		Assert.assertEquals("c.9C>G", anno9.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno9.aaHGVSDescription);
+		Assert.assertEquals("c.9C>G", anno9.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno9.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), anno9.effects);
 
 		GenomeChange change10 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6640678, PositionType.ZERO_BASED),
@@ -336,8 +336,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno10 = new SNVAnnotationBuilder(infoForward, change10).build();
 		Assert.assertEquals(infoForward.accession, anno10.transcript.accession);
 		Assert.assertEquals(1, anno10.annoLoc.rank);
-		Assert.assertEquals("c.10T>A", anno10.ntHGVSDescription);
-		Assert.assertEquals("p.Ser4Thr", anno10.aaHGVSDescription);
+		Assert.assertEquals("c.10T>A", anno10.getNtHGVSDescription());
+		Assert.assertEquals("p.Ser4Thr", anno10.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno10.effects);
 	}
 
@@ -350,8 +350,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, anno1.transcript.accession);
 		Assert.assertEquals(10, anno1.annoLoc.rank);
-		Assert.assertEquals("c.2066A>G", anno1.ntHGVSDescription);
-		Assert.assertEquals("p.*689Trpext*23", anno1.aaHGVSDescription);
+		Assert.assertEquals("c.2066A>G", anno1.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Trpext*23", anno1.getAaHGVSDescription());
 		Assert.assertEquals(anno1.effects, ImmutableSortedSet.of(VariantType.STOPLOSS));
 
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649269, PositionType.ZERO_BASED),
@@ -359,8 +359,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno2 = new SNVAnnotationBuilder(infoForward, change2).build();
 		Assert.assertEquals(infoForward.accession, anno2.transcript.accession);
 		Assert.assertEquals(10, anno2.annoLoc.rank);
-		Assert.assertEquals("c.2065T>C", anno2.ntHGVSDescription);
-		Assert.assertEquals("p.*689Glnext*23", anno2.aaHGVSDescription);
+		Assert.assertEquals("c.2065T>C", anno2.getNtHGVSDescription());
+		Assert.assertEquals("p.*689Glnext*23", anno2.getAaHGVSDescription());
 		Assert.assertEquals(anno2.effects, ImmutableSortedSet.of(VariantType.STOPLOSS));
 
 		GenomeChange change3 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649268, PositionType.ZERO_BASED),
@@ -368,8 +368,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno3 = new SNVAnnotationBuilder(infoForward, change3).build();
 		Assert.assertEquals(infoForward.accession, anno3.transcript.accession);
 		Assert.assertEquals(10, anno3.annoLoc.rank);
-		Assert.assertEquals("c.2064A>T", anno3.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno3.aaHGVSDescription);
+		Assert.assertEquals("c.2064A>T", anno3.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno3.getAaHGVSDescription());
 		Assert.assertEquals(anno3.effects, ImmutableSortedSet.of(VariantType.SYNONYMOUS));
 
 		GenomeChange change4 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649267, PositionType.ZERO_BASED),
@@ -377,8 +377,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno4 = new SNVAnnotationBuilder(infoForward, change4).build();
 		Assert.assertEquals(infoForward.accession, anno4.transcript.accession);
 		Assert.assertEquals(10, anno4.annoLoc.rank);
-		Assert.assertEquals("c.2063C>G", anno4.ntHGVSDescription);
-		Assert.assertEquals("p.Thr688Arg", anno4.aaHGVSDescription);
+		Assert.assertEquals("c.2063C>G", anno4.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr688Arg", anno4.getAaHGVSDescription());
 		Assert.assertEquals(anno4.effects, ImmutableSortedSet.of(VariantType.MISSENSE));
 
 		GenomeChange change5 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649266, PositionType.ZERO_BASED),
@@ -386,8 +386,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno5 = new SNVAnnotationBuilder(infoForward, change5).build();
 		Assert.assertEquals(infoForward.accession, anno5.transcript.accession);
 		Assert.assertEquals(10, anno5.annoLoc.rank);
-		Assert.assertEquals("c.2062A>G", anno5.ntHGVSDescription);
-		Assert.assertEquals("p.Thr688Ala", anno5.aaHGVSDescription);
+		Assert.assertEquals("c.2062A>G", anno5.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr688Ala", anno5.getAaHGVSDescription());
 		Assert.assertEquals(anno5.effects, ImmutableSortedSet.of(VariantType.MISSENSE));
 
 		GenomeChange change6 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649265, PositionType.ZERO_BASED),
@@ -395,8 +395,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno6 = new SNVAnnotationBuilder(infoForward, change6).build();
 		Assert.assertEquals(infoForward.accession, anno6.transcript.accession);
 		Assert.assertEquals(10, anno6.annoLoc.rank);
-		Assert.assertEquals("c.2061C>T", anno6.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno6.aaHGVSDescription);
+		Assert.assertEquals("c.2061C>T", anno6.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno6.getAaHGVSDescription());
 		Assert.assertEquals(anno6.effects, ImmutableSortedSet.of(VariantType.SYNONYMOUS));
 
 		GenomeChange change7 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649264, PositionType.ZERO_BASED),
@@ -404,8 +404,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno7 = new SNVAnnotationBuilder(infoForward, change7).build();
 		Assert.assertEquals(infoForward.accession, anno7.transcript.accession);
 		Assert.assertEquals(10, anno7.annoLoc.rank);
-		Assert.assertEquals("c.2060A>G", anno7.ntHGVSDescription);
-		Assert.assertEquals("p.Asp687Gly", anno7.aaHGVSDescription);
+		Assert.assertEquals("c.2060A>G", anno7.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp687Gly", anno7.getAaHGVSDescription());
 		Assert.assertEquals(anno7.effects, ImmutableSortedSet.of(VariantType.MISSENSE));
 
 		GenomeChange change8 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649263, PositionType.ZERO_BASED),
@@ -413,8 +413,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno8 = new SNVAnnotationBuilder(infoForward, change8).build();
 		Assert.assertEquals(infoForward.accession, anno8.transcript.accession);
 		Assert.assertEquals(10, anno8.annoLoc.rank);
-		Assert.assertEquals("c.2059G>A", anno8.ntHGVSDescription);
-		Assert.assertEquals("p.Asp687Asn", anno8.aaHGVSDescription);
+		Assert.assertEquals("c.2059G>A", anno8.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp687Asn", anno8.getAaHGVSDescription());
 		Assert.assertEquals(anno8.effects, ImmutableSortedSet.of(VariantType.MISSENSE));
 
 		GenomeChange change9 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649262, PositionType.ZERO_BASED),
@@ -422,8 +422,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno9 = new SNVAnnotationBuilder(infoForward, change9).build();
 		Assert.assertEquals(infoForward.accession, anno9.transcript.accession);
 		Assert.assertEquals(10, anno9.annoLoc.rank);
-		Assert.assertEquals("c.2058T>G", anno9.ntHGVSDescription);
-		Assert.assertEquals("p.Cys686Trp", anno9.aaHGVSDescription);
+		Assert.assertEquals("c.2058T>G", anno9.getNtHGVSDescription());
+		Assert.assertEquals("p.Cys686Trp", anno9.getAaHGVSDescription());
 		Assert.assertEquals(anno9.effects, ImmutableSortedSet.of(VariantType.MISSENSE));
 
 		GenomeChange change10 = new GenomeChange(new GenomePosition(refDict, '+', 1, 6649261, PositionType.ZERO_BASED),
@@ -431,8 +431,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno10 = new SNVAnnotationBuilder(infoForward, change10).build();
 		Assert.assertEquals(infoForward.accession, anno10.transcript.accession);
 		Assert.assertEquals(10, anno10.annoLoc.rank);
-		Assert.assertEquals("c.2057G>C", anno10.ntHGVSDescription);
-		Assert.assertEquals("p.Cys686Ser", anno10.aaHGVSDescription);
+		Assert.assertEquals("c.2057G>C", anno10.getNtHGVSDescription());
+		Assert.assertEquals("p.Cys686Ser", anno10.getAaHGVSDescription());
 		Assert.assertEquals(anno10.effects, ImmutableSortedSet.of(VariantType.MISSENSE));
 	}
 
@@ -445,8 +445,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno1 = new SNVAnnotationBuilder(infoReverse, change1).build();
 		Assert.assertEquals(infoReverse.accession, anno1.transcript.accession);
 		Assert.assertEquals(1, anno1.annoLoc.rank);
-		Assert.assertEquals("c.1A>T", anno1.ntHGVSDescription);
-		Assert.assertEquals("p.0?", anno1.aaHGVSDescription);
+		Assert.assertEquals("c.1A>T", anno1.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", anno1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.START_LOSS), anno1.effects);
 
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694496, PositionType.ZERO_BASED),
@@ -454,8 +454,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno2 = new SNVAnnotationBuilder(infoReverse, change2).build();
 		Assert.assertEquals(infoReverse.accession, anno2.transcript.accession);
 		Assert.assertEquals(1, anno2.annoLoc.rank);
-		Assert.assertEquals("c.2T>C", anno2.ntHGVSDescription);
-		Assert.assertEquals("p.0?", anno2.aaHGVSDescription);
+		Assert.assertEquals("c.2T>C", anno2.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", anno2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.START_LOSS), anno2.effects);
 
 		GenomeChange change3 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694495, PositionType.ZERO_BASED),
@@ -463,8 +463,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno3 = new SNVAnnotationBuilder(infoReverse, change3).build();
 		Assert.assertEquals(infoReverse.accession, anno3.transcript.accession);
 		Assert.assertEquals(1, anno3.annoLoc.rank);
-		Assert.assertEquals("c.3G>A", anno3.ntHGVSDescription);
-		Assert.assertEquals("p.0?", anno3.aaHGVSDescription);
+		Assert.assertEquals("c.3G>A", anno3.getNtHGVSDescription());
+		Assert.assertEquals("p.0?", anno3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.START_LOSS), anno3.effects);
 
 		GenomeChange change4 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694494, PositionType.ZERO_BASED),
@@ -472,8 +472,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno4 = new SNVAnnotationBuilder(infoReverse, change4).build();
 		Assert.assertEquals(infoReverse.accession, anno4.transcript.accession);
 		Assert.assertEquals(1, anno4.annoLoc.rank);
-		Assert.assertEquals("c.4G>T", anno4.ntHGVSDescription);
-		Assert.assertEquals("p.Ala2Ser", anno4.aaHGVSDescription);
+		Assert.assertEquals("c.4G>T", anno4.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala2Ser", anno4.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno4.effects);
 
 		GenomeChange change5 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694493, PositionType.ZERO_BASED),
@@ -481,8 +481,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno5 = new SNVAnnotationBuilder(infoReverse, change5).build();
 		Assert.assertEquals(infoReverse.accession, anno5.transcript.accession);
 		Assert.assertEquals(1, anno5.annoLoc.rank);
-		Assert.assertEquals("c.5C>T", anno5.ntHGVSDescription);
-		Assert.assertEquals("p.Ala2Val", anno5.aaHGVSDescription);
+		Assert.assertEquals("c.5C>T", anno5.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala2Val", anno5.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno5.effects);
 
 		GenomeChange change6 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694492, PositionType.ZERO_BASED),
@@ -490,8 +490,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno6 = new SNVAnnotationBuilder(infoReverse, change6).build();
 		Assert.assertEquals(infoReverse.accession, anno6.transcript.accession);
 		Assert.assertEquals(1, anno6.annoLoc.rank);
-		Assert.assertEquals("c.6A>C", anno6.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno6.aaHGVSDescription);
+		Assert.assertEquals("c.6A>C", anno6.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno6.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), anno6.effects);
 
 		GenomeChange change7 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694491, PositionType.ZERO_BASED),
@@ -499,8 +499,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno7 = new SNVAnnotationBuilder(infoReverse, change7).build();
 		Assert.assertEquals(infoReverse.accession, anno7.transcript.accession);
 		Assert.assertEquals(1, anno7.annoLoc.rank);
-		Assert.assertEquals("c.7G>A", anno7.ntHGVSDescription);
-		Assert.assertEquals("p.Ala3Thr", anno7.aaHGVSDescription);
+		Assert.assertEquals("c.7G>A", anno7.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala3Thr", anno7.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno7.effects);
 
 		GenomeChange change8 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694490, PositionType.ZERO_BASED),
@@ -508,8 +508,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno8 = new SNVAnnotationBuilder(infoReverse, change8).build();
 		Assert.assertEquals(infoReverse.accession, anno8.transcript.accession);
 		Assert.assertEquals(1, anno8.annoLoc.rank);
-		Assert.assertEquals("c.8C>T", anno8.ntHGVSDescription);
-		Assert.assertEquals("p.Ala3Val", anno8.aaHGVSDescription);
+		Assert.assertEquals("c.8C>T", anno8.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala3Val", anno8.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno8.effects);
 
 		GenomeChange change9 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23694489, PositionType.ZERO_BASED),
@@ -517,8 +517,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno9 = new SNVAnnotationBuilder(infoReverse, change9).build();
 		Assert.assertEquals(infoReverse.accession, anno9.transcript.accession);
 		Assert.assertEquals(1, anno9.annoLoc.rank);
-		Assert.assertEquals("c.9C>G", anno9.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno9.aaHGVSDescription);
+		Assert.assertEquals("c.9C>G", anno9.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno9.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), anno9.effects);
 
 		GenomeChange change10 = new GenomeChange(
@@ -526,8 +526,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno10 = new SNVAnnotationBuilder(infoReverse, change10).build();
 		Assert.assertEquals(infoReverse.accession, anno10.transcript.accession);
 		Assert.assertEquals(1, anno10.annoLoc.rank);
-		Assert.assertEquals("c.10A>G", anno10.ntHGVSDescription);
-		Assert.assertEquals("p.Thr4Ala", anno10.aaHGVSDescription);
+		Assert.assertEquals("c.10A>G", anno10.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr4Ala", anno10.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno10.effects);
 	}
 
@@ -540,8 +540,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno1 = new SNVAnnotationBuilder(infoReverse, change1).build();
 		Assert.assertEquals(infoReverse.accession, anno1.transcript.accession);
 		Assert.assertEquals(3, anno1.annoLoc.rank);
-		Assert.assertEquals("c.1413A>G", anno1.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno1.aaHGVSDescription);
+		Assert.assertEquals("c.1413A>G", anno1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOP_RETAINED, VariantType.SYNONYMOUS), anno1.effects);
 
 		GenomeChange change2 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688462, PositionType.ZERO_BASED),
@@ -549,8 +549,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno2 = new SNVAnnotationBuilder(infoReverse, change2).build();
 		Assert.assertEquals(infoReverse.accession, anno2.transcript.accession);
 		Assert.assertEquals(3, anno2.annoLoc.rank);
-		Assert.assertEquals("c.1412A>C", anno2.ntHGVSDescription);
-		Assert.assertEquals("p.*471Serext*9", anno2.aaHGVSDescription);
+		Assert.assertEquals("c.1412A>C", anno2.getNtHGVSDescription());
+		Assert.assertEquals("p.*471Serext*9", anno2.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), anno2.effects);
 
 		GenomeChange change3 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688463, PositionType.ZERO_BASED),
@@ -558,8 +558,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno3 = new SNVAnnotationBuilder(infoReverse, change3).build();
 		Assert.assertEquals(infoReverse.accession, anno3.transcript.accession);
 		Assert.assertEquals(3, anno3.annoLoc.rank);
-		Assert.assertEquals("c.1411T>A", anno3.ntHGVSDescription);
-		Assert.assertEquals("p.*471Lysext*9", anno3.aaHGVSDescription);
+		Assert.assertEquals("c.1411T>A", anno3.getNtHGVSDescription());
+		Assert.assertEquals("p.*471Lysext*9", anno3.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), anno3.effects);
 
 		GenomeChange change4 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688464, PositionType.ZERO_BASED),
@@ -567,8 +567,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno4 = new SNVAnnotationBuilder(infoReverse, change4).build();
 		Assert.assertEquals(infoReverse.accession, anno4.transcript.accession);
 		Assert.assertEquals(3, anno4.annoLoc.rank);
-		Assert.assertEquals("c.1410C>G", anno4.ntHGVSDescription);
-		Assert.assertEquals("p.Asp470Glu", anno4.aaHGVSDescription);
+		Assert.assertEquals("c.1410C>G", anno4.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp470Glu", anno4.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno4.effects);
 
 		GenomeChange change5 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688465, PositionType.ZERO_BASED),
@@ -576,8 +576,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno5 = new SNVAnnotationBuilder(infoReverse, change5).build();
 		Assert.assertEquals(infoReverse.accession, anno5.transcript.accession);
 		Assert.assertEquals(3, anno5.annoLoc.rank);
-		Assert.assertEquals("c.1409A>G", anno5.ntHGVSDescription);
-		Assert.assertEquals("p.Asp470Gly", anno5.aaHGVSDescription);
+		Assert.assertEquals("c.1409A>G", anno5.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp470Gly", anno5.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno5.effects);
 
 		GenomeChange change6 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688466, PositionType.ZERO_BASED),
@@ -585,8 +585,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno6 = new SNVAnnotationBuilder(infoReverse, change6).build();
 		Assert.assertEquals(infoReverse.accession, anno6.transcript.accession);
 		Assert.assertEquals(3, anno6.annoLoc.rank);
-		Assert.assertEquals("c.1408G>T", anno6.ntHGVSDescription);
-		Assert.assertEquals("p.Asp470Tyr", anno6.aaHGVSDescription);
+		Assert.assertEquals("c.1408G>T", anno6.getNtHGVSDescription());
+		Assert.assertEquals("p.Asp470Tyr", anno6.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno6.effects);
 
 		GenomeChange change7 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688467, PositionType.ZERO_BASED),
@@ -594,8 +594,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno7 = new SNVAnnotationBuilder(infoReverse, change7).build();
 		Assert.assertEquals(infoReverse.accession, anno7.transcript.accession);
 		Assert.assertEquals(3, anno7.annoLoc.rank);
-		Assert.assertEquals("c.1407G>C", anno7.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno7.aaHGVSDescription);
+		Assert.assertEquals("c.1407G>C", anno7.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno7.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), anno7.effects);
 
 		GenomeChange change8 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688468, PositionType.ZERO_BASED),
@@ -603,8 +603,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno8 = new SNVAnnotationBuilder(infoReverse, change8).build();
 		Assert.assertEquals(infoReverse.accession, anno8.transcript.accession);
 		Assert.assertEquals(3, anno8.annoLoc.rank);
-		Assert.assertEquals("c.1406C>A", anno8.ntHGVSDescription);
-		Assert.assertEquals("p.Thr469Lys", anno8.aaHGVSDescription);
+		Assert.assertEquals("c.1406C>A", anno8.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr469Lys", anno8.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno8.effects);
 
 		GenomeChange change9 = new GenomeChange(new GenomePosition(refDict, '+', 1, 23688469, PositionType.ZERO_BASED),
@@ -612,8 +612,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno9 = new SNVAnnotationBuilder(infoReverse, change9).build();
 		Assert.assertEquals(infoReverse.accession, anno9.transcript.accession);
 		Assert.assertEquals(3, anno9.annoLoc.rank);
-		Assert.assertEquals("c.1405A>G", anno9.ntHGVSDescription);
-		Assert.assertEquals("p.Thr469Ala", anno9.aaHGVSDescription);
+		Assert.assertEquals("c.1405A>G", anno9.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr469Ala", anno9.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), anno9.effects);
 
 		GenomeChange change10 = new GenomeChange(
@@ -621,8 +621,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation anno10 = new SNVAnnotationBuilder(infoReverse, change10).build();
 		Assert.assertEquals(infoReverse.accession, anno10.transcript.accession);
 		Assert.assertEquals(3, anno10.annoLoc.rank);
-		Assert.assertEquals("c.1404T>C", anno10.ntHGVSDescription);
-		Assert.assertEquals("p.=", anno10.aaHGVSDescription);
+		Assert.assertEquals("c.1404T>C", anno10.getNtHGVSDescription());
+		Assert.assertEquals("p.=", anno10.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), anno10.effects);
 	}
 
@@ -646,8 +646,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1663A>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Lys555*", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1663A>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Lys555*", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation1.effects);
 	}
 
@@ -669,8 +669,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.431G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Trp144*", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.431G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Trp144*", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation1.effects);
 	}
 
@@ -690,8 +690,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.819T>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Tyr273*", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.819T>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Tyr273*", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPGAIN), annotation1.effects);
 	}
 
@@ -713,8 +713,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(8, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1000T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.*334Argext*29", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1000T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.*334Argext*29", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), annotation1.effects);
 	}
 
@@ -736,8 +736,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1134+1T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1134+1T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -759,8 +759,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1135T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.*379Argext*29", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1135T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.*379Argext*29", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), annotation1.effects);
 	}
 
@@ -782,8 +782,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1171T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.*391Argext*3", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1171T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.*391Argext*3", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.STOPLOSS), annotation1.effects);
 	}
 
@@ -809,8 +809,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(11, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1060A>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr354Ser", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1060A>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr354Ser", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -832,8 +832,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1090A>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr364Ser", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1090A>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr364Ser", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -855,8 +855,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1099A>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr367Ser", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1099A>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr367Ser", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -878,8 +878,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1150A>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr384Ser", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1150A>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr384Ser", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -901,8 +901,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.166A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr56Ala", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.166A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr56Ala", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -924,8 +924,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.166A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr56Ala", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.166A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr56Ala", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -945,8 +945,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.70A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr24Ala", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.70A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr24Ala", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -968,8 +968,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(16, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1718A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Asn573Ser", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1718A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Asn573Ser", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -991,8 +991,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.308A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu103Gly", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.308A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu103Gly", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1013,8 +1013,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.434A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.His145Arg", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.434A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.His145Arg", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1036,8 +1036,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.197A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu66Gly", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.197A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu66Gly", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1059,8 +1059,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.320A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu107Gly", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.320A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu107Gly", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1082,8 +1082,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.515A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu172Gly", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.515A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu172Gly", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1105,8 +1105,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.515A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu172Gly", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.515A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu172Gly", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1128,8 +1128,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(20, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2756A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Glu919Gly", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2756A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Glu919Gly", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1151,8 +1151,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.194A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gln65Arg", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.194A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln65Arg", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1174,8 +1174,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.229G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ala77Thr", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.229G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ala77Thr", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1197,8 +1197,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.47G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Cys16Tyr", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.47G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Cys16Tyr", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1220,8 +1220,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(8, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.974C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr325Ile", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.974C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr325Ile", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -1243,8 +1243,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.7G>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Val3Leu", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.7G>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Val3Leu", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1266,8 +1266,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(11, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2653G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Val885Met", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2653G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Val885Met", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1289,8 +1289,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.857A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gln286Arg", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.857A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln286Arg", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1312,8 +1312,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.230A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gln77Arg", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.230A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln77Arg", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1335,8 +1335,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.17A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.His6Arg", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.17A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.His6Arg", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1358,8 +1358,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(8, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.727A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Ile243Val", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.727A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Ile243Val", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1381,8 +1381,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.542G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gly181Asp", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.542G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gly181Asp", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1404,8 +1404,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.446A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Gln149Arg", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.446A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Gln149Arg", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -1431,8 +1431,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(11, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1060A>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Thr354Ser", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1060A>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Thr354Ser", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -1454,8 +1454,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.573G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.573G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1477,8 +1477,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(20, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2922G>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2922G>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1500,8 +1500,8 @@ public class SNVAnnotationBuilderTest {
 		// XXX
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-118T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-118T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -1523,8 +1523,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.207C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.207C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1546,8 +1546,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.708C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.708C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1569,8 +1569,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1551T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1551T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1592,8 +1592,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.750G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.750G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1615,8 +1615,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.814C>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.814C>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1638,8 +1638,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.886C>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.886C>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1661,8 +1661,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.96C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.96C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1684,8 +1684,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.291A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.291A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1707,8 +1707,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(24, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.4128T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.4128T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1730,8 +1730,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.246G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.246G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1753,8 +1753,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.99G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.99G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1776,8 +1776,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.441T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.441T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1799,8 +1799,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(22, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.3030C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.3030C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1822,8 +1822,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1569T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1569T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1845,8 +1845,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.936G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.936G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1868,8 +1868,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(27, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1785A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1785A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1891,8 +1891,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.171T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.171T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1914,8 +1914,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(25, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.3429T>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.3429T>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.SYNONYMOUS), annotation1.effects);
 	}
 
@@ -1941,8 +1941,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(36, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*51G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*51G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -1964,8 +1964,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-74A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-74A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -1987,8 +1987,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*148C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*148C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -2010,8 +2010,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-39C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-39C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2033,8 +2033,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-10A>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-10A>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2056,8 +2056,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-37T>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-37T>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2078,8 +2078,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-3T>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-3T>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2101,8 +2101,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-49G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-49G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2124,8 +2124,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-393T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-393T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2147,8 +2147,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-62T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-62T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2170,8 +2170,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-33G>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-33G>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2193,8 +2193,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-725G>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-725G>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2216,8 +2216,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.336+1G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.336+1G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2239,8 +2239,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(19, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.2818-2T>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.2818-2T>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 	}
@@ -2262,8 +2262,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.225-1G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.225-1G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 	}
@@ -2286,8 +2286,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(8, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6224-1G>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6224-1G>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 	}
@@ -2310,8 +2310,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6332+2T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6332+2T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2333,8 +2333,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6332+3A>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6332+3A>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -2356,8 +2356,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6332G>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Arg2111Thr", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6332G>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Arg2111Thr", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -2379,8 +2379,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new BlockSubstitutionAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.6332+2_6332+4delinsCCT", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.6332+2_6332+4delinsCCT", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2402,8 +2402,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1121+2T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1121+2T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2425,8 +2425,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(9, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1239+2T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1239+2T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2448,8 +2448,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.234+2T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.234+2T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2471,8 +2471,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.135+1T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.135+1T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2494,8 +2494,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.214-2A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.214-2A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 	}
@@ -2518,8 +2518,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(5, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1074-1G>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1074-1G>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 	}
@@ -2542,8 +2542,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.168+2T>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.168+2T>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR), annotation1.effects);
 	}
 
@@ -2565,8 +2565,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.337-1G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.337-1G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_ACCEPTOR),
 				annotation1.effects);
 	}
@@ -2589,8 +2589,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(36, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*51G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*51G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -2616,8 +2616,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.359T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.359T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2638,8 +2638,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.507C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.507C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2659,8 +2659,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.60C>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.60C>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2682,8 +2682,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(8, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.876G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.876G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2705,8 +2705,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.724G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.724G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2728,8 +2728,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.375A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.375A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2749,8 +2749,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.647A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.647A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2772,8 +2772,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.250G>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.250G>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_EXONIC), annotation1.effects);
 	}
 
@@ -2800,8 +2800,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(1, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*66C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*66C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -2827,8 +2827,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(null, annotation1.annoLoc);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), annotation1.effects);
 	}
 
@@ -2850,8 +2850,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(null, annotation1.annoLoc);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), annotation1.effects);
 	}
 
@@ -2876,8 +2876,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(null, annotation1.annoLoc);
-		Assert.assertEquals(null, annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals(null, annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTERGENIC), annotation1.effects);
 	}
 
@@ -2905,8 +2905,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(13, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1597+24A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1597+24A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), annotation1.effects);
 	}
 
@@ -2934,8 +2934,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-58+141C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-58+141C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2963,8 +2963,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-57-23C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-57-23C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -2993,8 +2993,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*40+38C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*40+38C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -3022,8 +3022,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(7, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*41-164T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*41-164T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -3051,8 +3051,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.135+91T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.135+91T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), annotation1.effects);
 	}
 
@@ -3080,8 +3080,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.136-7C>T", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.136-7C>T", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -3107,8 +3107,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-174-93T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-174-93T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -3134,8 +3134,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(0, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.-175+69A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.-175+69A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR5), annotation1.effects);
 	}
 
@@ -3163,8 +3163,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*38-90T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*38-90T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -3192,8 +3192,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.*37+65A>G", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.*37+65A>G", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.UTR3), annotation1.effects);
 	}
 
@@ -3219,8 +3219,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.620-62T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.620-62T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), annotation1.effects);
 	}
 
@@ -3246,8 +3246,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(6, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.619+201T>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.=", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.619+201T>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.=", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC), annotation1.effects);
 	}
 
@@ -3275,8 +3275,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.313+168C>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.313+168C>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_INTRONIC), annotation1.effects);
 	}
 
@@ -3304,8 +3304,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(2, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.314-639C>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.314-639C>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_INTRONIC), annotation1.effects);
 	}
 
@@ -3333,8 +3333,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.424+697T>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.424+697T>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_INTRONIC), annotation1.effects);
 	}
 
@@ -3362,8 +3362,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(3, annotation1.annoLoc.rank);
-		Assert.assertEquals("n.425-558C>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals(null, annotation1.aaHGVSDescription);
+		Assert.assertEquals("n.425-558C>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals(null, annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.ncRNA_INTRONIC), annotation1.effects);
 	}
 
@@ -3390,8 +3390,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(10, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.1803-7G>C", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.?", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.1803-7G>C", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.?", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.INTRONIC, VariantType.SPLICE_REGION), annotation1.effects);
 	}
 
@@ -3413,8 +3413,8 @@ public class SNVAnnotationBuilderTest {
 		Annotation annotation1 = new SNVAnnotationBuilder(infoForward, change1).build();
 		Assert.assertEquals(infoForward.accession, annotation1.transcript.accession);
 		Assert.assertEquals(4, annotation1.annoLoc.rank);
-		Assert.assertEquals("c.602G>A", annotation1.ntHGVSDescription);
-		Assert.assertEquals("p.Arg201His", annotation1.aaHGVSDescription);
+		Assert.assertEquals("c.602G>A", annotation1.getNtHGVSDescription());
+		Assert.assertEquals("p.Arg201His", annotation1.getAaHGVSDescription());
 		Assert.assertEquals(ImmutableSortedSet.of(VariantType.MISSENSE), annotation1.effects);
 	}
 
@@ -67,8 +67,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, anno.annoLoc.rank);
-		Assert.assertEquals("g.6640062_6640063insCG..AT", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640062_6640063insCG..AT", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 	@Test
@@ -78,8 +78,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(null, change).build();
 		Assert.assertEquals(null, anno.transcript);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals("g.6640062_6640063insCG..AT", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640062_6640063insCG..AT", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 	@Test
@@ -89,8 +89,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, anno.annoLoc.rank);
-		Assert.assertEquals("g.6640062_6640063insCG..AT", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640062_6640063insCG..AT", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 	@Test
@@ -100,8 +100,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(null, change).build();
 		Assert.assertEquals(null, anno.transcript);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals("g.6640063_6640066del", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640063_6640066del", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 	@Test
@@ -111,8 +111,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, anno.annoLoc.rank);
-		Assert.assertEquals("g.6640063_6640066inv", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640063_6640066inv", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 	@Test
@@ -122,8 +122,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(null, change).build();
 		Assert.assertEquals(null, anno.transcript);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals("g.6640063_6640066inv", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640063_6640066inv", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 	@Test
@@ -133,8 +133,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(infoForward, change).build();
 		Assert.assertEquals(infoForward.accession, anno.transcript.accession);
 		Assert.assertEquals(AnnotationLocation.INVALID_RANK, anno.annoLoc.rank);
-		Assert.assertEquals("g.6640063_6640066delinsTT..TA", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640063_6640066delinsTT..TA", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 	@Test
@@ -144,8 +144,8 @@ public class StructuralVariantAnnotationBuilderTest {
 		final Annotation anno = new StructuralVariantAnnotationBuilder(null, change).build();
 		Assert.assertEquals(null, anno.transcript);
 		Assert.assertEquals(null, anno.annoLoc);
-		Assert.assertEquals("g.6640063_6640066delinsTT..TA", anno.ntHGVSDescription);
-		Assert.assertEquals(null, anno.aaHGVSDescription);
+		Assert.assertEquals("g.6640063_6640066delinsTT..TA", anno.getNtHGVSDescription());
+		Assert.assertEquals(null, anno.getAaHGVSDescription());
 	}
 
 }
@@ -0,0 +1,39 @@
+package de.charite.compbio.jannovar.datasource;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableMap;
+
+public class BuildFingerprintTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSaveLoad() throws Exception {
+		BuildFingerprint fingerprint = new BuildFingerprint(3, ImmutableMap.of("knownGene.txt.gz",
+				"0123456789abcdef0123456789abcdef", "kgXref.txt.gz", "fedcba9876543210fedcba9876543210"));
+		File file = BuildFingerprint.getFingerprintFile(new File(folder.getRoot(), "hg19_ucsc.ser").getPath());
+		fingerprint.save(file);
+
+		Assert.assertEquals(fingerprint, BuildFingerprint.load(file));
+	}
+
+	@Test
+	public void testLoadMissing() {
+		Assert.assertNull(BuildFingerprint.load(new File(folder.getRoot(), "missing.fingerprint")));
+	}
+
+	@Test
+	public void testNotEqualOnParserVersion() {
+		ImmutableMap<String, String> checksums = ImmutableMap.of("knownGene.txt.gz",
+				"0123456789abcdef0123456789abcdef");
+		Assert.assertNotEquals(new BuildFingerprint(1, checksums), new BuildFingerprint(2, checksums));
+	}
+
+}
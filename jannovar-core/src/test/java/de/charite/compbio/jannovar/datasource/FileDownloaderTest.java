@@ -0,0 +1,518 @@
+package de.charite.compbio.jannovar.datasource;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Tests for {@link FileDownloader}, using local HTTP and FTP stub servers that support resuming downloads.
+ */
+public class FileDownloaderTest {
+
+	/**
+	 * Minimal server on a local port, serving one connection at a time in a background thread.
+	 */
+	abstract static class StubServer implements Runnable {
+
+		final ServerSocket serverSocket;
+		final Thread thread;
+
+		StubServer() throws IOException {
+			serverSocket = new ServerSocket(0, 10, InetAddress.getByName("127.0.0.1"));
+			thread = new Thread(this);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		int getPort() {
+			return serverSocket.getLocalPort();
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				Socket socket;
+				try {
+					socket = serverSocket.accept();
+				} catch (IOException e) {
+					return; // server socket closed
+				}
+				try {
+					handle(socket);
+				} catch (IOException e) {
+					// client hung up, continue with next connection
+				} finally {
+					try {
+						socket.close();
+					} catch (IOException e) {
+						// swallow, nothing we can do
+					}
+				}
+			}
+		}
+
+		/** Handle connection on <code>socket</code>, closed by the caller. */
+		abstract void handle(Socket socket) throws IOException;
+
+		void close() throws IOException {
+			serverSocket.close();
+		}
+
+		static void writeASCII(OutputStream out, String str) throws IOException {
+			out.write(str.getBytes(Charsets.US_ASCII));
+			out.flush();
+		}
+
+	}
+
+	/**
+	 * HTTP/1.1 stub supporting <code>HEAD</code>, <code>GET</code>, <code>Range</code>, and <code>If-Range</code> with
+	 * the <code>ETag</code> of {@link #content}.
+	 */
+	static class StubHTTPServer extends StubServer {
+
+		volatile byte[] content;
+		volatile String eTag;
+		/** number of requests with a <code>Range</code> header */
+		volatile int rangeRequests = 0;
+		/** number of bytes to send before hanging up in the next <code>GET</code> request, <code>-1</code> for all */
+		volatile int cutOffAfter = -1;
+		/** <code>Content-Length</code> to report in <code>HEAD</code> requests, <code>null</code> for the real one */
+		volatile String headLength = null;
+
+		StubHTTPServer(byte[] content, String eTag) throws IOException {
+			this.content = content;
+			this.eTag = eTag;
+		}
+
+		URL getURL() throws IOException {
+			return new URL("http://127.0.0.1:" + getPort() + "/file.txt");
+		}
+
+		@Override
+		void handle(Socket socket) throws IOException {
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), Charsets.US_ASCII));
+			final String requestLine = in.readLine();
+			if (requestLine == null)
+				return;
+			HashMap<String, String> headers = new HashMap<String, String>();
+			String line;
+			while ((line = in.readLine()) != null && !line.isEmpty()) {
+				final int pos = line.indexOf(':');
+				headers.put(line.substring(0, pos).trim().toLowerCase(), line.substring(pos + 1).trim());
+			}
+
+			final byte[] content = this.content;
+			int offset = 0;
+			String status = "200 OK";
+			StringBuilder responseHeaders = new StringBuilder();
+			final String range = headers.get("range");
+			if (range != null) {
+				rangeRequests += 1;
+				final String ifRange = headers.get("if-range");
+				if (ifRange == null || ifRange.equals(eTag)) {
+					offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+					if (offset >= content.length) {
+						writeASCII(socket.getOutputStream(), "HTTP/1.1 416 Range Not Satisfiable\r\n"
+								+ "Content-Range: bytes */" + content.length + "\r\n"
+								+ "Content-Length: 0\r\nConnection: close\r\n\r\n");
+						return;
+					}
+					status = "206 Partial Content";
+					responseHeaders.append("Content-Range: bytes " + offset + "-" + (content.length - 1) + "/"
+							+ content.length + "\r\n");
+				}
+			}
+			final boolean isHead = requestLine.startsWith("HEAD ");
+			final String length = (isHead && headLength != null) ? headLength : Integer.toString(content.length
+					- offset);
+			responseHeaders.append("Content-Length: " + length + "\r\n");
+			responseHeaders.append("ETag: " + eTag + "\r\nConnection: close\r\n");
+
+			OutputStream out = socket.getOutputStream();
+			writeASCII(out, "HTTP/1.1 " + status + "\r\n" + responseHeaders + "\r\n");
+			if (isHead)
+				return;
+			int numBytes = content.length - offset;
+			if (cutOffAfter != -1) {
+				numBytes = Math.min(numBytes, cutOffAfter);
+				cutOffAfter = -1;
+			}
+			out.write(content, offset, numBytes);
+			out.flush();
+		}
+
+	}
+
+	/**
+	 * FTP stub serving {@link #content} as <code>/pub/file.txt</code> in passive mode, supporting <code>REST</code>
+	 * and <code>MDTM</code>.
+	 */
+	static class StubFTPServer extends StubServer {
+
+		final byte[] content;
+		/** offset of the last <code>REST</code> command, <code>-1</code> if none */
+		volatile int restOffset = -1;
+		/** modification time to report for <code>MDTM</code>, <code>null</code> for not supporting it */
+		volatile String mdtm = "20150101000000";
+		/** number of bytes to send before hanging up in the next <code>RETR</code> command, <code>-1</code> for all */
+		volatile int cutOffAfter = -1;
+
+		StubFTPServer(byte[] content) throws IOException {
+			this.content = content;
+		}
+
+		URL getURL() throws IOException {
+			return new URL("ftp://127.0.0.1:" + getPort() + "/pub/file.txt");
+		}
+
+		@Override
+		void handle(Socket socket) throws IOException {
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), Charsets.US_ASCII));
+			OutputStream out = socket.getOutputStream();
+			ServerSocket dataSocket = null;
+			int offset = 0;
+			try {
+				writeASCII(out, "220 stub ready\r\n");
+				String line;
+				while ((line = in.readLine()) != null) {
+					final String command = line.split(" ")[0].toUpperCase();
+					final String arg = line.substring(command.length()).trim();
+					if (command.equals("USER"))
+						writeASCII(out, "331 password required\r\n");
+					else if (command.equals("PASS"))
+						writeASCII(out, "230 logged in\r\n");
+					else if (command.equals("TYPE"))
+						writeASCII(out, "200 type set\r\n");
+					else if (command.equals("SYST"))
+						writeASCII(out, "215 UNIX Type: L8\r\n");
+					else if (command.equals("CWD"))
+						writeASCII(out, arg.equals("pub") ? "250 ok\r\n" : "550 no such directory\r\n");
+					else if (command.equals("PWD"))
+						writeASCII(out, "257 \"/pub\"\r\n");
+					else if (command.equals("PASV")) {
+						dataSocket = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"));
+						final int port = dataSocket.getLocalPort();
+						writeASCII(out, "227 Entering Passive Mode (127,0,0,1," + (port / 256) + "," + (port % 256)
+								+ ")\r\n");
+					} else if (command.equals("REST")) {
+						offset = Integer.parseInt(arg);
+						restOffset = offset;
+						writeASCII(out, "350 restarting at " + offset + "\r\n");
+					} else if (command.equals("MDTM")) {
+						final String mdtm = this.mdtm;
+						if (mdtm == null)
+							writeASCII(out, "502 not implemented\r\n");
+						else
+							writeASCII(out, arg.equals("file.txt") ? "213 " + mdtm + "\r\n" : "550 no such file\r\n");
+					} else if (command.equals("LIST") || command.equals("RETR")) {
+						if (!arg.equals("file.txt")) {
+							writeASCII(out, "550 no such file\r\n");
+							continue;
+						}
+						writeASCII(out, "150 opening data connection\r\n");
+						Socket data = dataSocket.accept();
+						if (command.equals("LIST"))
+							writeASCII(data.getOutputStream(), "-rw-r--r--    1 ftp      ftp      " + content.length
+									+ " Jan 01 00:00 file.txt\r\n");
+						else if (cutOffAfter != -1) {
+							final int numBytes = Math.min(cutOffAfter, content.length - offset);
+							data.getOutputStream().write(content, offset, numBytes);
+							cutOffAfter = -1;
+						} else {
+							data.getOutputStream().write(content, offset, content.length - offset);
+						}
+						data.close();
+						dataSocket.close();
+						dataSocket = null;
+						offset = 0;
+						writeASCII(out, "226 transfer complete\r\n");
+					} else if (command.equals("QUIT")) {
+						writeASCII(out, "221 bye\r\n");
+						return;
+					} else {
+						writeASCII(out, "502 not implemented\r\n");
+					}
+				}
+			} finally {
+				if (dataSocket != null)
+					dataSocket.close();
+			}
+		}
+
+	}
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/** content served by the test servers */
+	byte[] content;
+
+	StubHTTPServer server;
+
+	File dest;
+
+	File partial;
+
+	@Before
+	public void setUp() throws IOException {
+		content = buildContent(300 * 1024, 251);
+		server = new StubHTTPServer(content, "\"v1\"");
+		dest = new File(folder.getRoot(), "file.txt");
+		partial = new File(dest.getPath() + FileDownloader.PARTIAL_SUFFIX);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		server.close();
+	}
+
+	private static byte[] buildContent(int length, int modulus) {
+		byte[] result = new byte[length];
+		for (int i = 0; i < result.length; ++i)
+			result[i] = (byte) (i % modulus);
+		return result;
+	}
+
+	private static byte[] readFile(File file) throws IOException {
+		InputStream in = new FileInputStream(file);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int n;
+		while ((n = in.read(buffer)) > 0)
+			out.write(buffer, 0, n);
+		in.close();
+		return out.toByteArray();
+	}
+
+	private static void writeFile(File file, byte[] data, int length) throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(data, 0, length);
+		out.close();
+	}
+
+	/** Download from {@link #server} with the first <code>numBytes</code> bytes only, expecting failure. */
+	private void downloadInterrupted(FileDownloader downloader, int numBytes) throws IOException {
+		server.cutOffAfter = numBytes;
+		try {
+			downloader.copyURLToFile(server.getURL(), dest);
+			Assert.fail("expected FileDownloadException");
+		} catch (FileDownloadException e) {
+			// expected
+		}
+		Assert.assertFalse(dest.exists());
+		Assert.assertEquals(numBytes, partial.length());
+	}
+
+	@Test
+	public void testDownload() throws Exception {
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest));
+		Assert.assertArrayEquals(content, readFile(dest));
+		Assert.assertFalse(partial.exists());
+		Assert.assertFalse(new File(partial.getPath() + FileDownloader.VALIDATOR_SUFFIX).exists());
+	}
+
+	@Test
+	public void testResume() throws Exception {
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		downloadInterrupted(downloader, 1000);
+
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest));
+		Assert.assertEquals(1, server.rangeRequests);
+		Assert.assertArrayEquals(content, readFile(dest));
+	}
+
+	@Test
+	public void testRestartOnChangedFile() throws Exception {
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		downloadInterrupted(downloader, 1000);
+
+		// the file changes on the server, If-Range does not match and the server sends the whole file
+		final byte[] newContent = buildContent(200 * 1024, 241);
+		server.content = newContent;
+		server.eTag = "\"v2\"";
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest));
+		Assert.assertEquals(1, server.rangeRequests);
+		Assert.assertArrayEquals(newContent, readFile(dest));
+	}
+
+	@Test
+	public void testRestartWithoutValidator() throws Exception {
+		// partial file without stored validator, e.g. from an older version, cannot be resumed safely
+		writeFile(partial, content, 1000);
+
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest));
+		Assert.assertEquals(0, server.rangeRequests);
+		Assert.assertArrayEquals(content, readFile(dest));
+	}
+
+	@Test
+	public void testRemoteFileInfoLargeFile() throws Exception {
+		server.headLength = "3000000000";
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		Assert.assertEquals(3000000000L, downloader.getRemoteFileInfo(server.getURL()).size);
+	}
+
+	@Test
+	public void testSkipUpToDate() throws Exception {
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest));
+		Assert.assertFalse(downloader.copyURLToFile(server.getURL(), dest));
+	}
+
+	@Test
+	public void testRedownloadOnSizeMismatch() throws Exception {
+		writeFile(dest, content, 1000);
+
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest));
+		Assert.assertArrayEquals(content, readFile(dest));
+	}
+
+	@Test
+	public void testChecksum() throws Exception {
+		File other = folder.newFile("other.txt");
+		writeFile(other, content, content.length);
+		final String md5 = FileDownloader.computeMD5(other);
+
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest, md5));
+	}
+
+	@Test(expected = FileDownloadException.class)
+	public void testChecksumMismatch() throws Exception {
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		downloader.copyURLToFile(server.getURL(), dest, "00000000000000000000000000000000");
+	}
+
+	@Test
+	public void testFTPDownload() throws Exception {
+		StubFTPServer ftpServer = new StubFTPServer(content);
+		try {
+			FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+			Assert.assertEquals(content.length, downloader.getRemoteFileInfo(ftpServer.getURL()).size);
+			Assert.assertTrue(downloader.copyURLToFile(ftpServer.getURL(), dest));
+			Assert.assertEquals(-1, ftpServer.restOffset);
+			Assert.assertArrayEquals(content, readFile(dest));
+			Assert.assertFalse(partial.exists());
+		} finally {
+			ftpServer.close();
+		}
+	}
+
+	/** Download from <code>ftpServer</code> with the first <code>numBytes</code> bytes only, expecting failure. */
+	private void downloadInterrupted(FileDownloader downloader, StubFTPServer ftpServer, int numBytes)
+			throws IOException {
+		ftpServer.cutOffAfter = numBytes;
+		try {
+			downloader.copyURLToFile(ftpServer.getURL(), dest);
+			Assert.fail("expected FileDownloadException");
+		} catch (FileDownloadException e) {
+			// expected
+		}
+		Assert.assertFalse(dest.exists());
+		Assert.assertEquals(numBytes, partial.length());
+	}
+
+	@Test
+	public void testRestartOnOversizePartial() throws Exception {
+		FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+		downloadInterrupted(downloader, 1000);
+
+		// the partial file is larger than the remote file, resuming fails and the download starts over
+		final byte[] longer = buildContent(content.length + 1000, 251);
+		writeFile(partial, longer, longer.length);
+		Assert.assertTrue(downloader.copyURLToFile(server.getURL(), dest));
+		Assert.assertArrayEquals(content, readFile(dest));
+		Assert.assertFalse(partial.exists());
+	}
+
+	@Test
+	public void testFTPResume() throws Exception {
+		StubFTPServer ftpServer = new StubFTPServer(content);
+		try {
+			FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+			downloadInterrupted(downloader, ftpServer, 1000);
+
+			Assert.assertTrue(downloader.copyURLToFile(ftpServer.getURL(), dest));
+			Assert.assertEquals(1000, ftpServer.restOffset);
+			Assert.assertArrayEquals(content, readFile(dest));
+		} finally {
+			ftpServer.close();
+		}
+	}
+
+	@Test
+	public void testFTPRestartOnChangedFile() throws Exception {
+		StubFTPServer ftpServer = new StubFTPServer(content);
+		try {
+			FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+			downloadInterrupted(downloader, ftpServer, 1000);
+
+			ftpServer.mdtm = "20150202000000";
+			Assert.assertTrue(downloader.copyURLToFile(ftpServer.getURL(), dest));
+			Assert.assertEquals(-1, ftpServer.restOffset);
+			Assert.assertArrayEquals(content, readFile(dest));
+		} finally {
+			ftpServer.close();
+		}
+	}
+
+	@Test
+	public void testFTPRestartWithoutValidator() throws Exception {
+		// neither a stored validator nor MDTM support, the partial file cannot be resumed safely
+		writeFile(partial, content, 1000);
+
+		StubFTPServer ftpServer = new StubFTPServer(content);
+		ftpServer.mdtm = null;
+		try {
+			FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+			Assert.assertTrue(downloader.copyURLToFile(ftpServer.getURL(), dest));
+			Assert.assertEquals(-1, ftpServer.restOffset);
+			Assert.assertArrayEquals(content, readFile(dest));
+		} finally {
+			ftpServer.close();
+		}
+	}
+
+	@Test
+	public void testFTPRestartOnOversizePartial() throws Exception {
+		StubFTPServer ftpServer = new StubFTPServer(content);
+		try {
+			FileDownloader downloader = new FileDownloader(new FileDownloader.Options());
+			downloadInterrupted(downloader, ftpServer, 1000);
+
+			final byte[] longer = buildContent(content.length + 1000, 251);
+			writeFile(partial, longer, longer.length);
+			Assert.assertTrue(downloader.copyURLToFile(ftpServer.getURL(), dest));
+			Assert.assertEquals(-1, ftpServer.restOffset);
+			Assert.assertArrayEquals(content, readFile(dest));
+		} finally {
+			ftpServer.close();
+		}
+	}
+
+}
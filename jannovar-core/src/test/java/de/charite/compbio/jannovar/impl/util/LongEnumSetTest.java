@@ -0,0 +1,47 @@
+package de.charite.compbio.jannovar.impl.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+
+import de.charite.compbio.jannovar.annotation.VariantType;
+
+public class LongEnumSetTest {
+
+	@Test
+	public void testCopyOfSortsByOrdinal() {
+		LongEnumSet<VariantType> set = LongEnumSet.copyOf(VariantType.class,
+				ImmutableList.of(VariantType.INTRONIC, VariantType.SPLICE_DONOR, VariantType.INTRONIC));
+
+		Assert.assertEquals(2, set.size());
+		Assert.assertEquals(VariantType.SPLICE_DONOR, set.first());
+		Assert.assertEquals(ImmutableList.of(VariantType.SPLICE_DONOR, VariantType.INTRONIC), ImmutableList.copyOf(set));
+		Assert.assertTrue(set.contains(VariantType.INTRONIC));
+		Assert.assertFalse(set.contains(VariantType.MISSENSE));
+		Assert.assertFalse(set.contains("INTRONIC"));
+	}
+
+	@Test
+	public void testEqualsOtherSets() {
+		LongEnumSet<VariantType> set = LongEnumSet.copyOf(VariantType.class,
+				ImmutableList.of(VariantType.MISSENSE, VariantType.SPLICE_REGION));
+		ImmutableSortedSet<VariantType> other = ImmutableSortedSet.of(VariantType.SPLICE_REGION, VariantType.MISSENSE);
+
+		Assert.assertEquals(other, set);
+		Assert.assertEquals(set, other);
+		Assert.assertEquals(other.hashCode(), set.hashCode());
+		Assert.assertEquals(set, LongEnumSet.fromBits(VariantType.class, set.getBits()));
+	}
+
+	@Test
+	public void testEmpty() {
+		LongEnumSet<VariantType> set = LongEnumSet.noneOf(VariantType.class);
+
+		Assert.assertTrue(set.isEmpty());
+		Assert.assertFalse(set.iterator().hasNext());
+		Assert.assertFalse(set.contains(VariantType.INTERGENIC));
+	}
+
+}
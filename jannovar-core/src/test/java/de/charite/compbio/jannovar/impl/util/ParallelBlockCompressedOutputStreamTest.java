@@ -0,0 +1,114 @@
+package de.charite.compbio.jannovar.impl.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelBlockCompressedOutputStreamTest {
+
+	/** @return <code>length</code> bytes, half of them random so the blocks differ in compressed size */
+	private static byte[] buildData(int length) {
+		Random rand = new Random(42);
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; ++i)
+			data[i] = (i % 2 == 0) ? (byte) rand.nextInt() : (byte) (i % 7);
+		return data;
+	}
+
+	/** @return <code>bytes</code> decompressed with {@link GZIPInputStream} */
+	private static byte[] gunzip(byte[] bytes) throws IOException {
+		GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buf = new byte[4096];
+		int n;
+		while ((n = in.read(buf)) > 0)
+			out.write(buf, 0, n);
+		in.close();
+		return out.toByteArray();
+	}
+
+	/** @return little-endian 16 bit integer from <code>bytes</code> at <code>pos</code> */
+	private static int getShort(byte[] bytes, int pos) {
+		return (bytes[pos] & 0xff) | ((bytes[pos + 1] & 0xff) << 8);
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		final byte[] data = buildData(5 * ParallelBlockCompressedOutputStream.BLOCK_SIZE + 123);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ParallelBlockCompressedOutputStream out = new ParallelBlockCompressedOutputStream(bytes, 3);
+		out.write(data, 0, 1000);
+		out.write(data[1000]);
+		out.write(data, 1001, data.length - 1001);
+		Assert.assertEquals(data.length, out.getPosition());
+		out.close();
+
+		Assert.assertArrayEquals(data, gunzip(bytes.toByteArray()));
+	}
+
+	@Test
+	public void testBlockLayout() throws IOException {
+		final byte[] data = buildData(3 * ParallelBlockCompressedOutputStream.BLOCK_SIZE);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ParallelBlockCompressedOutputStream out = new ParallelBlockCompressedOutputStream(bytes, 2);
+		out.write(data);
+		out.close();
+
+		// walk the blocks through the BSIZE field, three data blocks and the empty EOF block
+		final byte[] result = bytes.toByteArray();
+		int pos = 0;
+		int numBlocks = 0;
+		while (pos < result.length) {
+			Assert.assertEquals(0x1f, result[pos] & 0xff);
+			Assert.assertEquals(0x8b, result[pos + 1] & 0xff);
+			Assert.assertEquals('B', result[pos + 12]);
+			Assert.assertEquals('C', result[pos + 13]);
+			pos += getShort(result, pos + 16) + 1;
+			++numBlocks;
+		}
+		Assert.assertEquals(result.length, pos);
+		Assert.assertEquals(4, numBlocks);
+		Assert.assertEquals(28, getShort(result, result.length - 28 + 16) + 1);
+	}
+
+	@Test
+	public void testVirtualOffsets() throws IOException {
+		final int blockSize = ParallelBlockCompressedOutputStream.BLOCK_SIZE;
+		final byte[] data = buildData(2 * blockSize + 10);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ParallelBlockCompressedOutputStream out = new ParallelBlockCompressedOutputStream(bytes, 2);
+		out.trackBlocks();
+		out.write(data);
+		out.flush();
+		Assert.assertEquals(data.length, out.getWrittenPosition());
+
+		final byte[] result = bytes.toByteArray();
+		final long secondBlock = getShort(result, 16) + 1;
+		final long thirdBlock = secondBlock + getShort(result, (int) secondBlock + 16) + 1;
+		Assert.assertEquals(5, out.getVirtualOffset(5));
+		Assert.assertEquals((secondBlock << 16) | 7, out.getVirtualOffset(blockSize + 7));
+		Assert.assertEquals(thirdBlock << 16, out.getVirtualOffset(2 * blockSize));
+		Assert.assertEquals((thirdBlock << 16) | 9, out.getVirtualOffset(2 * blockSize + 9));
+		Assert.assertEquals(((long) result.length) << 16, out.getVirtualOffset(data.length));
+		out.close();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testVirtualOffsetOfPendingBlock() throws IOException {
+		ParallelBlockCompressedOutputStream out = new ParallelBlockCompressedOutputStream(
+				new ByteArrayOutputStream(), 1);
+		out.trackBlocks();
+		out.write(new byte[100]);
+		try {
+			out.getVirtualOffset(50);
+		} finally {
+			out.close();
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package de.charite.compbio.jannovar.io;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.impl.intervals.IntervalArray;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptIntervalEndExtractor;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+
+public class ChromosomeTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	Chromosome chrom;
+
+	private TranscriptModel buildTranscript(String accession, String geneSymbol, int beginPos, int endPos) {
+		final int chr = refDict.contigID.get("1");
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession(accession);
+		builder.setGeneSymbol(geneSymbol);
+		builder.setStrand('+');
+		GenomeInterval region = new GenomeInterval(refDict, '+', chr, beginPos, endPos, PositionType.ONE_BASED);
+		builder.setTxRegion(region);
+		builder.setCdsRegion(region);
+		builder.addExonRegion(region);
+		builder.setSequence("");
+		return builder.build();
+	}
+
+	@Before
+	public void setUp() {
+		ImmutableList<TranscriptModel> transcripts = ImmutableList.of(buildTranscript("tx1", "GENE1", 1001, 2000),
+				buildTranscript("tx2", "GENE1", 1501, 3000), buildTranscript("tx3", "GENE2", 5001, 6000));
+		IntervalArray<TranscriptModel> tmIntervalTree = new IntervalArray<TranscriptModel>(transcripts,
+				new TranscriptIntervalEndExtractor());
+		chrom = new Chromosome(refDict, refDict.contigID.get("1"), tmIntervalTree);
+	}
+
+	@Test
+	public void testGeneIntervalTree() {
+		Assert.assertEquals(2, chrom.geneIntervalTree.size());
+
+		IntervalArray<Gene>.QueryResult qr = chrom.geneIntervalTree.findOverlappingWithPoint(2500);
+		Assert.assertEquals(1, qr.entries.size());
+		Gene gene1 = qr.entries.get(0);
+		Assert.assertEquals("GENE1", gene1.name);
+		Assert.assertEquals(2, gene1.transcripts.size());
+		Assert.assertEquals(1000, gene1.region.beginPos);
+		Assert.assertEquals(3000, gene1.region.endPos);
+
+		qr = chrom.geneIntervalTree.findOverlappingWithPoint(5500);
+		Assert.assertEquals(1, qr.entries.size());
+		Assert.assertEquals("GENE2", qr.entries.get(0).name);
+	}
+
+}
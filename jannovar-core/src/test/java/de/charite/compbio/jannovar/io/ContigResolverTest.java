@@ -0,0 +1,47 @@
+package de.charite.compbio.jannovar.io;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+
+public class ContigResolverTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	@Test
+	public void testResolveNames() {
+		ContigResolver resolver = new ContigResolver(refDict);
+
+		Assert.assertEquals(1, resolver.resolve("1"));
+		Assert.assertEquals(1, resolver.resolve("1"));
+		Assert.assertEquals(refDict.contigID.get("X").intValue(), resolver.resolve("X"));
+		Assert.assertEquals(ContigResolver.UNKNOWN, resolver.resolve("GL000192.1"));
+		Assert.assertEquals(ContigResolver.UNKNOWN, resolver.resolve(null));
+	}
+
+	@Test
+	public void testResolveAliases() {
+		ContigResolver resolver = new ContigResolver(refDict);
+
+		Assert.assertEquals(1, resolver.resolve("chr1"));
+		Assert.assertEquals(refDict.contigID.get("M").intValue(), resolver.resolve("MT"));
+		Assert.assertEquals(refDict.contigID.get("M").intValue(), resolver.resolve("chrM"));
+		Assert.assertEquals(2, resolver.resolve("NC_000002.11"));
+		Assert.assertEquals(refDict.contigID.get("Y").intValue(), resolver.resolve("NC_000024.9"));
+		Assert.assertEquals(ContigResolver.UNKNOWN, resolver.resolve("chrUn_gl000220"));
+	}
+
+	@Test
+	public void testResolveHeaderContigs() {
+		ContigResolver resolver = new ContigResolver(refDict, ImmutableList.of("chr1", "chr2", "chrUn_gl000220"));
+
+		Assert.assertEquals(1, resolver.resolve("chr1"));
+		Assert.assertEquals(2, resolver.resolve("chr2"));
+		Assert.assertEquals(1, resolver.resolve("1"));
+		Assert.assertEquals(ContigResolver.UNKNOWN, resolver.resolve("chrUn_gl000220"));
+	}
+
+}
@@ -0,0 +1,108 @@
+package de.charite.compbio.jannovar.io;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.impl.intervals.Interval;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+
+public class JannovarDataRegistryTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+	String refseqPath;
+	String ucscPath;
+
+	private TranscriptModel buildTranscript(String accession, String geneSymbol) {
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession(accession);
+		builder.setGeneSymbol(geneSymbol);
+		builder.setStrand('+');
+		GenomeInterval region = new GenomeInterval(refDict, '+', 1, 1001, 2000, PositionType.ONE_BASED);
+		builder.setTxRegion(region);
+		builder.setCdsRegion(region);
+		builder.addExonRegion(region);
+		builder.setSequence("");
+		return builder.build();
+	}
+
+	@Before
+	public void setUp() throws SerializationException {
+		refseqPath = new File(tmpFolder.getRoot(), "hg19_refseq.ser").getPath();
+		new JannovarDataSerializer(refseqPath).save(new JannovarData(refDict, ImmutableList.of(buildTranscript(
+				"NM_000001.1", "GENE1"))));
+		ucscPath = new File(tmpFolder.getRoot(), "hg19_ucsc.ser").getPath();
+		new JannovarDataSerializer(ucscPath).save(new JannovarData(refDict, ImmutableList.of(buildTranscript(
+				"uc001aaa.1", "GENE1"))));
+	}
+
+	private TranscriptModel getTranscript(JannovarData data) {
+		Interval<TranscriptModel> itv = data.chromosomes.get(1).tmIntervalTree.intervals.get(0);
+		return itv.value;
+	}
+
+	@Test
+	public void testRouting() throws SerializationException {
+		JannovarDataRegistry registry = new JannovarDataRegistry();
+		registry.register("hg19", "refseq", refseqPath);
+		registry.register("hg19", "ucsc", ucscPath);
+
+		Assert.assertFalse(registry.isLoaded("hg19", "refseq"));
+		JannovarData refseq = registry.get("hg19", "refseq");
+		JannovarData ucsc = registry.get("hg19", "ucsc");
+		Assert.assertEquals("NM_000001.1", getTranscript(refseq).accession);
+		Assert.assertEquals("uc001aaa.1", getTranscript(ucsc).accession);
+		Assert.assertSame(refseq, registry.get("hg19", "refseq"));
+		// strings are shared between the databases
+		Assert.assertSame(getTranscript(refseq).geneSymbol, getTranscript(ucsc).geneSymbol);
+	}
+
+	@Test(expected = SerializationException.class)
+	public void testUnknownDatabase() throws SerializationException {
+		JannovarDataRegistry registry = new JannovarDataRegistry();
+		registry.register("hg19", "refseq", refseqPath);
+		registry.get("hg38", "refseq");
+	}
+
+	@Test
+	public void testMemoryBudget() throws SerializationException {
+		JannovarDataRegistry registry = new JannovarDataRegistry(new File(refseqPath).length());
+		registry.register("hg19", "refseq", refseqPath);
+		registry.register("hg19", "ucsc", ucscPath);
+
+		registry.get("hg19", "refseq");
+		Assert.assertTrue(registry.isLoaded("hg19", "refseq"));
+		registry.get("hg19", "ucsc");
+		Assert.assertFalse(registry.isLoaded("hg19", "refseq"));
+		Assert.assertTrue(registry.isLoaded("hg19", "ucsc"));
+	}
+
+	@Test
+	public void testUnloadAndUnregister() throws SerializationException {
+		JannovarDataRegistry registry = new JannovarDataRegistry();
+		registry.register("hg19", "refseq", refseqPath);
+
+		JannovarData data = registry.get("hg19", "refseq");
+		Assert.assertTrue(registry.unload("hg19", "refseq"));
+		Assert.assertFalse(registry.isLoaded("hg19", "refseq"));
+		Assert.assertNotSame(data, registry.get("hg19", "refseq"));
+
+		Assert.assertTrue(registry.unregister("hg19", "refseq"));
+		Assert.assertTrue(registry.getKeys().isEmpty());
+	}
+
+}
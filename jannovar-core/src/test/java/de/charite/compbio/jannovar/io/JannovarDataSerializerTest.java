@@ -0,0 +1,121 @@
+package de.charite.compbio.jannovar.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+
+public class JannovarDataSerializerTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+	JannovarData data;
+	String path;
+
+	private TranscriptModel buildTranscript(String accession, String geneSymbol, int chr, int begin, int end) {
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession(accession);
+		builder.setGeneSymbol(geneSymbol);
+		builder.setStrand('+');
+		GenomeInterval region = new GenomeInterval(refDict, '+', chr, begin, end, PositionType.ONE_BASED);
+		builder.setTxRegion(region);
+		builder.setCdsRegion(region);
+		builder.addExonRegion(region);
+		builder.setSequence("");
+		return builder.build();
+	}
+
+	@Before
+	public void setUp() {
+		data = new JannovarData(refDict, ImmutableList.of(buildTranscript("NM_000001.1", "GENE1", 1, 1001, 2000),
+				buildTranscript("NM_000002.1", "GENE2", 1, 5001, 6000),
+				buildTranscript("NM_000003.1", "GENE3", 2, 1001, 2000)));
+		path = new File(tmpFolder.getRoot(), "hg19.ser").getPath();
+	}
+
+	@Test
+	public void testRoundTrip() throws SerializationException {
+		new JannovarDataSerializer(path, null, 2).save(data);
+		JannovarData loaded = new JannovarDataSerializer(path, null, 3).load();
+
+		Assert.assertEquals(data.chromosomes.keySet(), loaded.chromosomes.keySet());
+		Assert.assertEquals(2, loaded.chromosomes.get(1).tmIntervalTree.size());
+		Assert.assertEquals("NM_000003.1", loaded.chromosomes.get(2).tmIntervalTree.intervals.get(0).value.accession);
+		Assert.assertEquals(2, loaded.chromosomes.get(1).geneIntervalTree.size());
+		// all chromosome sections share the reference dictionary of the header section
+		Assert.assertEquals(refDict.contigID, loaded.refDict.contigID);
+		for (Chromosome chr : loaded.chromosomes.values())
+			Assert.assertSame(loaded.refDict, chr.refDict);
+	}
+
+	@Test
+	public void testRoundTripPreferredIndex() throws SerializationException {
+		new JannovarDataSerializer(path).save(new PreferredTranscripts(ImmutableSet.<String> of()).apply(data));
+		JannovarData loaded = new JannovarDataSerializer(path).load();
+
+		Assert.assertEquals(2, loaded.chromosomes.get(1).tmIntervalTree.size());
+		Assert.assertEquals(2, loaded.chromosomes.get(1).preferredTmIntervalTree.size());
+	}
+
+	@Test
+	public void testProgressListener() throws SerializationException {
+		new JannovarDataSerializer(path).save(data);
+		final ArrayList<String> names = new ArrayList<String>();
+		new JannovarDataSerializer(path).load(new JannovarDataSerializer.ProgressListener() {
+			@Override
+			public void chromosomeLoaded(String contigName, int numLoaded, int numTotal) {
+				names.add(contigName);
+				Assert.assertEquals(names.size(), numLoaded);
+				Assert.assertEquals(data.chromosomes.size(), numTotal);
+			}
+		});
+		Assert.assertEquals(data.chromosomes.size(), names.size());
+		Assert.assertTrue(names.contains("1"));
+	}
+
+	@Test
+	public void testLoadSingleStreamFormat() throws IOException, SerializationException {
+		ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new FileOutputStream(path)));
+		out.writeObject(data);
+		out.close();
+
+		JannovarData loaded = new JannovarDataSerializer(path).load();
+		Assert.assertEquals(2, loaded.chromosomes.get(1).tmIntervalTree.size());
+	}
+
+	@Test(expected = SerializationException.class)
+	public void testChecksumMismatch() throws IOException, SerializationException {
+		new JannovarDataSerializer(path).save(data);
+		// flip the last byte, which belongs to the last chromosome section
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.seek(file.length() - 1);
+		final int b = file.read();
+		file.seek(file.length() - 1);
+		file.write(b ^ 0xff);
+		file.close();
+
+		new JannovarDataSerializer(path).load();
+	}
+
+}
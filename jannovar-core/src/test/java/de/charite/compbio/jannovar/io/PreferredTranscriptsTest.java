@@ -0,0 +1,117 @@
+package de.charite.compbio.jannovar.io;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import de.charite.compbio.jannovar.annotation.Annotation;
+import de.charite.compbio.jannovar.annotation.AnnotationException;
+import de.charite.compbio.jannovar.annotation.AnnotationList;
+import de.charite.compbio.jannovar.annotation.VariantAnnotator;
+import de.charite.compbio.jannovar.impl.intervals.Interval;
+import de.charite.compbio.jannovar.impl.intervals.IntervalArray;
+import de.charite.compbio.jannovar.reference.GenomeChange;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.GenomePosition;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+import de.charite.compbio.jannovar.reference.TranscriptSupportLevels;
+
+public class PreferredTranscriptsTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	JannovarData data;
+
+	private TranscriptModel buildTranscript(String accession, String geneSymbol, int beginPos, int endPos, int level) {
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession(accession);
+		builder.setGeneSymbol(geneSymbol);
+		builder.setStrand('+');
+		GenomeInterval region = new GenomeInterval(refDict, '+', 1, beginPos, endPos, PositionType.ONE_BASED);
+		builder.setTxRegion(region);
+		builder.setCdsRegion(region);
+		builder.addExonRegion(region);
+		builder.setSequence("");
+		builder.setTranscriptSupportLevel(level);
+		return builder.build();
+	}
+
+	@Before
+	public void setUp() {
+		data = new JannovarData(refDict, ImmutableList.of(
+				buildTranscript("NM_000001.1", "GENE1", 1001, 2000, TranscriptSupportLevels.LOW_PRIORITY),
+				buildTranscript("NM_000002.1", "GENE1", 1001, 2500, TranscriptSupportLevels.UCSC_CANONICAL),
+				buildTranscript("NM_000003.1", "GENE1", 1001, 3000, TranscriptSupportLevels.NOT_AVAILABLE),
+				buildTranscript("NM_000004.1", "GENE2", 5001, 6000, TranscriptSupportLevels.NOT_AVAILABLE),
+				buildTranscript("NM_000005.1", "GENE2", 5001, 6500, TranscriptSupportLevels.NOT_AVAILABLE)));
+	}
+
+	private ArrayList<String> getAccessions(IntervalArray<TranscriptModel> tree) {
+		ArrayList<String> result = new ArrayList<String>();
+		for (Interval<TranscriptModel> itv : tree.intervals)
+			result.add(itv.value.accession);
+		return result;
+	}
+
+	@Test
+	public void testSelectBySupportLevelAndLength() {
+		PreferredTranscripts preferred = new PreferredTranscripts(ImmutableSet.<String> of());
+		final Chromosome chrom = preferred.apply(data).chromosomes.get(1);
+
+		Assert.assertEquals(ImmutableList.of("NM_000002.1", "NM_000005.1"),
+				getAccessions(chrom.preferredTmIntervalTree));
+		Assert.assertSame(chrom.preferredTmIntervalTree, chrom.getPreferredTMIntervalTree());
+		// the full transcript set is kept
+		Assert.assertEquals(5, chrom.tmIntervalTree.size());
+		Assert.assertSame(data.chromosomes.get(1).geneIntervalTree, chrom.geneIntervalTree);
+	}
+
+	@Test
+	public void testSelectByAccessionList() {
+		PreferredTranscripts preferred = new PreferredTranscripts(ImmutableSet.of("NM_000003", "NM_000004.1"));
+		final Chromosome chrom = preferred.apply(data).chromosomes.get(1);
+
+		Assert.assertEquals(ImmutableList.of("NM_000003.1", "NM_000004.1"),
+				getAccessions(chrom.preferredTmIntervalTree));
+		Assert.assertEquals(5, chrom.tmIntervalTree.size());
+	}
+
+	@Test
+	public void testNoIndex() {
+		final Chromosome chrom = data.chromosomes.get(1);
+
+		Assert.assertNull(chrom.preferredTmIntervalTree);
+		Assert.assertSame(chrom.tmIntervalTree, chrom.getPreferredTMIntervalTree());
+	}
+
+	@Test
+	public void testAnnotateAgainstIndex() throws AnnotationException {
+		final JannovarData preferredData = new PreferredTranscripts(ImmutableSet.<String> of()).apply(data);
+		// intergenic variant between GENE1 and GENE2, annotated with the closest transcripts
+		final GenomeChange change = new GenomeChange(new GenomePosition(refDict, '+', 1, 4000,
+				PositionType.ONE_BASED), "A", "C");
+
+		VariantAnnotator annotator = new VariantAnnotator(refDict, preferredData.chromosomes);
+		Assert.assertEquals(ImmutableSet.of("NM_000002.1", "NM_000005.1"),
+				getAccessions(annotator.buildAnnotationList(change)));
+
+		VariantAnnotator allAnnotator = new VariantAnnotator(refDict, preferredData.chromosomes, null, true);
+		Assert.assertTrue(getAccessions(allAnnotator.buildAnnotationList(change)).contains("NM_000003.1"));
+	}
+
+	private ImmutableSet<String> getAccessions(AnnotationList annotations) {
+		ImmutableSet.Builder<String> builder = new ImmutableSet.Builder<String>();
+		for (Annotation annotation : annotations.entries)
+			builder.add(annotation.transcript.accession);
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,164 @@
+package de.charite.compbio.jannovar.io;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.annotation.AnnotationException;
+import de.charite.compbio.jannovar.annotation.AnnotationList;
+import de.charite.compbio.jannovar.annotation.VariantAnnotator;
+import de.charite.compbio.jannovar.reference.GenomeChange;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.GenomePosition;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+
+public class ReloadableJannovarDataTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+	String oldPath;
+	String newPath;
+
+	private TranscriptModel buildTranscript(String accession) {
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession(accession);
+		builder.setGeneSymbol("GENE1");
+		builder.setStrand('+');
+		GenomeInterval region = new GenomeInterval(refDict, '+', 1, 1001, 2000, PositionType.ONE_BASED);
+		builder.setTxRegion(region);
+		builder.setCdsRegion(region);
+		builder.addExonRegion(region);
+		builder.setSequence("");
+		return builder.build();
+	}
+
+	@Before
+	public void setUp() throws SerializationException {
+		oldPath = new File(tmpFolder.getRoot(), "old.ser").getPath();
+		new JannovarDataSerializer(oldPath).save(new JannovarData(refDict, ImmutableList
+				.of(buildTranscript("NM_000001.1"))));
+		newPath = new File(tmpFolder.getRoot(), "new.ser").getPath();
+		new JannovarDataSerializer(newPath).save(new JannovarData(refDict, ImmutableList
+				.of(buildTranscript("NM_000001.2"))));
+	}
+
+	private String getAccession(JannovarData data) {
+		return data.chromosomes.get(1).tmIntervalTree.intervals.get(0).value.accession;
+	}
+
+	@Test
+	public void testReloadKeepsSnapshotInUse() throws Exception {
+		ReloadableJannovarData handle = new ReloadableJannovarData(oldPath);
+		Assert.assertEquals(1, handle.getVersion());
+
+		ReloadableJannovarData.Snapshot oldSnapshot = handle.acquire();
+		handle.reloadAsync(newPath).get();
+		Assert.assertEquals(2, handle.getVersion());
+
+		// the old snapshot remains usable until it is closed
+		Assert.assertFalse(oldSnapshot.isReleased());
+		Assert.assertEquals("NM_000001.1", getAccession(oldSnapshot.getData()));
+		Assert.assertNotNull(oldSnapshot.getAnnotator());
+
+		ReloadableJannovarData.Snapshot newSnapshot = handle.acquire();
+		Assert.assertEquals(2, newSnapshot.version);
+		Assert.assertEquals("NM_000001.2", getAccession(newSnapshot.getData()));
+
+		oldSnapshot.close();
+		Assert.assertTrue(oldSnapshot.isReleased());
+		Assert.assertNull(oldSnapshot.getData());
+
+		newSnapshot.close();
+		Assert.assertFalse(newSnapshot.isReleased());
+		handle.close();
+		Assert.assertTrue(newSnapshot.isReleased());
+	}
+
+	@Test
+	public void testFailedReloadKeepsCurrentVersion() throws Exception {
+		ReloadableJannovarData handle = new ReloadableJannovarData(oldPath);
+		try {
+			handle.reload(new File(tmpFolder.getRoot(), "missing.ser").getPath());
+			Assert.fail("expected SerializationException");
+		} catch (SerializationException e) {
+			// expected
+		}
+		Assert.assertEquals(1, handle.acquire().version);
+		handle.close();
+	}
+
+	/** @return annotations of variants up- and downstream of the test transcript */
+	private ArrayList<AnnotationList> annotate(VariantAnnotator annotator) throws AnnotationException {
+		ArrayList<AnnotationList> result = new ArrayList<AnnotationList>();
+		for (int pos : new int[] { 500, 900, 2100, 2500, 5000, 50000 })
+			result.add(annotator.buildAnnotationList(new GenomeChange(new GenomePosition(refDict, '+', 1, pos,
+					PositionType.ONE_BASED), "A", "C")));
+		return result;
+	}
+
+	@Test
+	public void testConcurrentReaders() throws Exception {
+		// expected annotations for each file, built on a single thread
+		final HashMap<String, List<AnnotationList>> expected = new HashMap<String, List<AnnotationList>>();
+		for (String path : new String[] { oldPath, newPath }) {
+			ReloadableJannovarData handle = new ReloadableJannovarData(path);
+			ReloadableJannovarData.Snapshot snapshot = handle.acquire();
+			expected.put(path, annotate(snapshot.getAnnotator()));
+			snapshot.close();
+			handle.close();
+		}
+
+		final ReloadableJannovarData handle = new ReloadableJannovarData(oldPath);
+		final int numThreads = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			ArrayList<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+			for (int i = 0; i < numThreads; ++i)
+				futures.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws AnnotationException {
+						int numMismatches = 0;
+						for (int j = 0; j < 500; ++j) {
+							ReloadableJannovarData.Snapshot snapshot = handle.acquire();
+							try {
+								if (!expected.get(snapshot.path).equals(annotate(snapshot.getAnnotator())))
+									++numMismatches;
+							} finally {
+								snapshot.close();
+							}
+						}
+						return numMismatches;
+					}
+				}));
+			// swap the versions while the readers are running
+			for (int i = 0; i < 4; ++i)
+				handle.reloadAsync((i % 2 == 0) ? newPath : oldPath).get();
+
+			for (Future<Integer> future : futures)
+				Assert.assertEquals(0, future.get().intValue());
+		} finally {
+			executor.shutdown();
+			handle.close();
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+package de.charite.compbio.jannovar.io;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import de.charite.compbio.jannovar.impl.intervals.Interval;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
+import de.charite.compbio.jannovar.reference.HG19RefDictBuilder;
+import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
+import de.charite.compbio.jannovar.reference.TranscriptModelBuilder;
+
+public class TranscriptSubsetTest {
+
+	static final ReferenceDictionary refDict = HG19RefDictBuilder.build();
+
+	JannovarData data;
+
+	private TranscriptModel buildTranscript(String accession, String geneSymbol, String geneID, String contig,
+			int beginPos, int endPos) {
+		final int chr = refDict.contigID.get(contig);
+		TranscriptModelBuilder builder = new TranscriptModelBuilder();
+		builder.setAccession(accession);
+		builder.setGeneSymbol(geneSymbol);
+		builder.setGeneID(geneID);
+		builder.setStrand('+');
+		GenomeInterval region = new GenomeInterval(refDict, '+', chr, beginPos, endPos, PositionType.ONE_BASED);
+		builder.setTxRegion(region);
+		builder.setCdsRegion(region);
+		builder.addExonRegion(region);
+		builder.setSequence("");
+		return builder.build();
+	}
+
+	@Before
+	public void setUp() {
+		data = new JannovarData(refDict, ImmutableList.of(
+				buildTranscript("NM_000001.1", "GENE1", "ENTREZ1", "1", 1001, 2000),
+				buildTranscript("NM_000002.1", "GENE2", "ENTREZ2", "1", 5001, 6000),
+				buildTranscript("NM_000003.2", "GENE3", "ENTREZ3", "2", 1001, 2000),
+				buildTranscript("NM_000004.1", "GENE4", "ENTREZ4", "2", 8001, 9000)));
+	}
+
+	private ArrayList<String> getAccessions(JannovarData data) {
+		ArrayList<String> result = new ArrayList<String>();
+		for (int chrID = 1; chrID <= 2; ++chrID)
+			for (Interval<TranscriptModel> itv : data.chromosomes.get(chrID).tmIntervalTree.intervals)
+				result.add(itv.value.accession);
+		return result;
+	}
+
+	@Test
+	public void testEmptySubset() {
+		TranscriptSubset subset = new TranscriptSubset(ImmutableSet.<String> of(), ImmutableSet.<String> of(),
+				ImmutableSet.<String> of(), ImmutableList.<TranscriptSubset.Region> of());
+		Assert.assertTrue(subset.isEmpty());
+		Assert.assertSame(data, subset.apply(data));
+	}
+
+	@Test
+	public void testSelectByGeneAndAccession() {
+		TranscriptSubset subset = new TranscriptSubset(ImmutableSet.of("GENE1"), ImmutableSet.of("ENTREZ4"),
+				ImmutableSet.of("NM_000003"), ImmutableList.<TranscriptSubset.Region> of());
+		JannovarData result = subset.apply(data);
+
+		Assert.assertEquals(ImmutableList.of("NM_000001.1", "NM_000003.2", "NM_000004.1"), getAccessions(result));
+		Assert.assertEquals(1, result.chromosomes.get(1).geneIntervalTree.size());
+	}
+
+	@Test
+	public void testSelectByRegion() {
+		TranscriptSubset subset = new TranscriptSubset(ImmutableSet.<String> of(), ImmutableSet.<String> of(),
+				ImmutableSet.<String> of(), ImmutableList.of(new TranscriptSubset.Region("1", 5999, 7000),
+						new TranscriptSubset.Region("unknown", 0, 10000)));
+
+		Assert.assertEquals(ImmutableList.of("NM_000002.1"), getAccessions(subset.apply(data)));
+	}
+
+}
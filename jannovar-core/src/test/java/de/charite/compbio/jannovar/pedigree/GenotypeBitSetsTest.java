@@ -0,0 +1,53 @@
+package de.charite.compbio.jannovar.pedigree;
+
+import java.util.BitSet;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+public class GenotypeBitSetsTest extends CompatibilityCheckerTestBase {
+
+	/** the {@link GenotypeBitSets} under test */
+	GenotypeBitSets bits;
+
+	@Before
+	public void setUp() {
+		names = ImmutableList.of("father", "mother", "child");
+		GenotypeList list = new GenotypeList(geneName, genomeRegion, names, ImmutableList.of(
+				ImmutableList.of(HET, REF, HET), ImmutableList.of(REF, HET, HET), ImmutableList.of(UKN, ALT, ALT)));
+		bits = new GenotypeBitSets(list);
+	}
+
+	private BitSet bitSet(int... indices) {
+		BitSet result = new BitSet();
+		for (int idx : indices)
+			result.set(idx);
+		return result;
+	}
+
+	@Test
+	public void testAll() {
+		Assert.assertEquals(3, bits.numVariants);
+		Assert.assertEquals(bitSet(0, 1, 2), bits.all());
+	}
+
+	@Test
+	public void testGet() {
+		Assert.assertEquals(bitSet(0), bits.get(0, HET));
+		Assert.assertEquals(bitSet(1), bits.get(0, REF));
+		Assert.assertEquals(bitSet(2), bits.get(0, UKN));
+		Assert.assertEquals(bitSet(), bits.get(0, ALT));
+		Assert.assertEquals(bitSet(0, 1), bits.get(2, HET));
+		Assert.assertEquals(bitSet(1, 2), bits.get(1, HET, ALT));
+	}
+
+	@Test
+	public void testGetReturnsCopy() {
+		bits.get(2, HET).clear();
+		Assert.assertEquals(bitSet(0, 1), bits.get(2, HET));
+	}
+
+}
@@ -0,0 +1,28 @@
+package de.charite.compbio.jannovar;
+
+import htsjdk.variant.variantcontext.writer.VariantContextWriter;
+import de.charite.compbio.jannovar.pedigree.ModeOfInheritance;
+import de.charite.compbio.jannovar.pedigree.Pedigree;
+
+/**
+ * One output of {@link FilteredWriter}: the variants compatible with a {@link Pedigree} and a
+ * {@link ModeOfInheritance}, written to a {@link VariantContextWriter}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class FilterTarget {
+
+	/** the pedigree to filter for */
+	public final Pedigree pedigree;
+	/** the mode of inheritance to filter for */
+	public final ModeOfInheritance modeOfInheritance;
+	/** sink for the compatible variants */
+	public final VariantContextWriter sink;
+
+	public FilterTarget(Pedigree pedigree, ModeOfInheritance modeOfInheritance, VariantContextWriter sink) {
+		this.pedigree = pedigree;
+		this.modeOfInheritance = modeOfInheritance;
+		this.sink = sink;
+	}
+
+}
@@ -1,60 +1,130 @@
 package de.charite.compbio.jannovar;
 
 import htsjdk.variant.variantcontext.VariantContext;
-import htsjdk.variant.variantcontext.writer.VariantContextWriter;
 import htsjdk.variant.vcf.VCFFileReader;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.annotation.StructuralVariantAnnotator;
+import de.charite.compbio.jannovar.filter.AnnotationFilter;
 import de.charite.compbio.jannovar.filter.CoordinateSortChecker;
+import de.charite.compbio.jannovar.filter.FanOutFilter;
 import de.charite.compbio.jannovar.filter.FilterException;
 import de.charite.compbio.jannovar.filter.FlaggedVariant;
 import de.charite.compbio.jannovar.filter.GeneWiseInheritanceFilter;
+import de.charite.compbio.jannovar.filter.PedigreeGenotypeDecoder;
 import de.charite.compbio.jannovar.filter.VariantContextFilter;
 import de.charite.compbio.jannovar.filter.VariantWiseInheritanceFilter;
 import de.charite.compbio.jannovar.filter.WriterFilter;
+import de.charite.compbio.jannovar.htsjdk.VariantContextAnnotator;
 import de.charite.compbio.jannovar.io.JannovarData;
-import de.charite.compbio.jannovar.pedigree.ModeOfInheritance;
-import de.charite.compbio.jannovar.pedigree.Pedigree;
+import de.charite.compbio.jannovar.pedigree.Person;
 
+/**
+ * Reads the records from a {@link VCFFileReader} once and writes the variants compatible with each
+ * {@link FilterTarget}.
+ *
+ * Optionally, the written variants are annotated in the same pass, see {@link JannovarFilterOptions#annotate}.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
 public class FilteredWriter {
 
-	/** Pedigree */
-	private final Pedigree pedigree;
 	/** Jannovar DB */
 	private final JannovarData jannovarDB;
-	/** mode of inheritance */
-	private final ModeOfInheritance modeOfInheritance;
 	/** source of {@link VariantContext} objects */
 	private final VCFFileReader source;
-	/** sink for {@link VariantContext} objects */
-	private final VariantContextWriter sink;
+	/** pedigrees, modes of inheritance, and sinks to filter for */
+	private final ImmutableList<FilterTarget> targets;
 
-	public FilteredWriter(Pedigree pedigree, ModeOfInheritance modeOfInheritance, JannovarData jannovarDB,
-			VCFFileReader source, VariantContextWriter sink) {
-		this.pedigree = pedigree;
-		this.modeOfInheritance = modeOfInheritance;
+	public FilteredWriter(JannovarData jannovarDB, VCFFileReader source, ImmutableList<FilterTarget> targets) {
 		this.jannovarDB = jannovarDB;
 		this.source = source;
-		this.sink = sink;
+		this.targets = targets;
 	}
 
 	void run(JannovarFilterOptions options) throws JannovarException {
-		// public GeneWiseInheritanceFilter(Pedigree pedigree, JannovarData jannovarDB, ModeOfInheritance
-		// modeOfInheritance,
-		// ImmutableList<String> names, VariantContextFilter next) {
-
-		VariantContextFilter topFilter = new WriterFilter(sink);
-		if (options.geneWise)
-			topFilter = new GeneWiseInheritanceFilter(pedigree, jannovarDB, modeOfInheritance, topFilter);
-		else
-			topFilter = new VariantWiseInheritanceFilter(pedigree, modeOfInheritance, topFilter);
-		topFilter = new CoordinateSortChecker(topFilter);
-
+		// the threads run the chains of several targets, HTSJDK's lazy genotype parsing is not thread-safe such that
+		// a single target is filtered in the main thread
+		ExecutorService executor = null;
+		if (options.numThreads > 1 && targets.size() > 1)
+			executor = Executors.newFixedThreadPool(options.numThreads);
 		try {
-			for (VariantContext vc : source)
-				topFilter.put(new FlaggedVariant(vc));
-			topFilter.finish();
+			if (targets.size() == 1)
+				runSingle(targets.get(0), options);
+			else
+				runMultiple(executor, options);
 		} catch (FilterException e) {
 			throw new JannovarException("Problem with the filtration: " + e.getMessage());
+		} finally {
+			if (executor != null)
+				executor.shutdownNow();
 		}
 	}
 
+	/**
+	 * Filter for one target, the genotypes are decoded once for each record when the filter first needs them.
+	 */
+	private void runSingle(FilterTarget target, JannovarFilterOptions options) throws FilterException {
+		final PedigreeGenotypeDecoder decoder = buildDecoder(target);
+		VariantContextFilter topFilter = new CoordinateSortChecker(buildChain(target, decoder, options, true));
+		for (VariantContext vc : source)
+			topFilter.put(new FlaggedVariant(vc));
+		topFilter.finish();
+	}
+
+	/**
+	 * Filter for all targets in one pass, running the chains of the targets in parallel using <code>executor</code>.
+	 *
+	 * The chains share the {@link VariantContext} objects, so annotation happens once before passing the records to
+	 * the chains.
+	 */
+	private void runMultiple(ExecutorService executor, JannovarFilterOptions options) throws FilterException {
+		ImmutableList.Builder<VariantContextFilter> chains = new ImmutableList.Builder<VariantContextFilter>();
+		for (FilterTarget target : targets)
+			chains.add(buildChain(target, buildDecoder(target), options, false));
+		VariantContextFilter topFilter = new FanOutFilter(chains.build(), executor);
+		if (options.annotate)
+			topFilter = new AnnotationFilter(buildAnnotator(options), topFilter);
+		topFilter = new CoordinateSortChecker(topFilter);
+
+		for (VariantContext vc : source)
+			topFilter.put(new FlaggedVariant(vc));
+		topFilter.finish();
+	}
+
+	/** @return {@link PedigreeGenotypeDecoder} for the members of the pedigree of <code>target</code> */
+	private PedigreeGenotypeDecoder buildDecoder(FilterTarget target) throws FilterException {
+		ImmutableList.Builder<String> namesBuilder = new ImmutableList.Builder<String>();
+		for (Person p : target.pedigree.members)
+			namesBuilder.add(p.name);
+		return new PedigreeGenotypeDecoder(source.getFileHeader(), namesBuilder.build());
+	}
+
+	/**
+	 * @return inheritance filter and writer for <code>target</code>, with annotation of the written variants if
+	 *         <code>annotate</code> is set and enabled in <code>options</code>
+	 */
+	private VariantContextFilter buildChain(FilterTarget target, PedigreeGenotypeDecoder decoder,
+			JannovarFilterOptions options, boolean annotate) {
+		VariantContextFilter filter = new WriterFilter(target.sink);
+		if (annotate && options.annotate)
+			filter = new AnnotationFilter(buildAnnotator(options), filter);
+		if (options.geneWise)
+			return new GeneWiseInheritanceFilter(target.pedigree, jannovarDB, target.modeOfInheritance, decoder,
+					filter);
+		else
+			return new VariantWiseInheritanceFilter(target.pedigree, target.modeOfInheritance, decoder, filter);
+	}
+
+	/** @return {@link VariantContextAnnotator} configured from <code>options</code> */
+	private VariantContextAnnotator buildAnnotator(JannovarFilterOptions options) {
+		return new VariantContextAnnotator(jannovarDB.refDict, jannovarDB.chromosomes,
+				new VariantContextAnnotator.Options(options.getInfoFields(), !options.showAll, null, false,
+						StructuralVariantAnnotator.DEFAULT_MAX_GENES, options.allTranscripts));
+	}
+
 }
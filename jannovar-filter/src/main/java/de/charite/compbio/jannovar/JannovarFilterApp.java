@@ -1,12 +1,13 @@
 package de.charite.compbio.jannovar;
 
-import htsjdk.variant.variantcontext.writer.Options;
 import htsjdk.variant.variantcontext.writer.VariantContextWriter;
-import htsjdk.variant.variantcontext.writer.VariantContextWriterBuilder;
 import htsjdk.variant.vcf.VCFFileReader;
+import htsjdk.variant.vcf.VCFHeader;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 
 import org.apache.commons.cli.ParseException;
 import org.apache.logging.log4j.Level;
@@ -14,10 +15,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.Configuration;
 
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.htsjdk.VariantContextWriterConstructionHelper;
 import de.charite.compbio.jannovar.io.JannovarData;
 import de.charite.compbio.jannovar.io.JannovarDataSerializer;
 import de.charite.compbio.jannovar.pedigree.PedFileContents;
+import de.charite.compbio.jannovar.pedigree.ModeOfInheritance;
 import de.charite.compbio.jannovar.pedigree.PedFileReader;
+import de.charite.compbio.jannovar.pedigree.PedPerson;
 import de.charite.compbio.jannovar.pedigree.Pedigree;
 import de.charite.compbio.jannovar.pedigree.Person;
 
@@ -41,8 +47,10 @@ public class JannovarFilterApp {
 
 		final long startTime = System.nanoTime();
 		VCFFileReader reader = new VCFFileReader(new File(options.inputPath), false);
-		VariantContextWriter writer = getWriter(reader);
-		deserializeJannovarDB(); // only need this when inheritance filter is active
+		deserializeJannovarDB(); // only need this when gene-wise inheritance filter or annotation is active
+		VCFHeader header = reader.getFileHeader();
+		if (options.annotate)
+			header = VariantContextWriterConstructionHelper.extendHeaderFields(header, options.getInfoFields());
 
 		PedFileContents pedContents;
 		try {
@@ -50,39 +58,78 @@ public class JannovarFilterApp {
 		} catch (IOException e) {
 			throw new JannovarException("Could not parse Pedigree from " + options.pedPath);
 		}
-		Pedigree pedigree = new Pedigree(pedContents, pedContents.individuals.get(0).pedigree);
-		System.err.println("Family used from PED file: " + pedigree.name);
-		for (Person p : pedigree.members)
-			System.err.println("    " + p.name);
-		new FilteredWriter(pedigree, options.modeOfInheritance, jannovarDB, reader, writer).run(options);
-		writer.close();
+		ImmutableList<Pedigree> pedigrees = buildPedigrees(pedContents);
+
+		// one output for each family and mode, the output path is used as is in the case of a single output
+		final boolean multipleOutputs = (pedigrees.size() * options.modesOfInheritance.size() > 1);
+		ImmutableList.Builder<FilterTarget> targets = new ImmutableList.Builder<FilterTarget>();
+		ArrayList<VariantContextWriter> writers = new ArrayList<VariantContextWriter>();
+		for (Pedigree pedigree : pedigrees) {
+			System.err.println("Family used from PED file: " + pedigree.name);
+			for (Person p : pedigree.members)
+				System.err.println("    " + p.name);
+			for (ModeOfInheritance mode : options.modesOfInheritance) {
+				final String path = multipleOutputs ? options.getOutputPath(pedigree.name, mode) : options.outputPath;
+				VariantContextWriter writer = getWriter(header, path);
+				writers.add(writer);
+				targets.add(new FilterTarget(pedigree, mode, writer));
+			}
+		}
+
+		new FilteredWriter(jannovarDB, reader, targets.build()).run(options);
+		for (VariantContextWriter writer : writers)
+			writer.close();
 		final long endTime = System.nanoTime();
 		System.err.println(String.format("Filtering and writing took %.2f sec.",
 				(endTime - startTime) / 1000.0 / 1000.0 / 1000.0));
 	}
 
 	/**
-	 * @return {@link VariantContextWriter} given an input {@link VCFFileReader}.
+	 * @return the {@link Pedigree}s selected by {@link JannovarFilterOptions#families} and
+	 *         {@link JannovarFilterOptions#allFamilies}
+	 * @throws JannovarException
+	 *             on unknown families or problems with the pedigrees
+	 */
+	ImmutableList<Pedigree> buildPedigrees(PedFileContents pedContents) throws JannovarException {
+		// names of the families in order of first appearance
+		LinkedHashSet<String> names = new LinkedHashSet<String>();
+		for (PedPerson person : pedContents.individuals)
+			names.add(person.pedigree);
+
+		ImmutableList<String> selected;
+		if (options.allFamilies)
+			selected = ImmutableList.copyOf(names);
+		else if (options.families != null)
+			selected = options.families;
+		else
+			selected = ImmutableList.of(pedContents.individuals.get(0).pedigree);
+
+		ImmutableList.Builder<Pedigree> builder = new ImmutableList.Builder<Pedigree>();
+		for (String name : selected) {
+			if (!names.contains(name))
+				throw new JannovarException("Family " + name + " not found in " + options.pedPath);
+			builder.add(new Pedigree(pedContents, name));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * @return {@link VariantContextWriter} for <code>path</code> that writes <code>header</code>, BCF is written for
+	 *         paths ending in <code>.bcf</code> and BGZF compressed VCF for paths ending in <code>.vcf.gz</code>
+	 * @throws JannovarException
+	 *             if the output cannot be opened
 	 */
-	VariantContextWriter getWriter(VCFFileReader reader) {
-		// construct factory object for VariantContextWriter
-		VariantContextWriterBuilder builder = new VariantContextWriterBuilder();
-		builder.setReferenceDictionary(reader.getFileHeader().getSequenceDictionary());
-		builder.setOutputFile(new File(options.outputPath));
-		// Be more lenient in missing header fields.
-		builder.setOption(Options.ALLOW_MISSING_FIELDS_IN_HEADER);
-		// Disable on-the-fly generation of Tribble index if the input file does not have a sequence dictionary.
-		if (reader.getFileHeader().getSequenceDictionary() == null)
-			builder.unsetOption(Options.INDEX_ON_THE_FLY);
-
-		// construct VariantContextWriter and write out header
-		VariantContextWriter out = builder.build();
-		out.writeHeader(reader.getFileHeader());
-		return out;
+	VariantContextWriter getWriter(VCFHeader header, String path) throws JannovarException {
+		try {
+			return VariantContextWriterConstructionHelper.openVariantContextWriter(header, path,
+					options.numCompressionThreads);
+		} catch (IllegalArgumentException e) {
+			throw new JannovarException(e.getMessage());
+		}
 	}
 
 	protected void deserializeJannovarDB() throws JannovarException, HelpRequestedException {
-		if (options.geneWise)
+		if (options.geneWise || options.annotate)
 			this.jannovarDB = new JannovarDataSerializer(options.jannovarDB).load();
 	}
 
@@ -10,6 +10,8 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.cli.Parser;
 
+import com.google.common.collect.ImmutableList;
+
 import de.charite.compbio.jannovar.pedigree.ModeOfInheritance;
 
 /**
@@ -50,16 +52,63 @@ public class JannovarFilterCommandLineParser {
 		if (args.length != 3)
 			throw new ParseException("must exactly three none-option arguments, had: " + args.length);
 
-		if (cmd.getOptionValue("inheritance-mode") != null)
-			result.modeOfInheritance = ModeOfInheritance.valueOf(ModeOfInheritance.class,
-					cmd.getOptionValue("inheritance-mode"));
+		if (cmd.getOptionValue("inheritance-mode") != null) {
+			ImmutableList.Builder<ModeOfInheritance> modes = new ImmutableList.Builder<ModeOfInheritance>();
+			for (String mode : cmd.getOptionValue("inheritance-mode").split(","))
+				try {
+					modes.add(ModeOfInheritance.valueOf(mode.trim()));
+				} catch (IllegalArgumentException e) {
+					throw new ParseException("Invalid mode of inheritance: " + mode);
+				}
+			result.modesOfInheritance = modes.build();
+		}
+
+		if (cmd.getOptionValue("families") != null) {
+			if (cmd.getOptionValue("families").equals("ALL")) {
+				result.allFamilies = true;
+			} else {
+				ImmutableList.Builder<String> families = new ImmutableList.Builder<String>();
+				for (String family : cmd.getOptionValue("families").split(","))
+					families.add(family.trim());
+				result.families = families.build();
+			}
+		}
 
 		result.geneWise = cmd.hasOption("gene-wise");
 		if (cmd.getOptionValue("database") != null)
 			result.jannovarDB = cmd.getOptionValue("database");
 
+		if (cmd.getOptionValue("num-threads") != null) {
+			try {
+				result.numThreads = Integer.parseInt(cmd.getOptionValue("num-threads"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("Invalid value for -t/--num-threads: " + cmd.getOptionValue("num-threads"));
+			}
+			if (result.numThreads < 1)
+				throw new ParseException("The value of -t/--num-threads must be at least 1!");
+		}
+
+		if (cmd.getOptionValue("compression-threads") != null) {
+			try {
+				result.numCompressionThreads = Integer.parseInt(cmd.getOptionValue("compression-threads"));
+			} catch (NumberFormatException e) {
+				throw new ParseException("Invalid value for --compression-threads: "
+						+ cmd.getOptionValue("compression-threads"));
+			}
+			if (result.numCompressionThreads < 1)
+				throw new ParseException("The value of --compression-threads must be at least 1!");
+		}
+
+		result.annotate = cmd.hasOption("annotate");
+		result.showAll = cmd.hasOption("showall");
+		result.allTranscripts = cmd.hasOption("all-transcripts");
+		result.writeJannovarInfoFields = cmd.hasOption("old-info-fields");
+		result.writeVCFAnnotationStandardInfoFields = !cmd.hasOption("no-new-info-field");
+
 		if (result.geneWise && result.jannovarDB == null)
 			throw new ParseException("Enabled -g/--gene-wise mode but provided no -d/--database option!");
+		if (result.annotate && result.jannovarDB == null)
+			throw new ParseException("Enabled -a/--annotate but provided no -d/--database option!");
 
 		result.pedPath = args[0];
 		result.inputPath = args[1];
@@ -74,10 +123,28 @@ public class JannovarFilterCommandLineParser {
 		options.addOption(new Option("v", "verbose", false, "enable verbose output"));
 		options.addOption(new Option("vv", "very-verbose", false, "enable very verbose output"));
 
-		options.addOption(new Option("m", "inheritance-mode", true, "enable very verbose output"));
+		options.addOption(new Option("m", "inheritance-mode", true,
+				"mode(s) of inheritance to filter for, comma-separated"));
+		options.addOption(new Option("f", "families", true,
+				"families from the PED file to filter for, comma-separated or ALL (default: first family)"));
 		options.addOption(new Option("g", "gene-wise", false,
 				"gene-wise instead of variant-wise processing (required for compound heterozygous filtration)"));
 		options.addOption(new Option("d", "database", true, "path to Jannovar DB .ser file"));
+		options.addOption(new Option("a", "annotate", false,
+				"annotate the written variants in the same pass (requires -d/--database)"));
+		options.addOption(new Option("", "showall", false,
+				"when annotating, write all annotations instead of only the one with the highest impact"));
+		options.addOption(new Option("", "all-transcripts", false,
+				"when annotating, use all transcripts, also for databases written by db-subset --preferred-only"));
+		options.addOption(new Option("", "old-info-fields", false,
+				"when annotating, write the EFFECT and HGVS INFO fields"));
+		options.addOption(new Option("", "no-new-info-field", false,
+				"when annotating, do not write the standardized ANN INFO field"));
+		options.addOption(new Option("t", "num-threads", true,
+				"number of threads for filtering with several pedigrees or modes of inheritance in one pass "
+						+ "(default: 1)"));
+		options.addOption(new Option("", "compression-threads", true,
+				"number of threads to use for compressing each .vcf.gz output (default: 4)"));
 
 		parser = new GnuParser();
 	}
@@ -88,12 +155,23 @@ public class JannovarFilterCommandLineParser {
 				.append("Usage: java -jar jannovar-filter.jar [OPTIONS] <PED.ped> <IN.vcf> <OUT.vcf>\n\n").toString();
 		final String FOOTER = new StringBuilder()
 		.append("\n\nExample: java -jar jannovar-filter.jar -m AUTOSOMAL_DOMINANT data/hg19_ucsc.ser fam.ped 123.vcf 123.filtered.vcf\n")
-				.append("         java -jar jannovar-filter.jar -g -d data/hg19_ucsc.ser -m AUTOSOMAL_RECESSIVE <PED.ped> <IN.vcf> <OUT.vcf>\n\n")
+				.append("         java -jar jannovar-filter.jar -g -d data/hg19_ucsc.ser -m AUTOSOMAL_RECESSIVE <PED.ped> <IN.vcf> <OUT.vcf>\n")
+				.append("         java -jar jannovar-filter.jar -a -g -d data/hg19_ucsc.ser -m AUTOSOMAL_RECESSIVE <PED.ped> <IN.vcf> <OUT.vcf>\n\n")
 		.append("Diseases\n\n")
 		.append("The --inheritance-mode parameter can take one of the following values. When given")
 		.append("then the variants will be filtered to those being compatible with the given mode")
-		.append("of inheritance.\n\n").append("  AUTOSOMAL_DOMINANT\n").append("  AUTOSOMAL_RECESSIVE\n")
-		.append("  X_RECESSIVE\n").append("  X_DOMINANT\n").append("  UNINITIALIZED (no filtration)\n")
+		.append("of inheritance. Multiple modes can be given, separated by commas.\n\n")
+		.append("  AUTOSOMAL_DOMINANT\n").append("  AUTOSOMAL_RECESSIVE\n")
+		.append("  X_RECESSIVE\n").append("  X_DOMINANT\n").append("  UNINITIALIZED (no filtration)\n\n")
+		.append("Multiple Outputs\n\n")
+		.append("When filtering for more than one family or mode of inheritance, the VCF file is read once and one\n")
+		.append("output is written for each family and mode, e.g. <OUT>.FAM.AUTOSOMAL_DOMINANT.vcf for <OUT>.vcf.\n\n")
+		.append("BCF Files\n\n")
+		.append("Input and output files ending in .bcf are read and written as BCF. Writing BCF requires ##contig\n")
+		.append("lines in the header of the input file.\n\n")
+		.append("Compressed Files\n\n")
+		.append("Output files ending in .vcf.gz are compressed with BGZF on --compression-threads threads, a tabix\n")
+		.append("index is written next to them if the input file has ##contig lines.\n")
 		.toString();
 		System.err.print(HEADER);
 
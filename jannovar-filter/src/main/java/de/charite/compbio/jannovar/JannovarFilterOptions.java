@@ -2,6 +2,9 @@ package de.charite.compbio.jannovar;
 
 import java.io.PrintStream;
 
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.htsjdk.InfoFields;
 import de.charite.compbio.jannovar.pedigree.ModeOfInheritance;
 
 /**
@@ -23,15 +26,42 @@ public class JannovarFilterOptions {
 	/** path to input file */
 	String inputPath = null;
 
-	/** path to output file */
+	/** path to output file, see {@link #getOutputPath} for the case of multiple outputs */
 	String outputPath = null;
 
-	/** selected mode of inheritance */
-	ModeOfInheritance modeOfInheritance = ModeOfInheritance.UNINITIALIZED;
+	/** selected modes of inheritance */
+	ImmutableList<ModeOfInheritance> modesOfInheritance = ImmutableList.of(ModeOfInheritance.UNINITIALIZED);
+
+	/** names of the families from the PED file to filter for, <code>null</code> for the first family */
+	ImmutableList<String> families = null;
+
+	/** whether to filter for all families in the PED file */
+	boolean allFamilies = false;
 
 	/** gene-wise instead of variant-wise processing (required for composite heterozygous) */
 	boolean geneWise = false;
 
+	/** annotate the written variants, using the database from {@link #jannovarDB} */
+	boolean annotate = false;
+
+	/** when annotating, write all annotations instead of only the one with the highest putative impact */
+	boolean showAll = false;
+
+	/** when annotating, use all transcripts even if {@link #jannovarDB} has a preferred transcript index */
+	boolean allTranscripts = false;
+
+	/** when annotating, write the EFFECT and HGVS INFO fields */
+	boolean writeJannovarInfoFields = false;
+
+	/** when annotating, write the standardized ANN INFO field */
+	boolean writeVCFAnnotationStandardInfoFields = true;
+
+	/** number of threads for running the filters of several targets, 1 for running them in the main thread */
+	int numThreads = 1;
+
+	/** number of threads to use for compressing each <code>.vcf.gz</code> output */
+	int numCompressionThreads = 4;
+
 	/**
 	 * Print option values to stderr.
 	 */
@@ -41,8 +71,46 @@ public class JannovarFilterOptions {
 		out.println("ped path: " + pedPath);
 		out.println("input path: " + inputPath);
 		out.println("output path: " + outputPath);
-		out.println("modeOfInheritance: " + modeOfInheritance);
+		out.println("modesOfInheritance: " + modesOfInheritance);
+		out.println("families: " + (allFamilies ? "ALL" : families));
 		out.println("geneWise: " + geneWise);
+		out.println("numThreads: " + numThreads);
+		out.println("numCompressionThreads: " + numCompressionThreads);
+		out.println("annotate: " + annotate);
+		if (annotate) {
+			out.println("showAll: " + showAll);
+			out.println("allTranscripts: " + allTranscripts);
+			out.println("infoFields: " + getInfoFields());
+		}
+	}
+
+	/** @return {@link InfoFields} to write when annotating */
+	public InfoFields getInfoFields() {
+		return InfoFields.build(writeVCFAnnotationStandardInfoFields, writeJannovarInfoFields);
+	}
+
+	/**
+	 * Build output path for one family and mode of inheritance when writing multiple outputs.
+	 *
+	 * The family name and mode are inserted before the <code>.vcf</code>, <code>.vcf.gz</code>, or <code>.bcf</code>
+	 * suffix of {@link #outputPath}, e.g. <code>out.vcf</code> becomes <code>out.FAM.AUTOSOMAL_DOMINANT.vcf</code>.
+	 *
+	 * @param family
+	 *            name of the family
+	 * @param mode
+	 *            the mode of inheritance
+	 * @return path to the output file for <code>family</code> and <code>mode</code>
+	 */
+	public String getOutputPath(String family, ModeOfInheritance mode) {
+		String prefix = outputPath;
+		String suffix = "";
+		for (String ext : new String[] { ".vcf.gz", ".vcf", ".bcf" })
+			if (outputPath.endsWith(ext)) {
+				prefix = outputPath.substring(0, outputPath.length() - ext.length());
+				suffix = ext;
+				break;
+			}
+		return prefix + "." + family + "." + mode + suffix;
 	}
 
 }
@@ -0,0 +1,35 @@
+package de.charite.compbio.jannovar.filter;
+
+import java.util.ArrayList;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.io.Gene;
+import de.charite.compbio.jannovar.pedigree.GenotypeListBuilder;
+
+/**
+ * A {@link Gene} that currently has variants buffered in {@link GeneWiseInheritanceFilter}.
+ *
+ * Stores the genotype calls and the variants assigned to the gene, such that no lookup of the variants is necessary
+ * when the gene is done.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+class ActiveGene {
+	/** the gene */
+	public final Gene gene;
+	/** builder for the genotype call list of the gene */
+	public final GenotypeListBuilder genotypeListBuilder;
+	/** variants assigned to the gene, once for each affecting alternative allele */
+	public final ArrayList<FlaggedVariantCounter> variants = new ArrayList<FlaggedVariantCounter>();
+
+	ActiveGene(Gene gene, ImmutableList<String> personNames) {
+		this.gene = gene;
+		this.genotypeListBuilder = new GenotypeListBuilder(gene.name, gene.region, personNames);
+	}
+
+	@Override
+	public String toString() {
+		return "ActiveGene [gene=" + gene + ", variants=" + variants.size() + "]";
+	}
+}
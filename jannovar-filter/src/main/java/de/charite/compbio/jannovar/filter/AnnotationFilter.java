@@ -0,0 +1,40 @@
+package de.charite.compbio.jannovar.filter;
+
+import htsjdk.variant.variantcontext.VariantContext;
+import de.charite.compbio.jannovar.htsjdk.VariantContextAnnotator;
+
+/**
+ * Annotate each {@link VariantContext} with a {@link VariantContextAnnotator} and pass it to the next filter.
+ *
+ * This allows annotating variants in the same pass as filtering them, without writing and reading an intermediate VCF
+ * file. The annotations are written to the INFO field of the {@link VariantContext}, which is modified in place.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class AnnotationFilter implements VariantContextFilter {
+
+	/** the annotator to use */
+	private final VariantContextAnnotator annotator;
+
+	/** next filter in pipeline */
+	private final VariantContextFilter next;
+
+	/** Initialize with the given {@link VariantContextAnnotator} and next filter. */
+	public AnnotationFilter(VariantContextAnnotator annotator, VariantContextFilter next) {
+		this.annotator = annotator;
+		this.next = next;
+	}
+
+	@Override
+	public void put(FlaggedVariant fv) throws FilterException {
+		VariantContext vc = annotator.applyAnnotations(fv.vc, annotator.buildAnnotationList(fv.vc));
+		vc.getCommonInfo().removeAttribute("");
+		next.put(fv);
+	}
+
+	@Override
+	public void finish() throws FilterException {
+		next.finish();
+	}
+
+}
@@ -0,0 +1,107 @@
+package de.charite.compbio.jannovar.filter;
+
+import htsjdk.variant.variantcontext.VariantContext;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Pass each {@link VariantContext} to multiple independent filter chains.
+ *
+ * Each chain gets its own {@link FlaggedVariant} for each record since the "included" flag and the decoded genotypes
+ * are specific to the chain's pedigree and mode of inheritance.
+ *
+ * When an {@link ExecutorService} is given, the records are collected into batches and each chain processes a batch in
+ * its own task. The chains must not share any state in this case. Each chain still sees the records in input order and
+ * only one task runs for a chain at a time. The genotypes of the records are parsed in the calling thread before the
+ * batch is passed on since the chains read the same {@link VariantContext} objects concurrently.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public class FanOutFilter implements VariantContextFilter {
+
+	/** number of records to collect before passing them to the chains in parallel */
+	public static final int BATCH_SIZE = 1000;
+
+	/** the filter chains to pass the records to */
+	private final ImmutableList<VariantContextFilter> children;
+
+	/** {@link ExecutorService} to use for running the chains, <code>null</code> for the calling thread */
+	private final ExecutorService executor;
+
+	/** records collected for the next batch */
+	private final ArrayList<VariantContext> batch = new ArrayList<VariantContext>(BATCH_SIZE);
+
+	/** Initialize with the given filter chains and {@link ExecutorService}, which may be <code>null</code>. */
+	public FanOutFilter(ImmutableList<VariantContextFilter> children, ExecutorService executor) {
+		this.children = children;
+		this.executor = executor;
+	}
+
+	@Override
+	public void put(FlaggedVariant fv) throws FilterException {
+		if (executor == null) {
+			for (VariantContextFilter child : children)
+				child.put(new FlaggedVariant(fv.vc));
+			return;
+		}
+
+		batch.add(fv.vc);
+		if (batch.size() == BATCH_SIZE)
+			flushBatch(false);
+	}
+
+	@Override
+	public void finish() throws FilterException {
+		if (executor == null) {
+			for (VariantContextFilter child : children)
+				child.finish();
+			return;
+		}
+
+		flushBatch(true);
+	}
+
+	/**
+	 * Pass the records in {@link #batch} to all chains in parallel and wait for the chains to complete.
+	 *
+	 * @param finish
+	 *            whether to call {@link VariantContextFilter#finish} on the chains after the batch
+	 * @throws FilterException
+	 *             on problems in any chain
+	 */
+	private void flushBatch(final boolean finish) throws FilterException {
+		final ImmutableList<VariantContext> records = ImmutableList.copyOf(batch);
+		batch.clear();
+		for (VariantContext vc : records)
+			PedigreeGenotypeDecoder.decodeGenotypes(vc);
+
+		ArrayList<Future<Void>> futures = new ArrayList<Future<Void>>(children.size());
+		for (final VariantContextFilter child : children)
+			futures.add(executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws FilterException {
+					for (VariantContext vc : records)
+						child.put(new FlaggedVariant(vc));
+					if (finish)
+						child.finish();
+					return null;
+				}
+			}));
+
+		try {
+			for (Future<Void> future : futures)
+				future.get();
+		} catch (InterruptedException e) {
+			throw new FilterException("Interrupted while filtering: " + e.getMessage());
+		} catch (ExecutionException e) {
+			throw new FilterException(e.getCause().getMessage());
+		}
+	}
+
+}
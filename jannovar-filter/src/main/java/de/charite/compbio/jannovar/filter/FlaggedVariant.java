@@ -15,11 +15,32 @@ public class FlaggedVariant {
 
 	public final VariantContext vc;
 
+	/** genotype codes as built by {@link PedigreeGenotypeDecoder}, <code>null</code> if not decoded yet */
+	private byte[] genotypeCodes = null;
+
 	/** Initialize with the given {@link VariantContext}. */
 	public FlaggedVariant(VariantContext vc) {
 		this.vc = vc;
 	}
 
+	/** Initialize with the given {@link VariantContext} and already decoded genotype codes. */
+	public FlaggedVariant(VariantContext vc, byte[] genotypeCodes) {
+		this.vc = vc;
+		this.genotypeCodes = genotypeCodes;
+	}
+
+	/**
+	 * @return genotype codes of {@link #vc} for the pedigree members, decoding them with <code>decoder</code> on the
+	 *         first call
+	 * @throws FilterException
+	 *             on problems with decoding the genotypes
+	 */
+	public byte[] getGenotypeCodes(PedigreeGenotypeDecoder decoder) throws FilterException {
+		if (genotypeCodes == null)
+			genotypeCodes = decoder.decode(vc);
+		return genotypeCodes;
+	}
+
 	/** @return <code>true</code> if flagged as included */
 	public boolean isIncluded() {
 		return included;
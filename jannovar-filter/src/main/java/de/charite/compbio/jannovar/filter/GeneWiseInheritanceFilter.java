@@ -1,37 +1,29 @@
 package de.charite.compbio.jannovar.filter;
 
-import htsjdk.variant.variantcontext.Allele;
 import htsjdk.variant.variantcontext.VariantContext;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.PriorityQueue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableList;
-
-import de.charite.compbio.jannovar.impl.intervals.Interval;
 import de.charite.compbio.jannovar.impl.intervals.IntervalArray;
-import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.ContigResolver;
+import de.charite.compbio.jannovar.io.Gene;
 import de.charite.compbio.jannovar.io.JannovarData;
-import de.charite.compbio.jannovar.io.ReferenceDictionary;
 import de.charite.compbio.jannovar.pedigree.CompatibilityCheckerException;
-import de.charite.compbio.jannovar.pedigree.Genotype;
 import de.charite.compbio.jannovar.pedigree.GenotypeList;
-import de.charite.compbio.jannovar.pedigree.GenotypeListBuilder;
 import de.charite.compbio.jannovar.pedigree.ModeOfInheritance;
 import de.charite.compbio.jannovar.pedigree.Pedigree;
 import de.charite.compbio.jannovar.pedigree.PedigreeDiseaseCompatibilityDecorator;
-import de.charite.compbio.jannovar.pedigree.Person;
 import de.charite.compbio.jannovar.reference.GenomeChange;
 import de.charite.compbio.jannovar.reference.GenomeInterval;
 import de.charite.compbio.jannovar.reference.GenomePosition;
 import de.charite.compbio.jannovar.reference.PositionType;
-import de.charite.compbio.jannovar.reference.TranscriptModel;
 
 /**
  * A {@link VariantContext} filter that collects variants for each genes and then checks for compatibility.
@@ -45,60 +37,40 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 
 	/** Deserialized Jannovar data */
 	private final JannovarData jannovarDB;
+	/** resolution of the contig names of the records to the numeric IDs */
+	private final ContigResolver contigResolver;
 	/** The mode of inheritance to filter for */
 	private final ModeOfInheritance modeOfInheritance;
-	/** List of genes, indexed by interval tree */
-	private final GeneList geneList;
-	/** Names of {@link pedigree#members}. */
-	private final ImmutableList<String> personNames;
+	/** Decoder for the genotypes of {@link pedigree#members}. */
+	private final PedigreeGenotypeDecoder decoder;
 	/** Next filter. */
 	private final VariantContextFilter next;
 	/** Compatibility checker for genotype call lists and {@link #pedigree}. */
 	private final PedigreeDiseaseCompatibilityDecorator checker;
 
 	/** Currently active genes and variants assigned to them. */
-	HashMap<Gene, GenotypeListBuilder> activeGenes = new HashMap<Gene, GenotypeListBuilder>();
-	/** Currently buffered variants. */
-	HashMap<FlaggedVariant, FlaggedVariantCounter> activeVariants = new HashMap<FlaggedVariant, FlaggedVariantCounter>();
+	HashMap<Gene, ActiveGene> activeGenes = new HashMap<Gene, ActiveGene>();
+	/** Currently active genes, ordered by end position, all on {@link #activeContigID}. */
+	PriorityQueue<ActiveGene> activeGeneQueue = new PriorityQueue<ActiveGene>(16, new Comparator<ActiveGene>() {
+		@Override
+		public int compare(ActiveGene lhs, ActiveGene rhs) {
+			return (lhs.gene.region.endPos - rhs.gene.region.endPos);
+		}
+	});
+	/** Numeric ID of the contig of the currently active genes, -1 if none. */
+	int activeContigID = -1;
+	/** Number of currently buffered variants. */
+	int activeVariantCount = 0;
 
 	/** Initialize */
 	public GeneWiseInheritanceFilter(Pedigree pedigree, JannovarData jannovarDB, ModeOfInheritance modeOfInheritance,
-			VariantContextFilter next) {
+			PedigreeGenotypeDecoder decoder, VariantContextFilter next) {
 		this.jannovarDB = jannovarDB;
+		this.contigResolver = new ContigResolver(jannovarDB.refDict);
 		this.modeOfInheritance = modeOfInheritance;
-		this.geneList = buildGeneList(jannovarDB);
+		this.decoder = decoder;
 		this.next = next;
 		this.checker = new PedigreeDiseaseCompatibilityDecorator(pedigree);
-
-		ImmutableList.Builder<String> namesBuilder = new ImmutableList.Builder<String>();
-		for (Person p : pedigree.members)
-			namesBuilder.add(p.name);
-		this.personNames = namesBuilder.build();
-	}
-
-	/**
-	 * Build {@link GeneList} to be used in the filter.
-	 *
-	 * @param jannovarDB
-	 *            data base to use for building gene list
-	 * @return list of genes, built from <code>jannovarDB</code>.
-	 */
-	private static GeneList buildGeneList(JannovarData jannovarDB) {
-		// create one GeneBuilder for each gene, collect all transcripts for the gene
-		HashMap<String, GeneBuilder> geneMap = new HashMap<String, GeneBuilder>();
-		for (Chromosome chrom : jannovarDB.chromosomes.values())
-			for (Interval<TranscriptModel> itv : chrom.tmIntervalTree.intervals) {
-				TranscriptModel tm = itv.value;
-				if (!geneMap.containsKey(tm.geneSymbol))
-					geneMap.put(tm.geneSymbol, new GeneBuilder(jannovarDB.refDict, tm.geneSymbol));
-				geneMap.get(tm.geneSymbol).addTranscriptModel(tm);
-			}
-
-		// construct GeneList from geneMap
-		ImmutableList.Builder<Gene> builder = new ImmutableList.Builder<Gene>();
-		for (GeneBuilder gene : geneMap.values())
-			builder.add(gene.build());
-		return new GeneList(builder.build());
 	}
 
 	/**
@@ -108,16 +80,21 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 	public void put(FlaggedVariant vc) throws FilterException {
 		LOGGER.trace("Putting variant {} into inheritance filter", new Object[] { vc.vc });
 
-		final ReferenceDictionary refDict = jannovarDB.refDict;
 		// TODO(holtgrew): for now, we simply ignore variants on contigs unknown to us, this has to be fixed
-		if (!refDict.contigID.containsKey(vc.vc.getChr()))
+		final int contigID = contigResolver.resolve(vc.vc.getChr());
+		if (contigID == ContigResolver.UNKNOWN)
 			return;
-		final int contigID = refDict.contigID.get(vc.vc.getChr());
-		IntervalArray<Gene> iTree = geneList.gIntervalTree.get(contigID);
+		IntervalArray<Gene> iTree = jannovarDB.chromosomes.get(contigID).geneIntervalTree;
+
+		// all genes on the previous contig are done when switching contigs
+		if (contigID != activeContigID)
+			markDoneGenes(Integer.MAX_VALUE);
+		activeContigID = contigID;
 
 		// consider each alternative allele of the variant
+		final FlaggedVariantCounter counter = new FlaggedVariantCounter(vc, 0);
 		for (int alleleID = 0; alleleID < vc.vc.getAlternateAlleles().size(); ++alleleID) {
-			final GenomeChange change = getGenomeChangeFromAltAllele(vc.vc, alleleID);
+			final GenomeChange change = getGenomeChangeFromAltAllele(vc.vc, contigID, alleleID);
 
 			// query the gene interval tree for overlapping genes
 			final GenomeInterval changeInterval = change.getGenomeInterval();
@@ -129,37 +106,43 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 
 			for (Gene gene : qr.entries)
 				if (isGeneAffectedByChange(gene, change))
-					putVariantForGene(vc, gene);
+					putVariantForGene(counter, gene);
 		}
+		if (counter.count > 0)
+			activeVariantCount += 1;
 
 		// write out all variants left of variant
-		markDoneGenes(contigID, vc.vc.getStart() - 1);
+		markDoneGenes(vc.vc.getStart() - 1);
 	}
 
 	/**
 	 * Register {@link FlaggedVariant} as active for the given gene.
 	 */
-	private void putVariantForGene(FlaggedVariant vc, Gene gene) {
-		LOGGER.trace("Assigning variant {} to gene {}", new Object[] { vc.vc, gene });
-		// register variant as active
-		if (!activeVariants.containsKey(vc))
-			activeVariants.put(vc, new FlaggedVariantCounter(vc, 1));
-		else
-			activeVariants.get(vc).count += 1;
-
-		// create new GenotypeListBuilder for the gene if necessary
-		if (!activeGenes.containsKey(gene))
-			activeGenes.put(gene, new GenotypeListBuilder(gene.name, gene.region, personNames));
-
-		// register Genotypes for vc
-		putGenotypes(vc, gene);
+	private void putVariantForGene(FlaggedVariantCounter var, Gene gene) throws FilterException {
+		LOGGER.trace("Assigning variant {} to gene {}", new Object[] { var.var.vc, gene });
+
+		// create new ActiveGene if necessary
+		ActiveGene activeGene = activeGenes.get(gene);
+		if (activeGene == null) {
+			activeGene = new ActiveGene(gene, decoder.personNames);
+			activeGenes.put(gene, activeGene);
+			activeGeneQueue.add(activeGene);
+		}
+
+		// register variant as active for the gene
+		var.count += 1;
+		activeGene.variants.add(var);
+
+		// register Genotypes for variant
+		final byte[] codes = var.var.getGenotypeCodes(decoder);
+		for (int i = 0; i < var.var.vc.getAlternateAlleles().size(); ++i)
+			activeGene.genotypeListBuilder.addGenotypes(decoder.getGenotypes(codes, i));
 	}
 
 	/**
 	 * Construct {@link GenomeChange} from one allele in a {@link VariantContext}.
 	 */
-	private GenomeChange getGenomeChangeFromAltAllele(VariantContext vc, int alleleID) {
-		final int contigID = jannovarDB.refDict.contigID.get(vc.getChr());
+	private GenomeChange getGenomeChangeFromAltAllele(VariantContext vc, int contigID, int alleleID) {
 		final String ref = vc.getReference().getBaseString();
 		final String alt = vc.getAlternateAllele(alleleID).getBaseString();
 		final int pos = vc.getStart();
@@ -168,60 +151,16 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 	}
 
 	/**
-	 * Mark genes left of <code>(contigID, pos)</code> as done.
+	 * Mark genes on {@link #activeContigID} left of <code>pos</code> as done.
 	 *
-	 * @param contigID
-	 *            numeric contig ID, as taken from {@link JannovarDB#refDict} from {@link #jannovarDB}.
 	 * @param pos
-	 *            zero-based position on the given contig
+	 *            zero-based position on the active contig
 	 * @throws FilterException
 	 *             on problems with filtration
 	 */
-	private void markDoneGenes(int contigID, int pos) throws FilterException {
-		ArrayList<Gene> doneGenes = new ArrayList<Gene>();
-		for (Map.Entry<Gene, GenotypeListBuilder> entry : activeGenes.entrySet()) {
-			Gene gene = entry.getKey();
-			if (gene.region.chr != contigID)
-				doneGenes.add(gene);
-			else if (gene.region.endPos <= pos)
-				doneGenes.add(gene);
-		}
-
-		for (Gene gene : doneGenes) {
-			processedGene(gene);
-			activeGenes.remove(gene);
-		}
-	}
-
-	private void putGenotypes(FlaggedVariant fv, Gene gene) {
-		final VariantContext vc = fv.vc;
-		for (int i = 0; i < vc.getAlternateAlleles().size(); ++i) {
-			Allele currAlt = vc.getAlternateAllele(i);
-
-			ImmutableList.Builder<Genotype> builder = new ImmutableList.Builder<Genotype>();
-			for (int pID = 0; pID < personNames.size(); ++pID) {
-				htsjdk.variant.variantcontext.Genotype gt = vc.getGenotype(personNames.get(pID));
-				if (gt.getAlleles().size() > 2)
-					throw new RuntimeException("Unexpected allele count: " + gt.getAlleles().size());
-
-				// we consider everything non-ALT (for current alternative allele) to be REF
-				final int idx0 = 0;
-				final boolean isRef0 = !gt.getAllele(idx0).getBaseString().equals(currAlt.getBaseString());
-				final int idx1 = (gt.getAlleles().size() == 2) ? 1 : 0;
-				final boolean isRef1 = !gt.getAllele(idx1).getBaseString().equals(currAlt.getBaseString());
-
-				// TODO(holtgrem): Handle case of symbolic alleles and write through?
-				if (gt.getAllele(idx0).isNoCall() || gt.getAllele(idx1).isNoCall())
-					builder.add(Genotype.NOT_OBSERVED);
-				else if (isRef0 && isRef1)
-					builder.add(Genotype.HOMOZYGOUS_REF);
-				else if (!isRef0 && !isRef1)
-					builder.add(Genotype.HOMOZYGOUS_ALT);
-				else
-					builder.add(Genotype.HETEROZYGOUS);
-			}
-			activeGenes.get(gene).addGenotypes(builder.build());
-		}
+	private void markDoneGenes(int pos) throws FilterException {
+		while (!activeGeneQueue.isEmpty() && activeGeneQueue.peek().gene.region.endPos <= pos)
+			processedGene(activeGeneQueue.poll());
 	}
 
 	/**
@@ -232,20 +171,10 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 	@Override
 	public void finish() throws FilterException {
 		// perform a final round of tests on all currently active genes
-		ArrayList<Gene> doneGenes = new ArrayList<Gene>();
-		for (Map.Entry<Gene, GenotypeListBuilder> entry : activeGenes.entrySet()) {
-			checkVariantsForGene(entry.getKey());
-			doneGenes.add(entry.getKey());
-		}
-		// mark gene as done
-		for (Gene gene : doneGenes)
-			processedGene(gene);
-
-		for (FlaggedVariantCounter fvc : activeVariants.values())
-			LOGGER.trace("Variant remains {} with count {}", new Object[] { fvc.var.vc, fvc.count });
+		markDoneGenes(Integer.MAX_VALUE);
 
 		// there should be no more active variants or genes
-		if (!activeVariants.isEmpty())
+		if (activeVariantCount != 0)
 			throw new RuntimeException("all variants should be inactive now");
 		if (!activeGenes.isEmpty())
 			throw new RuntimeException("all genes should be inactive now");
@@ -256,18 +185,14 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 	 *
 	 * Called when we found out that the variants in <code>gene</code> are compatible with {@link #modeOfInheritance}.
 	 *
-	 * @param gene
-	 *            the {@link Gene} to mark the variants for
+	 * @param activeGene
+	 *            the {@link ActiveGene} to mark the variants for
 	 */
-	private void markVariantsInGeneAsCompatible(Gene gene) {
-		LOGGER.trace("Marking variants in {} as compatible", new Object[] { gene });
-		for (FlaggedVariantCounter var : activeVariants.values()) {
-			for (int alleleID = 0; alleleID < var.var.vc.getAlternateAlleles().size(); ++alleleID) {
-				if (isGeneAffectedByChange(gene, getGenomeChangeFromAltAllele(var.var.vc, alleleID))) {
-					LOGGER.trace("Including variant {}", new Object[] { var.var.vc });
-					var.var.setIncluded(true);
-				}
-			}
+	private void markVariantsInGeneAsCompatible(ActiveGene activeGene) {
+		LOGGER.trace("Marking variants in {} as compatible", new Object[] { activeGene.gene });
+		for (FlaggedVariantCounter var : activeGene.variants) {
+			LOGGER.trace("Including variant {}", new Object[] { var.var.vc });
+			var.var.setIncluded(true);
 		}
 	}
 
@@ -291,46 +216,38 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 	}
 
 	/**
-	 * Builds genotype call lists for variants in currently active genes, checks for compatibility, and in case of
-	 * compatibility, marks variants in <code>gene</code> as compatible.
+	 * Builds genotype call lists for variants in <code>activeGene</code>, checks for compatibility, and in case of
+	 * compatibility, marks variants in <code>activeGene</code> as compatible.
 	 */
-	private void checkVariantsForGene(Gene gene) throws FilterException {
+	private void checkVariantsForGene(ActiveGene activeGene) throws FilterException {
 		// check gene for compatibility and mark variants as compatible if so
-		GenotypeList lst = activeGenes.get(gene).build();
+		GenotypeList lst = activeGene.genotypeListBuilder.build();
 		try {
 			if (checker.isCompatibleWith(lst, modeOfInheritance))
-				markVariantsInGeneAsCompatible(gene);
+				markVariantsInGeneAsCompatible(activeGene);
 		} catch (CompatibilityCheckerException e) {
 			throw new FilterException("Problem in mode of inheritance filter: " + e.getMessage());
 		}
 	}
 
 	/**
-	 * Decrease counter for all variants located in <code>gene</code>.
+	 * Decrease counter for all variants located in <code>activeGene</code>.
 	 *
-	 * @param gene
-	 *            the {@link Gene} to mark the variants for
+	 * @param activeGene
+	 *            the {@link ActiveGene} to mark the variants for, already removed from {@link #activeGeneQueue}
 	 */
-	private void processedGene(Gene gene) throws FilterException {
-		checkVariantsForGene(gene);
+	private void processedGene(ActiveGene activeGene) throws FilterException {
+		checkVariantsForGene(activeGene);
 
-		LOGGER.trace("Gene done {}", new Object[] { gene });
+		LOGGER.trace("Gene done {}", new Object[] { activeGene.gene });
 
 		// decrease count of variants that lie in gene (that is now ignored)
 		ArrayList<FlaggedVariantCounter> done = new ArrayList<FlaggedVariantCounter>();
-		for (FlaggedVariantCounter var : activeVariants.values()) {
-			int sum = 0;
-			for (int alleleID = 0; alleleID < var.var.vc.getAlternateAlleles().size(); ++alleleID) {
-				if (isGeneAffectedByChange(gene, getGenomeChangeFromAltAllele(var.var.vc, alleleID))) {
-					LOGGER.trace("Gene {} done for variant {}", new Object[] { var.var.vc, gene });
-					sum += 1;
-				}
-			}
-			if (sum > 0) {
-				var.count -= sum;
-				if (var.count == 0)
-					done.add(var);
-			}
+		for (FlaggedVariantCounter var : activeGene.variants) {
+			LOGGER.trace("Gene {} done for variant {}", new Object[] { activeGene.gene, var.var.vc });
+			var.count -= 1;
+			if (var.count == 0)
+				done.add(var);
 		}
 
 		// sort done by coordinate
@@ -343,7 +260,7 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 
 		// remove done variants and write out if passing
 		for (FlaggedVariantCounter var : done) {
-			activeVariants.remove(var.var);
+			activeVariantCount -= 1;
 			if (var.var.isIncluded()) {
 				LOGGER.trace("Keeping variant {}", new Object[] { var.var.vc });
 				next.put(var.var);
@@ -352,10 +269,10 @@ public class GeneWiseInheritanceFilter implements VariantContextFilter {
 			}
 		}
 
-		LOGGER.trace("Gene {} is inactive now", new Object[] { gene });
+		LOGGER.trace("Gene {} is inactive now", new Object[] { activeGene.gene });
 
 		// mark gene as done
-		activeGenes.remove(gene);
+		activeGenes.remove(activeGene.gene);
 	}
 
 }
@@ -0,0 +1,155 @@
+package de.charite.compbio.jannovar.filter;
+
+import htsjdk.variant.variantcontext.Allele;
+import htsjdk.variant.variantcontext.LazyGenotypesContext;
+import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.vcf.VCFHeader;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.pedigree.Genotype;
+
+/**
+ * Decodes the genotype calls of the pedigree members from {@link VariantContext} objects into compact
+ * <code>byte[]</code> arrays.
+ *
+ * The sample index of each member is resolved once from the {@link VCFHeader}. For each record, the allele indices of
+ * each call are computed once and then mapped to one {@link Genotype} code (its ordinal) per alternative allele and
+ * person. The code for alternative allele <code>a</code> and person <code>p</code> is stored at
+ * <code>a * personCount + p</code>.
+ *
+ * Objects of this class are immutable. {@link #decode} may be called from multiple threads only for records whose
+ * genotypes have already been parsed through {@link #decodeGenotypes}. HTSJDK parses lazy genotypes with buffers
+ * shared by all records of a file, so this parsing has to happen in one thread.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class PedigreeGenotypeDecoder {
+
+	/** {@link Genotype} values, indexed by the codes */
+	private static final Genotype[] GENOTYPES = Genotype.values();
+
+	/** code for {@link Genotype#HOMOZYGOUS_REF} */
+	private static final byte HOM_REF = (byte) Genotype.HOMOZYGOUS_REF.ordinal();
+	/** code for {@link Genotype#HOMOZYGOUS_ALT} */
+	private static final byte HOM_ALT = (byte) Genotype.HOMOZYGOUS_ALT.ordinal();
+	/** code for {@link Genotype#HETEROZYGOUS} */
+	private static final byte HET = (byte) Genotype.HETEROZYGOUS.ordinal();
+	/** code for {@link Genotype#NOT_OBSERVED} */
+	private static final byte NO_CALL = (byte) Genotype.NOT_OBSERVED.ordinal();
+
+	/** names of the pedigree members */
+	public final ImmutableList<String> personNames;
+
+	/** sample index in the VCF file for each person in {@link #personNames} */
+	private final int[] sampleIndices;
+
+	/**
+	 * Initialize decoder, resolving the sample indices from <code>header</code>.
+	 *
+	 * @param header
+	 *            {@link VCFHeader} of the file to decode records from
+	 * @param personNames
+	 *            names of the pedigree members
+	 * @throws FilterException
+	 *             if a person from <code>personNames</code> is not a sample in <code>header</code>
+	 */
+	public PedigreeGenotypeDecoder(VCFHeader header, ImmutableList<String> personNames) throws FilterException {
+		this.personNames = personNames;
+		this.sampleIndices = new int[personNames.size()];
+
+		Map<String, Integer> offsets = header.getSampleNameToOffset();
+		for (int pID = 0; pID < personNames.size(); ++pID) {
+			Integer offset = offsets.get(personNames.get(pID));
+			if (offset == null)
+				throw new FilterException("Pedigree member " + personNames.get(pID) + " is not a sample in the VCF file");
+			sampleIndices[pID] = offset.intValue();
+		}
+	}
+
+	/** @return number of persons, i.e. the stride of the arrays returned by {@link #decode} */
+	public int getPersonCount() {
+		return sampleIndices.length;
+	}
+
+	/**
+	 * Decode the genotype calls of all persons for all alternative alleles of <code>vc</code>.
+	 *
+	 * We consider everything non-ALT (for the current alternative allele) to be REF.
+	 *
+	 * @param vc
+	 *            the record to decode
+	 * @return array with one {@link Genotype} code for each alternative allele and person
+	 * @throws FilterException
+	 *             in the case of calls with more than two alleles
+	 */
+	public byte[] decode(VariantContext vc) throws FilterException {
+		final int personCount = sampleIndices.length;
+		final int altCount = vc.getAlternateAlleles().size();
+		final byte[] result = new byte[altCount * personCount];
+
+		for (int pID = 0; pID < personCount; ++pID) {
+			final htsjdk.variant.variantcontext.Genotype gt = vc.getGenotype(sampleIndices[pID]);
+			final List<Allele> alleles = gt.getAlleles();
+			if (alleles.size() > 2)
+				throw new FilterException("Unexpected allele count: " + alleles.size());
+
+			final Allele allele0 = alleles.get(0);
+			final Allele allele1 = alleles.get((alleles.size() == 2) ? 1 : 0);
+			// TODO(holtgrem): Handle case of symbolic alleles and write through?
+			if (allele0.isNoCall() || allele1.isNoCall()) {
+				for (int alleleID = 0; alleleID < altCount; ++alleleID)
+					result[alleleID * personCount + pID] = NO_CALL;
+				continue;
+			}
+
+			// indices of the alternative alleles, -1 for reference (or unknown) alleles
+			final int idx0 = allele0.isReference() ? -1 : vc.getAlternateAlleles().indexOf(allele0);
+			final int idx1 = allele1.isReference() ? -1 : vc.getAlternateAlleles().indexOf(allele1);
+			for (int alleleID = 0; alleleID < altCount; ++alleleID) {
+				final boolean isAlt0 = (idx0 == alleleID);
+				final boolean isAlt1 = (idx1 == alleleID);
+				final byte code;
+				if (!isAlt0 && !isAlt1)
+					code = HOM_REF;
+				else if (isAlt0 && isAlt1)
+					code = HOM_ALT;
+				else
+					code = HET;
+				result[alleleID * personCount + pID] = code;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Force the parsing of the genotypes of <code>vc</code>, such that they can be read from multiple threads.
+	 *
+	 * @param vc
+	 *            the record to parse the genotypes of
+	 */
+	public static void decodeGenotypes(VariantContext vc) {
+		if (vc.getGenotypes() instanceof LazyGenotypesContext)
+			((LazyGenotypesContext) vc.getGenotypes()).decode();
+	}
+
+	/**
+	 * @param codes
+	 *            genotype codes as returned by {@link #decode}
+	 * @param alleleID
+	 *            0-based index of the alternative allele
+	 * @return list of {@link Genotype}s for the given alternative allele, one for each person
+	 */
+	public ImmutableList<Genotype> getGenotypes(byte[] codes, int alleleID) {
+		final int personCount = sampleIndices.length;
+		final Genotype[] genotypes = new Genotype[personCount];
+		for (int pID = 0; pID < personCount; ++pID)
+			genotypes[pID] = GENOTYPES[codes[alleleID * personCount + pID]];
+		return ImmutableList.copyOf(genotypes);
+	}
+
+}
@@ -0,0 +1,129 @@
+package de.charite.compbio.jannovar.filter;
+
+import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.vcf.VCFFileReader;
+import htsjdk.variant.vcf.VCFHeader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.pedigree.Disease;
+import de.charite.compbio.jannovar.pedigree.ModeOfInheritance;
+import de.charite.compbio.jannovar.pedigree.Pedigree;
+import de.charite.compbio.jannovar.pedigree.Person;
+import de.charite.compbio.jannovar.pedigree.Sex;
+
+public class FanOutFilterTest {
+
+	/** Collects the positions of the variants passed to it. */
+	static class CollectingFilter implements VariantContextFilter {
+		final ArrayList<Integer> positions = new ArrayList<Integer>();
+		boolean finished = false;
+
+		@Override
+		public void put(FlaggedVariant fv) {
+			positions.add(fv.vc.getStart());
+		}
+
+		@Override
+		public void finish() {
+			finished = true;
+		}
+	}
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+	File vcfFile;
+	VCFHeader header;
+	ImmutableList<Pedigree> pedigrees;
+	ExecutorService executor;
+
+	@Before
+	public void setUp() throws IOException {
+		vcfFile = new File(tmpFolder.getRoot(), "multi.vcf");
+		// more than two batches, the last one incomplete
+		PedigreeGenotypeDecoderTest.writeVCF(vcfFile, 2 * FanOutFilter.BATCH_SIZE + 123);
+		VCFFileReader reader = new VCFFileReader(vcfFile, false);
+		header = reader.getFileHeader();
+		reader.close();
+
+		Person father = new Person("father", null, null, Sex.MALE, Disease.UNAFFECTED);
+		Person mother = new Person("mother", null, null, Sex.FEMALE, Disease.UNAFFECTED);
+		Person son = new Person("son", father, mother, Sex.MALE, Disease.AFFECTED);
+		pedigrees = ImmutableList.of(new Pedigree("trio", ImmutableList.of(father, mother, son)), new Pedigree(
+				"single1", ImmutableList.of(new Person("daughter", null, null, Sex.FEMALE, Disease.AFFECTED))),
+				new Pedigree("single2", ImmutableList.of(new Person("other", null, null, Sex.MALE,
+						Disease.AFFECTED))));
+
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Run all pedigrees with dominant and recessive inheritance over {@link #vcfFile}.
+	 *
+	 * @return the sinks of the chains
+	 */
+	List<CollectingFilter> runFilters(ExecutorService executor) throws FilterException {
+		ArrayList<CollectingFilter> sinks = new ArrayList<CollectingFilter>();
+		ImmutableList.Builder<VariantContextFilter> chains = new ImmutableList.Builder<VariantContextFilter>();
+		for (Pedigree pedigree : pedigrees) {
+			ImmutableList.Builder<String> names = new ImmutableList.Builder<String>();
+			for (Person p : pedigree.members)
+				names.add(p.name);
+			for (ModeOfInheritance mode : new ModeOfInheritance[] { ModeOfInheritance.AUTOSOMAL_DOMINANT,
+					ModeOfInheritance.AUTOSOMAL_RECESSIVE }) {
+				CollectingFilter sink = new CollectingFilter();
+				sinks.add(sink);
+				// each chain uses its own decoder, as in FilteredWriter
+				chains.add(new VariantWiseInheritanceFilter(pedigree, mode, new PedigreeGenotypeDecoder(header,
+						names.build()), sink));
+			}
+		}
+
+		FanOutFilter filter = new FanOutFilter(chains.build(), executor);
+		VCFFileReader reader = new VCFFileReader(vcfFile, false);
+		for (VariantContext vc : reader)
+			filter.put(new FlaggedVariant(vc));
+		reader.close();
+		filter.finish();
+		return sinks;
+	}
+
+	@Test
+	public void testParallelEqualsSerial() throws FilterException {
+		List<CollectingFilter> serial = runFilters(null);
+		int numIncluded = 0;
+		for (CollectingFilter sink : serial)
+			numIncluded += sink.positions.size();
+		Assert.assertTrue(numIncluded > 0);
+
+		for (int round = 0; round < 3; ++round) {
+			List<CollectingFilter> parallel = runFilters(executor);
+			Assert.assertEquals(serial.size(), parallel.size());
+			for (int i = 0; i < serial.size(); ++i) {
+				Assert.assertTrue(parallel.get(i).finished);
+				Assert.assertEquals(serial.get(i).positions, parallel.get(i).positions);
+			}
+		}
+	}
+
+}
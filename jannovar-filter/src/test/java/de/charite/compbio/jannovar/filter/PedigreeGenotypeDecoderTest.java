@@ -0,0 +1,152 @@
+package de.charite.compbio.jannovar.filter;
+
+import htsjdk.variant.variantcontext.Allele;
+import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.vcf.VCFFileReader;
+import htsjdk.variant.vcf.VCFHeader;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+import de.charite.compbio.jannovar.pedigree.Genotype;
+
+public class PedigreeGenotypeDecoderTest {
+
+	static final String[] SAMPLES = { "father", "mother", "son", "daughter", "other" };
+
+	static final String[] GENOTYPES = { "0/0", "0/1", "1/1", "./.", "0|1", "1|0", "0/2", "1/2" };
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+	File vcfFile;
+	ExecutorService executor;
+
+	@Before
+	public void setUp() throws IOException {
+		vcfFile = new File(tmpFolder.getRoot(), "multi.vcf");
+		writeVCF(vcfFile, 500);
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	/** Write multi-sample VCF file with <code>numRecords</code> records and random genotypes to <code>file</code>. */
+	static void writeVCF(File file, int numRecords) throws IOException {
+		Random rand = new Random(42);
+		PrintWriter out = new PrintWriter(new FileWriter(file));
+		out.println("##fileformat=VCFv4.1");
+		out.println("##FORMAT=<ID=GT,Number=1,Type=String,Description=\"Genotype\">");
+		out.println("##contig=<ID=1,length=249250621>");
+		out.print("#CHROM\tPOS\tID\tREF\tALT\tQUAL\tFILTER\tINFO\tFORMAT");
+		for (String sample : SAMPLES)
+			out.print("\t" + sample);
+		out.println();
+		for (int i = 0; i < numRecords; ++i) {
+			out.print("1\t" + (1000 + 10 * i) + "\t.\tA\tC,G\t.\tPASS\t.\tGT");
+			for (int j = 0; j < SAMPLES.length; ++j)
+				out.print("\t" + GENOTYPES[rand.nextInt(GENOTYPES.length)]);
+			out.println();
+		}
+		out.close();
+	}
+
+	/** @return all records from {@link #vcfFile}, with lazily parsed genotypes */
+	List<VariantContext> readRecords() {
+		VCFFileReader reader = new VCFFileReader(vcfFile, false);
+		ArrayList<VariantContext> result = new ArrayList<VariantContext>();
+		for (VariantContext vc : reader)
+			result.add(vc);
+		reader.close();
+		return result;
+	}
+
+	PedigreeGenotypeDecoder buildDecoder() throws FilterException {
+		VCFFileReader reader = new VCFFileReader(vcfFile, false);
+		VCFHeader header = reader.getFileHeader();
+		reader.close();
+		return new PedigreeGenotypeDecoder(header, ImmutableList.of("son", "father", "mother", "daughter"));
+	}
+
+	/** @return result of {@link PedigreeGenotypeDecoder#decode} for each of <code>vcs</code> */
+	List<byte[]> decodeSerial(PedigreeGenotypeDecoder decoder, List<VariantContext> vcs) throws FilterException {
+		ArrayList<byte[]> result = new ArrayList<byte[]>();
+		for (VariantContext vc : vcs)
+			result.add(decoder.decode(vc));
+		return result;
+	}
+
+	@Test
+	public void testDecode() throws FilterException {
+		PedigreeGenotypeDecoder decoder = buildDecoder();
+		List<VariantContext> vcs = readRecords();
+		List<byte[]> codes = decodeSerial(decoder, vcs);
+		Assert.assertEquals(4, decoder.getPersonCount());
+		for (int i = 0; i < vcs.size(); ++i) {
+			Assert.assertEquals(2 * decoder.getPersonCount(), codes.get(i).length);
+			for (int pID = 0; pID < decoder.getPersonCount(); ++pID) {
+				final htsjdk.variant.variantcontext.Genotype gt = vcs.get(i).getGenotype(
+						decoder.personNames.get(pID));
+				final Genotype first = decoder.getGenotypes(codes.get(i), 0).get(pID);
+				// count the copies of the first alternative allele
+				int altCount = 0;
+				for (Allele allele : gt.getAlleles())
+					if (allele.equals(vcs.get(i).getAlternateAllele(0)))
+						++altCount;
+				if (gt.isNoCall())
+					Assert.assertEquals(Genotype.NOT_OBSERVED, first);
+				else if (altCount == 0)
+					Assert.assertEquals(Genotype.HOMOZYGOUS_REF, first);
+				else if (altCount == 2)
+					Assert.assertEquals(Genotype.HOMOZYGOUS_ALT, first);
+				else
+					Assert.assertEquals(Genotype.HETEROZYGOUS, first);
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeFromThreadsAfterDecodeGenotypes() throws Exception {
+		final PedigreeGenotypeDecoder decoder = buildDecoder();
+		List<byte[]> serial = decodeSerial(decoder, readRecords());
+		// repeat with fresh records so the lazy genotypes have to be parsed again each time
+		for (int round = 0; round < 5; ++round) {
+			List<VariantContext> vcs = readRecords();
+			for (VariantContext vc : vcs)
+				PedigreeGenotypeDecoder.decodeGenotypes(vc);
+			ArrayList<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+			for (final VariantContext vc : vcs)
+				futures.add(executor.submit(new Callable<byte[]>() {
+					@Override
+					public byte[] call() throws FilterException {
+						return decoder.decode(vc);
+					}
+				}));
+			Assert.assertEquals(serial.size(), futures.size());
+			for (int i = 0; i < serial.size(); ++i)
+				Assert.assertArrayEquals(serial.get(i), futures.get(i).get());
+		}
+	}
+
+}
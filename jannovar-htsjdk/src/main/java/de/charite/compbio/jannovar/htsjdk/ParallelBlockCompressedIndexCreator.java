@@ -0,0 +1,119 @@
+package de.charite.compbio.jannovar.htsjdk;
+
+import htsjdk.tribble.Feature;
+import htsjdk.tribble.index.Index;
+import htsjdk.tribble.index.IndexCreator;
+
+import java.util.ArrayDeque;
+
+import de.charite.compbio.jannovar.impl.util.ParallelBlockCompressedOutputStream;
+
+/**
+ * {@link IndexCreator} for files written through a {@link ParallelBlockCompressedOutputStream}.
+ *
+ * The writers pass uncompressed positions to {@link #addFeature}, but the index needs BGZF virtual file offsets that
+ * are only known once the block containing the record has been compressed and written. The features are therefore
+ * queued and passed on to the wrapped {@link IndexCreator} when their block has been written, in the same order.
+ *
+ * Part of the Jannovar-HTSJDK bridge.
+ *
+ * @author Manuel Holtgrewe <manuel.holtgrewe@charite.de>
+ */
+public final class ParallelBlockCompressedIndexCreator implements IndexCreator {
+
+	/** the {@link IndexCreator} that builds the index from virtual file offsets */
+	private final IndexCreator delegate;
+
+	/** the stream that the indexed file is written to */
+	private final ParallelBlockCompressedOutputStream stream;
+
+	/** features whose blocks have not been written yet */
+	private final ArrayDeque<QueuedFeature> queue = new ArrayDeque<QueuedFeature>();
+
+	/**
+	 * Initialize the object and enable block tracking in <code>stream</code>.
+	 *
+	 * @param delegate
+	 *            the {@link IndexCreator} to pass the features to, e.g. a <code>TabixIndexCreator</code>
+	 * @param stream
+	 *            the stream that the indexed file is written to, nothing must have been written yet
+	 */
+	public ParallelBlockCompressedIndexCreator(IndexCreator delegate, ParallelBlockCompressedOutputStream stream) {
+		this.delegate = delegate;
+		this.stream = stream;
+		stream.trackBlocks();
+	}
+
+	/**
+	 * Queue <code>feature</code> and pass on the queued features whose blocks have been written.
+	 *
+	 * @param feature
+	 *            the feature to index, copied so the caller can reuse it
+	 * @param filePosition
+	 *            uncompressed position of the record in the stream
+	 */
+	@Override
+	public void addFeature(Feature feature, long filePosition) {
+		queue.addLast(new QueuedFeature(feature.getChr(), feature.getStart(), feature.getEnd(), filePosition));
+		passWritten();
+	}
+
+	/**
+	 * Pass on all queued features and finalize the index.
+	 *
+	 * The stream must have been flushed or closed before, so all blocks are written.
+	 *
+	 * @param finalFilePosition
+	 *            uncompressed end position of the data
+	 */
+	@Override
+	public Index finalizeIndex(long finalFilePosition) {
+		passWritten();
+		if (!queue.isEmpty())
+			throw new IllegalStateException("stream must be flushed before finalizing the index");
+		return delegate.finalizeIndex(stream.getVirtualOffset(finalFilePosition));
+	}
+
+	/** Pass the queued features whose blocks have been written to {@link #delegate}. */
+	private void passWritten() {
+		while (!queue.isEmpty() && queue.peekFirst().filePosition <= stream.getWrittenPosition()) {
+			final QueuedFeature feature = queue.removeFirst();
+			delegate.addFeature(feature, stream.getVirtualOffset(feature.filePosition));
+		}
+	}
+
+	/**
+	 * Copy of a {@link Feature} together with its uncompressed position.
+	 */
+	private static final class QueuedFeature implements Feature {
+
+		private final String chr;
+		private final int start;
+		private final int end;
+		final long filePosition;
+
+		QueuedFeature(String chr, int start, int end, long filePosition) {
+			this.chr = chr;
+			this.start = start;
+			this.end = end;
+			this.filePosition = filePosition;
+		}
+
+		@Override
+		public String getChr() {
+			return chr;
+		}
+
+		@Override
+		public int getStart() {
+			return start;
+		}
+
+		@Override
+		public int getEnd() {
+			return end;
+		}
+
+	}
+
+}
@@ -1,6 +1,9 @@
 package de.charite.compbio.jannovar.htsjdk;
 
+import htsjdk.variant.variantcontext.Allele;
 import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.vcf.VCFContigHeaderLine;
+import htsjdk.variant.vcf.VCFHeader;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,13 +15,21 @@ import com.google.common.collect.ImmutableMap;
 import de.charite.compbio.jannovar.annotation.Annotation;
 import de.charite.compbio.jannovar.annotation.AnnotationList;
 import de.charite.compbio.jannovar.annotation.AnnotationMessage;
+import de.charite.compbio.jannovar.annotation.AnnotationMetrics;
+import de.charite.compbio.jannovar.annotation.PutativeImpact;
+import de.charite.compbio.jannovar.annotation.StructuralVariant;
+import de.charite.compbio.jannovar.annotation.StructuralVariantAnnotation;
+import de.charite.compbio.jannovar.annotation.StructuralVariantAnnotator;
 import de.charite.compbio.jannovar.annotation.VariantAnnotator;
 import de.charite.compbio.jannovar.annotation.VariantType;
 import de.charite.compbio.jannovar.io.Chromosome;
+import de.charite.compbio.jannovar.io.ContigResolver;
 import de.charite.compbio.jannovar.io.ReferenceDictionary;
 import de.charite.compbio.jannovar.reference.GenomeChange;
+import de.charite.compbio.jannovar.reference.GenomeInterval;
 import de.charite.compbio.jannovar.reference.GenomePosition;
 import de.charite.compbio.jannovar.reference.PositionType;
+import de.charite.compbio.jannovar.reference.TranscriptModel;
 
 /**
  * Helper class for generating {@link AnnotationList} objects from {@link VariantContext}s.
@@ -37,17 +48,60 @@ public final class VariantContextAnnotator {
 		 */
 		public final boolean oneAnnotationOnly;
 
+		/**
+		 * Only build annotations for variants whose location allows for this {@link PutativeImpact} or a more severe
+		 * one, see {@link VariantAnnotator#buildAnnotationList(GenomeChange, PutativeImpact)}; defaults to
+		 * <code>null</code> for annotating all variants
+		 */
+		public final PutativeImpact minImpact;
+
+		/**
+		 * Whether or not to annotate structural variants (symbolic alleles, breakends, and alleles of at least
+		 * {@link #MIN_SV_LENGTH} bp) with {@link StructuralVariantAnnotator} and write the <code>SV_*</code> INFO
+		 * fields, defaults to <code>false</code>
+		 */
+		public final boolean structuralVariants;
+
+		/** maximal number of genes and transcripts to write for each structural variant */
+		public final int maxSVGenes;
+
+		/**
+		 * Whether or not to annotate against all transcripts, even if the database has a preferred transcript index,
+		 * see {@link Chromosome#getPreferredTMIntervalTree}; defaults to <code>false</code>
+		 */
+		public final boolean allTranscripts;
+
 		public Options() {
-			infoFields = InfoFields.VCF_ANN;
-			oneAnnotationOnly = true;
+			this(InfoFields.VCF_ANN, true);
 		}
 
 		public Options(InfoFields infoFields, boolean oneAnnotationOnly) {
+			this(infoFields, oneAnnotationOnly, null);
+		}
+
+		public Options(InfoFields infoFields, boolean oneAnnotationOnly, PutativeImpact minImpact) {
+			this(infoFields, oneAnnotationOnly, minImpact, false, StructuralVariantAnnotator.DEFAULT_MAX_GENES);
+		}
+
+		public Options(InfoFields infoFields, boolean oneAnnotationOnly, PutativeImpact minImpact,
+				boolean structuralVariants, int maxSVGenes) {
+			this(infoFields, oneAnnotationOnly, minImpact, structuralVariants, maxSVGenes, false);
+		}
+
+		public Options(InfoFields infoFields, boolean oneAnnotationOnly, PutativeImpact minImpact,
+				boolean structuralVariants, int maxSVGenes, boolean allTranscripts) {
 			this.infoFields = infoFields;
 			this.oneAnnotationOnly = oneAnnotationOnly;
+			this.minImpact = minImpact;
+			this.structuralVariants = structuralVariants;
+			this.maxSVGenes = maxSVGenes;
+			this.allTranscripts = allTranscripts;
 		}
 	}
 
+	/** alleles with at least this many bases in REF or ALT are annotated as structural variants */
+	public static final int MIN_SV_LENGTH = 1000;
+
 	/** the {@link ReferenceDictionary} to use */
 	public final ReferenceDictionary refDict;
 	/** {@link Chromsome} map with the {@link TranscriptModel}s, probably from {@link JannovarData} */
@@ -55,9 +109,18 @@ public final class VariantContextAnnotator {
 	/** configuration */
 	public final Options options;
 
+	/** {@link AnnotationMetrics} to record counters and times in, <code>null</code> for no recording */
+	private final AnnotationMetrics metrics;
+
 	/** implementation of the actual variant annotation */
 	private final VariantAnnotator annotator;
 
+	/** implementation of the structural variant annotation */
+	private final StructuralVariantAnnotator svAnnotator;
+
+	/** resolution of the contig names of the records to the numeric IDs from {@link #refDict} */
+	private final ContigResolver contigResolver;
+
 	/**
 	 * Construct annotator with default options.
 	 */
@@ -77,15 +140,68 @@ public final class VariantContextAnnotator {
 	 */
 	public VariantContextAnnotator(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
 			Options options) {
+		this(refDict, chromosomeMap, options, null);
+	}
+
+	/**
+	 * Construct Annotator, recording into <code>metrics</code>.
+	 *
+	 * @param refDict
+	 *            {@link ReferenceDictionary} to use, probably from {@link JannovarData}
+	 * @param chromosomeMap
+	 *            {@link Chromosome} map to use, probably from {@link JannovarData}
+	 * @param options
+	 *            configuration of the Annotator, for {@link #applyAnnotations}
+	 * @param metrics
+	 *            {@link AnnotationMetrics} to record counters and times in, <code>null</code> for no recording
+	 */
+	public VariantContextAnnotator(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
+			Options options, AnnotationMetrics metrics) {
+		this(refDict, chromosomeMap, options, metrics, new ContigResolver(refDict));
+	}
+
+	/**
+	 * Construct Annotator, recording into <code>metrics</code> and using <code>contigResolver</code>.
+	 *
+	 * @param refDict
+	 *            {@link ReferenceDictionary} to use, probably from {@link JannovarData}
+	 * @param chromosomeMap
+	 *            {@link Chromosome} map to use, probably from {@link JannovarData}
+	 * @param options
+	 *            configuration of the Annotator, for {@link #applyAnnotations}
+	 * @param metrics
+	 *            {@link AnnotationMetrics} to record counters and times in, <code>null</code> for no recording
+	 * @param contigResolver
+	 *            {@link ContigResolver} for <code>refDict</code>, e.g. from {@link #buildContigResolver}
+	 */
+	public VariantContextAnnotator(ReferenceDictionary refDict, ImmutableMap<Integer, Chromosome> chromosomeMap,
+			Options options, AnnotationMetrics metrics, ContigResolver contigResolver) {
 		this.refDict = refDict;
 		this.chromosomeMap = chromosomeMap;
 		this.options = options;
-		this.annotator = new VariantAnnotator(refDict, chromosomeMap);
+		this.metrics = metrics;
+		this.annotator = new VariantAnnotator(refDict, chromosomeMap, metrics, options.allTranscripts);
+		this.svAnnotator = new StructuralVariantAnnotator(chromosomeMap, options.maxSVGenes);
+		this.contigResolver = contigResolver;
+	}
+
+	/**
+	 * @return {@link ContigResolver} for <code>refDict</code> with the contig names from the "##contig" lines of
+	 *         <code>header</code> precomputed
+	 */
+	public static ContigResolver buildContigResolver(ReferenceDictionary refDict, VCFHeader header) {
+		ArrayList<String> names = new ArrayList<String>();
+		for (VCFContigHeaderLine line : header.getContigLines())
+			names.add(line.getID());
+		return new ContigResolver(refDict, names);
 	}
 
 	/**
 	 * Given a {@link VariantContext}, generate one {@link AnnotationList} for each alternative allele.
 	 *
+	 * The lists are empty for symbolic alleles and breakends, and for large alleles if {@link Options#structuralVariants}
+	 * is set. These are annotated by {@link #buildStructuralVariantAnnotation} instead.
+	 *
 	 * @param vc
 	 *            the VCF record to annotate, remains unchanged
 	 * @return {@link ImmutableList} of {@link AnnotationList}s, one for each alternative allele, in the order of the
@@ -94,10 +210,9 @@ public final class VariantContextAnnotator {
 	public ImmutableList<AnnotationList> buildAnnotationList(VariantContext vc) {
 		// Catch the case that vc.getChr() is not in ChromosomeMap.identifier2chromosom. This is the case
 		// for the "random" and "alternative locus" contigs etc.
-		Integer boxedInt = refDict.contigID.get(vc.getChr());
-		if (boxedInt == null)
+		final int chr = contigResolver.resolve(vc.getChr());
+		if (chr == ContigResolver.UNKNOWN)
 			return buildUnknownRefAnnotationLists(vc);
-		int chr = boxedInt.intValue();
 
 		ImmutableList.Builder<AnnotationList> builder = new ImmutableList.Builder<AnnotationList>();
 		for (int alleleID = 0; alleleID < vc.getAlternateAlleles().size(); ++alleleID) {
@@ -108,12 +223,15 @@ public final class VariantContextAnnotator {
 			final GenomeChange change = new GenomeChange(new GenomePosition(refDict, '+', chr, pos,
 					PositionType.ONE_BASED), ref, alt);
 
-			// Build AnnotationList object for this allele.
-			if (alt.contains("[") || alt.contains("]") || alt.equals(".")) {
+			// Build AnnotationList object for this allele, structural variants are handled by svAnnotator. Note that
+			// the base string is empty for symbolic alleles and breakends, so use the display string for checking.
+			final String altDisplay = vc.getAlternateAllele(alleleID).getDisplayString();
+			if (vc.getAlternateAllele(alleleID).isSymbolic() || altDisplay.contains("[") || altDisplay.contains("]")
+					|| altDisplay.equals(".") || (options.structuralVariants && isLarge(ref, alt))) {
 				builder.add(AnnotationList.EMPTY);
 			} else {
 				try {
-					builder.add(annotator.buildAnnotationList(change));
+					builder.add(annotator.buildAnnotationList(change, options.minImpact));
 				} catch (Exception e) {
 					builder.add(buildErrorAnnotationList(vc));
 				}
@@ -137,9 +255,129 @@ public final class VariantContextAnnotator {
 			applyStandardAnnotations(vc, annos);
 		if (options.infoFields == InfoFields.EFFECT_HGVS || options.infoFields == InfoFields.BOTH)
 			applyOldJannovarAnnotations(vc, annos);
+		if (options.structuralVariants) {
+			StructuralVariantAnnotation svAnno = buildStructuralVariantAnnotation(vc);
+			if (svAnno != null)
+				applyStructuralVariantAnnotation(vc, svAnno);
+		}
 		return vc;
 	}
 
+	/**
+	 * Build gene-level annotation for the first alternative allele of <code>vc</code> that is a structural variant.
+	 *
+	 * Symbolic alleles (<code>&lt;DEL&gt;</code>, <code>&lt;DUP&gt;</code>, <code>&lt;INV&gt;</code>,
+	 * <code>&lt;INS&gt;</code>, <code>&lt;CNV&gt;</code>, also with subtypes such as <code>&lt;DUP:TANDEM&gt;</code>)
+	 * take their end position from the <code>END</code> or <code>SVLEN</code> INFO fields. Breakends are annotated
+	 * at their breakpoint only, and alleles of at least {@link #MIN_SV_LENGTH} bp by their REF and ALT sequences.
+	 *
+	 * @param vc
+	 *            the VCF record to annotate, remains unchanged
+	 * @return {@link StructuralVariantAnnotation} for the first structural alternative allele of <code>vc</code>,
+	 *         <code>null</code> if there is none or the contig is unknown
+	 */
+	public StructuralVariantAnnotation buildStructuralVariantAnnotation(VariantContext vc) {
+		final int chr = contigResolver.resolve(vc.getChr());
+		if (chr == ContigResolver.UNKNOWN)
+			return null;
+		for (Allele allele : vc.getAlternateAlleles()) {
+			StructuralVariant sv = buildStructuralVariant(vc, allele, chr);
+			if (sv != null)
+				return svAnnotator.annotate(sv);
+		}
+		return null;
+	}
+
+	/**
+	 * @return {@link StructuralVariant} for <code>allele</code> of <code>vc</code>, <code>null</code> if it is no
+	 *         structural variant or its end position is unknown
+	 */
+	private StructuralVariant buildStructuralVariant(VariantContext vc, Allele allele, int chr) {
+		final String ref = vc.getReference().getBaseString();
+		final String alt = allele.getDisplayString();
+		final int pos = vc.getStart(); // 1-based POS, i.e. 0-based position after the padding base
+
+		if (alt.startsWith("<")) {
+			final StructuralVariant.Type type = getSymbolicType(alt);
+			if (type == null)
+				return null; // e.g., <NON_REF> or <*>
+			if (type == StructuralVariant.Type.INSERTION)
+				return new StructuralVariant(type, new GenomeInterval(refDict, '+', chr, pos, pos));
+
+			int endPos; // 1-based inclusive, i.e. 0-based exclusive end position
+			if (vc.hasAttribute("END"))
+				endPos = vc.getAttributeAsInt("END", pos);
+			else if (vc.hasAttribute("SVLEN"))
+				endPos = pos + Math.abs(vc.getAttributeAsInt("SVLEN", 0));
+			else
+				return null;
+			return new StructuralVariant(type, new GenomeInterval(refDict, '+', chr, pos, Math.max(pos, endPos)));
+		} else if (alt.contains("[") || alt.contains("]")) {
+			// breakpoint is before the REF base for "]p]t" and "[p[t", otherwise after it
+			final int breakpoint = (alt.startsWith("[") || alt.startsWith("]")) ? pos - 1 : pos;
+			return new StructuralVariant(StructuralVariant.Type.BREAKEND, new GenomeInterval(refDict, '+', chr,
+					breakpoint, breakpoint));
+		} else if (isLarge(ref, alt)) {
+			final GenomeChange change = new GenomeChange(new GenomePosition(refDict, '+', chr, pos,
+					PositionType.ONE_BASED), ref, alt);
+			StructuralVariant.Type type = StructuralVariant.Type.SUBSTITUTION;
+			if (change.alt.length() == 0)
+				type = StructuralVariant.Type.DELETION;
+			else if (change.ref.length() == 0)
+				type = StructuralVariant.Type.INSERTION;
+			return new StructuralVariant(type, change.getGenomeInterval());
+		}
+		return null;
+	}
+
+	/**
+	 * @return {@link StructuralVariant.Type} for symbolic allele <code>alt</code>, <code>null</code> if not known
+	 */
+	private static StructuralVariant.Type getSymbolicType(String alt) {
+		if (alt.startsWith("<DEL"))
+			return StructuralVariant.Type.DELETION;
+		else if (alt.startsWith("<DUP"))
+			return StructuralVariant.Type.DUPLICATION;
+		else if (alt.startsWith("<INV"))
+			return StructuralVariant.Type.INVERSION;
+		else if (alt.startsWith("<INS"))
+			return StructuralVariant.Type.INSERTION;
+		else if (alt.startsWith("<CNV"))
+			return StructuralVariant.Type.CNV;
+		else
+			return null;
+	}
+
+	/** @return whether <code>ref</code> or <code>alt</code> have at least {@link #MIN_SV_LENGTH} bases */
+	private static boolean isLarge(String ref, String alt) {
+		return (ref.length() >= MIN_SV_LENGTH || alt.length() >= MIN_SV_LENGTH);
+	}
+
+	/**
+	 * Write <code>svAnno</code> to the <code>SV_*</code> INFO fields of <code>vc</code>.
+	 *
+	 * @param vc
+	 *            {@link VariantContext} to write the annotation to (to INFO column)
+	 * @param svAnno
+	 *            the {@link StructuralVariantAnnotation} to write
+	 */
+	public void applyStructuralVariantAnnotation(VariantContext vc, StructuralVariantAnnotation svAnno) {
+		vc.getCommonInfo().putAttribute("SV_GENE_COUNTS",
+				ImmutableList.of(svAnno.fullyOverlappedGeneCount, svAnno.partiallyOverlappedGeneCount), true);
+		if (!svAnno.fullyOverlappedGenes.isEmpty())
+			vc.getCommonInfo().putAttribute("SV_FULL_GENES", svAnno.fullyOverlappedGenes, true);
+		if (!svAnno.partiallyOverlappedGenes.isEmpty())
+			vc.getCommonInfo().putAttribute("SV_PARTIAL_GENES", svAnno.partiallyOverlappedGenes, true);
+		if (!svAnno.breakpointTranscripts.isEmpty()) {
+			ArrayList<String> accessions = new ArrayList<String>();
+			for (TranscriptModel tm : svAnno.breakpointTranscripts)
+				accessions.add(tm.accession);
+			vc.getCommonInfo().putAttribute("SV_BREAKPOINT_TX", accessions, true);
+		}
+		if (svAnno.isTruncated())
+			vc.getCommonInfo().putAttribute("SV_TRUNCATED", true, true);
+	}
+
 	private void applyStandardAnnotations(VariantContext vc, List<AnnotationList> annos) {
 		ArrayList<String> annotations = new ArrayList<String>();
 		for (int alleleID = 0; alleleID < vc.getAlternateAlleles().size(); ++alleleID) {
@@ -152,6 +390,8 @@ public final class VariantContextAnnotator {
 				}
 			}
 		}
+		if (annotations.isEmpty())
+			return; // e.g., skipped because of Options#minImpact
 		vc.getCommonInfo().putAttribute("ANN", Joiner.on(',').join(annotations), true); // true allows overwriting
 	}
 
@@ -176,18 +416,26 @@ public final class VariantContextAnnotator {
 			}
 		}
 
+		if (effectList.isEmpty())
+			return; // e.g., skipped because of Options#minImpact
 		vc.getCommonInfo().putAttribute("EFFECT", Joiner.on(',').join(effectList), true); // true allows overwriting
 		vc.getCommonInfo().putAttribute("HGVS", Joiner.on(',').join(hgvsList), true); // true allows overwriting
 	}
 
 	private AnnotationList buildErrorAnnotationList(VariantContext vc) {
-		return new AnnotationList(ImmutableList.of(new Annotation(ImmutableList
+		AnnotationList result = new AnnotationList(ImmutableList.of(new Annotation(ImmutableList
 				.of(AnnotationMessage.ERROR_PROBLEM_DURING_ANNOTATION))));
+		if (metrics != null)
+			metrics.recordMessages(result);
+		return result;
 	}
 
 	public ImmutableList<AnnotationList> buildUnknownRefAnnotationLists(VariantContext vc) {
-		return ImmutableList.of(new AnnotationList(ImmutableList.of(new Annotation(ImmutableList
-				.of(AnnotationMessage.ERROR_CHROMOSOME_NOT_FOUND)))));
+		AnnotationList result = new AnnotationList(ImmutableList.of(new Annotation(ImmutableList
+				.of(AnnotationMessage.ERROR_CHROMOSOME_NOT_FOUND))));
+		if (metrics != null)
+			metrics.recordMessages(result);
+		return ImmutableList.of(result);
 	}
 
 }
\ No newline at end of file
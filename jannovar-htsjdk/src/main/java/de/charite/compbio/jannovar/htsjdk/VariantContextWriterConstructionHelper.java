@@ -1,16 +1,31 @@
 package de.charite.compbio.jannovar.htsjdk;
 
+import htsjdk.samtools.SAMSequenceDictionary;
+import htsjdk.samtools.util.RuntimeIOException;
+import htsjdk.tribble.index.IndexCreator;
+import htsjdk.tribble.index.tabix.TabixFormat;
+import htsjdk.tribble.index.tabix.TabixIndexCreator;
 import htsjdk.variant.variantcontext.writer.Options;
 import htsjdk.variant.variantcontext.writer.VariantContextWriter;
 import htsjdk.variant.variantcontext.writer.VariantContextWriterBuilder;
 import htsjdk.variant.vcf.VCFFileReader;
 import htsjdk.variant.vcf.VCFHeader;
+import htsjdk.variant.vcf.VCFHeaderLine;
+import htsjdk.variant.vcf.VCFHeaderLineCount;
 import htsjdk.variant.vcf.VCFHeaderLineType;
 import htsjdk.variant.vcf.VCFInfoHeaderLine;
 
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 import de.charite.compbio.jannovar.annotation.Annotation;
+import de.charite.compbio.jannovar.impl.util.ParallelBlockCompressedOutputStream;
 
 /**
  * Helper for creating a {@link VariantContextWriter} from a {@link VariantContextReader}.
@@ -33,49 +48,248 @@ public final class VariantContextWriterConstructionHelper {
 	 *            selection of header fields to write out
 	 */
 	public static VariantContextWriter openVariantContextWriter(VCFFileReader reader, String fileName, InfoFields fields) {
+		return openVariantContextWriter(reader, fileName, fields, false);
+	}
+
+	/**
+	 * Return a new {@link ContextWriter} that uses the header from <code>reader</code> but has the header extended
+	 * header through {@link extendHeaderFields} and, optionally, {@link #extendHeaderFieldsStructuralVariants}.
+	 *
+	 * @param reader
+	 *            the reader to use for the construction
+	 * @param fileName
+	 *            path to output file
+	 * @param fields
+	 *            selection of header fields to write out
+	 * @param svFields
+	 *            whether to add the header fields for structural variant annotations
+	 */
+	public static VariantContextWriter openVariantContextWriter(VCFFileReader reader, String fileName,
+			InfoFields fields, boolean svFields) {
+		return openVariantContextWriter(reader.getFileHeader(), fileName, fields, svFields);
+	}
+
+	/**
+	 * Return a new {@link ContextWriter} that uses <code>header</code> extended through {@link extendHeaderFields}
+	 * and, optionally, {@link #extendHeaderFieldsStructuralVariants}.
+	 *
+	 * @param header
+	 *            the header to use for the construction, remains unchanged
+	 * @param fileName
+	 *            path to output file
+	 * @param fields
+	 *            selection of header fields to write out
+	 * @param svFields
+	 *            whether to add the header fields for structural variant annotations
+	 */
+	public static VariantContextWriter openVariantContextWriter(VCFHeader header, String fileName,
+			InfoFields fields, boolean svFields) {
+		return openVariantContextWriter(header, fileName, fields, svFields,
+				ParallelBlockCompressedOutputStream.DEFAULT_THREADS);
+	}
+
+	/**
+	 * Return a new {@link ContextWriter} that uses <code>header</code> extended through {@link extendHeaderFields}
+	 * and, optionally, {@link #extendHeaderFieldsStructuralVariants}.
+	 *
+	 * @param header
+	 *            the header to use for the construction, remains unchanged
+	 * @param fileName
+	 *            path to output file
+	 * @param fields
+	 *            selection of header fields to write out
+	 * @param svFields
+	 *            whether to add the header fields for structural variant annotations
+	 * @param numCompressionThreads
+	 *            number of threads for compressing <code>.vcf.gz</code> output
+	 */
+	public static VariantContextWriter openVariantContextWriter(VCFHeader header, String fileName,
+			InfoFields fields, boolean svFields, int numCompressionThreads) {
+		header = extendHeaderFields(header, fields);
+		if (svFields)
+			header = extendHeaderFieldsStructuralVariants(header);
+		return openVariantContextWriter(header, fileName, numCompressionThreads);
+	}
+
+	/**
+	 * Return a new {@link ContextWriter} that writes <code>header</code> unchanged.
+	 *
+	 * The output format is selected by the extension of <code>fileName</code>, i.e. BCF for <code>.bcf</code>, BGZF
+	 * compressed VCF for <code>.vcf.gz</code>, and VCF otherwise.
+	 *
+	 * @param header
+	 *            the header to write
+	 * @param fileName
+	 *            path to output file
+	 * @throws IllegalArgumentException
+	 *             if BCF is to be written and <code>header</code> has no contig lines
+	 */
+	public static VariantContextWriter openVariantContextWriter(VCFHeader header, String fileName) {
+		return openVariantContextWriter(header, fileName, ParallelBlockCompressedOutputStream.DEFAULT_THREADS);
+	}
+
+	/**
+	 * Return a new {@link ContextWriter} that writes <code>header</code> unchanged.
+	 *
+	 * The output format is selected by the extension of <code>fileName</code>, i.e. BCF for <code>.bcf</code>, BGZF
+	 * compressed VCF for <code>.vcf.gz</code>, and VCF otherwise. The BGZF blocks are compressed on
+	 * <code>numCompressionThreads</code> threads, and a tabix index is written if <code>header</code> has contig lines.
+	 *
+	 * @param header
+	 *            the header to write
+	 * @param fileName
+	 *            path to output file
+	 * @param numCompressionThreads
+	 *            number of threads for compressing <code>.vcf.gz</code> output
+	 * @throws IllegalArgumentException
+	 *             if BCF is to be written and <code>header</code> has no contig lines
+	 */
+	public static VariantContextWriter openVariantContextWriter(VCFHeader header, String fileName,
+			int numCompressionThreads) {
+		// BCF refers to contigs by their index in the header
+		if (isBCF(fileName) && header.getContigLines().isEmpty())
+			throw new IllegalArgumentException("Cannot write BCF file " + fileName
+					+ ", the VCF header has no contig lines");
+		if (isCompressed(fileName))
+			return openCompressedVCFWriter(header, fileName, numCompressionThreads);
+
 		// construct factory object for VariantContextWriter
 		VariantContextWriterBuilder builder = new VariantContextWriterBuilder();
-		builder.setReferenceDictionary(reader.getFileHeader().getSequenceDictionary());
+		builder.setReferenceDictionary(header.getSequenceDictionary());
 		builder.setOutputFile(new File(fileName));
 		// Be more lenient in missing header fields.
 		builder.setOption(Options.ALLOW_MISSING_FIELDS_IN_HEADER);
 		// Disable on-the-fly generation of Tribble index if the input file does not have a sequence dictionary.
-		if (reader.getFileHeader().getSequenceDictionary() == null)
+		if (header.getSequenceDictionary() == null)
 			builder.unsetOption(Options.INDEX_ON_THE_FLY);
 
 		// construct VariantContextWriter and write out header
 		VariantContextWriter out = builder.build();
-		out.writeHeader(extendHeaderFields(reader.getFileHeader(), fields));
+		out.writeHeader(header);
 		return out;
 	}
 
+	/**
+	 * Return a new {@link ContextWriter} for BGZF compressed VCF that writes <code>header</code> unchanged.
+	 *
+	 * The positions passed to the tabix index are translated into virtual file offsets by
+	 * {@link ParallelBlockCompressedIndexCreator}, once the blocks have been written.
+	 */
+	private static VariantContextWriter openCompressedVCFWriter(VCFHeader header, String fileName,
+			int numCompressionThreads) {
+		final File file = new File(fileName);
+		final ParallelBlockCompressedOutputStream stream;
+		try {
+			stream = new ParallelBlockCompressedOutputStream(new FileOutputStream(file), numCompressionThreads);
+		} catch (FileNotFoundException e) {
+			throw new RuntimeIOException("Cannot open " + fileName + " for writing", e);
+		}
+
+		EnumSet<Options> options = EnumSet.of(Options.ALLOW_MISSING_FIELDS_IN_HEADER);
+		IndexCreator indexCreator = null;
+		// index on the fly only if there is a sequence dictionary, as for the uncompressed output
+		final SAMSequenceDictionary dict = header.getSequenceDictionary();
+		if (dict != null) {
+			options.add(Options.INDEX_ON_THE_FLY);
+			indexCreator = new ParallelBlockCompressedIndexCreator(new TabixIndexCreator(dict, TabixFormat.VCF),
+					stream);
+		}
+
+		VariantContextWriter out = createVCFWriter(file, stream, dict, indexCreator, options);
+		out.writeHeader(header);
+		return out;
+	}
+
+	/**
+	 * Return a new {@link VariantContextWriter} writing VCF to <code>stream</code>, with the index of
+	 * <code>file</code> created through <code>indexCreator</code>.
+	 *
+	 * {@link VariantContextWriterBuilder} rejects {@link Options#INDEX_ON_THE_FLY} for output streams, it can only
+	 * index files that it opens itself. So the deprecated factory method is the only way to get an indexed writer on
+	 * top of the {@link ParallelBlockCompressedOutputStream}.
+	 */
+	@SuppressWarnings("deprecation")
+	private static VariantContextWriter createVCFWriter(File file, OutputStream stream, SAMSequenceDictionary dict,
+			IndexCreator indexCreator, EnumSet<Options> options) {
+		return htsjdk.variant.variantcontext.writer.VariantContextWriterFactory.createVcf(file, stream, dict,
+				indexCreator, options);
+	}
+
+	/**
+	 * @return whether <code>fileName</code> has the extension of a BGZF compressed file, e.g. <code>.vcf.gz</code>
+	 */
+	public static boolean isCompressed(String fileName) {
+		final String lower = fileName.toLowerCase();
+		return lower.endsWith(".gz") || lower.endsWith(".bgz");
+	}
+
+	/**
+	 * @return whether <code>fileName</code> has the extension of a BCF file
+	 */
+	public static boolean isBCF(String fileName) {
+		return fileName.toLowerCase().endsWith(".bcf");
+	}
+
 	/**
 	 * Extend a {@link VCFHeader} with the given <code>fields</code>.
 	 *
 	 * @param header
-	 *            the {@link VCFHeader} to extend
+	 *            the {@link VCFHeader} to extend, remains unchanged
 	 * @param fields
 	 *            the {@link InfoFields} to get the field selection from
-	 * @return extended VCFHeader
+	 * @return extended copy of <code>header</code>
 	 */
 	public static VCFHeader extendHeaderFields(VCFHeader header, InfoFields fields) {
+		ArrayList<VCFHeaderLine> lines = new ArrayList<VCFHeaderLine>();
+		// the fields have one or more comma-separated values, BCF validates this against the header
 		if (fields == InfoFields.EFFECT_HGVS || fields == InfoFields.BOTH) {
 			// add INFO line for EFFECT field
-			VCFInfoHeaderLine effectLine = new VCFInfoHeaderLine("EFFECT", 1, VCFHeaderLineType.String,
-					Annotation.INFO_EFFECT);
-			header.addMetaDataLine(effectLine);
+			lines.add(new VCFInfoHeaderLine("EFFECT", VCFHeaderLineCount.UNBOUNDED, VCFHeaderLineType.String,
+					Annotation.INFO_EFFECT));
 			// add INFO line for HGVS field
-			VCFInfoHeaderLine hgvsLine = new VCFInfoHeaderLine("HGVS", 1, VCFHeaderLineType.String,
-					Annotation.INFO_HGVS);
-			header.addMetaDataLine(hgvsLine);
+			lines.add(new VCFInfoHeaderLine("HGVS", VCFHeaderLineCount.UNBOUNDED, VCFHeaderLineType.String,
+					Annotation.INFO_HGVS));
 		}
 		if (fields == InfoFields.VCF_ANN || fields == InfoFields.BOTH) {
 			// add INFO line for standardized ANN field
-			VCFInfoHeaderLine annLine = new VCFInfoHeaderLine("ANN", 1, VCFHeaderLineType.String,
-					Annotation.VCF_ANN_DESCRIPTION_STRING);
-			header.addMetaDataLine(annLine);
+			lines.add(new VCFInfoHeaderLine("ANN", VCFHeaderLineCount.UNBOUNDED, VCFHeaderLineType.String,
+					Annotation.VCF_ANN_DESCRIPTION_STRING));
 		}
-		return header;
+		return addHeaderLines(header, lines);
+	}
+
+	/**
+	 * Extend a {@link VCFHeader} with the fields written by
+	 * {@link VariantContextAnnotator#applyStructuralVariantAnnotation}.
+	 *
+	 * @param header
+	 *            the {@link VCFHeader} to extend, remains unchanged
+	 * @return extended copy of <code>header</code>
+	 */
+	public static VCFHeader extendHeaderFieldsStructuralVariants(VCFHeader header) {
+		ArrayList<VCFHeaderLine> lines = new ArrayList<VCFHeaderLine>();
+		lines.add(new VCFInfoHeaderLine("SV_GENE_COUNTS", 2, VCFHeaderLineType.Integer,
+				"Number of genes fully and partially overlapped by the structural variant"));
+		lines.add(new VCFInfoHeaderLine("SV_FULL_GENES", VCFHeaderLineCount.UNBOUNDED, VCFHeaderLineType.String,
+				"Genes lying completely within the structural variant"));
+		lines.add(new VCFInfoHeaderLine("SV_PARTIAL_GENES", VCFHeaderLineCount.UNBOUNDED, VCFHeaderLineType.String,
+				"Genes containing a breakpoint of the structural variant"));
+		lines.add(new VCFInfoHeaderLine("SV_BREAKPOINT_TX", VCFHeaderLineCount.UNBOUNDED, VCFHeaderLineType.String,
+				"Transcripts containing a breakpoint of the structural variant"));
+		lines.add(new VCFInfoHeaderLine("SV_TRUNCATED", 0, VCFHeaderLineType.Flag,
+				"The gene lists of the structural variant were truncated, see SV_GENE_COUNTS for the full counts"));
+		return addHeaderLines(header, lines);
+	}
+
+	/**
+	 * @return copy of <code>header</code> with <code>lines</code> appended
+	 */
+	private static VCFHeader addHeaderLines(VCFHeader header, List<VCFHeaderLine> lines) {
+		// VCFHeader#addMetaDataLine registers the contig lines a second time, breaking the sequence dictionary that is
+		// required for BCF output, so build a new header instead
+		LinkedHashSet<VCFHeaderLine> metaData = new LinkedHashSet<VCFHeaderLine>(header.getMetaDataInInputOrder());
+		metaData.addAll(lines);
+		return new VCFHeader(metaData, header.getGenotypeSamples());
 	}
 
 }
@@ -0,0 +1,79 @@
+package de.charite.compbio.jannovar.htsjdk;
+
+import htsjdk.samtools.SAMSequenceDictionary;
+import htsjdk.samtools.SAMSequenceRecord;
+import htsjdk.samtools.util.CloseableIterator;
+import htsjdk.variant.variantcontext.VariantContext;
+import htsjdk.variant.variantcontext.VariantContextBuilder;
+import htsjdk.variant.variantcontext.writer.VariantContextWriter;
+import htsjdk.variant.vcf.VCFFileReader;
+import htsjdk.variant.vcf.VCFHeader;
+
+import java.io.File;
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableList;
+
+public class VariantContextWriterConstructionHelperTest {
+
+	/** number of records to write per contig, enough for several BGZF blocks */
+	static final int NUM_RECORDS = 5000;
+
+	/** distance between the records */
+	static final int STEP = 100;
+
+	@Rule
+	public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+	private VCFHeader buildHeader() {
+		VCFHeader header = new VCFHeader();
+		header.setSequenceDictionary(new SAMSequenceDictionary(ImmutableList.of(new SAMSequenceRecord("1",
+				249250621), new SAMSequenceRecord("2", 243199373))));
+		return header;
+	}
+
+	private VariantContext buildRecord(String chr, int pos) {
+		return new VariantContextBuilder().chr(chr).start(pos).stop(pos).alleles("A", "C").make();
+	}
+
+	@Test
+	public void testCompressedOutputWithIndex() {
+		final File file = new File(tmpFolder.getRoot(), "out.vcf.gz");
+		VariantContextWriter writer = VariantContextWriterConstructionHelper.openVariantContextWriter(buildHeader(),
+				file.getPath(), 4);
+		for (String chr : ImmutableList.of("1", "2"))
+			for (int i = 1; i <= NUM_RECORDS; ++i)
+				writer.add(buildRecord(chr, i * STEP));
+		writer.close();
+		Assert.assertTrue(new File(file.getPath() + ".tbi").exists());
+
+		// read back through the tabix index, which is required here
+		VCFFileReader reader = new VCFFileReader(file, true);
+		Assert.assertEquals(2, reader.getFileHeader().getSequenceDictionary().size());
+
+		CloseableIterator<VariantContext> it = reader.query("2", 250001, 260000);
+		ArrayList<Integer> positions = new ArrayList<Integer>();
+		while (it.hasNext()) {
+			VariantContext vc = it.next();
+			Assert.assertEquals("2", vc.getChr());
+			positions.add(vc.getStart());
+		}
+		it.close();
+		Assert.assertEquals(100, positions.size());
+		Assert.assertEquals(250100, positions.get(0).intValue());
+		Assert.assertEquals(260000, positions.get(positions.size() - 1).intValue());
+
+		// the complete file can be read without the index as well
+		int count = 0;
+		for (@SuppressWarnings("unused") VariantContext vc : reader)
+			++count;
+		Assert.assertEquals(2 * NUM_RECORDS, count);
+		reader.close();
+	}
+
+}